@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2021 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+export const SANITY_DIMENSIONS = {
+  "FunctionCheck-Default-With-Count": {
+    "numbers": [
+      "first",
+      "second",
+      "third",
+      "fifth"
+    ]
+  },
+  "Dimensional-state-CA": {
+    "state": "CA"
+  },
+  "ExpressionContextCheck-Default": {
+    "dimensions": {
+      "plan": "Premium"
+    },
+    "numbers": [
+      "first",
+      "second",
+      "third",
+      "fifth"
+    ],
+    "additional": {
+      "package": "Pizza"
+    }
+  },
+  "ExpressionContextCheck-Condition": {
+    "dimensions": {
+      "plan": "Premium"
+    },
+    "numbers": [
+      "first",
+      "second",
+      "third",
+      "fifth"
+    ],
+    "additional": {
+      "package": "Pizza"
+    }
+  },
+  "Dimensional-state-AZ": {
+    "state": "AZ"
+  },
+  "ExpressionContextCheck-Assert-CCR": {
+    "numbers": [
+      "first",
+      "second",
+      "third",
+      "fifth"
+    ],
+    "additional": {
+      "package": "Pizza"
+    }
+  },
+  "ExpressionContextCheck-NestedFilter": {
+    "additional": {
+      "vehicles": [
+        {
+          "model": "policy-make"
+        }
+      ]
+    }
+  },
+  "ExpressionContextCheck-Assert": {
+    "dimensions": {
+      "plan": "Premium"
+    },
+    "numbers": [
+      "first",
+      "second",
+      "third",
+      "fifth"
+    ],
+    "additional": {
+      "package": "Pizza"
+    }
+  },
+  "ExpressionContextCheck-FlatMapDynamicContext": {
+    "additional": {
+      "vehicles": [
+        {
+          "collCoverages": [
+            {
+              "code": "first"
+            },
+            {
+              "code": "second"
+            }
+          ]
+        },
+        {
+          "collCoverages": [
+            {
+              "code": "third"
+            }
+          ]
+        }
+      ]
+    }
+  },
+  "ExpressionContextCheck-NestedScope": {
+    "additional": {
+      "policies": [
+        {
+          "policyNumber": "external-context"
+        }
+      ]
+    }
+  }
+};
\ No newline at end of file
@@ -0,0 +1,96 @@
+// tslint:disable
+export const KRAKEN_FUNCTIONS_POLICY = [
+  {
+    "name": "ConcatInsuredNameWithCreditCardInfo",
+    "parameters": [
+      {
+        "name": "insured"
+      },
+      {
+        "name": "credit"
+      }
+    ],
+    "body": "this.Concat([this.GetName(insured),credit.cardType])"
+  },
+  {
+    "name": "CalculateTotalLimit",
+    "parameters": [
+      {
+        "name": "policy"
+      }
+    ],
+    "body": "(()=>{const coverages=this.GetCoverages(policy);return this.Sum((coverages || []).map(_x_=>_x_.limitAmount));})()"
+  },
+  {
+    "name": "ConcatPartyRelations",
+    "parameters": [
+      {
+        "name": "parties"
+      }
+    ],
+    "body": "this.Concat((parties || []).map(_x_=>_x_.relationToPrimaryInsured))"
+  },
+  {
+    "name": "GenericCoverageLimits",
+    "parameters": [
+      {
+        "name": "coverages"
+      }
+    ],
+    "body": "(coverages || []).map(c=>this.GenericCoverageLimit(c))"
+  },
+  {
+    "name": "MinLimit",
+    "parameters": [
+      {
+        "name": "policy"
+      }
+    ],
+    "body": "(()=>{const coverages=this.GetCoverages(policy);return this.MinLimitCoverages(coverages);})()"
+  },
+  {
+    "name": "GetCoverages",
+    "parameters": [
+      {
+        "name": "policy"
+      }
+    ],
+    "body": "(policy.riskItems || []).map(_x_=>_x_.collCoverages).reduce((p, n) => p.concat(n), [])"
+  },
+  {
+    "name": "GetName",
+    "parameters": [
+      {
+        "name": "object"
+      }
+    ],
+    "body": "this._flatMap(object,_x_=>_x_.name)"
+  },
+  {
+    "name": "MinLimitCoverages",
+    "parameters": [
+      {
+        "name": "coverages"
+      }
+    ],
+    "body": "this.Min((coverages || []).map(_x_=>_x_.limitAmount))"
+  },
+  {
+    "name": "Fibonacci",
+    "parameters": [
+      {
+        "name": "n"
+      }
+    ],
+    "body": "((this._eq(n, 0) || this._eq(n, 1)) ? n : this._add(this.Fibonacci(this._sub(n, 2)), this.Fibonacci(this._sub(n, 1))))"
+  },
+  {
+    "name": "GenericCoverageLimit",
+    "parameters": [
+      {
+        "name": "coverage"
+      }
+    ],
+    "body": "coverage.limitAmount"
+  }
+]
\ No newline at end of file
@@ -0,0 +1,1793 @@
+// tslint:disable
+export const KRAKEN_MODEL_TREE_POLICY = {
+  "contexts": {
+    "Policy": {
+      "name": "Policy",
+      "children": {
+        "Vehicle": {
+          "targetName": "Vehicle",
+          "navigationExpression": {
+            "expressionString": "riskItems",
+            "originalExpressionString": "riskItems",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "MULTIPLE"
+        },
+        "Party": {
+          "targetName": "Party",
+          "navigationExpression": {
+            "expressionString": "parties",
+            "originalExpressionString": "parties",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "MULTIPLE"
+        },
+        "CarCoverage": {
+          "targetName": "CarCoverage",
+          "navigationExpression": {
+            "expressionString": "coverage",
+            "originalExpressionString": "coverage",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "SecondaryInsured": {
+          "targetName": "SecondaryInsured",
+          "navigationExpression": {
+            "expressionString": "[__dataObject__.oneInsured,__dataObject__.multipleInsureds,[__dataObject__.multiInsureds1,__dataObject__.multiInsureds2]]",
+            "originalExpressionString": "{ oneInsured, multipleInsureds, { multiInsureds1, multiInsureds2 }}",
+            "expressionType": "COMPLEX",
+            "expressionVariables": []
+          },
+          "cardinality": "MULTIPLE"
+        },
+        "Referer": {
+          "targetName": "Referer",
+          "navigationExpression": {
+            "expressionString": "referer",
+            "originalExpressionString": "referer",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "CreditCardInfo": {
+          "targetName": "CreditCardInfo",
+          "navigationExpression": {
+            "expressionString": "this._flatMap(__dataObject__.billingInfo,_x_=>_x_.creditCardInfo)",
+            "originalExpressionString": "billingInfo.creditCardInfo",
+            "expressionType": "COMPLEX",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "Insured": {
+          "targetName": "Insured",
+          "navigationExpression": {
+            "expressionString": "insured",
+            "originalExpressionString": "insured",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "TransactionDetails": {
+          "targetName": "TransactionDetails",
+          "navigationExpression": {
+            "expressionString": "transactionDetails",
+            "originalExpressionString": "transactionDetails",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "versionDescription": {
+          "name": "versionDescription",
+          "fieldType": "STRING",
+          "fieldPath": "policyDetail.versionDescription",
+          "cardinality": "SINGLE"
+        },
+        "referer": {
+          "name": "referer",
+          "fieldType": "Referer",
+          "fieldPath": "referer",
+          "cardinality": "SINGLE"
+        },
+        "backupSystemDate": {
+          "name": "backupSystemDate",
+          "fieldType": "SysDate",
+          "fieldPath": "backupSystemDate",
+          "cardinality": "SINGLE"
+        },
+        "accountName": {
+          "name": "accountName",
+          "fieldType": "STRING",
+          "fieldPath": "billingInfo.accountName",
+          "cardinality": "SINGLE"
+        },
+        "numberOfInsureds": {
+          "name": "numberOfInsureds",
+          "fieldType": "INTEGER",
+          "fieldPath": "numberOfInsureds",
+          "cardinality": "MULTIPLE"
+        },
+        "policyNumber": {
+          "name": "policyNumber",
+          "fieldType": "STRING",
+          "fieldPath": "policyNumber",
+          "cardinality": "SINGLE"
+        },
+        "policies": {
+          "name": "policies",
+          "fieldType": "STRING",
+          "fieldPath": "policies",
+          "cardinality": "MULTIPLE"
+        },
+        "oosProcessingStage": {
+          "name": "oosProcessingStage",
+          "fieldType": "STRING",
+          "fieldPath": "policyDetail.oosProcessingStage",
+          "cardinality": "SINGLE"
+        },
+        "createdOn": {
+          "name": "createdOn",
+          "fieldType": "DATE",
+          "fieldPath": "accessTrackInfo.createdOn",
+          "cardinality": "SINGLE"
+        },
+        "policyValue": {
+          "name": "policyValue",
+          "fieldType": "MONEY",
+          "fieldPath": "policyValue",
+          "cardinality": "SINGLE"
+        },
+        "state": {
+          "name": "state",
+          "fieldType": "STRING",
+          "fieldPath": "state",
+          "cardinality": "SINGLE"
+        },
+        "termCd": {
+          "name": "termCd",
+          "fieldType": "STRING",
+          "fieldPath": "termDetails.termCd",
+          "cardinality": "SINGLE"
+        },
+        "txEffectiveDate": {
+          "name": "txEffectiveDate",
+          "fieldType": "DATETIME",
+          "fieldPath": "transactionDetails.txEffectiveDate",
+          "cardinality": "SINGLE"
+        },
+        "policyCurrency": {
+          "name": "policyCurrency",
+          "fieldType": "STRING",
+          "fieldPath": "policyCurrency",
+          "cardinality": "SINGLE"
+        },
+        "expirationDate": {
+          "name": "expirationDate",
+          "fieldType": "DATE",
+          "fieldPath": "termDetails.termExpirationDate",
+          "cardinality": "SINGLE"
+        },
+        "refToCustomer": {
+          "name": "refToCustomer",
+          "fieldType": "UNKNOWN",
+          "fieldPath": "refToCustomer",
+          "cardinality": "SINGLE"
+        },
+        "updatedBy": {
+          "name": "updatedBy",
+          "fieldType": "STRING",
+          "fieldPath": "accessTrackInfo.updatedBy",
+          "cardinality": "SINGLE"
+        },
+        "riskItems": {
+          "name": "riskItems",
+          "fieldType": "Vehicle",
+          "fieldPath": "riskItems",
+          "cardinality": "MULTIPLE"
+        },
+        "totalPremium": {
+          "name": "totalPremium",
+          "fieldType": "DECIMAL",
+          "fieldPath": "transactionDetails.totalPremium",
+          "cardinality": "SINGLE"
+        },
+        "txType": {
+          "name": "txType",
+          "fieldType": "STRING",
+          "fieldPath": "transactionDetails.txType",
+          "cardinality": "SINGLE"
+        },
+        "updatedOn": {
+          "name": "updatedOn",
+          "fieldType": "DATE",
+          "fieldPath": "accessTrackInfo.updatedOn",
+          "cardinality": "SINGLE"
+        },
+        "changePremium": {
+          "name": "changePremium",
+          "fieldType": "DECIMAL",
+          "fieldPath": "transactionDetails.changePremium",
+          "cardinality": "SINGLE"
+        },
+        "totalLimit": {
+          "name": "totalLimit",
+          "fieldType": "DECIMAL",
+          "fieldPath": "transactionDetails.totalLimit",
+          "cardinality": "SINGLE"
+        },
+        "createdBy": {
+          "name": "createdBy",
+          "fieldType": "STRING",
+          "fieldPath": "accessTrackInfo.createdBy",
+          "cardinality": "SINGLE"
+        },
+        "createdFromPolicyRev": {
+          "name": "createdFromPolicyRev",
+          "fieldType": "INTEGER",
+          "fieldPath": "createdFromPolicyRev",
+          "cardinality": "SINGLE"
+        },
+        "txReason": {
+          "name": "txReason",
+          "fieldType": "STRING",
+          "fieldPath": "transactionDetails.txReason",
+          "cardinality": "SINGLE"
+        },
+        "txCreateDate": {
+          "name": "txCreateDate",
+          "fieldType": "DATE",
+          "fieldPath": "transactionDetails.txCreateDate",
+          "cardinality": "SINGLE"
+        },
+        "currentQuoteInd": {
+          "name": "currentQuoteInd",
+          "fieldType": "BOOLEAN",
+          "fieldPath": "policyDetail.currentQuoteInd",
+          "cardinality": "SINGLE"
+        },
+        "systemDate": {
+          "name": "systemDate",
+          "fieldType": "SysDate",
+          "fieldPath": "systemDate",
+          "cardinality": "SINGLE"
+        },
+        "parties": {
+          "name": "parties",
+          "fieldType": "Party",
+          "fieldPath": "parties",
+          "cardinality": "MULTIPLE"
+        },
+        "contractTermTypeCd": {
+          "name": "contractTermTypeCd",
+          "fieldType": "STRING",
+          "fieldPath": "termDetails.contractTermTypeCd",
+          "cardinality": "SINGLE"
+        },
+        "termNo": {
+          "name": "termNo",
+          "fieldType": "INTEGER",
+          "fieldPath": "termDetails.termNo",
+          "cardinality": "SINGLE"
+        },
+        "effectiveDate": {
+          "name": "effectiveDate",
+          "fieldType": "DATE",
+          "fieldPath": "termDetails.termEffectiveDate",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "PersonInfo": {
+      "name": "PersonInfo",
+      "children": {
+        "AddressInfo": {
+          "targetName": "AddressInfo",
+          "navigationExpression": {
+            "expressionString": "addressInfo",
+            "originalExpressionString": "addressInfo",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "sameHomeAddress": {
+          "name": "sameHomeAddress",
+          "fieldType": "BOOLEAN",
+          "fieldPath": "sameHomeAddress",
+          "cardinality": "SINGLE"
+        },
+        "firstName": {
+          "name": "firstName",
+          "fieldType": "STRING",
+          "fieldPath": "firstName",
+          "cardinality": "SINGLE"
+        },
+        "lastName": {
+          "name": "lastName",
+          "fieldType": "STRING",
+          "fieldPath": "lastName",
+          "cardinality": "SINGLE"
+        },
+        "occupation": {
+          "name": "occupation",
+          "fieldType": "STRING",
+          "fieldPath": "occupation",
+          "cardinality": "SINGLE"
+        },
+        "additionalInfo": {
+          "name": "additionalInfo",
+          "fieldType": "STRING",
+          "fieldPath": "additionalInfo",
+          "cardinality": "SINGLE"
+        },
+        "age": {
+          "name": "age",
+          "fieldType": "INTEGER",
+          "fieldPath": "age",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "PersonNameInfo",
+        "Info"
+      ],
+      "system": false
+    },
+    "RefererInfo": {
+      "name": "RefererInfo",
+      "children": {
+        "RefererInfo": {
+          "targetName": "RefererInfo",
+          "navigationExpression": {
+            "expressionString": "refererInfo",
+            "originalExpressionString": "refererInfo",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "Referer": {
+          "targetName": "Referer",
+          "navigationExpression": {
+            "expressionString": "referer",
+            "originalExpressionString": "referer",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "referenceName": {
+          "name": "referenceName",
+          "fieldType": "STRING",
+          "fieldPath": "referenceName",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "SecondaryInsured": {
+      "name": "SecondaryInsured",
+      "children": {},
+      "fields": {
+        "name": {
+          "name": "name",
+          "fieldType": "STRING",
+          "fieldPath": "name",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "RentalCoverage": {
+      "name": "RentalCoverage",
+      "children": {},
+      "fields": {
+        "code": {
+          "name": "code",
+          "fieldType": "STRING",
+          "fieldPath": "code",
+          "cardinality": "SINGLE"
+        },
+        "deductibleAmount": {
+          "name": "deductibleAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "deductibleAmount",
+          "cardinality": "SINGLE"
+        },
+        "limitAmount": {
+          "name": "limitAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "limitAmount",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "PersonNameInfo": {
+      "name": "PersonNameInfo",
+      "children": {},
+      "fields": {
+        "firstName": {
+          "name": "firstName",
+          "fieldType": "STRING",
+          "fieldPath": "firstName",
+          "cardinality": "SINGLE"
+        },
+        "lastName": {
+          "name": "lastName",
+          "fieldType": "STRING",
+          "fieldPath": "lastName",
+          "cardinality": "SINGLE"
+        },
+        "additionalInfo": {
+          "name": "additionalInfo",
+          "fieldType": "STRING",
+          "fieldPath": "additionalInfo",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "Info"
+      ],
+      "system": false
+    },
+    "DriverCoverage": {
+      "name": "DriverCoverage",
+      "children": {},
+      "fields": {
+        "typeOfInjuryCovered": {
+          "name": "typeOfInjuryCovered",
+          "fieldType": "STRING",
+          "fieldPath": "typeOfInjuryCovered",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "BillingAddress": {
+      "name": "BillingAddress",
+      "children": {
+        "AddressLine2": {
+          "targetName": "AddressLine2",
+          "navigationExpression": {
+            "expressionString": "addressLine2",
+            "originalExpressionString": "addressLine2",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "AddressLine1": {
+          "targetName": "AddressLine1",
+          "navigationExpression": {
+            "expressionString": "addressLine1",
+            "originalExpressionString": "addressLine1",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "billingNote": {
+          "name": "billingNote",
+          "fieldType": "STRING",
+          "fieldPath": "billingNote",
+          "cardinality": "SINGLE"
+        },
+        "city": {
+          "name": "city",
+          "fieldType": "STRING",
+          "fieldPath": "city",
+          "cardinality": "SINGLE"
+        },
+        "street": {
+          "name": "street",
+          "fieldType": "STRING",
+          "fieldPath": "street",
+          "cardinality": "SINGLE"
+        },
+        "postalCode": {
+          "name": "postalCode",
+          "fieldType": "STRING",
+          "fieldPath": "postalCode",
+          "cardinality": "SINGLE"
+        },
+        "doNotSolicit": {
+          "name": "doNotSolicit",
+          "fieldType": "BOOLEAN",
+          "fieldPath": "doNotSolicit",
+          "cardinality": "SINGLE"
+        },
+        "countryCd": {
+          "name": "countryCd",
+          "fieldType": "STRING",
+          "fieldPath": "countryCd",
+          "cardinality": "SINGLE"
+        },
+        "stateCd": {
+          "name": "stateCd",
+          "fieldType": "STRING",
+          "fieldPath": "stateCd",
+          "cardinality": "SINGLE",
+          "forbidTarget": true
+        },
+        "addressLines": {
+          "name": "addressLines",
+          "fieldType": "AddressLine",
+          "fieldPath": "addressLines",
+          "cardinality": "MULTIPLE"
+        }
+      },
+      "inheritedContexts": [
+        "AddressInfo"
+      ],
+      "system": false
+    },
+    "Vehicle": {
+      "name": "Vehicle",
+      "children": {
+        "FullCoverage": {
+          "targetName": "FullCoverage",
+          "navigationExpression": {
+            "expressionString": "fullCoverages",
+            "originalExpressionString": "fullCoverages",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "MULTIPLE"
+        },
+        "COLLCoverage": {
+          "targetName": "COLLCoverage",
+          "navigationExpression": {
+            "expressionString": "collCoverages",
+            "originalExpressionString": "collCoverages",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "MULTIPLE"
+        },
+        "RRCoverage": {
+          "targetName": "RRCoverage",
+          "navigationExpression": {
+            "expressionString": "rentalCoverage",
+            "originalExpressionString": "rentalCoverage",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "AddressInfo": {
+          "targetName": "AddressInfo",
+          "navigationExpression": {
+            "expressionString": "addressInfo",
+            "originalExpressionString": "addressInfo",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "newValue": {
+          "name": "newValue",
+          "fieldType": "DECIMAL",
+          "fieldPath": "newValue",
+          "cardinality": "SINGLE"
+        },
+        "serviceHistory": {
+          "name": "serviceHistory",
+          "fieldType": "DATE",
+          "fieldPath": "serviceHistory",
+          "cardinality": "MULTIPLE"
+        },
+        "odometerReading": {
+          "name": "odometerReading",
+          "fieldType": "INTEGER",
+          "fieldPath": "odometerReading",
+          "cardinality": "SINGLE"
+        },
+        "modelYear": {
+          "name": "modelYear",
+          "fieldType": "INTEGER",
+          "fieldPath": "modelYear",
+          "cardinality": "SINGLE"
+        },
+        "refsToDriver": {
+          "name": "refsToDriver",
+          "fieldType": "UNKNOWN",
+          "fieldPath": "refsToDriver",
+          "cardinality": "MULTIPLE"
+        },
+        "rentalCoverage": {
+          "name": "rentalCoverage",
+          "fieldType": "RRCoverage",
+          "fieldPath": "rentalCoverage",
+          "cardinality": "SINGLE"
+        },
+        "costNew": {
+          "name": "costNew",
+          "fieldType": "DECIMAL",
+          "fieldPath": "costNew",
+          "cardinality": "SINGLE"
+        },
+        "anubisCoverages": {
+          "name": "anubisCoverages",
+          "fieldType": "AnubisCoverage",
+          "fieldPath": "anubisCoverages",
+          "cardinality": "MULTIPLE"
+        },
+        "purchasedDate": {
+          "name": "purchasedDate",
+          "fieldType": "DATE",
+          "fieldPath": "purchasedDate",
+          "cardinality": "SINGLE"
+        },
+        "model": {
+          "name": "model",
+          "fieldType": "STRING",
+          "fieldPath": "model",
+          "cardinality": "SINGLE"
+        },
+        "included": {
+          "name": "included",
+          "fieldType": "BOOLEAN",
+          "fieldPath": "included",
+          "cardinality": "SINGLE"
+        },
+        "declaredAnnualMiles": {
+          "name": "declaredAnnualMiles",
+          "fieldType": "INTEGER",
+          "fieldPath": "declaredAnnualMiles",
+          "cardinality": "SINGLE"
+        },
+        "numDaysDrivenPerWeek": {
+          "name": "numDaysDrivenPerWeek",
+          "fieldType": "INTEGER",
+          "fieldPath": "numDaysDrivenPerWeek",
+          "cardinality": "SINGLE"
+        },
+        "collCoverages": {
+          "name": "collCoverages",
+          "fieldType": "COLLCoverage",
+          "fieldPath": "collCoverages",
+          "cardinality": "MULTIPLE"
+        },
+        "vehicleState": {
+          "name": "vehicleState",
+          "fieldType": "STRING",
+          "fieldPath": "vehicleState",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "Party": {
+      "name": "Party",
+      "children": {
+        "PartyRole": {
+          "targetName": "PartyRole",
+          "navigationExpression": {
+            "expressionString": "roles",
+            "originalExpressionString": "roles",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "MULTIPLE"
+        },
+        "PersonInfo": {
+          "targetName": "PersonInfo",
+          "navigationExpression": {
+            "expressionString": "personInfo",
+            "originalExpressionString": "personInfo",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "DriverInfo": {
+          "targetName": "DriverInfo",
+          "navigationExpression": {
+            "expressionString": "driverInfo",
+            "originalExpressionString": "driverInfo",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "roles": {
+          "name": "roles",
+          "fieldType": "PartyRole",
+          "fieldPath": "roles",
+          "cardinality": "MULTIPLE"
+        },
+        "relationToPrimaryInsured": {
+          "name": "relationToPrimaryInsured",
+          "fieldType": "STRING",
+          "fieldPath": "relationToPrimaryInsured",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "AnubisCoverage": {
+      "name": "AnubisCoverage",
+      "children": {},
+      "fields": {
+        "cultDate": {
+          "name": "cultDate",
+          "fieldType": "DATE",
+          "fieldPath": "cult.date",
+          "cardinality": "SINGLE"
+        },
+        "code": {
+          "name": "code",
+          "fieldType": "STRING",
+          "fieldPath": "code",
+          "cardinality": "SINGLE"
+        },
+        "deductibleAmount": {
+          "name": "deductibleAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "deductibleAmount",
+          "cardinality": "SINGLE"
+        },
+        "cultName": {
+          "name": "cultName",
+          "fieldType": "STRING",
+          "fieldPath": "cult.name",
+          "cardinality": "SINGLE"
+        },
+        "limitAmount": {
+          "name": "limitAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "limitAmount",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "CarCoverage"
+      ],
+      "system": false
+    },
+    "RRCoverage": {
+      "name": "RRCoverage",
+      "children": {},
+      "fields": {
+        "code": {
+          "name": "code",
+          "fieldType": "STRING",
+          "fieldPath": "code",
+          "cardinality": "SINGLE"
+        },
+        "deductibleAmount": {
+          "name": "deductibleAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "deductibleAmount",
+          "cardinality": "SINGLE"
+        },
+        "limitAmount": {
+          "name": "limitAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "limitAmount",
+          "cardinality": "SINGLE"
+        },
+        "combinedLimit": {
+          "name": "combinedLimit",
+          "fieldType": "STRING",
+          "fieldPath": "combinedLimit",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "RentalCoverage",
+        "CarCoverage"
+      ],
+      "system": false
+    },
+    "CreditCardInfo": {
+      "name": "CreditCardInfo",
+      "children": {
+        "BillingAddress": {
+          "targetName": "BillingAddress",
+          "navigationExpression": {
+            "expressionString": "billingAddress",
+            "originalExpressionString": "billingAddress",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "cvv": {
+          "name": "cvv",
+          "fieldType": "INTEGER",
+          "fieldPath": "cvv",
+          "cardinality": "SINGLE"
+        },
+        "cardType": {
+          "name": "cardType",
+          "fieldType": "STRING",
+          "fieldPath": "cardType",
+          "cardinality": "SINGLE"
+        },
+        "additionalInfo": {
+          "name": "additionalInfo",
+          "fieldType": "STRING",
+          "fieldPath": "additionalInfo",
+          "cardinality": "SINGLE"
+        },
+        "refsToBank": {
+          "name": "refsToBank",
+          "fieldType": "UNKNOWN",
+          "fieldPath": "refsToBank",
+          "cardinality": "MULTIPLE"
+        },
+        "cardCreditLimitAmount": {
+          "name": "cardCreditLimitAmount",
+          "fieldType": "MONEY",
+          "fieldPath": "cardCreditLimitAmount",
+          "cardinality": "SINGLE"
+        },
+        "cardNumber": {
+          "name": "cardNumber",
+          "fieldType": "STRING",
+          "fieldPath": "cardNumber",
+          "cardinality": "SINGLE"
+        },
+        "expirationDate": {
+          "name": "expirationDate",
+          "fieldType": "DATE",
+          "fieldPath": "expirationDate",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "Info"
+      ],
+      "system": false
+    },
+    "FullCoverage": {
+      "name": "FullCoverage",
+      "children": {},
+      "fields": {
+        "code": {
+          "name": "code",
+          "fieldType": "STRING",
+          "fieldPath": "code",
+          "cardinality": "SINGLE"
+        },
+        "deductibleAmount": {
+          "name": "deductibleAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "deductibleAmount",
+          "cardinality": "SINGLE"
+        },
+        "limitAmount": {
+          "name": "limitAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "limitAmount",
+          "cardinality": "SINGLE"
+        },
+        "effectiveDate": {
+          "name": "effectiveDate",
+          "fieldType": "DATE",
+          "fieldPath": "effectiveDate",
+          "cardinality": "SINGLE"
+        },
+        "typeOfInjuryCovered": {
+          "name": "typeOfInjuryCovered",
+          "fieldType": "STRING",
+          "fieldPath": "typeOfInjuryCovered",
+          "cardinality": "SINGLE"
+        },
+        "expirationDate": {
+          "name": "expirationDate",
+          "fieldType": "DATE",
+          "fieldPath": "expirationDate",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "COLLCoverage",
+        "DriverCoverage",
+        "CarCoverage"
+      ],
+      "system": false
+    },
+    "PartyRole": {
+      "name": "PartyRole",
+      "children": {},
+      "fields": {
+        "role": {
+          "name": "role",
+          "fieldType": "STRING",
+          "fieldPath": "role",
+          "cardinality": "SINGLE"
+        },
+        "limit": {
+          "name": "limit",
+          "fieldType": "DECIMAL",
+          "fieldPath": "limit",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "AddressLine": {
+      "name": "AddressLine",
+      "children": {},
+      "fields": {
+        "addressLine": {
+          "name": "addressLine",
+          "fieldType": "STRING",
+          "fieldPath": "addressLine",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "COLLCoverage": {
+      "name": "COLLCoverage",
+      "children": {},
+      "fields": {
+        "code": {
+          "name": "code",
+          "fieldType": "STRING",
+          "fieldPath": "code",
+          "cardinality": "SINGLE"
+        },
+        "deductibleAmount": {
+          "name": "deductibleAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "deductibleAmount",
+          "cardinality": "SINGLE"
+        },
+        "limitAmount": {
+          "name": "limitAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "limitAmount",
+          "cardinality": "SINGLE"
+        },
+        "effectiveDate": {
+          "name": "effectiveDate",
+          "fieldType": "DATE",
+          "fieldPath": "effectiveDate",
+          "cardinality": "SINGLE"
+        },
+        "expirationDate": {
+          "name": "expirationDate",
+          "fieldType": "DATE",
+          "fieldPath": "expirationDate",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "CarCoverage"
+      ],
+      "system": false
+    },
+    "Referer": {
+      "name": "Referer",
+      "children": {
+        "RefererInfo": {
+          "targetName": "RefererInfo",
+          "navigationExpression": {
+            "expressionString": "refererInfo",
+            "originalExpressionString": "refererInfo",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "SuperReferer": {
+          "targetName": "SuperReferer",
+          "navigationExpression": {
+            "expressionString": "superReferer",
+            "originalExpressionString": "superReferer",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "name": {
+          "name": "name",
+          "fieldType": "STRING",
+          "fieldPath": "name",
+          "cardinality": "SINGLE"
+        },
+        "superReferer": {
+          "name": "superReferer",
+          "fieldType": "SuperReferer",
+          "fieldPath": "superReferer",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "Info": {
+      "name": "Info",
+      "children": {},
+      "fields": {
+        "additionalInfo": {
+          "name": "additionalInfo",
+          "fieldType": "STRING",
+          "fieldPath": "additionalInfo",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "TransactionDetails": {
+      "name": "TransactionDetails",
+      "children": {},
+      "fields": {
+        "totalLimit": {
+          "name": "totalLimit",
+          "fieldType": "DECIMAL",
+          "fieldPath": "totalLimit",
+          "cardinality": "SINGLE"
+        },
+        "proxyDetails": {
+          "name": "proxyDetails",
+          "fieldType": "TransactionDetails",
+          "fieldPath": "proxyDetails",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "Insured": {
+      "name": "Insured",
+      "children": {
+        "BillingAddress": {
+          "targetName": "BillingAddress",
+          "navigationExpression": {
+            "expressionString": "addressInfo",
+            "originalExpressionString": "addressInfo",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "addressInfo": {
+          "name": "addressInfo",
+          "fieldType": "BillingAddress",
+          "fieldPath": "addressInfo",
+          "cardinality": "SINGLE"
+        },
+        "haveChildren": {
+          "name": "haveChildren",
+          "fieldType": "BOOLEAN",
+          "fieldPath": "haveChildren",
+          "cardinality": "SINGLE"
+        },
+        "name": {
+          "name": "name",
+          "fieldType": "STRING",
+          "fieldPath": "name",
+          "cardinality": "SINGLE"
+        },
+        "childrenAges": {
+          "name": "childrenAges",
+          "fieldType": "INTEGER",
+          "fieldPath": "childrenAges",
+          "cardinality": "MULTIPLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "DriverInfo": {
+      "name": "DriverInfo",
+      "children": {},
+      "fields": {
+        "trainingCompletionDate": {
+          "name": "trainingCompletionDate",
+          "fieldType": "DATE",
+          "fieldPath": "trainingCompletionDate",
+          "cardinality": "SINGLE"
+        },
+        "convicted": {
+          "name": "convicted",
+          "fieldType": "BOOLEAN",
+          "fieldPath": "convicted",
+          "cardinality": "SINGLE"
+        },
+        "driverType": {
+          "name": "driverType",
+          "fieldType": "STRING",
+          "fieldPath": "driverType",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "SysDate": {
+      "name": "SysDate",
+      "children": {},
+      "fields": {
+        "date": {
+          "name": "date",
+          "fieldType": "STRING",
+          "fieldPath": "date",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": true
+    },
+    "AddressInfo": {
+      "name": "AddressInfo",
+      "children": {
+        "AddressLine2": {
+          "targetName": "AddressLine2",
+          "navigationExpression": {
+            "expressionString": "addressLine2",
+            "originalExpressionString": "addressLine2",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "AddressLine1": {
+          "targetName": "AddressLine1",
+          "navigationExpression": {
+            "expressionString": "addressLine1",
+            "originalExpressionString": "addressLine1",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "city": {
+          "name": "city",
+          "fieldType": "STRING",
+          "fieldPath": "city",
+          "cardinality": "SINGLE"
+        },
+        "street": {
+          "name": "street",
+          "fieldType": "STRING",
+          "fieldPath": "street",
+          "cardinality": "SINGLE"
+        },
+        "postalCode": {
+          "name": "postalCode",
+          "fieldType": "STRING",
+          "fieldPath": "postalCode",
+          "cardinality": "SINGLE"
+        },
+        "doNotSolicit": {
+          "name": "doNotSolicit",
+          "fieldType": "BOOLEAN",
+          "fieldPath": "doNotSolicit",
+          "cardinality": "SINGLE"
+        },
+        "countryCd": {
+          "name": "countryCd",
+          "fieldType": "STRING",
+          "fieldPath": "countryCd",
+          "cardinality": "SINGLE"
+        },
+        "stateCd": {
+          "name": "stateCd",
+          "fieldType": "STRING",
+          "fieldPath": "stateCd",
+          "cardinality": "SINGLE"
+        },
+        "addressLines": {
+          "name": "addressLines",
+          "fieldType": "AddressLine",
+          "fieldPath": "addressLines",
+          "cardinality": "MULTIPLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "AddressLine2": {
+      "name": "AddressLine2",
+      "children": {},
+      "fields": {
+        "addressLine": {
+          "name": "addressLine",
+          "fieldType": "STRING",
+          "fieldPath": "addressLine",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "AddressLine"
+      ],
+      "system": false
+    },
+    "AddressLine1": {
+      "name": "AddressLine1",
+      "children": {},
+      "fields": {
+        "addressLine": {
+          "name": "addressLine",
+          "fieldType": "STRING",
+          "fieldPath": "addressLine",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "AddressLine"
+      ],
+      "system": false
+    },
+    "AnubisSecretCoverage": {
+      "name": "AnubisSecretCoverage",
+      "children": {},
+      "fields": {
+        "cultDate": {
+          "name": "cultDate",
+          "fieldType": "DATE",
+          "fieldPath": "cult.date",
+          "cardinality": "SINGLE"
+        },
+        "code": {
+          "name": "code",
+          "fieldType": "STRING",
+          "fieldPath": "code",
+          "cardinality": "SINGLE"
+        },
+        "deductibleAmount": {
+          "name": "deductibleAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "deductibleAmount",
+          "cardinality": "SINGLE"
+        },
+        "cultName": {
+          "name": "cultName",
+          "fieldType": "STRING",
+          "fieldPath": "cult.name",
+          "cardinality": "SINGLE"
+        },
+        "limitAmount": {
+          "name": "limitAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "limitAmount",
+          "cardinality": "SINGLE"
+        },
+        "secretLimitAmount": {
+          "name": "secretLimitAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "secretLimitAmount",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "AnubisCoverage",
+        "CarCoverage"
+      ],
+      "system": false
+    },
+    "CarCoverage": {
+      "name": "CarCoverage",
+      "children": {},
+      "fields": {
+        "code": {
+          "name": "code",
+          "fieldType": "STRING",
+          "fieldPath": "code",
+          "cardinality": "SINGLE"
+        },
+        "deductibleAmount": {
+          "name": "deductibleAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "deductibleAmount",
+          "cardinality": "SINGLE"
+        },
+        "limitAmount": {
+          "name": "limitAmount",
+          "fieldType": "DECIMAL",
+          "fieldPath": "limitAmount",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [],
+      "system": false
+    },
+    "SuperReferer": {
+      "name": "SuperReferer",
+      "children": {
+        "RefererInfo": {
+          "targetName": "RefererInfo",
+          "navigationExpression": {
+            "expressionString": "refererInfo",
+            "originalExpressionString": "refererInfo",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        },
+        "SuperReferer": {
+          "targetName": "SuperReferer",
+          "navigationExpression": {
+            "expressionString": "superReferer",
+            "originalExpressionString": "superReferer",
+            "expressionType": "PATH",
+            "expressionVariables": []
+          },
+          "cardinality": "SINGLE"
+        }
+      },
+      "fields": {
+        "name": {
+          "name": "name",
+          "fieldType": "STRING",
+          "fieldPath": "name",
+          "cardinality": "SINGLE"
+        },
+        "superReferer": {
+          "name": "superReferer",
+          "fieldType": "SuperReferer",
+          "fieldPath": "superReferer",
+          "cardinality": "SINGLE"
+        }
+      },
+      "inheritedContexts": [
+        "Referer"
+      ],
+      "system": false
+    }
+  },
+  "pathsToNodes": {
+    "Policy": [
+      {
+        "path": [
+          "Policy"
+        ]
+      }
+    ],
+    "PersonInfo": [
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PersonInfo"
+        ]
+      }
+    ],
+    "RefererInfo": [
+      {
+        "path": [
+          "Policy",
+          "Referer",
+          "RefererInfo"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Referer",
+          "SuperReferer",
+          "RefererInfo"
+        ]
+      }
+    ],
+    "SecondaryInsured": [
+      {
+        "path": [
+          "Policy",
+          "SecondaryInsured"
+        ]
+      }
+    ],
+    "RentalCoverage": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "RRCoverage"
+        ]
+      }
+    ],
+    "PersonNameInfo": [
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PersonInfo"
+        ]
+      }
+    ],
+    "DriverCoverage": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "FullCoverage"
+        ]
+      }
+    ],
+    "BillingAddress": [
+      {
+        "path": [
+          "Policy",
+          "CreditCardInfo",
+          "BillingAddress"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Insured",
+          "BillingAddress"
+        ]
+      }
+    ],
+    "Vehicle": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle"
+        ]
+      }
+    ],
+    "Party": [
+      {
+        "path": [
+          "Policy",
+          "Party"
+        ]
+      }
+    ],
+    "RRCoverage": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "RRCoverage"
+        ]
+      }
+    ],
+    "CreditCardInfo": [
+      {
+        "path": [
+          "Policy",
+          "CreditCardInfo"
+        ]
+      }
+    ],
+    "PartyRole": [
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PartyRole"
+        ]
+      }
+    ],
+    "FullCoverage": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "FullCoverage"
+        ]
+      }
+    ],
+    "AddressLine": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "AddressInfo",
+          "AddressLine2"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "AddressInfo",
+          "AddressLine1"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PersonInfo",
+          "AddressInfo",
+          "AddressLine2"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PersonInfo",
+          "AddressInfo",
+          "AddressLine1"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "CreditCardInfo",
+          "BillingAddress",
+          "AddressLine2"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "CreditCardInfo",
+          "BillingAddress",
+          "AddressLine1"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Insured",
+          "BillingAddress",
+          "AddressLine2"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Insured",
+          "BillingAddress",
+          "AddressLine1"
+        ]
+      }
+    ],
+    "COLLCoverage": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "FullCoverage"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "COLLCoverage"
+        ]
+      }
+    ],
+    "Referer": [
+      {
+        "path": [
+          "Policy",
+          "Referer"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Referer",
+          "SuperReferer"
+        ]
+      }
+    ],
+    "Info": [
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PersonInfo"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "CreditCardInfo"
+        ]
+      }
+    ],
+    "TransactionDetails": [
+      {
+        "path": [
+          "Policy",
+          "TransactionDetails"
+        ]
+      }
+    ],
+    "Insured": [
+      {
+        "path": [
+          "Policy",
+          "Insured"
+        ]
+      }
+    ],
+    "DriverInfo": [
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "DriverInfo"
+        ]
+      }
+    ],
+    "AddressInfo": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "AddressInfo"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PersonInfo",
+          "AddressInfo"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "CreditCardInfo",
+          "BillingAddress"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Insured",
+          "BillingAddress"
+        ]
+      }
+    ],
+    "AddressLine2": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "AddressInfo",
+          "AddressLine2"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PersonInfo",
+          "AddressInfo",
+          "AddressLine2"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "CreditCardInfo",
+          "BillingAddress",
+          "AddressLine2"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Insured",
+          "BillingAddress",
+          "AddressLine2"
+        ]
+      }
+    ],
+    "AddressLine1": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "AddressInfo",
+          "AddressLine1"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Party",
+          "PersonInfo",
+          "AddressInfo",
+          "AddressLine1"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "CreditCardInfo",
+          "BillingAddress",
+          "AddressLine1"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Insured",
+          "BillingAddress",
+          "AddressLine1"
+        ]
+      }
+    ],
+    "CarCoverage": [
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "FullCoverage"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "COLLCoverage"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "Vehicle",
+          "RRCoverage"
+        ]
+      },
+      {
+        "path": [
+          "Policy",
+          "CarCoverage"
+        ]
+      }
+    ],
+    "SuperReferer": [
+      {
+        "path": [
+          "Policy",
+          "Referer",
+          "SuperReferer"
+        ]
+      }
+    ]
+  },
+  "metadata": {
+    "namespace": "Policy",
+    "targetEnvironment": "JAVASCRIPT"
+  }
+}
\ No newline at end of file
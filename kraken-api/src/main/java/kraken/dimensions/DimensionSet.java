@@ -15,6 +15,7 @@
  */
 package kraken.dimensions;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.Set;
 
@@ -33,7 +34,9 @@ import kraken.annotations.API;
  * @since 1.40.0
  */
 @API
-public class DimensionSet {
+public class DimensionSet implements Serializable {
+
+    private static final long serialVersionUID = -6000546081516637384L;
 
     /**
      * Represents rule or entry point variability type - when artifact is static, varied by known set
@@ -272,6 +272,14 @@ public class SystemMessageBuilder {
             "kbs056",
             "Assertion expression ''{0}'' of rule ''{1}'' failed with exception."
         ),
+        ENTRY_POINTS_FROM_DIFFERENT_NAMESPACES(
+            "kbs057",
+            "Entry points {0} cannot be evaluated together, because they belong to different namespaces: {1}."
+        ),
+        DUPLICATE_ENTRY_POINTS_IN_EVALUATION(
+            "kbs058",
+            "Entry points {0} cannot be evaluated together, because entry point names {1} are provided more than once."
+        ),
         ;
         private final String code;
         private final String messageTemplate;
@@ -15,6 +15,7 @@
  */
 package kraken.model;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -39,7 +40,7 @@ import kraken.model.context.PrimitiveFieldDataType;
  * @since 1.43.0
  */
 @API
-public final class ValueList {
+public final class ValueList implements Serializable {
 
     private final DataType valueType;
     private final List<?> values;
@@ -16,7 +16,6 @@
 package kraken.generator.context.model.tree;
 
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
@@ -33,9 +32,10 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.Gson;
 
 import kraken.context.model.tree.ContextModelTree;
+import kraken.context.model.tree.impl.ContextModelTreeBinaryFormat;
 import kraken.context.model.tree.impl.ContextModelTrees;
 import kraken.context.model.tree.impl.ContextRepository;
-import kraken.context.model.tree.repository.StaticContextModelTreeRepository;
+import kraken.context.model.tree.repository.BinaryContextModelTreeRepository;
 import kraken.converter.KrakenProjectConverter;
 import kraken.el.TargetEnvironment;
 import kraken.model.dsl.read.DSLReader;
@@ -148,11 +148,11 @@ public class ContextModelTreeOutputResourceWriter {
     }
 
     private void writeBinary(String fileName, ContextModelTree modelTree) {
-        String fileNameWithExtension = withExtension(fileName, StaticContextModelTreeRepository.EXTENSION);
+        String fileNameWithExtension = withExtension(fileName, BinaryContextModelTreeRepository.EXTENSION);
 
-        try (FileObject file = targetDir.resolveFile(fileNameWithExtension)) {
-            ObjectOutputStream oos = new ObjectOutputStream(file.getContent().getOutputStream());
-            oos.writeObject(modelTree);
+        try (FileObject file = targetDir.resolveFile(fileNameWithExtension);
+             OutputStream os = file.getContent().getOutputStream()) {
+            ContextModelTreeBinaryFormat.write(modelTree, os);
 
             logSuccess(fileNameWithExtension);
         } catch (IOException e) {
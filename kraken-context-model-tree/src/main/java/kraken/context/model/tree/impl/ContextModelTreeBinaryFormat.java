@@ -0,0 +1,513 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.context.model.tree.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import kraken.context.model.tree.ContextModelTree;
+import kraken.context.model.tree.ContextModelTreeMetadata;
+import kraken.context.path.ContextPath;
+import kraken.el.TargetEnvironment;
+import kraken.model.context.Cardinality;
+import kraken.runtime.model.context.ContextField;
+import kraken.runtime.model.context.ContextNavigation;
+import kraken.runtime.model.context.RuntimeContextDefinition;
+import kraken.runtime.model.expression.CompiledExpression;
+import kraken.runtime.model.expression.ExpressionType;
+import kraken.runtime.model.expression.ExpressionVariable;
+import kraken.runtime.model.expression.ExpressionVariableType;
+
+/**
+ * Compact binary format of {@link ContextModelTree}, which replaces Java serialization of {@link ContextModelTreeImpl}.
+ * <p/>
+ * File starts with a header of magic number, format version, namespace and target environment, therefore
+ * {@link #readMetadata(InputStream)} can index files without decoding the tree itself.
+ * Header is followed by a table of all distinct strings in the tree and the tree itself,
+ * which refers to strings by index in the table. Enum values are written by name as references to the table,
+ * so that reordering of enum constants does not change meaning of written files.
+ * Integers are written as variable length quantities.
+ * <p/>
+ * Format version must be incremented on every incompatible change of the layout.
+ * Files written in a format version other than {@link #FORMAT_VERSION} are rejected.
+ * {@link CompiledExpression#getAst()} of context navigation is not written,
+ * the same as it was not written by Java serialization.
+ *
+ * @since 1.55.0
+ */
+public final class ContextModelTreeBinaryFormat {
+
+    public static final int MAGIC = 0x4B524E54;
+
+    public static final int FORMAT_VERSION = 2;
+
+    private static final int NULL_BOOLEAN = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+
+    private static final int NULL_LITERAL = 0;
+    private static final int STRING_LITERAL = 1;
+    private static final int BOOLEAN_LITERAL = 2;
+    private static final int DECIMAL_LITERAL = 3;
+    private static final int DATE_LITERAL = 4;
+    private static final int DATETIME_LITERAL = 5;
+
+    private ContextModelTreeBinaryFormat() {
+    }
+
+    /**
+     * Writes context model tree to output stream. Stream is not closed.
+     *
+     * @param tree  to write
+     * @param out   to write to
+     * @throws IOException if writing to stream fails
+     * @throws IllegalArgumentException if tree has a literal navigation expression of unsupported type
+     */
+    public static void write(ContextModelTree tree, OutputStream out) throws IOException {
+        new Writer(tree).write(out);
+    }
+
+    /**
+     * Reads only the header of context model tree.
+     *
+     * @param in to read from
+     * @return metadata of context model tree
+     * @throws IOException if stream is not a context model tree in supported format version
+     */
+    public static ContextModelTreeMetadata readMetadata(InputStream in) throws IOException {
+        return readHeader(new DataInputStream(in));
+    }
+
+    /**
+     * Reads context model tree.
+     *
+     * @param in to read from
+     * @return context model tree
+     * @throws IOException if stream is not a context model tree in supported format version
+     */
+    public static ContextModelTree read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        ContextModelTreeMetadata metadata = readHeader(data);
+        return new Reader(data).read(metadata);
+    }
+
+    private static ContextModelTreeMetadata readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Stream is not a context model tree");
+        }
+        int version = in.readUnsignedShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Context model tree is written in format version " + version
+                + ", but only version " + FORMAT_VERSION + " is supported");
+        }
+        String namespace = readString(in);
+        TargetEnvironment targetEnvironment = TargetEnvironment.valueOf(readString(in));
+        return new ContextModelTreeMetadata(namespace, targetEnvironment);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer in context model tree");
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Writer {
+
+        private final ContextModelTree tree;
+
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+        private Writer(ContextModelTree tree) {
+            this.tree = tree;
+        }
+
+        void write(OutputStream stream) throws IOException {
+            collectStrings();
+
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            writeString(out, tree.getMetadata().getNamespace());
+            writeString(out, tree.getMetadata().getTargetEnvironment().name());
+
+            writeVarInt(out, strings.size());
+            for (String string : strings.keySet()) {
+                writeString(out, string);
+            }
+
+            writeVarInt(out, tree.getContexts().size());
+            for (RuntimeContextDefinition context : tree.getContexts().values()) {
+                writeContext(out, context);
+            }
+
+            writeVarInt(out, tree.getPathsToNodes().size());
+            for (Map.Entry<String, Collection<ContextPath>> paths : tree.getPathsToNodes().entrySet()) {
+                writeReference(out, paths.getKey());
+                writeVarInt(out, paths.getValue().size());
+                for (ContextPath path : paths.getValue()) {
+                    writeVarInt(out, path.getPathLength());
+                    for (String element : path.getPath()) {
+                        writeReference(out, element);
+                    }
+                }
+            }
+            out.flush();
+        }
+
+        private void collectStrings() {
+            for (RuntimeContextDefinition context : tree.getContexts().values()) {
+                index(context.getName());
+                context.getInheritedContexts().forEach(this::index);
+                for (ContextField field : context.getFields().values()) {
+                    index(field.getName());
+                    index(field.getFieldType());
+                    index(field.getFieldPath());
+                    index(field.getCardinality());
+                }
+                for (ContextNavigation child : context.getChildren().values()) {
+                    index(child.getTargetName());
+                    index(child.getCardinality());
+                    CompiledExpression expression = child.getNavigationExpression();
+                    if (expression != null) {
+                        index(expression.getExpressionString());
+                        index(expression.getExpressionType());
+                        index(expression.getOriginalExpressionString());
+                        index(expression.getExpressionEvaluationType());
+                        if (expression.getExpressionVariables() != null) {
+                            for (ExpressionVariable variable : expression.getExpressionVariables()) {
+                                index(variable.getName());
+                                index(variable.getType());
+                            }
+                        }
+                    }
+                }
+            }
+            for (Map.Entry<String, Collection<ContextPath>> paths : tree.getPathsToNodes().entrySet()) {
+                index(paths.getKey());
+                paths.getValue().forEach(path -> path.getPath().forEach(this::index));
+            }
+        }
+
+        private void index(String string) {
+            if (string != null) {
+                strings.putIfAbsent(string, strings.size());
+            }
+        }
+
+        private void index(Enum<?> value) {
+            if (value != null) {
+                index(value.name());
+            }
+        }
+
+        private void writeContext(DataOutputStream out, RuntimeContextDefinition context) throws IOException {
+            writeReference(out, context.getName());
+            out.writeBoolean(context.isSystem());
+
+            writeVarInt(out, context.getInheritedContexts().size());
+            for (String inheritedContext : context.getInheritedContexts()) {
+                writeReference(out, inheritedContext);
+            }
+
+            writeVarInt(out, context.getFields().size());
+            for (ContextField field : context.getFields().values()) {
+                writeReference(out, field.getName());
+                writeNullableReference(out, field.getFieldType());
+                writeNullableReference(out, field.getFieldPath());
+                writeEnum(out, field.getCardinality());
+                writeBoolean(out, field.getForbidTarget());
+            }
+
+            writeVarInt(out, context.getChildren().size());
+            for (ContextNavigation child : context.getChildren().values()) {
+                writeReference(out, child.getTargetName());
+                writeEnum(out, child.getCardinality());
+                writeExpression(out, child.getNavigationExpression());
+            }
+        }
+
+        private void writeExpression(DataOutputStream out, CompiledExpression expression) throws IOException {
+            out.writeBoolean(expression != null);
+            if (expression == null) {
+                return;
+            }
+            writeNullableReference(out, expression.getExpressionString());
+            writeNullableReference(out, expression.getOriginalExpressionString());
+            writeEnum(out, expression.getExpressionType());
+            writeLiteral(out, expression.getCompiledLiteralValue());
+            writeNullableReference(out, expression.getExpressionEvaluationType());
+
+            Collection<ExpressionVariable> variables = expression.getExpressionVariables();
+            out.writeBoolean(variables != null);
+            if (variables != null) {
+                writeVarInt(out, variables.size());
+                for (ExpressionVariable variable : variables) {
+                    writeReference(out, variable.getName());
+                    writeEnum(out, variable.getType());
+                }
+            }
+        }
+
+        private void writeLiteral(DataOutputStream out, Serializable value) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL_LITERAL);
+            } else if (value instanceof String) {
+                out.writeByte(STRING_LITERAL);
+                writeString(out, (String) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN_LITERAL);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof BigDecimal) {
+                out.writeByte(DECIMAL_LITERAL);
+                writeString(out, value.toString());
+            } else if (value instanceof LocalDate) {
+                out.writeByte(DATE_LITERAL);
+                writeString(out, value.toString());
+            } else if (value instanceof LocalDateTime) {
+                out.writeByte(DATETIME_LITERAL);
+                writeString(out, value.toString());
+            } else {
+                throw new IllegalArgumentException(
+                    "Literal value of type " + value.getClass().getName() + " cannot be written to context model tree"
+                );
+            }
+        }
+
+        private void writeReference(DataOutputStream out, String string) throws IOException {
+            writeVarInt(out, strings.get(string));
+        }
+
+        private void writeNullableReference(DataOutputStream out, String string) throws IOException {
+            writeVarInt(out, string == null ? 0 : strings.get(string) + 1);
+        }
+
+        private void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+            writeNullableReference(out, value == null ? null : value.name());
+        }
+
+        private void writeBoolean(DataOutputStream out, Boolean value) throws IOException {
+            out.writeByte(value == null ? NULL_BOOLEAN : value ? TRUE : FALSE);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+
+        private String[] strings;
+
+        private Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        ContextModelTree read(ContextModelTreeMetadata metadata) throws IOException {
+            strings = new String[readVarInt(in)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(in);
+            }
+
+            int contextCount = readVarInt(in);
+            Map<String, RuntimeContextDefinition> contexts = new HashMap<>(capacity(contextCount));
+            for (int i = 0; i < contextCount; i++) {
+                RuntimeContextDefinition context = readContext();
+                contexts.put(context.getName(), context);
+            }
+
+            int pathsCount = readVarInt(in);
+            Map<String, Collection<ContextPath>> pathsToNodes = new HashMap<>(capacity(pathsCount));
+            for (int i = 0; i < pathsCount; i++) {
+                String contextName = readReference();
+                int count = readVarInt(in);
+                List<ContextPath> paths = new ArrayList<>(count);
+                for (int p = 0; p < count; p++) {
+                    int length = readVarInt(in);
+                    ContextPath.ContextPathBuilder path = new ContextPath.ContextPathBuilder();
+                    for (int e = 0; e < length; e++) {
+                        path.addPathElement(readReference());
+                    }
+                    paths.add(path.build());
+                }
+                pathsToNodes.put(contextName, paths);
+            }
+
+            return new ContextModelTreeImpl(contexts, pathsToNodes, metadata);
+        }
+
+        private RuntimeContextDefinition readContext() throws IOException {
+            String name = readReference();
+            boolean system = in.readBoolean();
+
+            int inheritedCount = readVarInt(in);
+            List<String> inheritedContexts = new ArrayList<>(inheritedCount);
+            for (int i = 0; i < inheritedCount; i++) {
+                inheritedContexts.add(readReference());
+            }
+
+            int fieldCount = readVarInt(in);
+            Map<String, ContextField> fields = new HashMap<>(capacity(fieldCount));
+            for (int i = 0; i < fieldCount; i++) {
+                ContextField field = new ContextField(
+                    readReference(),
+                    readNullableReference(),
+                    readNullableReference(),
+                    readEnum(Cardinality.class),
+                    readBoolean()
+                );
+                fields.put(field.getName(), field);
+            }
+
+            int childCount = readVarInt(in);
+            Map<String, ContextNavigation> children = new HashMap<>(capacity(childCount));
+            for (int i = 0; i < childCount; i++) {
+                String targetName = readReference();
+                Cardinality cardinality = readEnum(Cardinality.class);
+                children.put(targetName, new ContextNavigation(targetName, readExpression(), cardinality));
+            }
+
+            return new RuntimeContextDefinition(name, children, fields, inheritedContexts, system);
+        }
+
+        private CompiledExpression readExpression() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            String expressionString = readNullableReference();
+            String originalExpressionString = readNullableReference();
+            ExpressionType expressionType = readEnum(ExpressionType.class);
+            Serializable literal = readLiteral();
+            String evaluationType = readNullableReference();
+
+            List<ExpressionVariable> variables = null;
+            if (in.readBoolean()) {
+                int count = readVarInt(in);
+                variables = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    variables.add(new ExpressionVariable(readReference(), readEnum(ExpressionVariableType.class)));
+                }
+            }
+            return new CompiledExpression(
+                expressionString,
+                originalExpressionString,
+                expressionType,
+                literal,
+                evaluationType,
+                variables,
+                null
+            );
+        }
+
+        private Serializable readLiteral() throws IOException {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case NULL_LITERAL:
+                    return null;
+                case STRING_LITERAL:
+                    return readString(in);
+                case BOOLEAN_LITERAL:
+                    return in.readBoolean();
+                case DECIMAL_LITERAL:
+                    return new BigDecimal(readString(in));
+                case DATE_LITERAL:
+                    return LocalDate.parse(readString(in));
+                case DATETIME_LITERAL:
+                    return LocalDateTime.parse(readString(in));
+                default:
+                    throw new IOException("Unknown literal type " + tag + " in context model tree");
+            }
+        }
+
+        private String readReference() throws IOException {
+            return reference(readVarInt(in));
+        }
+
+        private String readNullableReference() throws IOException {
+            int index = readVarInt(in);
+            return index == 0 ? null : reference(index - 1);
+        }
+
+        private String reference(int index) throws IOException {
+            if (index < 0 || index >= strings.length) {
+                throw new IOException("Context model tree refers to unknown string " + index);
+            }
+            return strings[index];
+        }
+
+        private <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+            String name = readNullableReference();
+            if (name == null) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Context model tree has unknown value " + name + " of enum "
+                    + type.getSimpleName(), e);
+            }
+        }
+
+        private Boolean readBoolean() throws IOException {
+            int value = in.readUnsignedByte();
+            return value == NULL_BOOLEAN ? null : value == TRUE;
+        }
+
+        private static int capacity(int size) {
+            return (int) (size / 0.75f) + 1;
+        }
+    }
+
+}
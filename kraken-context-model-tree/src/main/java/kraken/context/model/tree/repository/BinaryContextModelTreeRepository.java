@@ -0,0 +1,137 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.context.model.tree.repository;
+
+import static kraken.message.SystemMessageBuilder.Message.CONTEXT_MODEL_TREE_CANNOT_COLLECT;
+import static kraken.message.SystemMessageBuilder.Message.CONTEXT_MODEL_TREE_CANNOT_READ;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import kraken.context.model.tree.ContextModelTree;
+import kraken.context.model.tree.ContextModelTreeMetadata;
+import kraken.context.model.tree.impl.ContextModelTreeBinaryFormat;
+import kraken.context.model.tree.impl.ContextModelTreeConstructException;
+import kraken.el.TargetEnvironment;
+import kraken.message.SystemMessageBuilder;
+import kraken.utils.ResourceLoader;
+
+/**
+ * {@link ContextModelTree} repository, that loads resources written in {@link ContextModelTreeBinaryFormat}
+ * from classpath. Resources must be with extension {@link BinaryContextModelTreeRepository#EXTENSION}.
+ * <p/>
+ * During initialization only headers of resources are read to index them by
+ * {@link ContextModelTreeMetadata#getNamespace()} and {@link ContextModelTreeMetadata#getTargetEnvironment()}.
+ * Context model tree of namespace is read on the first request and cached afterwards.
+ * Resources with unreadable header or written in unsupported format version are logged and skipped, therefore
+ * context model trees of their namespaces are not available in this repository and must be resolved elsewhere.
+ *
+ * @since 1.55.0
+ */
+public class BinaryContextModelTreeRepository implements ContextModelTreeRepository {
+
+    public static final String EXTENSION = "krakentree";
+
+    private static final Logger logger = LoggerFactory.getLogger(BinaryContextModelTreeRepository.class);
+
+    public static BinaryContextModelTreeRepository initialize() {
+        var pattern = ".*\\." + EXTENSION;
+        final Collection<URL> urls;
+        try {
+            urls = ResourceLoader.builder()
+                    .baseDir("")
+                    .pattern(pattern)
+                    .build()
+                    .load();
+        } catch (UncheckedIOException e) {
+            var message = SystemMessageBuilder.create(CONTEXT_MODEL_TREE_CANNOT_COLLECT).parameters(pattern).build();
+            throw new ContextModelTreeConstructException(message, e);
+        }
+        Map<String, URL> resources = new HashMap<>();
+        for (URL url : urls) {
+            ContextModelTreeMetadata metadata;
+            try {
+                metadata = metadata(url);
+            } catch (ContextModelTreeConstructException e) {
+                logger.warn("Skipping binary context model tree that cannot be read: {}", url, e);
+                continue;
+            }
+            // more than one model tree in classpath
+            resources.putIfAbsent(cacheKey(metadata.getNamespace(), metadata.getTargetEnvironment()), url);
+        }
+        logger.debug("Indexed {} binary context model trees", resources.size());
+        return new BinaryContextModelTreeRepository(resources);
+    }
+
+    private static String cacheKey(String namespace, TargetEnvironment targetEnvironment) {
+        return String.format("%s-%s", namespace, targetEnvironment);
+    }
+
+    private static ContextModelTreeMetadata metadata(URL url) {
+        try (InputStream in = url.openStream()) {
+            return ContextModelTreeBinaryFormat.readMetadata(in);
+        } catch (IOException e) {
+            throw cannotRead(url, e);
+        } catch (IllegalArgumentException e) {
+            // unknown target environment
+            throw cannotRead(url, new IOException(e));
+        }
+    }
+
+    private static ContextModelTree modelTree(URL url) {
+        try (InputStream in = url.openStream()) {
+            return ContextModelTreeBinaryFormat.read(in);
+        } catch (IOException e) {
+            throw cannotRead(url, e);
+        }
+    }
+
+    private static ContextModelTreeConstructException cannotRead(URL url, IOException e) {
+        var message = SystemMessageBuilder.create(CONTEXT_MODEL_TREE_CANNOT_READ).parameters(url).build();
+        return new ContextModelTreeConstructException(message, e);
+    }
+
+    private final Map<String, URL> resources;
+
+    private final Map<String, ContextModelTree> repository = new ConcurrentHashMap<>();
+
+    @Override
+    public ContextModelTree get(String namespace, TargetEnvironment targetEnvironment) {
+        String key = cacheKey(namespace, targetEnvironment);
+        URL url = resources.get(key);
+        if (url == null) {
+            return null;
+        }
+        ContextModelTree modelTree = repository.get(key);
+        if (modelTree == null) {
+            modelTree = repository.computeIfAbsent(key, k -> modelTree(url));
+        }
+        return modelTree;
+    }
+
+    private BinaryContextModelTreeRepository(Map<String, URL> resources) {
+        this.resources = resources;
+    }
+}
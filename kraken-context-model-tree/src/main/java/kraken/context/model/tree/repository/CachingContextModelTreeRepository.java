@@ -44,8 +44,12 @@ public class CachingContextModelTreeRepository implements ContextModelTreeReposi
                 namespace,
                 targetEnvironment
         );
+        ContextModelTree modelTree = modelTreeCache.get(requireNonNull(namespace));
+        if (modelTree != null) {
+            return modelTree;
+        }
         return modelTreeCache.computeIfAbsent(
-                requireNonNull(namespace),
+                namespace,
                 key -> ContextModelTrees.create(contextRepository, namespace, targetEnvironment)
         );
     }
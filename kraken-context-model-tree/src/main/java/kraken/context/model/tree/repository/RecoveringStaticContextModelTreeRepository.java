@@ -29,26 +29,50 @@ import java.util.Optional;
  * static repository is considered as invalid and only runtime caching repository will be used to
  * resolve context model trees. This is a mechanism to support dynamic {@link ContextRepository},
  * which context might be changed in runtime.
+ * <p/>
+ * Static context model trees are resolved from {@link BinaryContextModelTreeRepository} first and from
+ * {@link StaticContextModelTreeRepository} for resources written by previous versions.
  *
  * @author psurinin
  */
 public class RecoveringStaticContextModelTreeRepository implements ContextModelTreeRepository, Cached {
 
+    private final static BinaryContextModelTreeRepository binaryContextModelTreeRepository =
+            BinaryContextModelTreeRepository.initialize();
+
+    @SuppressWarnings("deprecation")
     private final static StaticContextModelTreeRepository staticContextModelTreeRepository =
             StaticContextModelTreeRepository.initialize();
 
     private boolean isStaticRepositoryApplicable;
     private final CachingContextModelTreeRepository cachingContextModelTreeRepository;
+    private final ContextModelTreeRepository binaryRepository;
+    private final ContextModelTreeRepository legacyRepository;
 
     public RecoveringStaticContextModelTreeRepository(ContextRepositoryRegistry registry) {
+        this(registry, binaryContextModelTreeRepository, staticContextModelTreeRepository);
+    }
+
+    /**
+     * @param registry to create context model trees from in runtime
+     * @param binaryRepository to resolve context model trees from first
+     * @param legacyRepository to resolve context model trees written by previous versions from
+     * @since 1.55.0
+     */
+    public RecoveringStaticContextModelTreeRepository(ContextRepositoryRegistry registry,
+                                                      ContextModelTreeRepository binaryRepository,
+                                                      ContextModelTreeRepository legacyRepository) {
         this.cachingContextModelTreeRepository = new CachingContextModelTreeRepository(registry);
+        this.binaryRepository = binaryRepository;
+        this.legacyRepository = legacyRepository;
         this.isStaticRepositoryApplicable = true;
     }
 
     @Override
     public ContextModelTree get(String namespace, TargetEnvironment targetEnvironment) {
         if (isStaticRepositoryApplicable) {
-            return Optional.ofNullable(staticContextModelTreeRepository.get(namespace, targetEnvironment))
+            return Optional.ofNullable(binaryRepository.get(namespace, targetEnvironment))
+                    .or(() -> Optional.ofNullable(legacyRepository.get(namespace, targetEnvironment)))
                     .orElseGet(() -> cachingContextModelTreeRepository.get(namespace, targetEnvironment));
         }
         return cachingContextModelTreeRepository.get(namespace, targetEnvironment);
@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 
 import kraken.context.model.tree.ContextModelTree;
 import kraken.context.model.tree.ContextModelTreeMetadata;
+import kraken.context.model.tree.impl.ContextModelTreeBinaryFormat;
 import kraken.context.model.tree.impl.ContextModelTreeConstructException;
 import kraken.context.model.tree.impl.ContextModelTreeImpl;
 import kraken.el.TargetEnvironment;
@@ -42,7 +43,10 @@ import kraken.utils.ResourceLoader;
  * By these keys it will be queried in {@link ContextModelTreeRepository#get(String, TargetEnvironment)}
  *
  * @author psurinin
+ * @deprecated since 1.55.0, context model trees are written in {@link ContextModelTreeBinaryFormat},
+ * use {@link BinaryContextModelTreeRepository} instead. Resources written by previous versions are still supported.
  */
+@Deprecated
 public class StaticContextModelTreeRepository implements ContextModelTreeRepository {
 
     public static final String EXTENSION = "krakenmodel";
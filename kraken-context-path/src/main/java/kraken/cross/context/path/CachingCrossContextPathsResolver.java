@@ -24,13 +24,16 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Caching implementation of {@code CrossContextPathsResolver} which decorates path resolver and
  * stores previously resolved values in a cache.
+ * <p>
+ * Cache belongs to the instance, because decorated path resolver is specific to a context model tree.
+ * Cached paths are read without locking and without allocating a cache key.
  *
  * @author Tomas Dapkunas
  * @since 1.1.1
  */
 public class CachingCrossContextPathsResolver implements CrossContextPathsResolver {
 
-    private static final Map<String, List<CrossContextPath>> PATHS_CACHE = new ConcurrentHashMap<>();
+    private final Map<String, Map<ContextPath, List<CrossContextPath>>> pathsCache = new ConcurrentHashMap<>();
     private final CrossContextPathsResolver crossContextPathsResolver;
 
     private CachingCrossContextPathsResolver(CrossContextPathsResolver crossContextPathsResolver) {
@@ -43,14 +46,16 @@ public class CachingCrossContextPathsResolver implements CrossContextPathsResolv
 
     @Override
     public List<CrossContextPath> resolvePaths(ContextPath fromPath, String targetContextName) {
-        String key = createKey(fromPath.getPathAsString(), targetContextName);
-
-        return PATHS_CACHE
-                .computeIfAbsent(key, k -> crossContextPathsResolver.resolvePaths(fromPath, targetContextName));
-    }
-
-    private String createKey(String fromPath, String targetContextName) {
-        return fromPath + "_" + targetContextName;
+        Map<ContextPath, List<CrossContextPath>> pathsToTarget = pathsCache.get(targetContextName);
+        if (pathsToTarget == null) {
+            pathsToTarget = pathsCache.computeIfAbsent(targetContextName, k -> new ConcurrentHashMap<>());
+        }
+        List<CrossContextPath> paths = pathsToTarget.get(fromPath);
+        if (paths != null) {
+            return paths;
+        }
+        return pathsToTarget
+                .computeIfAbsent(fromPath, k -> crossContextPathsResolver.resolvePaths(fromPath, targetContextName));
     }
 
 }
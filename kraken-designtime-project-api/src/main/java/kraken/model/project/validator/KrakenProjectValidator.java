@@ -39,4 +39,16 @@ public interface KrakenProjectValidator {
      */
     List<ValidationMessage> validate(KrakenProject krakenProject);
 
+    /**
+     * Thread-safe validator is invoked concurrently with validation of rules and entry points
+     * and with other thread-safe validators. Validator which is not thread-safe is invoked in the calling thread
+     * after all other validation completes.
+     *
+     * @return true if validator can be invoked concurrently with other validation
+     * @since 1.55.0
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
@@ -15,6 +15,7 @@
  */
 package kraken.model.resource;
 
+import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,7 +44,7 @@ import kraken.namespace.Namespaced;
  * @author mulevicius
  */
 @API
-public final class Resource {
+public final class Resource implements Serializable {
 
     private final String namespace;
 
@@ -15,6 +15,7 @@
  */
 package kraken.model.resource;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 import kraken.annotations.API;
@@ -25,7 +26,7 @@ import kraken.annotations.API;
  * @author mulevicius
  */
 @API
-public class RuleImport {
+public class RuleImport implements Serializable {
 
     private String namespace;
 
@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.converter;
+
+import java.util.List;
+import java.util.Map;
+
+import kraken.el.TargetEnvironment;
+import kraken.model.project.KrakenProject;
+import kraken.runtime.model.project.RuntimeKrakenProject;
+import kraken.runtime.model.rule.RuntimeRule;
+
+/**
+ * Result of {@link KrakenProjectConverter#convertIncrementally()}. Contains converted {@link RuntimeKrakenProject}
+ * and content hashes of converted designtime model, so that the next version of the same Kraken project
+ * can be converted incrementally by reusing runtime model of unchanged rules.
+ * <p/>
+ * Content hashes are calculated during conversion, so conversion does not keep a reference to designtime
+ * {@link KrakenProject}.
+ *
+ * @since 1.55.0
+ */
+public final class KrakenProjectConversion {
+
+    private final RuntimeKrakenProject runtimeKrakenProject;
+
+    private final TargetEnvironment targetEnvironment;
+
+    private final String environmentFingerprint;
+
+    private final Map<String, RuntimeRule> rulesByFingerprint;
+
+    private final int reusedRuleCount;
+
+    /**
+     * @param environmentFingerprint of Kraken project
+     * @param rulesByFingerprint runtime rules by content hash of designtime rule
+     */
+    KrakenProjectConversion(RuntimeKrakenProject runtimeKrakenProject,
+                            TargetEnvironment targetEnvironment,
+                            String environmentFingerprint,
+                            Map<String, RuntimeRule> rulesByFingerprint,
+                            int reusedRuleCount) {
+        this.runtimeKrakenProject = runtimeKrakenProject;
+        this.targetEnvironment = targetEnvironment;
+        this.environmentFingerprint = environmentFingerprint;
+        this.rulesByFingerprint = rulesByFingerprint;
+        this.reusedRuleCount = reusedRuleCount;
+    }
+
+    public RuntimeKrakenProject getRuntimeKrakenProject() {
+        return runtimeKrakenProject;
+    }
+
+    /**
+     * @return number of rules reused from previous conversion
+     */
+    public int getReusedRuleCount() {
+        return reusedRuleCount;
+    }
+
+    /**
+     * @return number of rules converted in this conversion
+     */
+    public int getConvertedRuleCount() {
+        List<RuntimeRule> rules = runtimeKrakenProject.getRules();
+        return rules.size() - reusedRuleCount;
+    }
+
+    TargetEnvironment getTargetEnvironment() {
+        return targetEnvironment;
+    }
+
+    String getEnvironmentFingerprint() {
+        return environmentFingerprint;
+    }
+
+    Map<String, RuntimeRule> getRulesByFingerprint() {
+        return rulesByFingerprint;
+    }
+
+    /**
+     * @return content hash of everything in Kraken project that affects conversion of rules,
+     *         except for the rules themselves
+     */
+    static String environmentFingerprint(KrakenProject krakenProject) {
+        return ModelFingerprint.of(
+            krakenProject.getNamespace(),
+            krakenProject.getRootContextName(),
+            krakenProject.getExternalContext(),
+            krakenProject.getContextDefinitions(),
+            krakenProject.getExternalContextDefinitions(),
+            krakenProject.getFunctionSignatures(),
+            krakenProject.getFunctions(),
+            krakenProject.getDimensions()
+        );
+    }
+}
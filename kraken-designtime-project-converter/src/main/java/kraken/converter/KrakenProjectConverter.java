@@ -19,9 +19,15 @@ import static kraken.message.SystemMessageBuilder.Message.CONVERSION_INCOMPATIBL
 import static kraken.message.SystemMessageBuilder.Message.CONVERSION_MISSING_FUNCTION;
 import static kraken.model.FunctionSignature.format;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import kraken.converter.translation.KrakenExpressionTranslator;
+import kraken.dimensions.DimensionSet;
 import kraken.el.KrakenKel;
 import kraken.el.TargetEnvironment;
 import kraken.el.functionregistry.FunctionHeader;
@@ -35,9 +41,19 @@ import kraken.model.project.dependencies.RuleDependencyExtractor;
 import kraken.model.project.scope.ScopeBuilder;
 import kraken.model.project.scope.ScopeBuilderProvider;
 import kraken.runtime.model.project.RuntimeKrakenProject;
+import kraken.runtime.model.rule.RuntimeRule;
 
 /**
  * Converts designtime {@link KrakenProject} to {@link RuntimeKrakenProject} for {@link TargetEnvironment}
+ * <p/>
+ * If previous conversion of the same Kraken project is provided, then {@link #convertIncrementally()} reuses
+ * runtime rules of previous conversion for rules with unchanged content. Rules can be reused only if context
+ * definitions, functions, function signatures and dimensions are unchanged as well,
+ * because expression translation and dependency extraction depend on them.
+ * <p/>
+ * If {@link ForkJoinPool} is provided, then rules are converted in parallel in that pool. This includes
+ * expression translation, AST building and dependency extraction of each rule.
+ * Converted rules are in the same order as in Kraken project regardless of parallelism.
  *
  * @author mulevicius
  */
@@ -55,13 +71,48 @@ public class KrakenProjectConverter {
 
     private final ScopeBuilder scopeBuilder;
 
+    private final DimensionSetService dimensionSetService;
+
+    private final TargetEnvironment targetEnvironment;
+
+    private final KrakenProjectConversion previousConversion;
+
+    private final ForkJoinPool conversionPool;
+
     public KrakenProjectConverter(KrakenProject krakenProject, TargetEnvironment targetEnvironment) {
+        this(krakenProject, targetEnvironment, null);
+    }
+
+    /**
+     * @param previousConversion of the previous version of Kraken project to reuse unchanged rules from;
+     *                           can be null
+     * @since 1.55.0
+     */
+    public KrakenProjectConverter(KrakenProject krakenProject,
+                                  TargetEnvironment targetEnvironment,
+                                  KrakenProjectConversion previousConversion) {
+        this(krakenProject, targetEnvironment, previousConversion, null);
+    }
+
+    /**
+     * @param previousConversion of the previous version of Kraken project to reuse unchanged rules from;
+     *                           can be null
+     * @param conversionPool to convert rules in parallel; if null, then rules are converted in the calling thread
+     * @since 1.55.0
+     */
+    public KrakenProjectConverter(KrakenProject krakenProject,
+                                  TargetEnvironment targetEnvironment,
+                                  KrakenProjectConversion previousConversion,
+                                  ForkJoinPool conversionPool) {
         this.krakenProject = krakenProject;
+        this.targetEnvironment = targetEnvironment;
+        this.previousConversion = previousConversion;
+        this.conversionPool = conversionPool;
 
         RuleDependencyExtractor ruleDependencyExtractor = new RuleDependencyExtractor(krakenProject);
         KrakenExpressionTranslator krakenExpressionTranslator = new KrakenExpressionTranslator(krakenProject,
             targetEnvironment, ruleDependencyExtractor);
-        DimensionSetService dimensionSetService = new DimensionSetService(krakenProject);
+        this.dimensionSetService = new DimensionSetService(krakenProject);
 
         this.ruleConverter = new RuleConverter(
             ruleDependencyExtractor,
@@ -86,11 +137,86 @@ public class KrakenProjectConverter {
             krakenProject.getRootContextName(),
             contextDefinitionConverter.convert(krakenProject.getContextDefinitions()),
             entryPointConverter.convert(krakenProject.getEntryPoints()),
-            ruleConverter.convert(krakenProject.getRules()),
+            convertAll(krakenProject.getRules(), rule -> ruleConverter.convertRule(
+                rule,
+                dimensionSetService.resolveRuleDimensionSet(krakenProject.getNamespace(), rule)
+            )),
             functionConverter.convert(krakenProject.getFunctions())
         );
     }
 
+    /**
+     * Converts Kraken project and reuses runtime rules of previous conversion for rules with unchanged content.
+     * Context definitions and functions are reused as well if they are unchanged.
+     * Content of Kraken project is hashed during conversion, so that the returned conversion does not need to keep
+     * designtime Kraken project to be used for conversion of the next version.
+     *
+     * @return conversion which can be provided when converting the next version of Kraken project
+     * @since 1.55.0
+     */
+    public KrakenProjectConversion convertIncrementally() {
+        ensureThatFunctionExistsForEachFunctionSignature();
+
+        String environmentFingerprint = KrakenProjectConversion.environmentFingerprint(krakenProject);
+        RuntimeKrakenProject previousProject = null;
+        if (previousConversion != null
+            && previousConversion.getTargetEnvironment() == targetEnvironment
+            && previousConversion.getEnvironmentFingerprint().equals(environmentFingerprint)) {
+            previousProject = previousConversion.getRuntimeKrakenProject();
+        }
+
+        Map<String, RuntimeRule> previousRules = previousProject != null
+            ? previousConversion.getRulesByFingerprint()
+            : Map.of();
+        List<ConvertedRule> convertedRules = convertAll(krakenProject.getRules(), rule -> {
+            String fingerprint = ModelFingerprint.of(rule);
+            DimensionSet dimensionSet = dimensionSetService.resolveRuleDimensionSet(krakenProject.getNamespace(), rule);
+            RuntimeRule previousRule = previousRules.get(fingerprint);
+            if (previousRule != null && previousRule.getDimensionSet().equals(dimensionSet)) {
+                return new ConvertedRule(fingerprint, previousRule, true);
+            }
+            return new ConvertedRule(fingerprint, ruleConverter.convertRule(rule, dimensionSet), false);
+        });
+        Map<String, RuntimeRule> rulesByFingerprint = new HashMap<>();
+        List<RuntimeRule> rules = new ArrayList<>(convertedRules.size());
+        int reusedRuleCount = 0;
+        for (ConvertedRule convertedRule : convertedRules) {
+            if (convertedRule.reused) {
+                reusedRuleCount++;
+            }
+            rules.add(convertedRule.runtimeRule);
+            rulesByFingerprint.put(convertedRule.fingerprint, convertedRule.runtimeRule);
+        }
+
+        RuntimeKrakenProject runtimeKrakenProject = new RuntimeKrakenProject(
+            krakenProject.getIdentifier(),
+            krakenProject.getNamespace(),
+            krakenProject.getRootContextName(),
+            previousProject != null
+                ? previousProject.getContextDefinitions()
+                : contextDefinitionConverter.convert(krakenProject.getContextDefinitions()),
+            entryPointConverter.convert(krakenProject.getEntryPoints()),
+            rules,
+            previousProject != null
+                ? new ArrayList<>(previousProject.getFunctions().values())
+                : functionConverter.convert(krakenProject.getFunctions())
+        );
+        return new KrakenProjectConversion(
+            runtimeKrakenProject,
+            targetEnvironment,
+            environmentFingerprint,
+            rulesByFingerprint,
+            reusedRuleCount
+        );
+    }
+
+    private <T, R> List<R> convertAll(List<T> items, java.util.function.Function<T, R> converter) {
+        if (conversionPool == null || items.size() < 2) {
+            return items.stream().map(converter).collect(Collectors.toList());
+        }
+        return conversionPool.submit(() -> items.parallelStream().map(converter).collect(Collectors.toList())).join();
+    }
+
     private void ensureThatFunctionExistsForEachFunctionSignature() {
         Map<FunctionHeader, JavaFunction> functions = FunctionRegistry.getFunctions(KrakenKel.EXPRESSION_TARGET);
 
@@ -118,4 +244,19 @@ public class KrakenProjectConverter {
         return functionSymbol.equals(signatureSymbol);
     }
 
+    private static final class ConvertedRule {
+
+        private final String fingerprint;
+
+        private final RuntimeRule runtimeRule;
+
+        private final boolean reused;
+
+        ConvertedRule(String fingerprint, RuntimeRule runtimeRule, boolean reused) {
+            this.fingerprint = fingerprint;
+            this.runtimeRule = runtimeRule;
+            this.reused = reused;
+        }
+    }
+
 }
@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.converter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Calculates content hash of designtime model object by reading all its bean properties recursively.
+ * Properties of objects from {@code kraken} packages are read by public getters, sets and maps are sorted,
+ * and all other values are represented by {@link Object#toString()}. Each value is prefixed by its length,
+ * so that content of adjacent values cannot be shifted from one value to another without changing the fingerprint.
+ * Objects with equal content have equal fingerprints regardless of their identity.
+ *
+ * @since 1.55.0
+ */
+final class ModelFingerprint {
+
+    private static final Map<Class<?>, List<Method>> GETTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Rule variation identifier is generated randomly when rule is parsed from DSL,
+     * and it is not a part of runtime rule anyway
+     */
+    private static final Set<String> IGNORED_GETTERS = Set.of("getRuleVariationId");
+
+    private final StringBuilder content = new StringBuilder();
+
+    private final Map<Object, Boolean> path = new IdentityHashMap<>();
+
+    private ModelFingerprint() {
+    }
+
+    static String of(Object... models) {
+        ModelFingerprint fingerprint = new ModelFingerprint();
+        for (Object model : models) {
+            fingerprint.append(model);
+        }
+        return fingerprint.digest();
+    }
+
+    private String digest() {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            content.append("null;");
+            return;
+        }
+        if (value instanceof Map) {
+            content.append('{');
+            ((Map<?, ?>) value).entrySet().stream()
+                .sorted(Comparator.comparing(e -> String.valueOf(e.getKey())))
+                .forEach(e -> {
+                    appendString(String.valueOf(e.getKey()));
+                    content.append('=');
+                    append(e.getValue());
+                });
+            content.append("};");
+            return;
+        }
+        if (value instanceof Set) {
+            content.append('(');
+            ((Set<?>) value).stream()
+                .map(ModelFingerprint::of)
+                .sorted()
+                .forEach(item -> {
+                    appendString(item);
+                    content.append(';');
+                });
+            content.append(");");
+            return;
+        }
+        if (value instanceof Collection) {
+            content.append('[');
+            ((Collection<?>) value).forEach(this::append);
+            content.append("];");
+            return;
+        }
+        if (value.getClass().isArray() && !value.getClass().getComponentType().isPrimitive()) {
+            append(Arrays.asList((Object[]) value));
+            return;
+        }
+        if (!isModel(value)) {
+            content.append(value.getClass().getName()).append(':');
+            appendString(value.toString());
+            content.append(';');
+            return;
+        }
+        if (path.put(value, Boolean.TRUE) != null) {
+            content.append("cycle;");
+            return;
+        }
+        content.append(value.getClass().getName()).append('{');
+        for (Method getter : getters(value.getClass())) {
+            content.append(getter.getName()).append('=');
+            append(invoke(getter, value));
+        }
+        content.append("};");
+        path.remove(value);
+    }
+
+    private void appendString(String value) {
+        content.append(value.length()).append(':').append(value);
+    }
+
+    private static boolean isModel(Object value) {
+        return value.getClass().getName().startsWith("kraken.") && !(value instanceof Enum);
+    }
+
+    private static Object invoke(Method getter, Object value) {
+        try {
+            return getter.invoke(value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read property " + getter.getName() + " of " + value.getClass(), e);
+        }
+    }
+
+    private static List<Method> getters(Class<?> type) {
+        List<Method> getters = GETTERS.get(type);
+        if (getters == null) {
+            getters = GETTERS.computeIfAbsent(type, ModelFingerprint::findGetters);
+        }
+        return getters;
+    }
+
+    private static List<Method> findGetters(Class<?> type) {
+        List<Method> getters = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getDeclaringClass() != Object.class
+                && !IGNORED_GETTERS.contains(method.getName())
+                && method.getReturnType() != void.class
+                && (method.getName().startsWith("get") || method.getName().startsWith("is"))) {
+                method.setAccessible(true);
+                getters.add(method);
+            }
+        }
+        return getters.stream()
+            .sorted(Comparator.comparing(Method::getName))
+            .collect(Collectors.toList());
+    }
+}
@@ -75,7 +75,7 @@ public class RuleConverter {
         return convertRule(dynamicRuleHolder.getRule(), dynamicRuleHolder.getDimensionSet());
     }
 
-    private RuntimeRule convertRule(kraken.model.Rule rule, DimensionSet dimensionSet) {
+    RuntimeRule convertRule(kraken.model.Rule rule, DimensionSet dimensionSet) {
         List<Dependency> dependencies = ruleDependencyExtractor.extractDependencies(rule).stream()
             .map(d -> new Dependency(d.getContextName(), d.getFieldName(), d.isCcrDependency(), d.isSelfDependency()))
             .collect(Collectors.toList());
@@ -20,6 +20,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.hamcrest.collection.IsMapContaining.hasKey;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.nullValue;
@@ -27,14 +28,17 @@ import static org.junit.Assert.assertThrows;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import kraken.el.TargetEnvironment;
+import kraken.model.context.ContextDefinition;
 import kraken.model.derive.DefaultingType;
 import kraken.model.dsl.read.DSLReader;
+import kraken.model.project.KrakenProject;
 import kraken.model.project.KrakenProjectFactory;
 import kraken.model.project.ResourceKrakenProjectFactoryHolder;
 import kraken.model.resource.Resource;
@@ -195,4 +199,113 @@ public class KrakenProjectConverterTest {
 
         assertThrows(KrakenProjectConversionException.class, () -> krakenProjectConverter.convert());
     }
+    @Test
+    public void shouldReuseUnchangedRulesWhenConvertingIncrementally() {
+        KrakenProjectConversion initial = new KrakenProjectConverter(readAutoPolicy(), TargetEnvironment.JAVA)
+                .convertIncrementally();
+        assertThat(initial.getReusedRuleCount(), is(0));
+        assertThat(initial.getConvertedRuleCount(), is(4));
+
+        KrakenProject changedProject = readAutoPolicy();
+        changedProject.getRuleVersions().get("ValueList").get(0).setTargetPath("state");
+        KrakenProjectConversion changed = new KrakenProjectConverter(changedProject, TargetEnvironment.JAVA, initial)
+                .convertIncrementally();
+
+        assertThat(changed.getReusedRuleCount(), is(3));
+        assertThat(changed.getConvertedRuleCount(), is(1));
+        RuntimeRule valueList = changed.getRuntimeKrakenProject().getRuleVersions().get("ValueList").get(0);
+        assertThat(valueList.getTargetPath(), equalTo("state"));
+        assertThat(
+                changed.getRuntimeKrakenProject().getRuleVersions().get("AssertRule"),
+                containsInAnyOrder(initial.getRuntimeKrakenProject().getRuleVersions().get("AssertRule").toArray())
+        );
+    }
+
+    @Test
+    public void shouldReuseUnchangedRulesOfConversionWhichWasConvertedIncrementally() {
+        KrakenProjectConversion initial = new KrakenProjectConverter(readAutoPolicy(), TargetEnvironment.JAVA)
+                .convertIncrementally();
+        KrakenProjectConversion unchanged = new KrakenProjectConverter(readAutoPolicy(), TargetEnvironment.JAVA, initial)
+                .convertIncrementally();
+
+        KrakenProject changedProject = readAutoPolicy();
+        changedProject.getRuleVersions().get("ValueList").get(0).setTargetPath("state");
+        KrakenProjectConversion changed = new KrakenProjectConverter(changedProject, TargetEnvironment.JAVA, unchanged)
+                .convertIncrementally();
+
+        assertThat(unchanged.getReusedRuleCount(), is(4));
+        assertThat(changed.getReusedRuleCount(), is(3));
+        assertThat(changed.getConvertedRuleCount(), is(1));
+    }
+
+    @Test
+    public void shouldFingerprintProjectDuringConversion() {
+        KrakenProject convertedProject = readAutoPolicy();
+        KrakenProjectConversion initial = new KrakenProjectConverter(convertedProject, TargetEnvironment.JAVA)
+                .convertIncrementally();
+        convertedProject.getRuleVersions().get("ValueList").get(0).setTargetPath("state");
+
+        KrakenProjectConversion unchanged = new KrakenProjectConverter(readAutoPolicy(), TargetEnvironment.JAVA, initial)
+                .convertIncrementally();
+
+        assertThat(unchanged.getReusedRuleCount(), is(4));
+    }
+
+    @Test
+    public void shouldConvertAllRulesIncrementallyWhenContextDefinitionChanges() {
+        KrakenProjectConversion initial = new KrakenProjectConverter(readAutoPolicy(), TargetEnvironment.JAVA)
+                .convertIncrementally();
+
+        KrakenProject changedProject = readAutoPolicy();
+        ContextDefinition carCoverage = changedProject.getContextDefinitions().get("CarCoverage");
+        carCoverage.setStrict(!carCoverage.isStrict());
+        KrakenProjectConversion changed = new KrakenProjectConverter(changedProject, TargetEnvironment.JAVA, initial)
+                .convertIncrementally();
+
+        assertThat(changed.getReusedRuleCount(), is(0));
+        assertThat(changed.getConvertedRuleCount(), is(4));
+    }
+
+    @Test
+    public void shouldConvertRulesInParallelInSameOrderAsSequentially() {
+        KrakenProject krakenProject = readAutoPolicy();
+        RuntimeKrakenProject sequential = new KrakenProjectConverter(krakenProject, TargetEnvironment.JAVA).convert();
+
+        ForkJoinPool conversionPool = new ForkJoinPool(4);
+        try {
+            RuntimeKrakenProject parallel =
+                new KrakenProjectConverter(krakenProject, TargetEnvironment.JAVA, null, conversionPool).convert();
+            KrakenProjectConversion parallelConversion =
+                new KrakenProjectConverter(krakenProject, TargetEnvironment.JAVA, null, conversionPool)
+                    .convertIncrementally();
+
+            assertThat(describe(parallel.getRules()), equalTo(describe(sequential.getRules())));
+            assertThat(
+                describe(parallelConversion.getRuntimeKrakenProject().getRules()),
+                equalTo(describe(sequential.getRules()))
+            );
+        } finally {
+            conversionPool.shutdown();
+        }
+    }
+
+    private List<String> describe(List<RuntimeRule> rules) {
+        return rules.stream()
+            .map(r -> r.getName() + " on " + r.getContext() + "." + r.getTargetPath()
+                + (r.getCondition() != null ? " when " + r.getCondition().getExpression().getExpressionString() : "")
+                + " depends on " + r.getDependencies().stream()
+                    .map(d -> d.getContextName() + "." + d.getFieldName())
+                    .collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
+    private KrakenProject readAutoPolicy() {
+        Collection<Resource> resources = reader.read(
+                List.of("rules/KrakenProjectConverter/shouldConvertSimpleKrakenProject")
+        );
+        return ResourceKrakenProjectFactoryHolder.getInstance()
+                .createKrakenProjectFactory(resources)
+                .createKrakenProject("AutoPolicy");
+    }
+
 }
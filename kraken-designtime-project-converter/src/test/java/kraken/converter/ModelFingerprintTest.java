@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.converter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ModelFingerprintTest {
+
+    @Test
+    public void shouldCalculateEqualFingerprintsForEqualContent() {
+        assertThat(
+            ModelFingerprint.of(List.of("a", "b"), Map.of("k", 1)),
+            equalTo(ModelFingerprint.of(List.of("a", "b"), Map.of("k", 1)))
+        );
+    }
+
+    @Test
+    public void shouldNotCalculateEqualFingerprintsWhenContentShiftsBetweenAdjacentValues() {
+        assertThat(
+            ModelFingerprint.of("a;java.lang.String:b", "c"),
+            not(equalTo(ModelFingerprint.of("a", "b;java.lang.String:c")))
+        );
+    }
+
+    @Test
+    public void shouldNotCalculateEqualFingerprintsWhenMapKeyContainsSeparator() {
+        assertThat(
+            ModelFingerprint.of(Map.of("a=java.lang.String:b;", "c")),
+            not(equalTo(ModelFingerprint.of(Map.of("a", "b;=java.lang.String:c"))))
+        );
+    }
+
+}
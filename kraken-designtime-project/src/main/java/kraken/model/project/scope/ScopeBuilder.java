@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import kraken.context.path.ContextPath;
@@ -143,7 +144,7 @@ public class ScopeBuilder {
      * @return scope for expression execution of rules that are applied on provided {@link ContextDefinition}.
      */
     public Scope buildScope(ContextDefinition contextDefinition) {
-        return scopeCache.computeIfAbsent(contextDefinition.getName(), c -> doBuildScope(contextDefinition));
+        return getOrBuild(scopeCache, contextDefinition.getName(), () -> doBuildScope(contextDefinition));
     }
 
     /**
@@ -151,7 +152,7 @@ public class ScopeBuilder {
      * @return scope for function body expression
      */
     public Scope buildFunctionScope(Function function) {
-        return functionScopeCache.computeIfAbsent(function.getName(), c -> {
+        return getOrBuild(functionScopeCache, function.getName(), () -> {
             var bounds = buildBounds(function.getGenericTypeBounds(), typeRegistry.getAllTypes());
             Map<String, Type> parameterTypes = function.getParameters().stream()
                 .collect(Collectors.toMap(p -> p.getName(), p -> resolveTypeOf(p.getType(), bounds)));
@@ -166,12 +167,29 @@ public class ScopeBuilder {
      */
     public Scope buildFunctionScope(Function function, Map<String, Type> parameterTypes) {
         FunctionInvocationKey key = new FunctionInvocationKey(function, parameterTypes);
-        return functionInvocationScopeCache.computeIfAbsent(
+        return getOrBuild(
+            functionInvocationScopeCache,
             key,
-            f -> doBuildFunctionScope(f.getFunction(), f.getParameterTypes())
+            () -> doBuildFunctionScope(key.getFunction(), key.getParameterTypes())
         );
     }
 
+    /**
+     * Builds scope outside of cache, because {@link ConcurrentHashMap#computeIfAbsent} locks the whole bin
+     * while computing, which blocks concurrent expression translation and fails if scope building
+     * reenters the same cache. Scope can be built more than once concurrently, but only the first one is cached.
+     * Scopes built for the same key are equal, because AST cache identifies scope by name.
+     */
+    private static <K> Scope getOrBuild(Map<K, Scope> cache, K key, Supplier<Scope> builder) {
+        Scope scope = cache.get(key);
+        if (scope != null) {
+            return scope;
+        }
+        scope = builder.get();
+        Scope cachedScope = cache.putIfAbsent(key, scope);
+        return cachedScope != null ? cachedScope : scope;
+    }
+
     private Map<String, VariableSymbol> buildExternalContextObject(ExternalContext externalContext) {
         Map<String, VariableSymbol> varSymbols = new HashMap<>();
 
@@ -17,12 +17,24 @@ package kraken.model.project.validator;
 
 import static kraken.message.SystemMessageBuilder.Message.KRAKEN_PROJECT_FIELD_IS_NULL;
 import static kraken.message.SystemMessageBuilder.Message.KRAKEN_PROJECT_ROOT_CONTEXT_DEFINITION_UNKNOWN;
+import static kraken.utils.FutureUtils.join;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.ServiceLoader.Provider;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import kraken.el.ast.builder.AstBuilder;
+import kraken.el.ast.builder.AstBuilder.ExpressionKey;
+import kraken.el.ast.builder.BulkAstBuildingResult;
 import kraken.message.SystemMessageBuilder;
 import kraken.model.Rule;
 import kraken.model.entrypoint.EntryPoint;
@@ -36,16 +48,28 @@ import kraken.model.project.validator.function.FunctionDocumentationValidator;
 import kraken.model.project.validator.function.FunctionSignatureValidator;
 import kraken.model.project.validator.function.FunctionValidator;
 import kraken.model.project.validator.rule.RuleDefinitionValidator;
+import kraken.model.project.validator.rule.RuleExpressionValidator;
 
 /**
  * Executes all registered {@link KrakenProjectValidator} in tiered sequence
+ * <p/>
+ * By default, validation is done sequentially in the calling thread. If validation executor is provided,
+ * then rules and entry points are split into chunks and each chunk is validated concurrently in validation executor,
+ * as well as each {@link KrakenProjectValidator#isThreadSafe()} additional validator. Validation messages are
+ * collected separately for each chunk and merged in the same order as if they were validated sequentially.
+ * Before that, Abstract Syntax Trees of all rule expressions are built in bulk in validation executor.
  *
  * @author mulevicius
  */
 public final class KrakenProjectValidationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(KrakenProjectValidationService.class);
+
+    private static final int VALIDATION_CHUNKS_PER_PROCESSOR = 4;
+
     private final List<DynamicRuleValidator> additionalDynamicRuleValidators;
     private final List<KrakenProjectValidator> additionalValidators;
+    private final Executor validationExecutor;
 
     /**
      * Creates an instance of validation service using all native validators and all additional external validators
@@ -64,10 +88,26 @@ public final class KrakenProjectValidationService {
      * Creates an instance of validation service using all native validators and all additional validators
      * provided as a parameter. Does not include external validators registered as a ServiceLoader.
      * Such validators must be loaded externally and provided as a parameter if needed.
+     * Validates sequentially in the calling thread.
      *
      * @param additionalValidators
      */
     public KrakenProjectValidationService(List<KrakenProjectValidator> additionalValidators) {
+        this(additionalValidators, Runnable::run);
+    }
+
+    /**
+     * Creates an instance of validation service using all native validators and all additional validators
+     * provided as a parameter. Does not include external validators registered as a ServiceLoader.
+     *
+     * @param additionalValidators
+     * @param validationExecutor to validate chunks of rules and entry points in, for example, a dedicated bounded
+     *                           pool. Provide {@code Runnable::run} to validate sequentially in the calling thread.
+     * @since 1.55.0
+     */
+    public KrakenProjectValidationService(List<KrakenProjectValidator> additionalValidators,
+                                          Executor validationExecutor) {
+        this.validationExecutor = Objects.requireNonNull(validationExecutor);
         this.additionalValidators = additionalValidators;
         this.additionalDynamicRuleValidators = additionalValidators.stream()
             .filter(v -> v instanceof DynamicRuleValidator)
@@ -125,24 +165,56 @@ public final class KrakenProjectValidationService {
      * @return Result of rules and entrypoints validation.
      */
     public ValidationResult validateRulesAndEntryPoints(KrakenProject krakenProject) {
-        ValidationSession validationSession = new ValidationSession();
-
         EntryPointDefinitionValidator entryPointDefinitionValidator = new EntryPointDefinitionValidator(krakenProject);
+        RuleDefinitionValidator ruleDefinitionValidator = new RuleDefinitionValidator(krakenProject);
+
+        buildRuleExpressions(krakenProject);
+
+        List<Consumer<ValidationSession>> validations = new ArrayList<>();
         for(EntryPoint entryPoint : krakenProject.getEntryPoints()) {
-            entryPointDefinitionValidator.validate(entryPoint, validationSession);
+            validations.add(session -> entryPointDefinitionValidator.validate(entryPoint, session));
         }
-
-        RuleDefinitionValidator ruleDefinitionValidator = new RuleDefinitionValidator(krakenProject);
         for(Rule rule : krakenProject.getRules()) {
-            ruleDefinitionValidator.validate(rule, validationSession);
+            validations.add(session -> ruleDefinitionValidator.validate(rule, session));
+        }
+        int chunkCount = Runtime.getRuntime().availableProcessors() * VALIDATION_CHUNKS_PER_PROCESSOR;
+        int chunkSize = Math.max(1, validations.size() / chunkCount);
+        List<CompletableFuture<List<ValidationMessage>>> chunks = new ArrayList<>();
+        for(int i = 0; i < validations.size(); i += chunkSize) {
+            chunks.add(validateAsync(validations.subList(i, Math.min(i + chunkSize, validations.size()))));
         }
+        List<CompletableFuture<List<ValidationMessage>>> additionalValidations = additionalValidators.stream()
+            .map(validator -> validator.isThreadSafe()
+                ? CompletableFuture.supplyAsync(() -> validator.validate(krakenProject), validationExecutor)
+                : null)
+            .collect(Collectors.toList());
 
-        additionalValidators.forEach(validator ->
-            validationSession.addAll(validator.validate(krakenProject)));
+        ValidationSession validationSession = new ValidationSession();
+        chunks.forEach(chunk -> validationSession.addAll(join(chunk)));
+        for(int i = 0; i < additionalValidators.size(); i++) {
+            CompletableFuture<List<ValidationMessage>> additionalValidation = additionalValidations.get(i);
+            validationSession.addAll(additionalValidation != null
+                ? join(additionalValidation)
+                : additionalValidators.get(i).validate(krakenProject));
+        }
 
         return validationSession.result();
     }
 
+    /**
+     * Builds Abstract Syntax Trees of all rule expressions in bulk, therefore rule validators
+     * only retrieve them from cache.
+     */
+    private void buildRuleExpressions(KrakenProject krakenProject) {
+        RuleExpressionValidator ruleExpressionValidator = new RuleExpressionValidator(krakenProject);
+        List<ExpressionKey> expressions = krakenProject.getRules().stream()
+            .filter(ruleExpressionValidator::canValidate)
+            .flatMap(rule -> ruleExpressionValidator.resolveExpressions(rule).stream())
+            .collect(Collectors.toList());
+        BulkAstBuildingResult result = AstBuilder.fromAll(expressions, validationExecutor);
+        logger.debug("Built expressions of Kraken project '{}': {}", krakenProject.getNamespace(), result);
+    }
+
     /**
      * Validates dynamically loaded rule in scope of KrakenProject. Assumes that dynamic rule is not in KrakenProject.
      *
@@ -165,6 +237,17 @@ public final class KrakenProjectValidationService {
         return validationSession.result();
     }
 
+    private CompletableFuture<List<ValidationMessage>> validateAsync(List<Consumer<ValidationSession>> validations) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                ValidationSession session = new ValidationSession();
+                validations.forEach(validation -> validation.accept(session));
+                return session.getValidationMessages();
+            },
+            validationExecutor
+        );
+    }
+
     private static void ensureKrakenProjectConsistency(KrakenProject krakenProject) {
         if(krakenProject.getNamespace() == null) {
             var m = SystemMessageBuilder.create(KRAKEN_PROJECT_FIELD_IS_NULL)
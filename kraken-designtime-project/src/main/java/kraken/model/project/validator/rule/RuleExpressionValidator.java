@@ -29,10 +29,14 @@ import static kraken.model.project.validator.ValidationMessageBuilder.Message.RU
 import static kraken.model.project.validator.ValidationMessageBuilder.Message.RULE_EXPRESSION_SYNTAX_WARNING;
 import static kraken.model.project.validator.ValidationMessageBuilder.Message.RULE_TEMPLATE_RETURN_TYPE_NOT_PRIMITIVE;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import kraken.el.Expression;
 import kraken.el.ast.Ast;
 import kraken.el.ast.AstType;
 import kraken.el.ast.builder.AstBuilder;
+import kraken.el.ast.builder.AstBuilder.ExpressionKey;
 import kraken.el.ast.builder.AstBuildingException;
 import kraken.el.ast.validation.AstMessage;
 import kraken.el.scope.Scope;
@@ -100,6 +104,39 @@ public final class RuleExpressionValidator implements RuleValidator {
             && krakenProject.getContextProjection(rule.getContext()).getContextFields().containsKey(rule.getTargetPath());
     }
 
+    /**
+     * Resolves expressions of rule which are validated by this validator, therefore Abstract Syntax Trees of
+     * all rules can be built in bulk before validation.
+     *
+     * @param rule which can be validated by this validator
+     * @return expressions of rule with scope of rule context definition
+     * @since 1.55.0
+     */
+    public List<ExpressionKey> resolveExpressions(Rule rule) {
+        Scope scope = scopeBuilder.buildScope(krakenProject.getContextDefinitions().get(rule.getContext()));
+        List<ExpressionKey> expressions = new ArrayList<>();
+        if (rule.getCondition() != null && rule.getCondition().getExpression() != null) {
+            expressions.add(new ExpressionKey(rule.getCondition().getExpression().getExpressionString(), scope));
+        }
+        if (rule.getPayload() instanceof AssertionPayload
+            && ((AssertionPayload) rule.getPayload()).getAssertionExpression() != null) {
+            String expression = ((AssertionPayload) rule.getPayload()).getAssertionExpression().getExpressionString();
+            expressions.add(new ExpressionKey(expression, scope));
+        }
+        if (rule.getPayload() instanceof DefaultValuePayload
+            && ((DefaultValuePayload) rule.getPayload()).getValueExpression() != null) {
+            String expression = ((DefaultValuePayload) rule.getPayload()).getValueExpression().getExpressionString();
+            expressions.add(new ExpressionKey(expression, scope));
+        }
+        if (rule.getPayload() instanceof ValidationPayload
+            && ((ValidationPayload) rule.getPayload()).getErrorMessage() != null
+            && ((ValidationPayload) rule.getPayload()).getErrorMessage().getErrorMessage() != null) {
+            String template = ((ValidationPayload) rule.getPayload()).getErrorMessage().getErrorMessage();
+            expressions.add(new ExpressionKey(asTemplateExpression(template), scope));
+        }
+        return expressions;
+    }
+
     private void validateMessageTemplateExpression(Rule rule, Scope scope, ValidationSession session) {
         if (rule.getPayload() instanceof ValidationPayload
             && ((ValidationPayload) rule.getPayload()).getErrorMessage() != null
@@ -42,7 +42,11 @@ import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -494,4 +498,75 @@ public class KrakenProjectValidationServiceTest {
             "Inherited context definition is not allowed for system context definition."));
     }
 
+    @Test
+    public void shouldReturnMessagesInSameOrderWhenValidatingConcurrently() {
+        List<Rule> rules = IntStream.range(0, 50)
+            .mapToObj(i -> rule("R" + i, i % 2 == 0 ? "Missing" : "Policy", "policyCd"))
+            .collect(Collectors.toList());
+        EntryPoint entryPoint = entryPoint("Validate", rules.stream().map(Rule::getName).collect(Collectors.toList()));
+        ContextDefinition contextDefinition = rootContextDefinition("Policy", List.of(field("policyCd")));
+        KrakenProject krakenProject = krakenProject(List.of(contextDefinition), List.of(entryPoint), rules);
+        List<KrakenProjectValidator> additionalValidators = List.of(
+            additionalValidator(rules.get(0), false),
+            additionalValidator(rules.get(1), true)
+        );
+
+        ValidationResult sequential = new KrakenProjectValidationService(additionalValidators, Runnable::run)
+            .validate(krakenProject);
+        ForkJoinPool validationPool = new ForkJoinPool(4);
+        try {
+            ValidationResult concurrent = new KrakenProjectValidationService(additionalValidators, validationPool)
+                .validate(krakenProject);
+
+            assertThat(describe(sequential), hasSize(27));
+            assertThat(describe(concurrent), equalTo(describe(sequential)));
+        } finally {
+            validationPool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldValidateInCallingThreadByDefault() {
+        Rule rule = rule("R", "Policy", "policyCd");
+        ContextDefinition contextDefinition = rootContextDefinition("Policy", List.of(field("policyCd")));
+        KrakenProject krakenProject = krakenProject(List.of(contextDefinition), List.of(), List.of(rule));
+        List<Thread> validatingThreads = new ArrayList<>();
+        KrakenProjectValidator threadRecordingValidator = new KrakenProjectValidator() {
+            @Override
+            public List<ValidationMessage> validate(KrakenProject krakenProject) {
+                validatingThreads.add(Thread.currentThread());
+                return List.of();
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+        };
+
+        new KrakenProjectValidationService(List.of(threadRecordingValidator)).validate(krakenProject);
+
+        assertThat(validatingThreads, equalTo(List.of(Thread.currentThread())));
+    }
+
+    private static List<String> describe(ValidationResult result) {
+        return result.getAllMessages().stream()
+            .map(m -> m.getItem().getName() + ": " + m.getMessage())
+            .collect(Collectors.toList());
+    }
+
+    private static KrakenProjectValidator additionalValidator(Rule rule, boolean threadSafe) {
+        return new KrakenProjectValidator() {
+            @Override
+            public List<ValidationMessage> validate(KrakenProject krakenProject) {
+                return List.of(new ValidationMessage(rule, "Additional validation", Severity.WARNING));
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return threadSafe;
+            }
+        };
+    }
+
 }
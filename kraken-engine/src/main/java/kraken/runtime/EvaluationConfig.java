@@ -52,6 +52,11 @@ public final class EvaluationConfig {
 
     private final DataContextPathProvider dataContextPathProvider;
 
+    /**
+     * Indicates which rule evaluation results are retained in {@link kraken.runtime.engine.EntryPointResult}
+     */
+    private final ResultDetailLevel resultDetailLevel;
+
     public EvaluationConfig() {
         this(Collections.emptyMap(), Currency.getInstance(Locale.getDefault()).getCurrencyCode());
     }
@@ -82,11 +87,24 @@ public final class EvaluationConfig {
                             @Nonnull EvaluationMode evaluationMode,
                             @Nonnull ZoneId ruleTimezoneId,
                             @Nonnull DataContextPathProvider dataContextPathProvider) {
+        this(context, currencyCd, evaluationMode, ruleTimezoneId, dataContextPathProvider, ResultDetailLevel.FULL);
+    }
+
+    /**
+     * @since 1.55.0
+     */
+    public EvaluationConfig(@Nonnull Map<String, Object> context,
+                            @Nonnull String currencyCd,
+                            @Nonnull EvaluationMode evaluationMode,
+                            @Nonnull ZoneId ruleTimezoneId,
+                            @Nonnull DataContextPathProvider dataContextPathProvider,
+                            @Nonnull ResultDetailLevel resultDetailLevel) {
         this.context = Objects.requireNonNull(context);
         this.currencyCd = Objects.requireNonNull(currencyCd);
         this.evaluationMode = Objects.requireNonNull(evaluationMode);
         this.ruleTimezoneId = Objects.requireNonNull(ruleTimezoneId);
         this.dataContextPathProvider = Objects.requireNonNull(dataContextPathProvider);
+        this.resultDetailLevel = Objects.requireNonNull(resultDetailLevel);
     }
 
     @Nonnull
@@ -114,4 +132,9 @@ public final class EvaluationConfig {
         return dataContextPathProvider;
     }
 
+    @Nonnull
+    public ResultDetailLevel getResultDetailLevel() {
+        return resultDetailLevel;
+    }
+
 }
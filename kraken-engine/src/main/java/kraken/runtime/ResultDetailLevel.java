@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime;
+
+import org.apache.commons.lang3.BooleanUtils;
+
+import kraken.annotations.API;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.dto.RuleEvaluationStatus;
+import kraken.runtime.engine.result.DefaultValuePayloadResult;
+import kraken.runtime.engine.result.ValidationPayloadResult;
+
+/**
+ * Indicates which rule evaluation results are retained in {@link EntryPointResult}.
+ * Rule results which are not retained are still counted in {@link EntryPointResult#getResultCounts()}.
+ *
+ * @since 1.55.0
+ */
+@API
+public enum ResultDetailLevel {
+
+    /**
+     * All rule evaluation results are retained
+     */
+    FULL,
+
+    /**
+     * Only results of failed validation rules, default rules which changed field value
+     * and rules which were ignored due to evaluation error are retained
+     */
+    FAILURES_AND_CHANGES,
+
+    /**
+     * No rule evaluation results are retained, only counts are available
+     */
+    COUNTS_ONLY;
+
+    /**
+     * @param ruleResult rule evaluation result
+     * @return {@code true} if rule evaluation result must be retained in {@link EntryPointResult} in this detail level
+     */
+    public boolean isRetained(RuleEvaluationResult ruleResult) {
+        switch (this) {
+            case FULL:
+                return true;
+            case FAILURES_AND_CHANGES:
+                return isFailureOrChange(ruleResult);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isFailureOrChange(RuleEvaluationResult ruleResult) {
+        if (ruleResult.getRuleEvaluationStatus() == RuleEvaluationStatus.IGNORED) {
+            return true;
+        }
+        if (ruleResult.getRuleEvaluationStatus() != RuleEvaluationStatus.APPLIED) {
+            return false;
+        }
+        var payloadResult = ruleResult.getPayloadResult();
+        if (payloadResult instanceof ValidationPayloadResult) {
+            return BooleanUtils.isFalse(((ValidationPayloadResult) payloadResult).getSuccess());
+        }
+        if (payloadResult instanceof DefaultValuePayloadResult) {
+            return !((DefaultValuePayloadResult) payloadResult).getEvents().isEmpty();
+        }
+        return false;
+    }
+
+}
@@ -15,9 +15,20 @@
  */
 package kraken.runtime;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import kraken.annotations.API;
 import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.context.data.DataContext;
+import kraken.runtime.engine.dto.FieldEvaluationResult;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.result.ResultSink;
 import kraken.runtime.engine.result.reducers.EntryPointResultReducer;
+import kraken.runtime.engine.result.reducers.validation.ValidationStatusReducer;
 
 /**
  * Main interface to core rule engine implementation - provides functionality to evaluate rules
@@ -35,11 +46,14 @@ import kraken.runtime.engine.result.reducers.EntryPointResultReducer;
  *
  * To process these raw rule results, one of {@link EntryPointResultReducer}s should be used.
  *
+ * Engine should be closed when it is no longer used, to release resources such as background reload thread
+ * of Kraken projects.
+ *
  * @author rimas
  * @since 1.0
  */
 @API
-public interface RuleEngine {
+public interface RuleEngine extends AutoCloseable {
 
     /**
      * Evaluate rules from entry point with entryPointName on context instance represented by data object
@@ -71,6 +85,40 @@ public interface RuleEngine {
     EntryPointResult evaluate(Object data, String entryPointName, EvaluationConfig evaluationConfig);
 
 
+    /**
+     * Evaluate rules from entry point with entryPointName on context instance represented by data object
+     * and pass each rule result to provided {@link ResultSink} as soon as it is evaluated.
+     * Allows to aggregate results on the fly, for example to {@link ValidationStatusReducer#createResultSink()},
+     * without materializing full {@link EntryPointResult}.
+     * Since {@link EntryPointResult} is not created, evaluation results are not passed to data logger.
+     * <p>
+     * Default implementation evaluates {@link #evaluate(Object, String, EvaluationConfig)} and passes materialized
+     * results to resultSink. Data context passed to resultSink then contains only context name and id.
+     *
+     * @param data              root context instance data object
+     * @param entryPointName    entry point name
+     * @param evaluationConfig  contains configuration of evaluation
+     * @param resultSink        receives rule results; must not be reused between evaluations
+     * @return                  result aggregated by resultSink
+     * @since 1.55.0
+     */
+    default <T> T evaluate(Object data,
+                           String entryPointName,
+                           EvaluationConfig evaluationConfig,
+                           ResultSink<T> resultSink) {
+        EntryPointResult entryPointResult = evaluate(data, entryPointName, evaluationConfig);
+        for (FieldEvaluationResult fieldResult : entryPointResult.getFieldResults().values()) {
+            DataContext dataContext = new DataContext();
+            dataContext.setContextName(fieldResult.getContextFieldInfo().getContextName());
+            dataContext.setContextId(fieldResult.getContextFieldInfo().getContextId());
+            for (RuleEvaluationResult ruleResult : fieldResult.getRuleResults()) {
+                resultSink.accept(dataContext, ruleResult);
+            }
+        }
+        return resultSink.getResult();
+    }
+
+
     /**
      * Evaluate rules from entry point with entryPointName on subtree of context instance represented by node.
      *
@@ -81,4 +129,113 @@ public interface RuleEngine {
      * @return                  raw rule results
      */
     EntryPointResult evaluateSubtree(Object data, Object node, String entryPointName, EvaluationConfig evaluationConfig);
+
+    /**
+     * Evaluate rules from entry point with entryPointName on subtrees of context instance represented by nodes.
+     * Evaluation session, entry point bundle and extracted context instances are shared between all subtrees,
+     * therefore evaluating several sibling nodes in one call is cheaper than evaluating each node separately.
+     * Subtrees are evaluated sequentially in iteration order of nodes.
+     * <p>
+     * Default implementation evaluates each node separately by {@link #evaluateSubtree(Object, Object, String)}.
+     *
+     * @param data              root context instance data object
+     * @param nodes             nodes that indicate instance subtrees to validate; only these instances and descendants will be validated
+     * @param entryPointName    entry point name
+     * @return                  raw rule results for each node, in iteration order of nodes
+     * @since 1.55.0
+     */
+    default List<EntryPointResult> evaluateSubtrees(Object data, Collection<?> nodes, String entryPointName) {
+        List<EntryPointResult> results = new ArrayList<>(nodes.size());
+        for (Object node : nodes) {
+            results.add(evaluateSubtree(data, node, entryPointName));
+        }
+        return results;
+    }
+
+    /**
+     * Evaluate rules from entry point with entryPointName on subtrees of context instance represented by nodes.
+     * Evaluation session, entry point bundle and extracted context instances are shared between all subtrees,
+     * therefore evaluating several sibling nodes in one call is cheaper than evaluating each node separately.
+     * Subtrees are evaluated sequentially in iteration order of nodes.
+     * <p>
+     * Default implementation evaluates each node separately by
+     * {@link #evaluateSubtree(Object, Object, String, EvaluationConfig)}.
+     *
+     * @param data              root context instance data object
+     * @param nodes             nodes that indicate instance subtrees to validate; only these instances and descendants will be validated
+     * @param entryPointName    entry point name
+     * @param evaluationConfig  contains configuration of evaluation
+     * @return                  raw rule results for each node, in iteration order of nodes
+     * @since 1.55.0
+     */
+    default List<EntryPointResult> evaluateSubtrees(Object data,
+                                                    Collection<?> nodes,
+                                                    String entryPointName,
+                                                    EvaluationConfig evaluationConfig) {
+        List<EntryPointResult> results = new ArrayList<>(nodes.size());
+        for (Object node : nodes) {
+            results.add(evaluateSubtree(data, node, entryPointName, evaluationConfig));
+        }
+        return results;
+    }
+
+    /**
+     * Evaluate rules from multiple entry points on context instance represented by data object.
+     * Entry points are evaluated one after another in the provided order. Extracted context instances are shared
+     * between entry point evaluations and are extracted anew only when default rules of previous entry point
+     * change a field which is used to navigate to child context instances.
+     * All entry points must belong to the same namespace and each entry point name must be provided only once,
+     * otherwise {@link KrakenRuntimeException} is thrown before any entry point is evaluated.
+     * <p>
+     * Default implementation evaluates each entry point separately by {@link #evaluate(Object, String)}.
+     *
+     * @param data              root context instance data object
+     * @param entryPointNames   entry point names in order of evaluation
+     * @return                  raw rule results mapped by entry point name, in order of evaluation
+     * @since 1.55.0
+     */
+    default Map<String, EntryPointResult> evaluateEntryPoints(Object data, List<String> entryPointNames) {
+        Map<String, EntryPointResult> results = new LinkedHashMap<>();
+        for (String entryPointName : entryPointNames) {
+            results.put(entryPointName, evaluate(data, entryPointName));
+        }
+        return results;
+    }
+
+    /**
+     * Evaluate rules from multiple entry points on context instance represented by data object.
+     * Entry points are evaluated one after another in the provided order. Extracted context instances are shared
+     * between entry point evaluations and are extracted anew only when default rules of previous entry point
+     * change a field which is used to navigate to child context instances.
+     * All entry points must belong to the same namespace and each entry point name must be provided only once,
+     * otherwise {@link KrakenRuntimeException} is thrown before any entry point is evaluated.
+     * <p>
+     * Default implementation evaluates each entry point separately by
+     * {@link #evaluate(Object, String, EvaluationConfig)}.
+     *
+     * @param data              root context instance data object
+     * @param entryPointNames   entry point names in order of evaluation
+     * @param evaluationConfig  contains configuration of evaluation
+     * @return                  raw rule results mapped by entry point name, in order of evaluation
+     * @since 1.55.0
+     */
+    default Map<String, EntryPointResult> evaluateEntryPoints(Object data,
+                                                              List<String> entryPointNames,
+                                                              EvaluationConfig evaluationConfig) {
+        Map<String, EntryPointResult> results = new LinkedHashMap<>();
+        for (String entryPointName : entryPointNames) {
+            results.put(entryPointName, evaluate(data, entryPointName, evaluationConfig));
+        }
+        return results;
+    }
+
+    /**
+     * Releases resources held by engine, such as background reload thread of Kraken projects.
+     * Engine must not be used after it is closed.
+     *
+     * @since 1.55.0
+     */
+    @Override
+    default void close() {
+    }
 }
@@ -15,16 +15,21 @@
  */
 package kraken.runtime;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import kraken.context.model.tree.impl.ContextRepository;
 import kraken.context.model.tree.repository.CachingContextModelTreeRepository;
 import kraken.context.model.tree.repository.ContextModelTreeRepository;
 import kraken.context.model.tree.repository.RecoveringStaticContextModelTreeRepository;
 import kraken.el.TargetEnvironment;
+import kraken.el.profiler.ExpressionProfiler;
 import kraken.model.context.ContextNavigation;
 import kraken.model.project.repository.KrakenProjectRepository;
 import kraken.runtime.engine.RuleEngineImpl;
@@ -49,6 +54,7 @@ import kraken.runtime.repository.dynamic.DynamicRuleRepository;
 import kraken.runtime.repository.dynamic.DynamicRuleRepositoryCacheConfig;
 import kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory;
 import kraken.runtime.repository.filter.DimensionFilter;
+import kraken.utils.metrics.KrakenMetrics;
 
 /**
  * @author rimas
@@ -60,7 +66,11 @@ public class RuleEngineBuilder {
     private ContextInstanceInfoResolver contextInstanceInfoResolver;
     private DynamicRuleRepositoryCacheConfig dynamicRuleRepositoryCacheConfig;
     private KrakenDataLogger krakenDataLogger;
-
+    private KrakenMetrics metrics = KrakenMetrics.noop();
+    private Executor dynamicRuleRepositoryExecutor;
+    private long backgroundProjectReloadIntervalInMillis;
+    private ForkJoinPool projectConversionPool;
+    private Path projectSnapshotDirectory;
 
     private final KrakenExpressionEvaluator krakenExpressionEvaluator = new KrakenExpressionEvaluator();
     private final Collection<DimensionFilter> dimensionFilters = new ArrayList<>();
@@ -82,9 +92,27 @@ public class RuleEngineBuilder {
                 : DynamicRuleRepositoryCacheConfig.defaultConfig();
 
         RuleEngineImpl ruleEngine = new RuleEngineImpl();
+        RuntimeProjectRepositoryConfig repositoryConfig = dynamicRuleRepositoryExecutor != null
+                ? new RuntimeProjectRepositoryConfig(
+                        cacheConfig,
+                        dimensionFilters,
+                        dynamicRuleRepositories,
+                        metrics,
+                        dynamicRuleRepositoryExecutor
+                )
+                : new RuntimeProjectRepositoryConfig(cacheConfig, dimensionFilters, dynamicRuleRepositories, metrics);
+        if (backgroundProjectReloadIntervalInMillis > 0) {
+            repositoryConfig.withBackgroundReload(backgroundProjectReloadIntervalInMillis);
+        }
+        if (projectConversionPool != null) {
+            repositoryConfig.withConversionPool(projectConversionPool);
+        }
+        if (projectSnapshotDirectory != null) {
+            repositoryConfig.withProjectSnapshots(projectSnapshotDirectory);
+        }
         RuntimeProjectRepositoryFactory factory = new RuntimeProjectRepositoryFactory(
                 krakenProjectRepository,
-                new RuntimeProjectRepositoryConfig(cacheConfig, dimensionFilters, dynamicRuleRepositories),
+                repositoryConfig,
                 TargetEnvironment.JAVA
         );
         EntryPointBundleFactory entryPointBundleBuilder = new EntryPointBundleFactory(factory);
@@ -95,8 +123,10 @@ public class RuleEngineBuilder {
                 new OrderedEvaluationLoop(
                         RulePayloadProcessorImpl.create(
                                 krakenExpressionEvaluator,
-                                new RuleApplicabilityEvaluatorImpl(krakenExpressionEvaluator)
-                        )
+                                new RuleApplicabilityEvaluatorImpl(krakenExpressionEvaluator),
+                                metrics
+                        ),
+                        metrics
                 )
         );
         ruleEngine.setTypeRegistry(resolveTypeRegistry());
@@ -109,6 +139,7 @@ public class RuleEngineBuilder {
         ruleEngine.setContextModelTreeProvider(modelTreeRepository);
         ruleEngine.setDataLogger(krakenDataLogger == null ? new Slf4jKrakenDataLogger() : krakenDataLogger);
         ruleEngine.setKrakenExpressionEvaluator(krakenExpressionEvaluator);
+        ruleEngine.setMetrics(metrics);
 
         return ruleEngine;
     }
@@ -191,11 +222,107 @@ public class RuleEngineBuilder {
         return this;
     }
 
+    /**
+     * Provide executor to query dynamic rule repositories concurrently when more than one repository is added.
+     * By default, repositories are queried one after another in the calling thread.
+     * Provide an executor only if repositories do not depend on thread local state of the calling thread,
+     * such as tenant or security context. Provide a dedicated executor if repositories block on I/O.
+     *
+     * @param dynamicRuleRepositoryExecutor to query dynamic rule repositories in
+     * @return reference to "this" {@link RuleEngineBuilder}
+     * @since 1.55.0
+     */
+    public RuleEngineBuilder setDynamicRuleRepositoryExecutor(Executor dynamicRuleRepositoryExecutor) {
+        this.dynamicRuleRepositoryExecutor = Objects.requireNonNull(dynamicRuleRepositoryExecutor);
+        return this;
+    }
+
+    /**
+     * Enables background reload of Kraken projects. By default, each evaluation checks whether Kraken project
+     * has changed in {@link KrakenProjectRepository} and converts it before evaluation if it did.
+     * When background reload is enabled, changes are detected and converted periodically in a background thread,
+     * so that evaluations are not blocked by conversion, but may use the previous version of project until reload
+     * completes. Background thread runs until built engine is closed by {@link RuleEngine#close()}.
+     *
+     * @param intervalInMillis between checks for changes of Kraken projects
+     * @return reference to "this" {@link RuleEngineBuilder}
+     * @since 1.55.0
+     */
+    public RuleEngineBuilder setBackgroundProjectReloadInterval(long intervalInMillis) {
+        if (intervalInMillis <= 0) {
+            throw new IllegalArgumentException("Background reload interval must be positive, but was " + intervalInMillis);
+        }
+        this.backgroundProjectReloadIntervalInMillis = intervalInMillis;
+        return this;
+    }
+
+    /**
+     * Enables parallel conversion of Kraken projects. By default, rules of Kraken project are converted sequentially
+     * in the thread which requests the project for the first time or after it has changed.
+     *
+     * @param projectConversionPool to convert rules of Kraken project in
+     * @return reference to "this" {@link RuleEngineBuilder}
+     * @since 1.55.0
+     */
+    public RuleEngineBuilder setProjectConversionPool(ForkJoinPool projectConversionPool) {
+        this.projectConversionPool = Objects.requireNonNull(projectConversionPool);
+        return this;
+    }
+
+    /**
+     * Enables reading of runtime projects from snapshots in directory, which are written at build time by
+     * {@link RuntimeProjectRepositoryFactory#writeProjectSnapshot(String, Path)}. Project of namespace that has
+     * a snapshot is neither built nor converted as long as snapshot is written from the same Kraken DSL resources
+     * as are in classpath. Otherwise, Kraken project is resolved from {@link KrakenProjectRepository}
+     * and converted as usual.
+     *
+     * @param projectSnapshotDirectory to read runtime project snapshots from
+     * @return reference to "this" {@link RuleEngineBuilder}
+     * @since 1.55.0
+     */
+    public RuleEngineBuilder setProjectSnapshotDirectory(Path projectSnapshotDirectory) {
+        this.projectSnapshotDirectory = Objects.requireNonNull(projectSnapshotDirectory);
+        return this;
+    }
+
     public RuleEngineBuilder setKrakenDataLogger(KrakenDataLogger krakenDataLogger) {
         this.krakenDataLogger = krakenDataLogger;
         return this;
     }
 
+    /**
+     * Registers metrics to report entry point latency, bundle build time, context extraction,
+     * dynamic rule repository latency and cache hit ratios to. Metrics are not collected by default.
+     * Rule condition and payload evaluation time is reported only if {@link KrakenMetrics#isPerRuleEnabled()}.
+     * <p>
+     * Metrics are scoped to the built engine. Expression AST cache is shared by all engines in JVM,
+     * therefore AST cache metrics are never reported to these metrics. They are recorded in JVM global metrics
+     * available from {@link kraken.el.ast.builder.AstBuilder#getGlobalMetrics()}.
+     *
+     * @param metrics implementation of {@link KrakenMetrics}
+     * @return reference to "this" {@link RuleEngineBuilder}
+     * @see kraken.utils.metrics.KrakenMetricNames
+     * @since 1.55.0
+     */
+    public RuleEngineBuilder setMetrics(KrakenMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+        return this;
+    }
+
+    /**
+     * Enables profiling of rule expressions. Self time, total time and invocation count of each evaluated
+     * expression AST node is collected in provided profiler by rule name and expression.
+     * Profiling adds considerable overhead, therefore it should only be enabled when investigating slow rules.
+     *
+     * @param expressionProfiler to collect expression profiles in
+     * @return reference to "this" {@link RuleEngineBuilder}
+     * @since 1.55.0
+     */
+    public RuleEngineBuilder setExpressionProfiler(ExpressionProfiler expressionProfiler) {
+        this.krakenExpressionEvaluator.setExpressionProfiler(expressionProfiler);
+        return this;
+    }
+
     private static class ProjectContextRepositoryRegistry implements CachingContextModelTreeRepository.ContextRepositoryRegistry {
 
         private final RuntimeProjectRepositoryFactory projectRepositoryFactory;
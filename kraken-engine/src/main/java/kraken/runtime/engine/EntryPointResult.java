@@ -1,15 +1,22 @@
 package kraken.runtime.engine;
 
 import kraken.annotations.API;
+import kraken.runtime.ResultDetailLevel;
+import kraken.runtime.engine.dto.ContextFieldInfo;
 import kraken.runtime.engine.dto.FieldEvaluationResult;
 import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.result.RuleResultCounts;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
@@ -24,7 +31,9 @@ import javax.annotation.Nonnull;
 public class EntryPointResult {
 
     /**
-     * Field evaluation results, mapped to field id string
+     * Field evaluation results, mapped to field id string.
+     * When results are collected during evaluation, field id strings are created only when this map
+     * is accessed by key or by entries, for example when result is serialized.
      */
     private final Map<String, FieldEvaluationResult> fieldResults;
 
@@ -32,6 +41,12 @@ public class EntryPointResult {
 
     private final transient ZoneId ruleTimezoneId;
 
+    /**
+     * Not serialized, because it is not part of result contract. Counted when results are collected
+     * during evaluation, otherwise counted from field results on first access.
+     */
+    private transient volatile RuleResultCounts resultCounts;
+
     public EntryPointResult() {
         this(LocalDateTime.now(), ZoneId.systemDefault());
     }
@@ -49,6 +64,24 @@ public class EntryPointResult {
         this.ruleTimezoneId = Objects.requireNonNull(ruleTimezoneId);
     }
 
+    /**
+     * @param fieldResults          retained field evaluation results, one for each field of context instance;
+     *                              results are mapped to field id string on first access by field id
+     * @param resultCounts          counts of all rule evaluation results, including those which are not retained
+     * @param evaluationTimeStamp   evaluation timestamp
+     * @param ruleTimezoneId        timezone of rule evaluation
+     * @since 1.55.0
+     */
+    public EntryPointResult(@Nonnull List<FieldEvaluationResult> fieldResults,
+                            @Nonnull RuleResultCounts resultCounts,
+                            @Nonnull LocalDateTime evaluationTimeStamp,
+                            @Nonnull ZoneId ruleTimezoneId) {
+        this.fieldResults = new FieldResultsById(Objects.requireNonNull(fieldResults));
+        this.resultCounts = Objects.requireNonNull(resultCounts);
+        this.evaluationTimeStamp = Objects.requireNonNull(evaluationTimeStamp);
+        this.ruleTimezoneId = Objects.requireNonNull(ruleTimezoneId);
+    }
+
     /**
      * Flatten contents into single list of {@link RuleEvaluationResult}s
      *
@@ -56,15 +89,15 @@ public class EntryPointResult {
      */
     @Nonnull
     public List<RuleEvaluationResult> getAllRuleResults() {
-        return fieldResults.entrySet().stream()
-                .flatMap(e -> e.getValue().getRuleResults().stream())
+        return fieldResultValues().stream()
+                .flatMap(fieldResult -> fieldResult.getRuleResults().stream())
                 .collect(Collectors.toList());
     }
 
     @Nonnull
     public List<RuleEvaluationResult> getApplicableRuleResults() {
-        return fieldResults.entrySet().stream()
-                .flatMap(e -> e.getValue().getRuleResults().stream())
+        return fieldResultValues().stream()
+                .flatMap(fieldResult -> fieldResult.getRuleResults().stream())
                 .filter(r -> r.getConditionEvaluationResult().isApplicable())
                 .collect(Collectors.toList());
     }
@@ -74,6 +107,26 @@ public class EntryPointResult {
         return fieldResults;
     }
 
+    /**
+     * Counts of all rule evaluation results. Counts include rule results which were not retained
+     * in this entry point result due to {@link ResultDetailLevel}.
+     *
+     * @return counts of rule evaluation results
+     * @since 1.55.0
+     */
+    @Nonnull
+    public RuleResultCounts getResultCounts() {
+        var counts = resultCounts;
+        if (counts == null) {
+            counts = new RuleResultCounts();
+            for (FieldEvaluationResult fieldResult : fieldResultValues()) {
+                fieldResult.getRuleResults().forEach(counts::add);
+            }
+            resultCounts = counts;
+        }
+        return counts;
+    }
+
     @Nonnull
     public LocalDateTime getEvaluationTimeStamp() {
         return evaluationTimeStamp;
@@ -83,4 +136,81 @@ public class EntryPointResult {
     public ZoneId getRuleTimezoneId() {
         return ruleTimezoneId;
     }
+
+    private Collection<FieldEvaluationResult> fieldResultValues() {
+        return fieldResults.values();
+    }
+
+    private static String toFieldId(ContextFieldInfo fieldInfo) {
+        return fieldInfo.getContextName() + ":" + fieldInfo.getContextId() + ":" + fieldInfo.getFieldName();
+    }
+
+    /**
+     * Field evaluation results collected during evaluation. Results are iterated as a list
+     * until they are accessed by field id for the first time, then results are mapped to field id string.
+     */
+    private static final class FieldResultsById extends AbstractMap<String, FieldEvaluationResult> {
+
+        private final List<FieldEvaluationResult> results;
+
+        private volatile Map<String, FieldEvaluationResult> resultsById;
+
+        FieldResultsById(List<FieldEvaluationResult> results) {
+            this.results = results;
+        }
+
+        @Override
+        public Collection<FieldEvaluationResult> values() {
+            var byId = resultsById;
+            return byId != null ? byId.values() : Collections.unmodifiableList(results);
+        }
+
+        @Override
+        public int size() {
+            var byId = resultsById;
+            return byId != null ? byId.size() : results.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return resultsById().containsKey(key);
+        }
+
+        @Override
+        public FieldEvaluationResult get(Object key) {
+            return resultsById().get(key);
+        }
+
+        @Override
+        public FieldEvaluationResult put(String key, FieldEvaluationResult value) {
+            return resultsById().put(key, value);
+        }
+
+        @Override
+        public FieldEvaluationResult remove(Object key) {
+            return resultsById().remove(key);
+        }
+
+        @Override
+        public Set<Entry<String, FieldEvaluationResult>> entrySet() {
+            return resultsById().entrySet();
+        }
+
+        private Map<String, FieldEvaluationResult> resultsById() {
+            var byId = resultsById;
+            if (byId == null) {
+                synchronized (this) {
+                    byId = resultsById;
+                    if (byId == null) {
+                        byId = new HashMap<>(results.size() * 4 / 3 + 1);
+                        for (FieldEvaluationResult fieldResult : results) {
+                            byId.put(toFieldId(fieldResult.getContextFieldInfo()), fieldResult);
+                        }
+                        resultsById = byId;
+                    }
+                }
+            }
+            return byId;
+        }
+    }
 }
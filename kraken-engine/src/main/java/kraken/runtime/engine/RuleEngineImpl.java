@@ -18,10 +18,19 @@ package kraken.runtime.engine;
 import static kraken.context.Context.DIMENSIONS;
 import static kraken.context.Context.EXTERNAL_DATA;
 import static kraken.context.Context.RULE_TIMEZONE_ID_DIMENSION;
+import static kraken.message.SystemMessageBuilder.Message.DUPLICATE_ENTRY_POINTS_IN_EVALUATION;
+import static kraken.message.SystemMessageBuilder.Message.ENTRY_POINTS_FROM_DIFFERENT_NAMESPACES;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import kraken.context.model.tree.ContextModelTree;
@@ -30,25 +39,34 @@ import kraken.el.TargetEnvironment;
 import kraken.el.functionregistry.FunctionHeader;
 import kraken.el.functionregistry.KelFunction;
 import kraken.el.functionregistry.KelFunction.Parameter;
+import kraken.message.SystemMessageBuilder;
 import kraken.namespace.Namespaces;
 import kraken.runtime.EvaluationConfig;
 import kraken.runtime.EvaluationSession;
+import kraken.runtime.KrakenRuntimeException;
 import kraken.runtime.RuleEngine;
 import kraken.runtime.engine.context.CachingCrossContextPathsResolverFactory;
 import kraken.runtime.engine.context.ContextDataProvider;
+import kraken.runtime.engine.context.SharedContextDataProvider;
 import kraken.runtime.engine.context.StaticContextDataProvider;
 import kraken.runtime.engine.context.info.ContextInstanceInfoResolver;
 import kraken.runtime.engine.context.type.registry.TypeRegistry;
 import kraken.runtime.engine.dto.bundle.EntryPointBundle;
 import kraken.runtime.engine.dto.bundle.EntryPointBundleFactory;
 import kraken.runtime.engine.evaluation.loop.EvaluationLoop;
+import kraken.runtime.engine.jfr.EntryPointEvaluationEvent;
+import kraken.runtime.engine.result.ResultSink;
 import kraken.runtime.engine.trace.RuleEngineInvocationOperation;
+import kraken.runtime.engine.trace.RuleEngineResultSinkInvocationOperation;
+import kraken.runtime.engine.trace.RuleEngineSubtreesInvocationOperation;
 import kraken.runtime.expressions.KrakenExpressionEvaluator;
 import kraken.runtime.expressions.KrakenTypeProvider;
 import kraken.runtime.logging.KrakenDataLogger;
 import kraken.runtime.repository.RuntimeProjectRepository;
 import kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory;
 import kraken.tracer.Tracer;
+import kraken.utils.metrics.KrakenMetricNames;
+import kraken.utils.metrics.KrakenMetrics;
 
 /**
  * Default implementation for {@link RuleEngine}
@@ -67,6 +85,7 @@ public class RuleEngineImpl implements RuleEngine {
     private KrakenDataLogger dataLogger;
     private KrakenExpressionEvaluator krakenExpressionEvaluator;
     private CachingCrossContextPathsResolverFactory crossContextPathsResolverFactory;
+    private KrakenMetrics metrics = KrakenMetrics.noop();
 
     @Override
     public EntryPointResult evaluate(Object data, String entryPointName) {
@@ -75,7 +94,7 @@ public class RuleEngineImpl implements RuleEngine {
 
     @Override
     public EntryPointResult evaluate(Object data, String entryPointName, EvaluationConfig evaluationConfig) {
-        return Tracer.doOperation(
+        return measureEntryPoint(entryPointName, () -> Tracer.doOperation(
             new RuleEngineInvocationOperation(entryPointName, data, evaluationConfig),
             () -> {
                 String namespace = Namespaces.toNamespaceName(entryPointName);
@@ -105,7 +124,39 @@ public class RuleEngineImpl implements RuleEngine {
                 );
                 logEvaluationResults(session.getSessionToken(), entryPointName, entryPointResult);
                 return entryPointResult;
-            });
+            }));
+    }
+
+    @Override
+    public <T> T evaluate(Object data,
+                          String entryPointName,
+                          EvaluationConfig evaluationConfig,
+                          ResultSink<T> resultSink) {
+        return measureEntryPoint(entryPointName, () -> Tracer.doOperation(
+            new RuleEngineResultSinkInvocationOperation<>(entryPointName, data, resultSink, evaluationConfig),
+            () -> {
+                String namespace = Namespaces.toNamespaceName(entryPointName);
+                ContextModelTree contextModelTree = modelTree(namespace);
+                RuntimeProjectRepository repository = runtimeProjectRepositoryFactory.resolveRepository(namespace);
+                EvaluationSession session = createEvaluationSession(evaluationConfig, repository, namespace, contextModelTree);
+                logInputData(session.getSessionToken(), data, entryPointName, evaluationConfig.getContext());
+                EntryPointBundle bundle = buildEntryPointBundle(entryPointName, evaluationConfig);
+                logEffectiveRules(session.getSessionToken(), bundle);
+                if (noRulesArePresent(bundle)) {
+                    return resultSink.getResult();
+                }
+                final ContextDataProvider provider = StaticContextDataProvider.create(
+                    crossContextPathsResolverFactory.resolve(contextModelTree),
+                    repository,
+                    contextModelTree,
+                    contextInstanceInfoResolver,
+                    krakenExpressionEvaluator,
+                    typeRegistry,
+                    data,
+                    session
+                );
+                return evaluationLoop.evaluate(bundle.getEvaluation(), provider, session, resultSink);
+            }));
     }
 
     @Override
@@ -116,7 +167,7 @@ public class RuleEngineImpl implements RuleEngine {
     @Override
     public EntryPointResult evaluateSubtree(Object data, Object node, String entryPointName,
                                             EvaluationConfig evaluationConfig) {
-        return Tracer.doOperation(
+        return measureEntryPoint(entryPointName, () -> Tracer.doOperation(
             new RuleEngineInvocationOperation(entryPointName, data, node, evaluationConfig),
             () -> {
                 String namespace = Namespaces.toNamespaceName(entryPointName);
@@ -148,7 +199,113 @@ public class RuleEngineImpl implements RuleEngine {
                 EntryPointResult entryPointResult = evaluationLoop.evaluate(bundle.getEvaluation(), provider, session);
                 logEvaluationResults(session.getSessionToken(), entryPointName, entryPointResult);
                 return entryPointResult;
-            });
+            }));
+    }
+
+    @Override
+    public List<EntryPointResult> evaluateSubtrees(Object data, Collection<?> nodes, String entryPointName) {
+        return evaluateSubtrees(data, nodes, entryPointName, new EvaluationConfig());
+    }
+
+    @Override
+    public List<EntryPointResult> evaluateSubtrees(Object data,
+                                                   Collection<?> nodes,
+                                                   String entryPointName,
+                                                   EvaluationConfig evaluationConfig) {
+        return measureEntryPoint(entryPointName, () -> Tracer.doOperation(
+            new RuleEngineSubtreesInvocationOperation(entryPointName, data, nodes, evaluationConfig),
+            () -> {
+                String namespace = Namespaces.toNamespaceName(entryPointName);
+                ContextModelTree contextModelTree = modelTree(namespace);
+                RuntimeProjectRepository repository = runtimeProjectRepositoryFactory.resolveRepository(namespace);
+                EvaluationSession session = createEvaluationSession(
+                    evaluationConfig,
+                    repository,
+                    namespace,
+                    contextModelTree
+                );
+                for (Object node : nodes) {
+                    logInputData(session.getSessionToken(), data, node, entryPointName, evaluationConfig.getContext());
+                }
+                EntryPointBundle bundle = buildEntryPointBundle(entryPointName, evaluationConfig);
+                logEffectiveRules(session.getSessionToken(), bundle);
+                List<EntryPointResult> results = new ArrayList<>(nodes.size());
+                if (noRulesArePresent(bundle)) {
+                    for (int i = 0; i < nodes.size(); i++) {
+                        results.add(new EntryPointResult(session.getTimestamp(), evaluationConfig.getRuleTimezoneId()));
+                    }
+                    return results;
+                }
+                final List<ContextDataProvider> providers = StaticContextDataProvider.createForSubtrees(
+                    crossContextPathsResolverFactory.resolve(contextModelTree),
+                    repository,
+                    contextModelTree,
+                    contextInstanceInfoResolver,
+                    krakenExpressionEvaluator,
+                    typeRegistry,
+                    data,
+                    nodes,
+                    session
+                );
+                for (ContextDataProvider provider : providers) {
+                    EntryPointResult entryPointResult = evaluationLoop.evaluate(bundle.getEvaluation(), provider, session);
+                    logEvaluationResults(session.getSessionToken(), entryPointName, entryPointResult);
+                    results.add(entryPointResult);
+                }
+                return results;
+            }));
+    }
+
+    @Override
+    public Map<String, EntryPointResult> evaluateEntryPoints(Object data, List<String> entryPointNames) {
+        return evaluateEntryPoints(data, entryPointNames, new EvaluationConfig());
+    }
+
+    @Override
+    public Map<String, EntryPointResult> evaluateEntryPoints(Object data,
+                                                             List<String> entryPointNames,
+                                                             EvaluationConfig evaluationConfig) {
+        Map<String, EntryPointResult> results = new LinkedHashMap<>();
+        if (entryPointNames.isEmpty()) {
+            return results;
+        }
+        assertNoDuplicateEntryPoints(entryPointNames);
+        String namespace = resolveNamespace(entryPointNames);
+        ContextModelTree contextModelTree = modelTree(namespace);
+        RuntimeProjectRepository repository = runtimeProjectRepositoryFactory.resolveRepository(namespace);
+        EvaluationSession session = createEvaluationSession(evaluationConfig, repository, namespace, contextModelTree);
+        SharedContextDataProvider provider = new SharedContextDataProvider(
+            () -> StaticContextDataProvider.create(
+                crossContextPathsResolverFactory.resolve(contextModelTree),
+                repository,
+                contextModelTree,
+                contextInstanceInfoResolver,
+                krakenExpressionEvaluator,
+                typeRegistry,
+                data,
+                session
+            ),
+            repository
+        );
+
+        for (String entryPointName : entryPointNames) {
+            EntryPointResult entryPointResult = measureEntryPoint(entryPointName, () -> Tracer.doOperation(
+                new RuleEngineInvocationOperation(entryPointName, data, evaluationConfig),
+                () -> {
+                    logInputData(session.getSessionToken(), data, entryPointName, evaluationConfig.getContext());
+                    EntryPointBundle bundle = buildEntryPointBundle(entryPointName, evaluationConfig);
+                    logEffectiveRules(session.getSessionToken(), bundle);
+                    if (noRulesArePresent(bundle)) {
+                        return new EntryPointResult(session.getTimestamp(), evaluationConfig.getRuleTimezoneId());
+                    }
+                    EntryPointResult result = evaluationLoop.evaluate(bundle.getEvaluation(), provider, session);
+                    logEvaluationResults(session.getSessionToken(), entryPointName, result);
+                    return result;
+                }));
+            provider.invalidateIfNavigationChanged(entryPointResult);
+            results.put(entryPointName, entryPointResult);
+        }
+        return results;
     }
 
     public void setEvaluationLoop(EvaluationLoop evaluationLoop) {
@@ -175,6 +332,18 @@ public class RuleEngineImpl implements RuleEngine {
         this.krakenExpressionEvaluator = krakenExpressionEvaluator;
     }
 
+    /**
+     * Closes {@link RuntimeProjectRepositoryFactory} of this engine, which stops background reload of Kraken projects.
+     *
+     * @since 1.55.0
+     */
+    @Override
+    public void close() {
+        if (runtimeProjectRepositoryFactory != null) {
+            runtimeProjectRepositoryFactory.close();
+        }
+    }
+
     public void setRuntimeProjectRepositoryFactory(RuntimeProjectRepositoryFactory runtimeProjectRepositoryFactory) {
         this.runtimeProjectRepositoryFactory = runtimeProjectRepositoryFactory;
     }
@@ -187,12 +356,48 @@ public class RuleEngineImpl implements RuleEngine {
         this.contextModelTreeRepository = contextModelTreeRepository;
     }
 
+    public void setMetrics(KrakenMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    private <T> T measureEntryPoint(String entryPointName, Supplier<T> evaluation) {
+        var event = new EntryPointEvaluationEvent();
+        event.begin();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        boolean failed = true;
+        try {
+            T result = evaluation.get();
+            failed = false;
+            return result;
+        } finally {
+            if (metrics.isEnabled()) {
+                if (failed) {
+                    metrics.counter(KrakenMetricNames.ENTRY_POINT_ERRORS, entryPointName).increment();
+                }
+                metrics.histogram(KrakenMetricNames.ENTRY_POINT_LATENCY, entryPointName)
+                    .record(System.nanoTime() - start);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.entryPoint = entryPointName;
+                event.namespace = Namespaces.toNamespaceName(entryPointName);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
     private EntryPointBundle buildEntryPointBundle(String entryPointName, EvaluationConfig evaluationConfig) {
-        return entryPointBundleFactory.build(
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        EntryPointBundle bundle = entryPointBundleFactory.build(
             entryPointName,
             bundleContext(evaluationConfig),
             evaluationConfig.getEvaluationMode()
         );
+        if (metrics.isEnabled()) {
+            metrics.histogram(KrakenMetricNames.BUNDLE_BUILD_TIME, entryPointName).record(System.nanoTime() - start);
+        }
+        return bundle;
     }
 
     private Map<String, Object> bundleContext(EvaluationConfig evaluationConfig) {
@@ -207,6 +412,34 @@ public class RuleEngineImpl implements RuleEngine {
         return contextCopy;
     }
 
+    private void assertNoDuplicateEntryPoints(List<String> entryPointNames) {
+        Set<String> names = new HashSet<>();
+        var duplicates = entryPointNames.stream()
+            .filter(name -> !names.add(name))
+            .distinct()
+            .collect(Collectors.toList());
+        if (!duplicates.isEmpty()) {
+            var m = SystemMessageBuilder.create(DUPLICATE_ENTRY_POINTS_IN_EVALUATION)
+                .parameters(entryPointNames, duplicates)
+                .build();
+            throw new KrakenRuntimeException(m);
+        }
+    }
+
+    private String resolveNamespace(List<String> entryPointNames) {
+        var namespaces = entryPointNames.stream()
+            .map(Namespaces::toNamespaceName)
+            .distinct()
+            .collect(Collectors.toList());
+        if (namespaces.size() > 1) {
+            var m = SystemMessageBuilder.create(ENTRY_POINTS_FROM_DIFFERENT_NAMESPACES)
+                .parameters(entryPointNames, namespaces)
+                .build();
+            throw new KrakenRuntimeException(m);
+        }
+        return namespaces.get(0);
+    }
+
     private boolean noRulesArePresent(EntryPointBundle bundle) {
         return bundle.getEvaluation().getRules().isEmpty();
     }
@@ -49,6 +49,10 @@ public final class CachingCrossContextPathsResolverFactory {
      * @return Caching cross context paths resolver.
      */
     public CrossContextPathsResolver resolve(ContextModelTree contextModelTree) {
+        CrossContextPathsResolver resolver = PATH_RESOLVERS.get(contextModelTree.getMetadata().getNamespace());
+        if (resolver != null) {
+            return resolver;
+        }
         return PATH_RESOLVERS.computeIfAbsent(contextModelTree.getMetadata().getNamespace(), namespace ->
                 CachingCrossContextPathsResolver.create(
                         DefaultCrossContextPathsResolver.create(
@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.engine.context;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import kraken.el.ast.Ast;
+import kraken.el.ast.Expression;
+import kraken.el.ast.Identifier;
+import kraken.el.ast.visitor.AstTraversingVisitor;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.events.ValueChangedEvent;
+import kraken.runtime.engine.result.DefaultValuePayloadResult;
+import kraken.runtime.model.context.ContextNavigation;
+import kraken.runtime.model.context.RuntimeContextDefinition;
+import kraken.runtime.model.rule.RuntimeRule;
+import kraken.runtime.repository.RuntimeContextRepository;
+
+/**
+ * {@link ContextDataProvider} which is shared between evaluations of several entry points on the same data object.
+ * Extracted data contexts are reused between evaluations until {@link #invalidateIfNavigationChanged(EntryPointResult)}
+ * detects that default rules changed a field which is used to navigate to child contexts.
+ *
+ * @since 1.55.0
+ */
+public class SharedContextDataProvider implements ContextDataProvider {
+
+    private final Supplier<ContextDataProvider> contextDataProviderFactory;
+
+    private final RuntimeContextRepository contextRepository;
+
+    private ContextDataProvider contextDataProvider;
+
+    public SharedContextDataProvider(Supplier<ContextDataProvider> contextDataProviderFactory,
+                                     RuntimeContextRepository contextRepository) {
+        this.contextDataProviderFactory = Objects.requireNonNull(contextDataProviderFactory);
+        this.contextRepository = Objects.requireNonNull(contextRepository);
+    }
+
+    @Override
+    public ContextData resolveContextData(RuntimeRule rule) {
+        if (contextDataProvider == null) {
+            contextDataProvider = contextDataProviderFactory.get();
+        }
+        return contextDataProvider.resolveContextData(rule);
+    }
+
+    /**
+     * Drops all extracted data contexts if any default rule in the provided result changed a value
+     * of a field that is referenced in navigation expression of the context where the field is defined.
+     * Data contexts will be extracted anew when they are requested next time.
+     *
+     * @param entryPointResult result of previous entry point evaluation
+     * @return true if extracted data contexts were invalidated
+     */
+    public boolean invalidateIfNavigationChanged(EntryPointResult entryPointResult) {
+        if (contextDataProvider != null && isNavigationChanged(entryPointResult)) {
+            contextDataProvider = null;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isNavigationChanged(EntryPointResult entryPointResult) {
+        if (entryPointResult.getFieldResults().isEmpty()) {
+            // rule results may be not retained due to result detail level, so any value change is assumed to change navigation
+            return entryPointResult.getResultCounts().getValueChanges() > 0;
+        }
+        return entryPointResult.getFieldResults().values().stream()
+            .flatMap(fieldResult -> fieldResult.getRuleResults().stream())
+            .map(RuleEvaluationResult::getPayloadResult)
+            .filter(DefaultValuePayloadResult.class::isInstance)
+            .flatMap(payloadResult -> ((DefaultValuePayloadResult) payloadResult).getEvents().stream())
+            .filter(ValueChangedEvent.class::isInstance)
+            .map(ValueChangedEvent.class::cast)
+            .anyMatch(this::isNavigationChanged);
+    }
+
+    private boolean isNavigationChanged(ValueChangedEvent event) {
+        RuntimeContextDefinition contextDefinition = contextRepository.getContextDefinition(event.getContextName());
+        if (contextDefinition == null) {
+            return true;
+        }
+        List<String> changedProperties = Arrays.asList(event.getAttributeTarget().split("\\."));
+        return contextDefinition.getChildren().values().stream()
+            .anyMatch(navigation -> isReferencedInNavigation(navigation, changedProperties));
+    }
+
+    private boolean isReferencedInNavigation(ContextNavigation navigation, List<String> properties) {
+        Ast ast = navigation.getNavigationExpression().getAst();
+        if (ast == null) {
+            // without AST it is not known which properties are navigated, so it is assumed that all of them are
+            return true;
+        }
+        var identifierCollector = new IdentifierCollectingVisitor();
+        identifierCollector.visit(ast.getExpression());
+        return properties.stream().anyMatch(identifierCollector.identifiers::contains);
+    }
+
+    private static class IdentifierCollectingVisitor extends AstTraversingVisitor {
+
+        private final Set<String> identifiers = new HashSet<>();
+
+        @Override
+        public Expression visit(Identifier identifier) {
+            identifiers.add(identifier.getIdentifierToken());
+            return super.visit(identifier);
+        }
+    }
+
+}
@@ -58,14 +58,28 @@ public class StaticContextDataProvider implements ContextDataProvider {
             DataContext rootDataContext,
             NodeInstanceInfo nodeInstanceInfo,
             ContextDataExtractor extractor) {
+        this(
+            crossContextPathsResolver,
+            rootDataContext,
+            nodeInstanceInfo,
+            Memoizer.memoize(extractor::extractByName),
+            Memoizer.memoize(triplet -> extractor.extractByName(triplet.getLeft(), triplet.getCenter(), triplet.getRight())),
+            Memoizer.memoize(info -> extractor.extractByPath(info.resolveCommonRoot(), info.getExtractionPath()))
+        );
+    }
+
+    private StaticContextDataProvider(
+            CrossContextPathsResolver crossContextPathsResolver,
+            DataContext rootDataContext,
+            NodeInstanceInfo nodeInstanceInfo,
+            BiFunction<String, DataContext, List<DataContext>> getExtractedContexts,
+            Function<Triplet<String, DataContext, NodeInstanceInfo>, List<DataContext>> getContextsExtractionSubTree,
+            Function<ReferenceExtractionInfo, Collection<DataContext>> getReferencedContext) {
         this.nodeInstanceInfo = nodeInstanceInfo;
         this.rootDataContext = rootDataContext;
-        this.getExtractedContexts = Memoizer.memoize(extractor::extractByName);
-        this.getContextsExtractionSubTree = Memoizer.memoize(triplet -> extractor.extractByName(
-                triplet.getLeft(), triplet.getCenter(), triplet.getRight()));
-        this.getReferencedContext = Memoizer.memoize(info -> extractor.extractByPath(
-                info.resolveCommonRoot(),
-                info.getExtractionPath()));
+        this.getExtractedContexts = getExtractedContexts;
+        this.getContextsExtractionSubTree = getContextsExtractionSubTree;
+        this.getReferencedContext = getReferencedContext;
         this.crossContextPathsResolver = crossContextPathsResolver;
     }
 
@@ -96,26 +110,103 @@ public class StaticContextDataProvider implements ContextDataProvider {
     ) {
         NodeInstanceInfo nodeInstanceInfo = createNodeContext(node, contextInstanceInfoResolver);
 
-        final DataContextBuilder dataContextBuilder = new DataContextBuilder(
+        final DataContextBuilder dataContextBuilder = createDataContextBuilder(
             contextRepository,
             contextInstanceInfoResolver,
-            session.getEvaluationConfig().getDataContextPathProvider()
+            session
         );
         final DataContext root = dataContextBuilder.buildFromRoot(data);
-
-        final ContextDataExtractor contextDataExtractor = new ContextDataExtractor(
-                contextRepository,
-                contextModelTree,
-                new ExtractedChildDataContextBuilder(
-                        dataContextBuilder,
-                        new ContextExtractionResultBuilder(typeRegistry),
-                        krakenExpressionEvaluator,
-                        session
-                )
+        final ContextDataExtractor contextDataExtractor = createContextDataExtractor(
+            contextRepository,
+            contextModelTree,
+            dataContextBuilder,
+            krakenExpressionEvaluator,
+            typeRegistry,
+            session
         );
         return new StaticContextDataProvider(crossContextPathsResolver, root, nodeInstanceInfo, contextDataExtractor);
     }
 
+    /**
+     * Creates one {@link ContextDataProvider} for each node in the same iteration order as nodes are provided.
+     * All created providers share the same root {@link DataContext} and the same extraction caches,
+     * so context instances which are common to several subtrees are extracted only once.
+     *
+     * @param nodes nodes that indicate instance subtrees to evaluate
+     * @return context data providers restricted to subtree of each node
+     */
+    public static List<ContextDataProvider> createForSubtrees(
+            CrossContextPathsResolver crossContextPathsResolver,
+            RuntimeContextRepository contextRepository,
+            ContextModelTree contextModelTree,
+            ContextInstanceInfoResolver contextInstanceInfoResolver,
+            KrakenExpressionEvaluator krakenExpressionEvaluator,
+            TypeRegistry typeRegistry,
+            Object data,
+            Collection<?> nodes,
+            EvaluationSession session
+    ) {
+        final DataContextBuilder dataContextBuilder = createDataContextBuilder(
+            contextRepository,
+            contextInstanceInfoResolver,
+            session
+        );
+        final DataContext root = dataContextBuilder.buildFromRoot(data);
+        final ContextDataExtractor extractor = createContextDataExtractor(
+            contextRepository,
+            contextModelTree,
+            dataContextBuilder,
+            krakenExpressionEvaluator,
+            typeRegistry,
+            session
+        );
+        final BiFunction<String, DataContext, List<DataContext>> getExtractedContexts =
+            Memoizer.memoize(extractor::extractByName);
+        final Function<Triplet<String, DataContext, NodeInstanceInfo>, List<DataContext>> getContextsExtractionSubTree =
+            Memoizer.memoize(triplet -> extractor.extractByName(triplet.getLeft(), triplet.getCenter(), triplet.getRight()));
+        final Function<ReferenceExtractionInfo, Collection<DataContext>> getReferencedContext =
+            Memoizer.memoize(info -> extractor.extractByPath(info.resolveCommonRoot(), info.getExtractionPath()));
+
+        return nodes.stream()
+            .map(node -> new StaticContextDataProvider(
+                crossContextPathsResolver,
+                root,
+                createNodeContext(node, contextInstanceInfoResolver),
+                getExtractedContexts,
+                getContextsExtractionSubTree,
+                getReferencedContext
+            ))
+            .collect(Collectors.toList());
+    }
+
+    private static DataContextBuilder createDataContextBuilder(RuntimeContextRepository contextRepository,
+                                                               ContextInstanceInfoResolver contextInstanceInfoResolver,
+                                                               EvaluationSession session) {
+        return new DataContextBuilder(
+            contextRepository,
+            contextInstanceInfoResolver,
+            session.getEvaluationConfig().getDataContextPathProvider()
+        );
+    }
+
+    private static ContextDataExtractor createContextDataExtractor(RuntimeContextRepository contextRepository,
+                                                                   ContextModelTree contextModelTree,
+                                                                   DataContextBuilder dataContextBuilder,
+                                                                   KrakenExpressionEvaluator krakenExpressionEvaluator,
+                                                                   TypeRegistry typeRegistry,
+                                                                   EvaluationSession session) {
+        return new ContextDataExtractor(
+            contextRepository,
+            contextModelTree,
+            new ExtractedChildDataContextBuilder(
+                dataContextBuilder,
+                new ContextExtractionResultBuilder(typeRegistry),
+                krakenExpressionEvaluator,
+                session
+            )
+        );
+    }
+
     private static NodeInstanceInfo createNodeContext(Object node, ContextInstanceInfoResolver contextInstanceInfoResolver) {
         if (node == null) {
             return null;
@@ -181,7 +181,9 @@ public class DataContext {
 
     @Override
     public int hashCode() {
-        return Objects.hash(contextId, contextName);
+        // same value as Objects.hash(contextId, contextName) without allocating varargs array,
+        // because data context is used as a key when grouping rule results
+        return 31 * (31 + Objects.hashCode(contextId)) + Objects.hashCode(contextName);
     }
 
     @Override
@@ -18,7 +18,9 @@ package kraken.runtime.engine.dto;
 import kraken.model.Rule;
 import kraken.model.context.ContextDefinition;
 import kraken.model.context.ContextField;
+import kraken.runtime.engine.context.data.DataContext;
 import kraken.runtime.engine.context.info.ContextInstanceInfo;
+import kraken.runtime.utils.TargetPathUtils;
 
 /**
  * Provides information about the context on which rule was evaluated
@@ -39,6 +41,22 @@ public class ContextFieldInfo {
         this.fieldPath = fieldPath;
     }
 
+    /**
+     * Creates information about the field of data context instance
+     *
+     * @param dataContext   data context instance on which rule was evaluated
+     * @param fieldName     name of the field on which rule was evaluated
+     * @return information about the field
+     */
+    public static ContextFieldInfo from(DataContext dataContext, String fieldName) {
+        return new ContextFieldInfo(
+            dataContext.getContextId(),
+            dataContext.getContextName(),
+            fieldName,
+            TargetPathUtils.resolveTargetPath(fieldName, dataContext)
+        );
+    }
+
     /**
      *
      * @return if of the entity as provided by {@link ContextInstanceInfo#getContextInstanceId()}
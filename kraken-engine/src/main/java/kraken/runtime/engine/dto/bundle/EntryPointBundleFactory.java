@@ -29,6 +29,7 @@ import kraken.runtime.engine.core.EntryPointData;
 import kraken.runtime.engine.core.EntryPointEvaluation;
 import kraken.runtime.engine.core.EntryPointOrderedEvaluationFactory;
 import kraken.runtime.engine.dto.bundle.trace.EntryPointBundleBuildOperation;
+import kraken.runtime.engine.jfr.EntryPointBundleBuildEvent;
 import kraken.runtime.model.rule.RuntimeRule;
 import kraken.runtime.repository.RuntimeProjectRepository;
 import kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory;
@@ -62,6 +63,8 @@ public final class EntryPointBundleFactory {
         return Tracer.doOperation(
             new EntryPointBundleBuildOperation(entryPointName),
             () -> {
+                var event = new EntryPointBundleBuildEvent();
+                event.begin();
                 String namespace = Namespaces.toNamespaceName(entryPointName);
                 RuntimeProjectRepository repository = runtimeProjectRepositoryFactory.resolveRepository(namespace);
 
@@ -78,6 +81,14 @@ public final class EntryPointBundleFactory {
                 EntryPointEvaluation entryPointEvaluation
                     = evaluationFactory.create(entryPointData);
 
+                event.end();
+                if (event.shouldCommit()) {
+                    event.entryPoint = entryPointName;
+                    event.namespace = namespace;
+                    event.ruleCount = rules.size();
+                    event.commit();
+                }
+
                 return new EntryPointBundle(entryPointEvaluation, context, Kraken.VERSION);
             }
         );
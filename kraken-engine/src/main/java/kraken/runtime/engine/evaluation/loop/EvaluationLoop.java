@@ -20,6 +20,8 @@ import kraken.runtime.EvaluationSession;
 import kraken.runtime.engine.EntryPointResult;
 import kraken.runtime.engine.context.ContextDataProvider;
 import kraken.runtime.engine.core.EntryPointEvaluation;
+import kraken.runtime.engine.result.EntryPointResultSink;
+import kraken.runtime.engine.result.ResultSink;
 
 /**
  * Part of core rule engine which performs evaluation of the rules from provided {@link EntryPoint}
@@ -33,16 +35,45 @@ public interface EvaluationLoop {
 
     /**
      * Main evaluation method, evaluates all rule logic in provided entry point in context of provided
-     * data context object and returns result tree
+     * data context object and returns result tree. Result tree contains only rule results retained by
+     * {@link kraken.runtime.ResultDetailLevel} from evaluation configuration of the session.
      *
      * @param entryPointEvaluation            entry point data from bundle
      * @param contextDataProvider             context provider for root object to be evaluated
      * @param session
      * @return                                rule results
      */
-    EntryPointResult evaluate(
+    default EntryPointResult evaluate(
             EntryPointEvaluation entryPointEvaluation,
             ContextDataProvider contextDataProvider,
             EvaluationSession session
+    ) {
+        return evaluate(
+            entryPointEvaluation,
+            contextDataProvider,
+            session,
+            new EntryPointResultSink(
+                session.getTimestamp(),
+                session.getEvaluationConfig().getRuleTimezoneId(),
+                session.getEvaluationConfig().getResultDetailLevel()
+            )
+        );
+    }
+
+    /**
+     * Evaluates all rule logic in provided entry point in context of provided data context object
+     * and passes each rule result to provided {@link ResultSink} as soon as it is produced
+     *
+     * @param entryPointEvaluation            entry point data from bundle
+     * @param contextDataProvider             context provider for root object to be evaluated
+     * @param session                         current evaluation session
+     * @param resultSink                      receives rule results
+     * @return                                result aggregated by resultSink
+     */
+    <T> T evaluate(
+            EntryPointEvaluation entryPointEvaluation,
+            ContextDataProvider contextDataProvider,
+            EvaluationSession session,
+            ResultSink<T> resultSink
     );
 }
@@ -30,22 +30,24 @@ import kraken.message.SystemMessageBuilder;
 import kraken.model.payload.PayloadType;
 import kraken.runtime.EvaluationSession;
 import kraken.runtime.KrakenRuntimeException;
-import kraken.runtime.engine.EntryPointResult;
 import kraken.runtime.engine.RulePayloadProcessor;
 import kraken.runtime.engine.context.ContextData;
 import kraken.runtime.engine.context.ContextDataProvider;
 import kraken.runtime.engine.context.data.DataContext;
 import kraken.runtime.engine.core.EntryPointEvaluation;
 import kraken.runtime.engine.dto.ContextFieldInfo;
-import kraken.runtime.engine.dto.FieldEvaluationResult;
 import kraken.runtime.engine.dto.RuleEvaluationResult;
 import kraken.runtime.engine.dto.RuleEvaluationStatus;
+import kraken.runtime.engine.jfr.ContextExtractionEvent;
+import kraken.runtime.engine.jfr.RuleEvaluationEvent;
 import kraken.runtime.engine.result.DefaultValuePayloadResult;
+import kraken.runtime.engine.result.ResultSink;
 import kraken.runtime.model.rule.RuntimeRule;
-import kraken.runtime.utils.TargetPathUtils;
 import kraken.tracer.Operation;
 import kraken.tracer.Tracer;
 import kraken.tracer.VoidOperation;
+import kraken.utils.metrics.KrakenMetricNames;
+import kraken.utils.metrics.KrakenMetrics;
 
 /**
  * @author mulevicius
@@ -55,91 +57,91 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
 
     private final RulePayloadProcessor rulePayloadProcessor;
 
+    private final KrakenMetrics metrics;
+
     public OrderedEvaluationLoop(RulePayloadProcessor rulePayloadProcessor) {
-        this.rulePayloadProcessor = rulePayloadProcessor;
+        this(rulePayloadProcessor, KrakenMetrics.noop());
     }
 
-    @Override
-    public EntryPointResult evaluate(EntryPointEvaluation entryPointEvaluation,
-                                     ContextDataProvider contextDataProvider,
-                                     EvaluationSession session) {
-        var defaultResults = evaluateDefaultRules(entryPointEvaluation, contextDataProvider, session);
-        var otherResults = evaluateRules(entryPointEvaluation, contextDataProvider, session);
-
-        var results = new HashMap<String, FieldEvaluationResult>();
-        defaultResults.forEach(result -> addResult(result, results));
-        otherResults.forEach(result -> addResult(result, results));
-
-        validateDefaultsOnOneField(results);
-        return new EntryPointResult(results, session.getTimestamp(), session.getEvaluationConfig().getRuleTimezoneId());
+    /**
+     * @param metrics to report context extraction time and resolved context instance counts to
+     * @since 1.55.0
+     */
+    public OrderedEvaluationLoop(RulePayloadProcessor rulePayloadProcessor, KrakenMetrics metrics) {
+        this.rulePayloadProcessor = rulePayloadProcessor;
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
-    private List<RuleOnInstanceEvaluationResult> evaluateRules(EntryPointEvaluation entryPointEvaluation,
-                                                               ContextDataProvider contextDataProvider,
-                                                               EvaluationSession session) {
-        var rules = entryPointEvaluation.getRules().stream()
-            .filter(r -> r.getPayload().getType() != PayloadType.DEFAULT)
-            .collect(Collectors.toList());
-
-        return doEvaluateRules(rules, contextDataProvider, session);
+    @Override
+    public <T> T evaluate(EntryPointEvaluation entryPointEvaluation,
+                          ContextDataProvider contextDataProvider,
+                          EvaluationSession session,
+                          ResultSink<T> resultSink) {
+        evaluateDefaultRules(entryPointEvaluation, contextDataProvider, session, resultSink);
+        evaluateRules(entryPointEvaluation, contextDataProvider, session, resultSink);
+
+        return resultSink.getResult();
     }
 
-    private List<RuleOnInstanceEvaluationResult> doEvaluateRules(List<RuntimeRule> rules,
-                                                                 ContextDataProvider contextDataProvider,
-                                                                 EvaluationSession session) {
-        List<RuleOnInstanceEvaluationResult> allResults = new ArrayList<>();
-        for(var rule : rules) {
-            var results = evaluateRule(rule, contextDataProvider, session);
-            allResults.addAll(results);
+    private void evaluateRules(EntryPointEvaluation entryPointEvaluation,
+                               ContextDataProvider contextDataProvider,
+                               EvaluationSession session,
+                               ResultSink<?> resultSink) {
+        for(var rule : entryPointEvaluation.getRules()) {
+            if(rule.getPayload().getType() != PayloadType.DEFAULT) {
+                evaluateRule(rule, contextDataProvider, session, resultSink);
+            }
         }
-        return allResults;
     }
 
-    private List<RuleOnInstanceEvaluationResult> evaluateRule(RuntimeRule rule,
-                                                              ContextDataProvider contextDataProvider,
-                                                              EvaluationSession session) {
-        return Tracer.doOperation(
+    private void evaluateRule(RuntimeRule rule,
+                              ContextDataProvider contextDataProvider,
+                              EvaluationSession session,
+                              ResultSink<?> resultSink) {
+        Tracer.doOperation(
             new RuleEvaluationOperation(rule),
-            () -> doEvaluateRule(rule, contextDataProvider, session)
+            () -> doEvaluateRule(rule, contextDataProvider, session, resultSink)
         );
     }
 
-    private List<RuleOnInstanceEvaluationResult> doEvaluateRule(RuntimeRule rule,
-                                                                ContextDataProvider contextDataProvider,
-                                                                EvaluationSession session) {
-        List<RuleOnInstanceEvaluationResult> allResults = new ArrayList<>();
-        for(var context : resolveContextData(rule, contextDataProvider).getAllowedContexts()) {
+    private Integer doEvaluateRule(RuntimeRule rule,
+                                   ContextDataProvider contextDataProvider,
+                                   EvaluationSession session,
+                                   ResultSink<?> resultSink) {
+        var contexts = resolveContextData(rule, contextDataProvider, session).getAllowedContexts();
+        for(var context : contexts) {
             var evaluation = new RuleEvaluationInstance(session.getNamespace(), rule, context);
             var result = evaluateRulePayload(evaluation, session, false);
-            allResults.add(result);
+            resultSink.accept(context, result);
         }
-        return allResults;
+        return contexts.size();
     }
 
-    private List<RuleOnInstanceEvaluationResult> evaluateDefaultRules(EntryPointEvaluation entryPointEvaluation,
-                                                                      ContextDataProvider contextDataProvider,
-                                                                      EvaluationSession session) {
+    private void evaluateDefaultRules(EntryPointEvaluation entryPointEvaluation,
+                                      ContextDataProvider contextDataProvider,
+                                      EvaluationSession session,
+                                      ResultSink<?> resultSink) {
         var fieldOrder = entryPointEvaluation.getFieldOrder();
         var defaultRules = entryPointEvaluation.getRules().stream()
             .filter(r -> r.getPayload().getType() == PayloadType.DEFAULT)
             .collect(Collectors.toList());
 
         if(!defaultRules.isEmpty()) {
-            return Tracer.doOperation(
+            Tracer.doOperation(
                 new DefaultRulesEvaluationOperation(defaultRules),
-                () -> doEvaluateDefaultRules(defaultRules, fieldOrder, contextDataProvider, session)
+                () -> doEvaluateDefaultRules(defaultRules, fieldOrder, contextDataProvider, session, resultSink)
             );
         }
-        return List.of();
     }
 
-    private List<RuleOnInstanceEvaluationResult> doEvaluateDefaultRules(List<RuntimeRule> defaultRules,
-                                                                        List<String> fieldOrder,
-                                                                        ContextDataProvider contextDataProvider,
-                                                                        EvaluationSession session) {
+    private Map<String, Integer> doEvaluateDefaultRules(List<RuntimeRule> defaultRules,
+                                                        List<String> fieldOrder,
+                                                        ContextDataProvider contextDataProvider,
+                                                        EvaluationSession session,
+                                                        ResultSink<?> resultSink) {
         var defaultRuleEvaluations = buildDefaultRuleEvaluations(defaultRules, contextDataProvider, session);
 
-        List<RuleOnInstanceEvaluationResult> allResults = new ArrayList<>();
+        Map<String, Integer> evaluatedInstanceCounts = new HashMap<>();
         for(var field : fieldOrder) {
             if(defaultRuleEvaluations.containsKey(field)) {
                 for(var evaluations : defaultRuleEvaluations.get(field).getEvaluations().values()) {
@@ -147,12 +149,16 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
                     priorityOrderedEvaluations.sort(
                         Comparator.comparingInt(RuleEvaluationInstance::getPriority).reversed()
                     );
-                    var results = evaluateDefaultRulesInPriorityOrder(priorityOrderedEvaluations, session);
-                    allResults.addAll(results);
+                    evaluateDefaultRulesInPriorityOrder(
+                        priorityOrderedEvaluations,
+                        session,
+                        resultSink,
+                        evaluatedInstanceCounts
+                    );
                 }
             }
         }
-        return allResults;
+        return evaluatedInstanceCounts;
     }
 
     private HashMap<String, FieldEvaluation> buildDefaultRuleEvaluations(List<RuntimeRule> defaultRules,
@@ -160,7 +166,7 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
                                                                          EvaluationSession session) {
         var defaultRuleEvaluations = new HashMap<String, FieldEvaluation>();
         for(var rule : defaultRules) {
-            for(var context : resolveContextData(rule, contextDataProvider).getAllowedContexts()) {
+            for(var context : resolveContextData(rule, contextDataProvider, session).getAllowedContexts()) {
                 var field = context.getContextName() + "." + rule.getTargetPath();
                 var instance = new RuleEvaluationInstance(session.getNamespace(), rule, context);
                 defaultRuleEvaluations.computeIfAbsent(field, FieldEvaluation::new);
@@ -170,12 +176,17 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
         return defaultRuleEvaluations;
     }
 
-    private List<RuleOnInstanceEvaluationResult> evaluateDefaultRulesInPriorityOrder(
-        List<RuleEvaluationInstance> priorityOrderedEvaluations,
-        EvaluationSession session
-    ) {
-        List<RuleOnInstanceEvaluationResult> results = new ArrayList<>();
+    /**
+     * Evaluates default rules on one field of one data context instance in priority order.
+     * All evaluations are on the same field, therefore it is validated here
+     * that only one default rule is applied on the field.
+     */
+    private void evaluateDefaultRulesInPriorityOrder(List<RuleEvaluationInstance> priorityOrderedEvaluations,
+                                                     EvaluationSession session,
+                                                     ResultSink<?> resultSink,
+                                                     Map<String, Integer> evaluatedInstanceCounts) {
         RuleEvaluationInstance appliedEvaluation = null;
+        List<RuleEvaluationResult> appliedResults = null;
         boolean prioritizedEvaluation = priorityOrderedEvaluations.size() > 1;
         for (var evaluation : priorityOrderedEvaluations) {
             if(appliedEvaluation != null && appliedEvaluation.getPriority() > evaluation.getPriority()) {
@@ -183,90 +194,81 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
                 continue;
             }
             var result = evaluateRulePayload(evaluation, session, prioritizedEvaluation);
-            results.add(result);
+            resultSink.accept(evaluation.getDataContext(), result);
+            evaluatedInstanceCounts.merge(evaluation.getRule().getName(), 1, Integer::sum);
 
-            if(result.getResult().getRuleEvaluationStatus() == RuleEvaluationStatus.APPLIED) {
+            if(result.getRuleEvaluationStatus() == RuleEvaluationStatus.APPLIED) {
                 appliedEvaluation = evaluation;
+                if(result.getPayloadResult() instanceof DefaultValuePayloadResult) {
+                    if(appliedResults == null) {
+                        appliedResults = new ArrayList<>(1);
+                    }
+                    appliedResults.add(result);
+                }
             }
         }
-        return results;
+        if(appliedResults != null && appliedResults.size() > 1) {
+            throwMultipleDefaultsOnOneField(appliedEvaluation, appliedResults);
+        }
     }
 
-    private ContextData resolveContextData(RuntimeRule rule, ContextDataProvider contextDataProvider) {
-        return Tracer.doOperation(
+    private ContextData resolveContextData(RuntimeRule rule,
+                                           ContextDataProvider contextDataProvider,
+                                           EvaluationSession session) {
+        var event = new ContextExtractionEvent();
+        event.begin();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        ContextData contextData = Tracer.doOperation(
             new ContextResolutionOperation(rule),
             () -> contextDataProvider.resolveContextData(rule)
         );
+        if (metrics.isEnabled()) {
+            metrics.histogram(KrakenMetricNames.CONTEXT_EXTRACTION_TIME, rule.getContext())
+                .record(System.nanoTime() - start);
+            metrics.counter(KrakenMetricNames.CONTEXT_EXTRACTION_INSTANCES, rule.getContext())
+                .increment(contextData.getContexts().size());
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.namespace = session.getNamespace();
+            event.rule = rule.getName();
+            event.context = rule.getContext();
+            event.instanceCount = contextData.getContexts().size();
+            event.commit();
+        }
+        return contextData;
     }
 
-    private void addResult(RuleOnInstanceEvaluationResult result, Map<String, FieldEvaluationResult> results) {
-        var dataContext = result.getDataContext();
-        var fieldName = result.getResult().getRuleInfo().getTargetPath();
-        var id = toFieldId(dataContext, fieldName);
-        results.computeIfAbsent(
-            id,
-            i -> {
-                var contextId = dataContext.getContextId();
-                var contextName = dataContext.getContextName();
-                var fieldPath = TargetPathUtils.resolveTargetPath(fieldName, dataContext);
-                var fieldInfo = new ContextFieldInfo(contextId, contextName, fieldName, fieldPath);
-                return new FieldEvaluationResult(fieldInfo, new ArrayList<>());
-            });
-        results.get(id).getRuleResults().add(result.getResult());
-    }
-
-    private String toFieldId(DataContext dataContext, String fieldName) {
-        return dataContext.getContextName() + ":" + dataContext.getContextId() + ":" + fieldName;
-    }
-
-    private RuleOnInstanceEvaluationResult evaluateRulePayload(RuleEvaluationInstance evaluation,
-                                                               EvaluationSession session,
-                                                               boolean prioritizedEvaluation) {
-        RuleEvaluationResult result = Tracer.doOperation(
+    private RuleEvaluationResult evaluateRulePayload(RuleEvaluationInstance evaluation,
+                                                     EvaluationSession session,
+                                                     boolean prioritizedEvaluation) {
+        var event = new RuleEvaluationEvent();
+        event.begin();
+        var result = Tracer.doOperation(
             new RuleOnInstanceEvaluationOperation(evaluation, prioritizedEvaluation),
             () -> rulePayloadProcessor.process(evaluation, session)
         );
-        return new RuleOnInstanceEvaluationResult(evaluation.getDataContext(), result);
-    }
-
-    private void validateDefaultsOnOneField(Map<String, FieldEvaluationResult> results) {
-        for (var fieldEvaluationResult : results.values()) {
-            List<RuleEvaluationResult> rulesAppliedOnField = fieldEvaluationResult.getRuleResults().stream()
-                .filter(rr -> rr.getRuleEvaluationStatus() == RuleEvaluationStatus.APPLIED)
-                .filter(rr -> rr.getPayloadResult() instanceof DefaultValuePayloadResult)
-                .collect(Collectors.toList());
-            if (rulesAppliedOnField.size() > 1) {
-                var appliedDefaultRules = rulesAppliedOnField.stream()
-                    .map(x -> "'" + x.getRuleInfo().getRuleName() + "'")
-                    .collect(Collectors.joining(", "));
-                var m = SystemMessageBuilder.create(DEFAULT_RULE_MULTIPLE_ON_SAME_FIELD)
-                    .parameters(
-                        fieldEvaluationResult.getContextFieldInfo().toString(),
-                        appliedDefaultRules)
-                    .build();
-                throw new KrakenRuntimeException(m);
-            }
+        event.end();
+        if (event.shouldCommit()) {
+            event.namespace = session.getNamespace();
+            event.rule = evaluation.getRule().getName();
+            event.context = evaluation.getDataContext().getContextName();
+            event.contextId = evaluation.getDataContext().getContextId();
+            event.commit();
         }
+        return result;
     }
 
-    static class RuleOnInstanceEvaluationResult {
-
-        private final DataContext dataContext;
-
-        private final RuleEvaluationResult result;
-
-        public RuleOnInstanceEvaluationResult(DataContext dataContext, RuleEvaluationResult result) {
-            this.dataContext = dataContext;
-            this.result = result;
-        }
-
-        public DataContext getDataContext() {
-            return dataContext;
-        }
-
-        public RuleEvaluationResult getResult() {
-            return result;
-        }
+    private void throwMultipleDefaultsOnOneField(RuleEvaluationInstance evaluation,
+                                                 List<RuleEvaluationResult> rulesAppliedOnField) {
+        var fieldInfo = ContextFieldInfo.from(evaluation.getDataContext(), evaluation.getRule().getTargetPath());
+        var appliedDefaultRules = rulesAppliedOnField.stream()
+            .map(x -> "'" + x.getRuleInfo().getRuleName() + "'")
+            .collect(Collectors.joining(", "));
+        var m = SystemMessageBuilder.create(DEFAULT_RULE_MULTIPLE_ON_SAME_FIELD)
+            .parameters(fieldInfo.toString(), appliedDefaultRules)
+            .build();
+        throw new KrakenRuntimeException(m);
     }
 
     static class FieldEvaluation {
@@ -293,7 +295,7 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
         }
     }
 
-    public static class DefaultRulesEvaluationOperation implements Operation<List<RuleOnInstanceEvaluationResult>> {
+    public static class DefaultRulesEvaluationOperation implements Operation<Map<String, Integer>> {
 
         private final List<RuntimeRule> defaultRules;
 
@@ -307,15 +309,11 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
         }
 
         @Override
-        public String describeAfter(List<RuleOnInstanceEvaluationResult> results) {
-            Map<String, List<RuleOnInstanceEvaluationResult>> resultsByRuleName = results.stream()
-                .collect(Collectors.groupingBy(result -> result.getResult().getRuleInfo().getRuleName()));
+        public String describeAfter(Map<String, Integer> evaluatedInstanceCounts) {
             var ruleTemplate = "'%s' on a total of %s instances.";
             var ruleTemplateUnused = "'%s' on a total of 0 instances. Evaluation status - UNUSED.";
             String ruleListString = defaultRules.stream().map(defaultRule -> {
-                int resultSize = resultsByRuleName.containsKey(defaultRule.getName())
-                    ? resultsByRuleName.get(defaultRule.getName()).size()
-                    : 0;
+                int resultSize = evaluatedInstanceCounts.getOrDefault(defaultRule.getName(), 0);
                 return resultSize == 0
                     ? String.format(ruleTemplateUnused, defaultRule.getName(), resultSize)
                     : String.format(ruleTemplate, defaultRule.getName(), resultSize);
@@ -327,7 +325,7 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
         }
     }
 
-    public static class RuleEvaluationOperation implements Operation<List<RuleOnInstanceEvaluationResult>> {
+    public static class RuleEvaluationOperation implements Operation<Integer> {
 
         private final RuntimeRule runtimeRule;
 
@@ -343,13 +341,13 @@ public class OrderedEvaluationLoop implements EvaluationLoop {
         }
 
         @Override
-        public String describeAfter(List<RuleOnInstanceEvaluationResult> results) {
+        public String describeAfter(Integer evaluatedInstanceCount) {
             var template = "Evaluated rule '%s' on a total of %s instances.";
             var templateUnused = "Evaluated rule '%s' on a total of 0 instances. Evaluation status - UNUSED.";
 
-            return results.isEmpty()
+            return evaluatedInstanceCount == 0
                 ? String.format(templateUnused, runtimeRule.getName())
-                : String.format(template, runtimeRule.getName(), results.size());
+                : String.format(template, runtimeRule.getName(), evaluatedInstanceCount);
         }
 
     }
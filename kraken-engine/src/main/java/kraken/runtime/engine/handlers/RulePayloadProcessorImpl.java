@@ -25,8 +25,10 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import kraken.el.profiler.ExpressionProfiler;
 import kraken.model.payload.PayloadType;
 import kraken.runtime.EvaluationSession;
+import kraken.runtime.ResultDetailLevel;
 import kraken.runtime.engine.RulePayloadHandler;
 import kraken.runtime.engine.RulePayloadProcessor;
 import kraken.runtime.engine.conditions.ConditionEvaluationResult;
@@ -43,10 +45,11 @@ import kraken.runtime.engine.result.PayloadResult;
 import kraken.runtime.engine.result.ValidationPayloadResult;
 import kraken.runtime.engine.result.reducers.validation.OverrideDependencyExtractor;
 import kraken.runtime.expressions.KrakenExpressionEvaluator;
-import kraken.runtime.model.rule.RuntimeRule;
 import kraken.runtime.model.rule.payload.Payload;
 import kraken.runtime.model.rule.payload.validation.ValidationPayload;
 import kraken.tracer.Tracer;
+import kraken.utils.metrics.KrakenMetricNames;
+import kraken.utils.metrics.KrakenMetrics;
 
 /**
  * Default {@link RulePayloadProcessor} implementation
@@ -57,10 +60,13 @@ import kraken.tracer.Tracer;
 public class RulePayloadProcessorImpl implements RulePayloadProcessor {
 
     private final static Logger logger = LoggerFactory.getLogger(RulePayloadProcessorImpl.class);
+    private final static OverrideInfo NOT_OVERRIDABLE = new OverrideInfo(false, null, null);
     private Map<PayloadType, RulePayloadHandler> payloadHandlers;
     private RuleApplicabilityEvaluator applicabilityEvaluator;
     private OverrideDependencyExtractor overrideDependencyExtractor;
     private KrakenExpressionEvaluator krakenExpressionEvaluator;
+    private KrakenMetrics metrics = KrakenMetrics.noop();
+    private boolean perRuleMetrics;
 
     private RulePayloadProcessorImpl(RuleApplicabilityEvaluator applicabilityEvaluator,
                                      KrakenExpressionEvaluator krakenExpressionEvaluator) {
@@ -71,7 +77,20 @@ public class RulePayloadProcessorImpl implements RulePayloadProcessor {
     }
 
     public static RulePayloadProcessorImpl create(KrakenExpressionEvaluator evaluator, RuleApplicabilityEvaluator applicabilityEvaluator) {
+        return create(evaluator, applicabilityEvaluator, KrakenMetrics.noop());
+    }
+
+    /**
+     * @param metrics to report rule condition and payload evaluation time to,
+     *                if {@link KrakenMetrics#isPerRuleEnabled()}
+     * @since 1.55.0
+     */
+    public static RulePayloadProcessorImpl create(KrakenExpressionEvaluator evaluator,
+                                                  RuleApplicabilityEvaluator applicabilityEvaluator,
+                                                  KrakenMetrics metrics) {
         RulePayloadProcessorImpl processor = new RulePayloadProcessorImpl(applicabilityEvaluator, evaluator);
+        processor.metrics = Objects.requireNonNull(metrics);
+        processor.perRuleMetrics = metrics.isEnabled() && metrics.isPerRuleEnabled();
         processor.addHandler(new DefaultValuePayloadHandler(evaluator));
         processor.addHandler(new UsagePayloadHandler(evaluator));
         processor.addHandler(new RegExpPayloadHandler(evaluator));
@@ -91,10 +110,26 @@ public class RulePayloadProcessorImpl implements RulePayloadProcessor {
             RuleEvaluationInstance ruleEvaluationInstance,
             EvaluationSession session
     ) {
+        ExpressionProfiler expressionProfiler = krakenExpressionEvaluator.getExpressionProfiler();
+        if (expressionProfiler != null) {
+            return expressionProfiler.profile(
+                ruleEvaluationInstance.getRule().getName(),
+                () -> doProcess(ruleEvaluationInstance, session)
+            );
+        }
+        return doProcess(ruleEvaluationInstance, session);
+    }
+
+    private RuleEvaluationResult doProcess(RuleEvaluationInstance ruleEvaluationInstance, EvaluationSession session) {
+        long start = perRuleMetrics ? System.nanoTime() : 0;
         ConditionEvaluationResult conditionEvaluation
             = applicabilityEvaluator.evaluateCondition(ruleEvaluationInstance, session);
+        if (perRuleMetrics) {
+            metrics.histogram(KrakenMetricNames.RULE_CONDITION_TIME, ruleEvaluationInstance.getRule().getName())
+                .record(System.nanoTime() - start);
+        }
 
-        RuleInfo ruleInfo = toRuleInfo(ruleEvaluationInstance);
+        RuleInfo ruleInfo = ruleEvaluationInstance.getRule().getRuleInfo();
 
         if (conditionEvaluation.isApplicable()) {
             PayloadResult payloadResult = evaluatePayload(session, ruleEvaluationInstance);
@@ -117,10 +152,22 @@ public class RulePayloadProcessorImpl implements RulePayloadProcessor {
                 ruleInfo,
                 null,
                 conditionEvaluation,
-                toOverrideInfo(ruleEvaluationInstance, null, session)
+                isRetainedWhenNotApplicable(conditionEvaluation, session)
+                    ? toOverrideInfo(ruleEvaluationInstance, null, session)
+                    : NOT_OVERRIDABLE
         );
     }
 
+    /**
+     * Result of not applicable rule is retained only in full detail level or if condition failed with error,
+     * otherwise override information is not needed
+     */
+    private boolean isRetainedWhenNotApplicable(ConditionEvaluationResult conditionEvaluation,
+                                                EvaluationSession session) {
+        return session.getEvaluationConfig().getResultDetailLevel() == ResultDetailLevel.FULL
+            || conditionEvaluation.getError() != null;
+    }
+
     private OverrideInfo toOverrideInfo(RuleEvaluationInstance ruleEvaluationInstance,
                                         PayloadResult payloadResult,
                                         EvaluationSession session) {
@@ -139,18 +186,7 @@ public class RulePayloadProcessorImpl implements RulePayloadProcessor {
 
             return new OverrideInfo(isOverridable, overrideGroup, overridableRuleContextInfo);
         }
-        return new OverrideInfo(false, null, null);
-    }
-
-    private RuleInfo toRuleInfo(RuleEvaluationInstance ruleEvaluationInstance) {
-        RuntimeRule rule = ruleEvaluationInstance.getRule();
-
-        return new RuleInfo(
-                rule.getName(),
-                rule.getContext(),
-                rule.getTargetPath(),
-                rule.getPayload().getType()
-        );
+        return NOT_OVERRIDABLE;
     }
 
     private OverridableRuleContextInfo buildOverrideInfo(RuleEvaluationInstance ruleEvaluationInstance,
@@ -185,10 +221,16 @@ public class RulePayloadProcessorImpl implements RulePayloadProcessor {
 
     private PayloadResult evaluatePayload(EvaluationSession session, RuleEvaluationInstance evaluation) {
         RulePayloadHandler handler = resolvePayloadHandler(evaluation.getRule().getPayload());
-        return Tracer.doOperation(
+        long start = perRuleMetrics ? System.nanoTime() : 0;
+        PayloadResult payloadResult = Tracer.doOperation(
             new RulePayloadEvaluatedOperation(evaluation.getRule().getPayload(), handler),
             () -> doEvaluatePayload(handler, session, evaluation)
         );
+        if (perRuleMetrics) {
+            metrics.histogram(KrakenMetricNames.RULE_PAYLOAD_TIME, evaluation.getRule().getName())
+                .record(System.nanoTime() - start);
+        }
+        return payloadResult;
     }
 
     private PayloadResult doEvaluatePayload(RulePayloadHandler handler,
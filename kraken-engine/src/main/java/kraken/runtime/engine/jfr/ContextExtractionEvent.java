@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of resolving data context instances for a rule
+ *
+ * @since 1.55.0
+ */
+@Name("kraken.ContextExtraction")
+@Label("Context Extraction")
+@Description("Resolution of data context instances which rule is applied on")
+@Category({"Kraken", "Rule Engine"})
+@StackTrace(false)
+public class ContextExtractionEvent extends Event {
+
+    @Label("Namespace")
+    public String namespace;
+
+    @Label("Rule")
+    public String rule;
+
+    @Label("Context")
+    public String context;
+
+    @Label("Instance Count")
+    public int instanceCount;
+
+}
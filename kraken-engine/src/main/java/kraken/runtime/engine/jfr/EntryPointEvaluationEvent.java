@@ -0,0 +1,47 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.engine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of one entry point evaluation in rule engine
+ *
+ * @since 1.55.0
+ */
+@Name("kraken.EntryPointEvaluation")
+@Label("Entry Point Evaluation")
+@Description("Evaluation of rules in entry point")
+@Category({"Kraken", "Rule Engine"})
+@StackTrace(false)
+public class EntryPointEvaluationEvent extends Event {
+
+    @Label("Entry Point")
+    public String entryPoint;
+
+    @Label("Namespace")
+    public String namespace;
+
+    @Label("Failed")
+    @Description("True if evaluation failed with exception")
+    public boolean failed;
+
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.engine.result;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import kraken.runtime.ResultDetailLevel;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.context.data.DataContext;
+import kraken.runtime.engine.dto.ContextFieldInfo;
+import kraken.runtime.engine.dto.FieldEvaluationResult;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+
+/**
+ * Collects rule evaluation results into {@link EntryPointResult} grouped by field.
+ * Only results retained by {@link ResultDetailLevel} are collected, but all results are counted.
+ *
+ * @since 1.55.0
+ */
+public class EntryPointResultSink implements ResultSink<EntryPointResult> {
+
+    /**
+     * Field results grouped by data context and field name. Data context equality is defined by context name
+     * and context id, therefore results are grouped without creating composite field id strings.
+     */
+    private final Map<DataContext, Map<String, FieldEvaluationResult>> resultsByContext = new HashMap<>();
+
+    private final List<FieldEvaluationResult> results = new ArrayList<>();
+
+    private final LocalDateTime evaluationTimeStamp;
+
+    private final ZoneId ruleTimezoneId;
+
+    private final ResultDetailLevel resultDetailLevel;
+
+    private final RuleResultCounts resultCounts = new RuleResultCounts();
+
+    public EntryPointResultSink(LocalDateTime evaluationTimeStamp, ZoneId ruleTimezoneId) {
+        this(evaluationTimeStamp, ruleTimezoneId, ResultDetailLevel.FULL);
+    }
+
+    public EntryPointResultSink(LocalDateTime evaluationTimeStamp,
+                                ZoneId ruleTimezoneId,
+                                ResultDetailLevel resultDetailLevel) {
+        this.evaluationTimeStamp = evaluationTimeStamp;
+        this.ruleTimezoneId = ruleTimezoneId;
+        this.resultDetailLevel = resultDetailLevel;
+    }
+
+    @Override
+    public void accept(DataContext dataContext, RuleEvaluationResult ruleResult) {
+        resultCounts.add(ruleResult);
+        if (!resultDetailLevel.isRetained(ruleResult)) {
+            return;
+        }
+        var fieldName = ruleResult.getRuleInfo().getTargetPath();
+        var contextResults = resultsByContext.computeIfAbsent(dataContext, c -> new HashMap<>(4));
+        var fieldResult = contextResults.get(fieldName);
+        if (fieldResult == null) {
+            fieldResult = new FieldEvaluationResult(ContextFieldInfo.from(dataContext, fieldName), new ArrayList<>(2));
+            contextResults.put(fieldName, fieldResult);
+            results.add(fieldResult);
+        }
+        fieldResult.getRuleResults().add(ruleResult);
+    }
+
+    @Override
+    public EntryPointResult getResult() {
+        return new EntryPointResult(results, resultCounts, evaluationTimeStamp, ruleTimezoneId);
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.engine.result;
+
+import kraken.annotations.API;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.context.data.DataContext;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+
+/**
+ * Receives rule evaluation results as soon as they are produced by rule engine.
+ * Allows to aggregate results on the fly without materializing full {@link EntryPointResult}.
+ * <p>
+ * Results are passed in order of evaluation. One sink instance is used for exactly one entry point evaluation,
+ * therefore implementations do not need to be thread safe.
+ *
+ * @param <T> type of aggregated result
+ * @since 1.55.0
+ */
+@API
+public interface ResultSink<T> {
+
+    /**
+     * Accepts result of a single rule evaluated on a single data context instance.
+     *
+     * @param dataContext   data context instance on which the rule was evaluated
+     * @param ruleResult    result of the rule evaluation
+     */
+    void accept(DataContext dataContext, RuleEvaluationResult ruleResult);
+
+    /**
+     * Invoked once after all rules in entry point are evaluated.
+     *
+     * @return aggregated result
+     */
+    T getResult();
+
+}
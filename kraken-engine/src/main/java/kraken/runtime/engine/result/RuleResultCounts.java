@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.engine.result;
+
+import org.apache.commons.lang3.BooleanUtils;
+
+import kraken.annotations.API;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.dto.RuleEvaluationStatus;
+
+/**
+ * Counts of rule evaluation results produced during entry point evaluation.
+ * Counts include all evaluated rules regardless of {@link kraken.runtime.ResultDetailLevel},
+ * therefore they are available even when rule results are not retained in {@link EntryPointResult}.
+ *
+ * @since 1.55.0
+ */
+@API
+public class RuleResultCounts {
+
+    private int evaluated;
+
+    private int applied;
+
+    private int skipped;
+
+    private int ignored;
+
+    private int failedValidations;
+
+    private int valueChanges;
+
+    /**
+     * Counts provided rule evaluation result
+     *
+     * @param ruleResult rule evaluation result
+     */
+    public void add(RuleEvaluationResult ruleResult) {
+        evaluated++;
+        if (ruleResult.getRuleEvaluationStatus() == RuleEvaluationStatus.APPLIED) {
+            applied++;
+            var payloadResult = ruleResult.getPayloadResult();
+            if (payloadResult instanceof ValidationPayloadResult
+                && BooleanUtils.isFalse(((ValidationPayloadResult) payloadResult).getSuccess())) {
+                failedValidations++;
+            }
+            if (payloadResult instanceof DefaultValuePayloadResult
+                && !((DefaultValuePayloadResult) payloadResult).getEvents().isEmpty()) {
+                valueChanges++;
+            }
+        } else if (ruleResult.getRuleEvaluationStatus() == RuleEvaluationStatus.SKIPPED) {
+            skipped++;
+        } else if (ruleResult.getRuleEvaluationStatus() == RuleEvaluationStatus.IGNORED) {
+            ignored++;
+        }
+    }
+
+    /**
+     *
+     * @return number of rule evaluations on all context instances
+     */
+    public int getEvaluated() {
+        return evaluated;
+    }
+
+    /**
+     *
+     * @return number of rule evaluations with status {@link RuleEvaluationStatus#APPLIED}
+     */
+    public int getApplied() {
+        return applied;
+    }
+
+    /**
+     *
+     * @return number of rule evaluations with status {@link RuleEvaluationStatus#SKIPPED}
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     *
+     * @return number of rule evaluations with status {@link RuleEvaluationStatus#IGNORED}
+     */
+    public int getIgnored() {
+        return ignored;
+    }
+
+    /**
+     *
+     * @return number of applied validation rules which failed; overridden rules are not taken into account
+     */
+    public int getFailedValidations() {
+        return failedValidations;
+    }
+
+    /**
+     *
+     * @return number of applied default rules which changed field value
+     */
+    public int getValueChanges() {
+        return valueChanges;
+    }
+}
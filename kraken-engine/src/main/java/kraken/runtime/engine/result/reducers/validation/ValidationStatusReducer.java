@@ -15,8 +15,10 @@
  */
 package kraken.runtime.engine.result.reducers.validation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
@@ -26,10 +28,13 @@ import org.apache.commons.lang3.BooleanUtils;
 import kraken.annotations.API;
 import kraken.model.validation.ValidationSeverity;
 import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.context.data.DataContext;
+import kraken.runtime.engine.dto.ContextFieldInfo;
 import kraken.runtime.engine.dto.FieldEvaluationResult;
 import kraken.runtime.engine.dto.RuleEvaluationResult;
 import kraken.runtime.engine.dto.RuleEvaluationStatus;
 import kraken.runtime.engine.dto.RuleInfo;
+import kraken.runtime.engine.result.ResultSink;
 import kraken.runtime.engine.result.ValidationPayloadResult;
 import kraken.runtime.engine.result.reducers.EntryPointResultReducer;
 import kraken.runtime.engine.result.reducers.validation.ValidationMessageProvider.ValidationMessage;
@@ -85,43 +90,47 @@ public class ValidationStatusReducer implements EntryPointResultReducer<Validati
     @Override
     public ValidationStatus reduce(EntryPointResult entryPointResult) {
         return Tracer.doOperation(new EntryPointResultReducingOperation(entryPointResult), () -> {
-            List<ValidationResult> validationResults = entryPointResult.getFieldResults().values().stream()
-                .flatMap(result -> buildValidationResults(result).stream())
-                .collect(Collectors.toList());
-
-            return buildValidationStatus(validationResults);
+            var collector = new ValidationResultCollector();
+            for (FieldEvaluationResult fieldResult : entryPointResult.getFieldResults().values()) {
+                for (RuleEvaluationResult ruleResult : fieldResult.getRuleResults()) {
+                    collector.collect(ruleResult, fieldResult::getContextFieldInfo);
+                }
+            }
+            return collector.toValidationStatus();
         });
     }
 
-    private List<ValidationResult> buildValidationResults(FieldEvaluationResult fieldResult) {
-        return getEvalsValidationResults(fieldResult).stream()
-            .map(result -> buildValidationResult(result, fieldResult))
-            .collect(Collectors.toList());
-    }
-
-    private ValidationStatus buildValidationStatus(List<ValidationResult> validationResults){
-        var validationStatus = new ValidationStatus(
-                getResultsBySeverity(validationResults, ValidationSeverity.critical),
-                getResultsBySeverity(validationResults, ValidationSeverity.warning),
-                getResultsBySeverity(validationResults, ValidationSeverity.info)
-        );
-
-        return validationStatus;
-    }
-
-    private List<ValidationResult> getResultsBySeverity(List<ValidationResult> messages, ValidationSeverity severity){
-        return messages.stream()
-                .filter(message -> message.getSeverity().equals(severity))
-                .collect(Collectors.toList());
+    /**
+     * Creates {@link ResultSink} which reduces rule results to {@link ValidationStatus} while rules are evaluated,
+     * without collecting all results to {@link EntryPointResult}. A new sink must be created for each evaluation.
+     *
+     * @return result sink that produces validation status
+     */
+    public ResultSink<ValidationStatus> createResultSink() {
+        return new ResultSink<>() {
+
+            private final ValidationResultCollector collector = new ValidationResultCollector();
+
+            @Override
+            public void accept(DataContext dataContext, RuleEvaluationResult ruleResult) {
+                collector.collect(
+                    ruleResult,
+                    () -> ContextFieldInfo.from(dataContext, ruleResult.getRuleInfo().getTargetPath())
+                );
+            }
+
+            @Override
+            public ValidationStatus getResult() {
+                return collector.toValidationStatus();
+            }
+        };
     }
 
-    private List<RuleEvaluationResult> getEvalsValidationResults(FieldEvaluationResult result) {
-        return result.getRuleResults().stream()
-            .filter(rr -> rr.getRuleEvaluationStatus() == RuleEvaluationStatus.APPLIED)
-            .filter(rr -> rr.getPayloadResult() instanceof ValidationPayloadResult)
-            .filter(rr -> BooleanUtils.isFalse(((ValidationPayloadResult) rr.getPayloadResult()).getSuccess()))
-            .filter(rr -> !isRuleOverridden(rr))
-            .collect(Collectors.toList());
+    private boolean isFailedValidation(RuleEvaluationResult ruleResult) {
+        return ruleResult.getRuleEvaluationStatus() == RuleEvaluationStatus.APPLIED
+            && ruleResult.getPayloadResult() instanceof ValidationPayloadResult
+            && BooleanUtils.isFalse(((ValidationPayloadResult) ruleResult.getPayloadResult()).getSuccess())
+            && !isRuleOverridden(ruleResult);
     }
 
     private boolean isRuleOverridden(RuleEvaluationResult ruleEvaluationResult) {
@@ -142,7 +151,7 @@ public class ValidationStatusReducer implements EntryPointResultReducer<Validati
         return isOverridden;
     }
 
-    private ValidationResult buildValidationResult(RuleEvaluationResult ruleResult, FieldEvaluationResult fieldEvaluationResult) {
+    private ValidationResult buildValidationResult(RuleEvaluationResult ruleResult, ContextFieldInfo contextFieldInfo) {
         RenderedValidationMessage message = resolveMessage((ValidationPayloadResult) ruleResult.getPayloadResult());
         return new ValidationResult(
             ruleResult.getRuleInfo().getRuleName(),
@@ -152,7 +161,7 @@ public class ValidationStatusReducer implements EntryPointResultReducer<Validati
             message.getRawParameters(),
             message.getMessageTemplate(),
             ((ValidationPayloadResult)ruleResult.getPayloadResult()).getValidationSeverity(),
-            fieldEvaluationResult.getContextFieldInfo()
+            contextFieldInfo
         );
     }
 
@@ -191,6 +200,40 @@ public class ValidationStatusReducer implements EntryPointResultReducer<Validati
             "ValidationStatusReducer is incorrectly initialized. Message provider is not set.");
     }
 
+    /**
+     * Collects failed validation results separated by severity in a single pass
+     */
+    private class ValidationResultCollector {
+
+        private final List<ValidationResult> criticalResults = new ArrayList<>();
+        private final List<ValidationResult> warningResults = new ArrayList<>();
+        private final List<ValidationResult> infoResults = new ArrayList<>();
+
+        void collect(RuleEvaluationResult ruleResult, Supplier<ContextFieldInfo> contextFieldInfo) {
+            if (!isFailedValidation(ruleResult)) {
+                return;
+            }
+            ValidationResult validationResult = buildValidationResult(ruleResult, contextFieldInfo.get());
+            switch (validationResult.getSeverity()) {
+                case critical:
+                    criticalResults.add(validationResult);
+                    break;
+                case warning:
+                    warningResults.add(validationResult);
+                    break;
+                case info:
+                    infoResults.add(validationResult);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        ValidationStatus toValidationStatus() {
+            return new ValidationStatus(criticalResults, warningResults, infoResults);
+        }
+    }
+
     static class RenderedValidationMessage {
         private final String code;
         private final String message;
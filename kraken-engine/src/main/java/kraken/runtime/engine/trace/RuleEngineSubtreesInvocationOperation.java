@@ -0,0 +1,76 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.engine.trace;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.google.gson.Gson;
+
+import kraken.model.dimensions.DimensionSetResolverHolder;
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.tracer.Operation;
+import kraken.tracer.Tracer;
+import kraken.utils.GsonUtils;
+
+/**
+ * Operation to be added to trace to wrap entry point evaluation logic on multiple subtrees.
+ * Describes input given to evaluate entry point and number of evaluated subtrees.
+ *
+ * @since 1.55.0
+ */
+public final class RuleEngineSubtreesInvocationOperation implements Operation<List<EntryPointResult>> {
+
+    private static final Gson gson = GsonUtils.prettyGson();
+
+    private final String entryPointName;
+
+    private final String rootNodeJson;
+    private final String nodesJson;
+    private final EvaluationConfig evaluationConfig;
+
+    public RuleEngineSubtreesInvocationOperation(String entryPointName,
+                                                 Object rootNode,
+                                                 Collection<?> nodes,
+                                                 EvaluationConfig evaluationConfig) {
+        this.entryPointName = entryPointName;
+        // performance optimization to avoid creating json when tracing is not enabled in application
+        this.rootNodeJson = Tracer.isTracingEnabled() ? gson.toJson(rootNode) : "";
+        this.nodesJson = Tracer.isTracingEnabled() ? gson.toJson(nodes) : "";
+        this.evaluationConfig = evaluationConfig;
+    }
+
+    @Override
+    public String describe() {
+        var dimensionSetResolverName = DimensionSetResolverHolder.getInstance().getClass().getName();
+        return String.format("Rule engine called to evaluate entry point '%s' on multiple subtrees", entryPointName)
+            + System.lineSeparator()
+            + "DimensionSetResolver: " + dimensionSetResolverName + System.lineSeparator()
+            + "Entity:" + System.lineSeparator()
+            + rootNodeJson + System.lineSeparator()
+            + "Restriction entity nodes:" + System.lineSeparator()
+            + nodesJson + System.lineSeparator()
+            + "Configuration:" + System.lineSeparator()
+            + gson.toJson(evaluationConfig);
+    }
+
+    @Override
+    public String describeAfter(List<EntryPointResult> results) {
+        return String.format("Rule engine call completed. Evaluated %s subtree(s).", results.size());
+    }
+
+}
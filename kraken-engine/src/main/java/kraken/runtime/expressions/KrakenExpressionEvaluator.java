@@ -35,6 +35,7 @@ import kraken.el.ast.Ast;
 import kraken.el.ast.builder.AstBuilder;
 import kraken.el.functionregistry.FunctionInvoker;
 import kraken.el.interpreter.evaluator.InterpretingExpressionEvaluator;
+import kraken.el.profiler.ExpressionProfiler;
 import kraken.el.scope.Scope;
 import kraken.message.SystemMessageBuilder;
 import kraken.runtime.EvaluationSession;
@@ -61,6 +62,8 @@ public class KrakenExpressionEvaluator {
 
     private final InterpretingExpressionEvaluator functionEvaluator;
 
+    private ExpressionProfiler expressionProfiler;
+
     public KrakenExpressionEvaluator() {
         this.expressionLanguage = KrakenKel.create(TargetEnvironment.JAVA);
         this.propertyExpressionEvaluator = new PropertyExpressionEvaluator();
@@ -90,11 +93,24 @@ public class KrakenExpressionEvaluator {
             createExpressionVars(session, dataContext),
             typeProvider,
             new FunctionInvoker(session.getFunctions(), functionEvaluator, typeProvider, KrakenKel.EXPRESSION_TARGET, zoneId),
-            zoneId
+            zoneId,
+            expressionProfiler
         );
         return evaluate(expression, evaluationContext);
     }
 
+    /**
+     * @param expressionProfiler to profile rule expressions with, or null if expressions should not be profiled
+     * @since 1.55.0
+     */
+    public void setExpressionProfiler(ExpressionProfiler expressionProfiler) {
+        this.expressionProfiler = expressionProfiler;
+    }
+
+    public ExpressionProfiler getExpressionProfiler() {
+        return expressionProfiler;
+    }
+
     public Object evaluateSetProperty(Object valueToSet, String path, Object dataObject) {
         Assertions.assertNotEmpty(path, "Path");
         Assertions.assertNotNull(dataObject, "Data");
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.logging.capture;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Removes sensitive information from captured data object before it is written to capture file.
+ * Anonymizer works on JSON form of data object and may modify it in place.
+ *
+ * @since 1.55.0
+ */
+@FunctionalInterface
+public interface CaptureAnonymizer {
+
+    /**
+     * @param entryPointName of captured evaluation
+     * @param data JSON form of data object
+     * @return anonymized data
+     */
+    JsonElement anonymize(String entryPointName, JsonElement data);
+
+    /**
+     * @return anonymizer that keeps data as is
+     */
+    static CaptureAnonymizer none() {
+        return (entryPointName, data) -> data;
+    }
+
+    /**
+     * Replaces string values of properties with the given names anywhere in data object by a string of
+     * the same length, so that length based rules still behave the same during replay.
+     *
+     * @param propertyNames names of properties to mask
+     * @return masking anonymizer
+     */
+    static CaptureAnonymizer maskStrings(Set<String> propertyNames) {
+        return (entryPointName, data) -> {
+            mask(data, propertyNames);
+            return data;
+        };
+    }
+
+    private static void mask(JsonElement element, Set<String> propertyNames) {
+        if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(item -> mask(item, propertyNames));
+        } else if (element.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> property : element.getAsJsonObject().entrySet()) {
+                JsonElement value = property.getValue();
+                if (propertyNames.contains(property.getKey())
+                    && value.isJsonPrimitive()
+                    && value.getAsJsonPrimitive().isString()) {
+                    property.setValue(new JsonPrimitive("x".repeat(value.getAsString().length())));
+                } else {
+                    mask(value, propertyNames);
+                }
+            }
+        }
+    }
+}
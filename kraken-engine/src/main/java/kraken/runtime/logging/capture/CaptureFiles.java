@@ -0,0 +1,203 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.logging.capture;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+
+/**
+ * Reads and writes capture files. Capture file is a GZIP compressed file with one
+ * {@link CapturedEvaluation} in JSON per line.
+ *
+ * @since 1.55.0
+ */
+public final class CaptureFiles {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaptureFiles.class);
+
+    private static final Gson GSON = new Gson();
+
+    private CaptureFiles() {
+    }
+
+    /**
+     * Default number of captured evaluations that can wait in {@link CaptureWriter} queue
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * @param file to write to; existing file is overwritten
+     * @return writer with queue of {@link #DEFAULT_QUEUE_CAPACITY}, which must be closed to complete the file
+     */
+    public static CaptureWriter writer(Path file) {
+        return writer(file, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param file to write to; existing file is overwritten
+     * @param queueCapacity number of captured evaluations that can wait to be written;
+     *                      evaluations captured while queue is full are dropped
+     * @return writer which must be closed to complete the file
+     */
+    public static CaptureWriter writer(Path file, int queueCapacity) {
+        try {
+            return new CaptureWriter(
+                new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8
+                )),
+                queueCapacity
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open capture file for writing: " + file, e);
+        }
+    }
+
+    /**
+     * @param file to read from
+     * @return all evaluations captured in file, in the order they were captured
+     */
+    public static List<CapturedEvaluation> read(Path file) {
+        List<CapturedEvaluation> evaluations = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8)
+        )) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    evaluations.add(GSON.fromJson(line, CapturedEvaluation.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read capture file: " + file, e);
+        }
+        return evaluations;
+    }
+
+    /**
+     * Appends captured evaluations to capture file. Can be used by multiple threads.
+     * <p>
+     * Evaluations are serialized, compressed and written by a dedicated writer thread, so that capturing does
+     * not block the evaluating thread on file IO. Evaluations are passed to writer thread through a bounded queue.
+     * When the queue is full, evaluation is dropped instead of waiting, and is counted in {@link #getDroppedCount()}.
+     */
+    public static final class CaptureWriter implements Closeable {
+
+        private static final CapturedEvaluation END = new CapturedEvaluation(null, null, null, null);
+
+        private final Writer writer;
+
+        private final BlockingQueue<CapturedEvaluation> queue;
+
+        private final Thread writerThread;
+
+        private final AtomicLong droppedCount = new AtomicLong();
+
+        private volatile boolean closed;
+
+        private CaptureWriter(Writer writer, int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be positive, but was " + queueCapacity);
+            }
+            this.writer = writer;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.writerThread = new Thread(this::writeQueued, "kraken-capture-writer");
+            this.writerThread.setDaemon(true);
+            this.writerThread.start();
+        }
+
+        /**
+         * Queues captured evaluation to be written. Does not wait for evaluation to be written.
+         *
+         * @param evaluation to write
+         * @return {@code false} if evaluation was dropped, because queue is full or writer is closed
+         */
+        public boolean write(CapturedEvaluation evaluation) {
+            if (!closed && queue.offer(evaluation)) {
+                return true;
+            }
+            droppedCount.incrementAndGet();
+            return false;
+        }
+
+        /**
+         * @return number of evaluations that were dropped because queue was full or could not be written
+         */
+        public long getDroppedCount() {
+            return droppedCount.get();
+        }
+
+        /**
+         * Writes all queued evaluations and closes capture file.
+         */
+        @Override
+        public synchronized void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                queue.put(END);
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writerThread.interrupt();
+            } finally {
+                writer.close();
+            }
+        }
+
+        private void writeQueued() {
+            try {
+                CapturedEvaluation evaluation;
+                while ((evaluation = queue.take()) != END) {
+                    try {
+                        writer.write(GSON.toJson(evaluation));
+                        writer.write('\n');
+                    } catch (IOException | RuntimeException e) {
+                        droppedCount.incrementAndGet();
+                        logger.warn("Failed to write captured evaluation of {}", evaluation.getEntryPointName(), e);
+                    }
+                }
+                writer.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                logger.warn("Failed to flush capture file", e);
+            }
+        }
+    }
+}
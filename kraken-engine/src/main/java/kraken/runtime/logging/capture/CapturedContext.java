@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.logging.capture;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+/**
+ * Converts context of captured evaluation to JSON and back. Each context value is written together with
+ * a type tag, so that it is restored as the same type as it was captured. Without a type tag numbers would be
+ * restored as {@link Double} and dates as strings, which changes outcome of rules that use context.
+ * <p>
+ * Value is written as {@code {"type": <tag>, "value": <JSON>}}. Type tag of a scalar value is the fully qualified
+ * class name of the value. Collections and maps are tagged as {@code java.util.List} and {@code java.util.Map}
+ * and each of their items is tagged separately.
+ *
+ * @since 1.55.0
+ */
+public final class CapturedContext {
+
+    private static final String TYPE = "type";
+
+    private static final String VALUE = "value";
+
+    private static final String LIST = "java.util.List";
+
+    private static final String MAP = "java.util.Map";
+
+    private CapturedContext() {
+    }
+
+    /**
+     * @param context of evaluation
+     * @param gson to write scalar values with
+     * @return context with type tagged values
+     */
+    public static JsonObject write(Map<String, Object> context, Gson gson) {
+        JsonObject json = new JsonObject();
+        context.forEach((name, value) -> json.add(name, writeValue(value, gson)));
+        return json;
+    }
+
+    /**
+     * @param json context written by {@link #write(Map, Gson)}
+     * @param gson to read scalar values with; must be able to read values written by {@link #write(Map, Gson)}
+     * @return context with values of the same types as they were captured
+     * @throws IllegalStateException if type of captured value is not on classpath
+     */
+    public static Map<String, Object> read(JsonObject json, Gson gson) {
+        Map<String, Object> context = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            context.put(entry.getKey(), readValue(entry.getValue(), gson));
+        }
+        return context;
+    }
+
+    private static JsonElement writeValue(Object value, Gson gson) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        }
+        JsonObject tagged = new JsonObject();
+        if (value instanceof Collection) {
+            JsonArray items = new JsonArray();
+            ((Collection<?>) value).forEach(item -> items.add(writeValue(item, gson)));
+            tagged.addProperty(TYPE, LIST);
+            tagged.add(VALUE, items);
+        } else if (value instanceof Map) {
+            JsonObject entries = new JsonObject();
+            ((Map<?, ?>) value).forEach((key, item) -> entries.add(String.valueOf(key), writeValue(item, gson)));
+            tagged.addProperty(TYPE, MAP);
+            tagged.add(VALUE, entries);
+        } else {
+            tagged.addProperty(TYPE, value.getClass().getName());
+            tagged.add(VALUE, gson.toJsonTree(value));
+        }
+        return tagged;
+    }
+
+    private static Object readValue(JsonElement element, Gson gson) {
+        if (element.isJsonNull()) {
+            return null;
+        }
+        JsonObject tagged = element.getAsJsonObject();
+        String type = tagged.get(TYPE).getAsString();
+        JsonElement value = tagged.get(VALUE);
+        if (LIST.equals(type)) {
+            List<Object> items = new ArrayList<>();
+            value.getAsJsonArray().forEach(item -> items.add(readValue(item, gson)));
+            return items;
+        }
+        if (MAP.equals(type)) {
+            return read(value.getAsJsonObject(), gson);
+        }
+        return gson.fromJson(value, toClass(type));
+    }
+
+    private static Class<?> toClass(String type) {
+        try {
+            return Class.forName(type);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Type of captured context value is not on classpath: " + type, e);
+        }
+    }
+}
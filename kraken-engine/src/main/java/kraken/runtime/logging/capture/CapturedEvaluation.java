@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.logging.capture;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Input of a single entry point evaluation captured by {@link CapturingKrakenDataLogger}.
+ * Data object is kept in JSON form together with its type, so that it can be restored for replay.
+ *
+ * @since 1.55.0
+ */
+public class CapturedEvaluation {
+
+    private final String entryPointName;
+
+    private final String dataType;
+
+    private final JsonElement data;
+
+    private final JsonObject context;
+
+    public CapturedEvaluation(String entryPointName, String dataType, JsonElement data, JsonObject context) {
+        this.entryPointName = entryPointName;
+        this.dataType = dataType;
+        this.data = data;
+        this.context = context;
+    }
+
+    public String getEntryPointName() {
+        return entryPointName;
+    }
+
+    /**
+     * @return fully qualified class name of data object
+     */
+    public String getDataType() {
+        return dataType;
+    }
+
+    public JsonElement getData() {
+        return data;
+    }
+
+    /**
+     * @return {@link kraken.runtime.EvaluationConfig#getContext()} of evaluation with type tagged values,
+     * which can be restored by {@link CapturedContext#read(JsonObject, com.google.gson.Gson)}
+     */
+    public JsonObject getContext() {
+        return context;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.logging.capture;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.dto.bundle.EntryPointBundle;
+import kraken.runtime.logging.KrakenDataLogger;
+import kraken.utils.GsonUtils;
+
+/**
+ * {@link KrakenDataLogger} implementation which captures input of sampled entry point evaluations
+ * to a capture file, so that production traffic can later be replayed against another version of rules.
+ * Only evaluations of the whole data object are captured, evaluations of subtree are not captured.
+ * All invocations are passed to delegate logger as well.
+ * <p>
+ * Data object is captured before rules are evaluated, therefore default values applied by rules are not captured.
+ * Data object must be serializable to JSON and back by {@link GsonUtils#gson()}.
+ * Data object and context are converted to JSON on evaluating thread, while writing to file is done
+ * by {@link CaptureFiles.CaptureWriter} in background.
+ * Failure to capture evaluation is logged and does not fail the evaluation.
+ *
+ * @since 1.55.0
+ */
+public class CapturingKrakenDataLogger implements KrakenDataLogger {
+
+    private static final Logger logger = LoggerFactory.getLogger(CapturingKrakenDataLogger.class);
+
+    private final Gson gson = GsonUtils.gson();
+
+    private final CaptureFiles.CaptureWriter writer;
+
+    private final KrakenDataLogger delegate;
+
+    private final double samplingRate;
+
+    private final CaptureAnonymizer anonymizer;
+
+    /**
+     * @param writer to write captured evaluations to
+     * @param delegate to pass all invocations to
+     * @param samplingRate share of evaluations to capture, from 0 to 1
+     * @param anonymizer to remove sensitive information from data object
+     */
+    public CapturingKrakenDataLogger(CaptureFiles.CaptureWriter writer,
+                                     KrakenDataLogger delegate,
+                                     double samplingRate,
+                                     CaptureAnonymizer anonymizer) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Sampling rate must be between 0 and 1, but was " + samplingRate);
+        }
+        this.writer = writer;
+        this.delegate = delegate;
+        this.samplingRate = samplingRate;
+        this.anonymizer = anonymizer;
+    }
+
+    @Override
+    public void logEvaluationInputData(String sessionToken,
+                                       Object inputData,
+                                       String entryPointName,
+                                       Map<String, Object> context) {
+        delegate.logEvaluationInputData(sessionToken, inputData, entryPointName, context);
+        if (inputData != null && isSampled()) {
+            try {
+                JsonElement data = anonymizer.anonymize(entryPointName, gson.toJsonTree(inputData));
+                JsonObject contextJson = CapturedContext.write(context, gson);
+                writer.write(new CapturedEvaluation(entryPointName, inputData.getClass().getName(), data, contextJson));
+            } catch (RuntimeException e) {
+                logger.warn("{} - failed to capture input for {}", sessionToken, entryPointName, e);
+            }
+        }
+    }
+
+    @Override
+    public void logEvaluationSubtreeInputData(String sessionToken,
+                                              Object inputData,
+                                              Object node,
+                                              String entryPointName,
+                                              Map<String, Object> context) {
+        delegate.logEvaluationSubtreeInputData(sessionToken, inputData, node, entryPointName, context);
+    }
+
+    @Override
+    public void logEffectiveRules(String sessionToken, EntryPointBundle entryPointBundle) {
+        delegate.logEffectiveRules(sessionToken, entryPointBundle);
+    }
+
+    @Override
+    public void logEvaluationResults(String sessionToken, String entryPointName, EntryPointResult result) {
+        delegate.logEvaluationResults(sessionToken, entryPointName, result);
+    }
+
+    private boolean isSampled() {
+        return samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.context.data.DataContext;
+import kraken.runtime.engine.dto.ContextFieldInfo;
+import kraken.runtime.engine.dto.FieldEvaluationResult;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.result.ResultSink;
+
+public class RuleEngineTest {
+
+    private final RuleEngine engine = mock(RuleEngine.class, CALLS_REAL_METHODS);
+
+    @Test
+    public void shouldEvaluateEachSubtreeSeparatelyByDefault() {
+        EntryPointResult first = new EntryPointResult(LocalDateTime.now(), ZoneId.systemDefault());
+        EntryPointResult second = new EntryPointResult(LocalDateTime.now(), ZoneId.systemDefault());
+        doReturn(first).when(engine).evaluateSubtree("data", "node1", "Validate");
+        doReturn(second).when(engine).evaluateSubtree("data", "node2", "Validate");
+
+        List<EntryPointResult> results = engine.evaluateSubtrees("data", List.of("node1", "node2"), "Validate");
+
+        assertThat(results, contains(sameInstance(first), sameInstance(second)));
+    }
+
+    @Test
+    public void shouldEvaluateEachEntryPointSeparatelyByDefault() {
+        EntryPointResult defaults = new EntryPointResult(LocalDateTime.now(), ZoneId.systemDefault());
+        EntryPointResult validation = new EntryPointResult(LocalDateTime.now(), ZoneId.systemDefault());
+        doReturn(defaults).when(engine).evaluate("data", "Default");
+        doReturn(validation).when(engine).evaluate("data", "Validate");
+
+        Map<String, EntryPointResult> results = engine.evaluateEntryPoints("data", List.of("Default", "Validate"));
+
+        assertThat(results.keySet(), contains("Default", "Validate"));
+        assertThat(results.values(), contains(sameInstance(defaults), sameInstance(validation)));
+    }
+
+    @Test
+    public void shouldPassEvaluatedResultsToResultSinkByDefault() {
+        RuleEvaluationResult ruleResult = mock(RuleEvaluationResult.class);
+        FieldEvaluationResult fieldResult = new FieldEvaluationResult(
+            new ContextFieldInfo("1", "Policy", "state", "state"),
+            List.of(ruleResult)
+        );
+        EntryPointResult result = new EntryPointResult(
+            Map.of("Policy:1:state", fieldResult),
+            LocalDateTime.now(),
+            ZoneId.systemDefault()
+        );
+        doReturn(result).when(engine).evaluate(any(), any(), any(EvaluationConfig.class));
+
+        List<String> accepted = engine.evaluate("data", "Validate", new EvaluationConfig(), new ResultSink<>() {
+
+            private final List<String> accepted = new ArrayList<>();
+
+            @Override
+            public void accept(DataContext dataContext, RuleEvaluationResult evaluatedRuleResult) {
+                assertThat(evaluatedRuleResult, sameInstance(ruleResult));
+                accepted.add(dataContext.getIdString());
+            }
+
+            @Override
+            public List<String> getResult() {
+                return accepted;
+            }
+        });
+
+        assertThat(accepted, contains("Policy:1"));
+    }
+
+}
@@ -15,13 +15,22 @@
  */
 package kraken.runtime.engine.handlers;
 
+import java.time.ZoneId;
+import java.util.Map;
+
 import kraken.message.SystemMessageBuilder;
 import kraken.model.payload.PayloadType;
 import kraken.model.validation.ValidationSeverity;
+import kraken.runtime.DataContextPathProvider;
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.EvaluationMode;
+import kraken.runtime.EvaluationSession;
+import kraken.runtime.ResultDetailLevel;
 import kraken.runtime.engine.conditions.ConditionEvaluationResult;
 import kraken.runtime.engine.conditions.RuleApplicabilityEvaluator;
 import kraken.runtime.engine.context.data.DataContext;
 import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.dto.RuleEvaluationStatus;
 import kraken.runtime.engine.evaluation.loop.RuleEvaluationInstance;
 import kraken.runtime.engine.result.reducers.validation.OverrideDependencyExtractor;
 import kraken.runtime.expressions.KrakenExpressionEvaluationException;
@@ -41,6 +50,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -93,6 +105,38 @@ public class RulePayloadProcessorTest {
         assertNull(result.getOverrideInfo().getOverridableRuleContextInfo());
     }
 
+    @Test
+    public void shouldNotBuildOverrideInfoForNotApplicableRuleWhenResultIsNotRetained() {
+        when(applicabilityEvaluator.evaluateCondition(any(), any())).thenReturn(ConditionEvaluationResult.NOT_APPLICABLE);
+
+        RuleEvaluationInstance ruleEvaluationInstance = createEvaluationInstance(
+                createAssertionPayloadRule(createAssertionPayload(true)), new DataContext());
+
+        var fullResult = testObject.process(ruleEvaluationInstance, createSession(ResultDetailLevel.FULL));
+        var failuresResult = testObject.process(
+                ruleEvaluationInstance,
+                createSession(ResultDetailLevel.FAILURES_AND_CHANGES)
+        );
+
+        assertTrue(fullResult.getOverrideInfo().isOverridable());
+        assertFalse(failuresResult.getOverrideInfo().isOverridable());
+        assertThat(failuresResult.getRuleEvaluationStatus(), is(RuleEvaluationStatus.SKIPPED));
+    }
+
+    private EvaluationSession createSession(ResultDetailLevel resultDetailLevel) {
+        EvaluationConfig evaluationConfig = new EvaluationConfig(
+                Map.of(),
+                "USD",
+                EvaluationMode.ALL,
+                ZoneId.systemDefault(),
+                DataContextPathProvider.DEFAULT,
+                resultDetailLevel
+        );
+        EvaluationSession session = mock(EvaluationSession.class);
+        when(session.getEvaluationConfig()).thenReturn(evaluationConfig);
+        return session;
+    }
+
     private RuleEvaluationInstance createEvaluationInstance(RuntimeRule runtimeRule, DataContext dataContext) {
         RuleEvaluationInstance ruleEvaluationInstance = mock(RuleEvaluationInstance.class);
         when(ruleEvaluationInstance.getRule()).thenReturn(runtimeRule);
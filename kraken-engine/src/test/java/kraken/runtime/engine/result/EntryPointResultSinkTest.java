@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.engine.result;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import kraken.model.payload.PayloadType;
+import kraken.model.validation.UsageType;
+import kraken.model.validation.ValidationSeverity;
+import kraken.runtime.ResultDetailLevel;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.conditions.ConditionEvaluationResult;
+import kraken.runtime.engine.context.data.DataContext;
+import kraken.runtime.engine.dto.OverrideInfo;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.dto.RuleInfo;
+import kraken.runtime.model.rule.payload.validation.UsagePayload;
+
+public class EntryPointResultSinkTest {
+
+    private static final UsagePayload USAGE_PAYLOAD =
+        new UsagePayload(null, ValidationSeverity.critical, false, null, UsageType.mandatory);
+
+    private static final RuleInfo NAME_RULE = new RuleInfo("R01", "Policy", "name", PayloadType.USAGE);
+
+    private static final RuleInfo CODE_RULE = new RuleInfo("R02", "Policy", "code", PayloadType.USAGE);
+
+    @Test
+    public void shouldGroupResultsByContextInstanceAndField() {
+        var sink = sink(ResultDetailLevel.FULL);
+        sink.accept(context("Policy", "1"), result(NAME_RULE, true));
+        sink.accept(context("Policy", "1"), result(NAME_RULE, false));
+        sink.accept(context("Policy", "1"), result(CODE_RULE, true));
+        sink.accept(context("Policy", "2"), result(NAME_RULE, true));
+
+        EntryPointResult result = sink.getResult();
+
+        assertThat(result.getAllRuleResults(), hasSize(4));
+        assertThat(result.getFieldResults().keySet(), containsInAnyOrder("Policy:1:name", "Policy:1:code", "Policy:2:name"));
+        assertThat(result.getFieldResults().get("Policy:1:name").getRuleResults(), hasSize(2));
+        assertThat(result.getFieldResults().get("Policy:2:name").getContextFieldInfo().getContextId(), is("2"));
+        assertThat(result.getResultCounts().getEvaluated(), is(4));
+    }
+
+    @Test
+    public void shouldReturnSameFieldResultsMapOnEachAccess() {
+        var sink = sink(ResultDetailLevel.FULL);
+        sink.accept(context("Policy", "1"), result(NAME_RULE, true));
+
+        EntryPointResult result = sink.getResult();
+
+        assertThat(result.getFieldResults(), sameInstance(result.getFieldResults()));
+    }
+
+    @Test
+    public void shouldIterateFieldResultsBeforeAndAfterAccessByFieldId() {
+        var sink = sink(ResultDetailLevel.FULL);
+        sink.accept(context("Policy", "1"), result(NAME_RULE, true));
+        sink.accept(context("Policy", "1"), result(CODE_RULE, true));
+
+        EntryPointResult result = sink.getResult();
+
+        assertThat(result.getFieldResults().values(), hasSize(2));
+        assertThat(result.getFieldResults().size(), is(2));
+        assertThat(result.getFieldResults().get("Policy:1:code").getRuleResults(), hasSize(1));
+        assertThat(result.getFieldResults().values(), hasSize(2));
+        assertThat(result.getAllRuleResults(), hasSize(2));
+    }
+
+    @Test
+    public void shouldSerializeFieldResultsByFields() {
+        var sink = sink(ResultDetailLevel.FULL);
+        sink.accept(context("Policy", "1"), result(NAME_RULE, true));
+
+        JsonObject json = new Gson().toJsonTree(sink.getResult()).getAsJsonObject();
+
+        assertThat(json.getAsJsonObject("fieldResults").keySet(), containsInAnyOrder("Policy:1:name"));
+        assertThat(json.keySet(), containsInAnyOrder("fieldResults"));
+    }
+
+    @Test
+    public void shouldCountResultsWhichAreNotRetained() {
+        var sink = sink(ResultDetailLevel.FAILURES_AND_CHANGES);
+        sink.accept(context("Policy", "1"), result(NAME_RULE, true));
+        sink.accept(context("Policy", "1"), result(CODE_RULE, false));
+
+        EntryPointResult result = sink.getResult();
+
+        assertThat(result.getFieldResults().keySet(), containsInAnyOrder("Policy:1:code"));
+        assertThat(result.getResultCounts().getEvaluated(), is(2));
+        assertThat(result.getResultCounts().getFailedValidations(), is(1));
+    }
+
+    private static EntryPointResultSink sink(ResultDetailLevel resultDetailLevel) {
+        return new EntryPointResultSink(LocalDateTime.now(), ZoneId.systemDefault(), resultDetailLevel);
+    }
+
+    private static DataContext context(String contextName, String contextId) {
+        var dataContext = new DataContext();
+        dataContext.setContextName(contextName);
+        dataContext.setContextId(contextId);
+        return dataContext;
+    }
+
+    private static RuleEvaluationResult result(RuleInfo ruleInfo, boolean success) {
+        return new RuleEvaluationResult(
+            ruleInfo,
+            new UsagePayloadResult(success, USAGE_PAYLOAD, List.of()),
+            ConditionEvaluationResult.APPLICABLE,
+            new OverrideInfo(false, null, null)
+        );
+    }
+
+}
@@ -26,6 +26,7 @@ import javax.annotation.Nullable;
 
 import kraken.el.functionregistry.FunctionInvoker;
 import kraken.el.interpreter.evaluator.InterpretingExpressionEvaluator;
+import kraken.el.profiler.ExpressionProfiler;
 import kraken.el.scope.type.Type;
 
 /**
@@ -58,6 +59,7 @@ public class EvaluationContext {
     private final TypeProvider typeProvider;
     private final FunctionInvoker functionInvoker;
     private final ZoneId zoneId;
+    private final ExpressionProfiler profiler;
 
     public EvaluationContext() {
         this(null);
@@ -72,11 +74,25 @@ public class EvaluationContext {
                              TypeProvider typeProvider,
                              FunctionInvoker functionInvoker,
                              ZoneId zoneId) {
+        this(dataObject, variables, typeProvider, functionInvoker, zoneId, null);
+    }
+
+    /**
+     * @param profiler to profile expression evaluation with, or null if expression should not be profiled
+     * @since 1.55.0
+     */
+    public EvaluationContext(@Nullable Object dataObject,
+                             Map<String, Object> variables,
+                             TypeProvider typeProvider,
+                             FunctionInvoker functionInvoker,
+                             ZoneId zoneId,
+                             @Nullable ExpressionProfiler profiler) {
         this.dataObject = dataObject;
         this.variables = Objects.requireNonNull(variables);
         this.typeProvider = Objects.requireNonNull(typeProvider);
         this.functionInvoker = Objects.requireNonNull(functionInvoker);
         this.zoneId = Objects.requireNonNull(zoneId);
+        this.profiler = profiler;
     }
 
     @Nullable
@@ -99,4 +115,9 @@ public class EvaluationContext {
     public ZoneId getZoneId() {
         return zoneId;
     }
+
+    @Nullable
+    public ExpressionProfiler getProfiler() {
+        return profiler;
+    }
 }
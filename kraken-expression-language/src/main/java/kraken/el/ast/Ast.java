@@ -15,6 +15,7 @@
  */
 package kraken.el.ast;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -30,7 +31,9 @@ import kraken.el.ast.validation.AstValidatingVisitor;
  *
  * @author mulevicius
  */
-public class Ast {
+public class Ast implements Serializable {
+
+    private static final long serialVersionUID = -2861982791164835232L;
 
     private final Expression expression;
 
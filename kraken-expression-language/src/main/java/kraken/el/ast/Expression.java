@@ -15,6 +15,7 @@
  */
 package kraken.el.ast;
 
+import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
 
@@ -27,7 +28,9 @@ import kraken.el.scope.type.Type;
  * @author mulevicius
  */
 @SuppressWarnings("squid:S1694")
-public abstract class Expression {
+public abstract class Expression implements Serializable {
+
+    private static final long serialVersionUID = 9221079788091941766L;
 
     protected NodeType nodeType;
 
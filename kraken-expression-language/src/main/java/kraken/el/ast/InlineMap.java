@@ -22,6 +22,7 @@ import kraken.el.scope.symbol.Symbol;
 import kraken.el.scope.symbol.VariableSymbol;
 import kraken.el.scope.type.Type;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -54,7 +55,9 @@ public class InlineMap extends Expression {
         );
     }
 
-    public static class KeyValuePair {
+    public static class KeyValuePair implements Serializable {
+
+        private static final long serialVersionUID = -4225198258808318560L;
 
         private final String key;
 
@@ -15,15 +15,21 @@
  */
 package kraken.el.ast.builder;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.cache2k.Cache;
@@ -38,6 +44,11 @@ import kraken.el.ast.AstType;
 import kraken.el.ast.Expression;
 import kraken.el.ast.builder.KelErrorListener.KelError;
 import kraken.el.scope.Scope;
+import kraken.utils.metrics.Counter;
+import kraken.utils.metrics.Histogram;
+import kraken.utils.metrics.InMemoryKrakenMetrics;
+import kraken.utils.metrics.KrakenMetricNames;
+import kraken.utils.metrics.KrakenMetrics;
 
 /**
  * Builds Abstract Syntax Tree from Kraken Expression
@@ -51,6 +62,7 @@ public class AstBuilder {
 
     public static final String AST_CACHE_ENTRY_CAPACITY_PROP = "kraken.expression.ast.entryCapacity";
     public static final String AST_CACHE_EXPIRE_AFTER_WRITE_PROP = "kraken.expression.ast.expireAfterWrite";
+    public static final String LITERAL_AST_CACHE_ENTRY_CAPACITY_PROP = "kraken.expression.ast.literalEntryCapacity";
 
     public static final String AST_CACHE_ENTRY_CAPACITY = System.getProperty(AST_CACHE_ENTRY_CAPACITY_PROP,
             System.getenv().getOrDefault(AST_CACHE_ENTRY_CAPACITY_PROP, "1000000"));
@@ -58,34 +70,88 @@ public class AstBuilder {
     public static final String AST_CACHE_EXPIRE_AFTER_WRITE = System.getProperty(AST_CACHE_EXPIRE_AFTER_WRITE_PROP,
             System.getenv().getOrDefault(AST_CACHE_EXPIRE_AFTER_WRITE_PROP, "86400"));
 
+    /**
+     * Maximum number of literal expression ASTs cached regardless of scope, after which entries are evicted.
+     *
+     * @since 1.55.0
+     */
+    public static final String LITERAL_AST_CACHE_ENTRY_CAPACITY = System.getProperty(
+            LITERAL_AST_CACHE_ENTRY_CAPACITY_PROP,
+            System.getenv().getOrDefault(LITERAL_AST_CACHE_ENTRY_CAPACITY_PROP, "10000"));
+
+    private static final InMemoryKrakenMetrics globalMetrics = new InMemoryKrakenMetrics();
+
+    private static final CacheMetrics cacheMetrics = new CacheMetrics(globalMetrics);
+
+    private static final CacheStatistics cacheStatistics = new CacheStatistics();
+
     private static final Cache<ExpressionKey, Ast> astCache = new Cache2kBuilder<ExpressionKey, Ast>() {}
             .name("AST")
             .entryCapacity(Long.valueOf(AST_CACHE_ENTRY_CAPACITY))
             .expireAfterWrite(Long.valueOf(AST_CACHE_EXPIRE_AFTER_WRITE), TimeUnit.SECONDS)
             .loader(key -> {
-                ExpressionContext expressionContext = parse(key.getExpression());
-                AstGeneratingVisitor astGeneratingVisitor = new AstGeneratingVisitor(key.getScope());
-                Expression expressionNode = astGeneratingVisitor.visit(expressionContext);
-
-                return new Ast(
-                    expressionNode,
-                    astGeneratingVisitor.getFunctions(),
-                    astGeneratingVisitor.getReferences(),
-                    astGeneratingVisitor.getGenerationErrors()
-                );
+                cacheMetrics.misses.increment();
+                return build(key, null);
             })
             .build();
 
-    private static final Map<String, Ast> literalAstCache = new ConcurrentHashMap<>();
+    private static final Cache<String, Ast> literalAstCache = new Cache2kBuilder<String, Ast>() {}
+            .name("LiteralAST")
+            .entryCapacity(Long.valueOf(LITERAL_AST_CACHE_ENTRY_CAPACITY))
+            .eternal(true)
+            .build();
+
+    private static final int BULK_CHUNKS_PER_PROCESSOR = 4;
+
+    /**
+     * Returns JVM global metrics of AST cache requests, misses and parse time.
+     * AST cache is shared by all expressions in JVM, therefore these metrics are recorded once per JVM,
+     * include expressions of all rule engines and are never reported to metrics of a rule engine.
+     * Application can inspect them or export them periodically.
+     *
+     * @return JVM global metrics of AST cache
+     * @see KrakenMetricNames#AST_CACHE_REQUESTS
+     * @see KrakenMetricNames#AST_CACHE_MISSES
+     * @see KrakenMetricNames#AST_PARSE_TIME
+     * @since 1.55.0
+     */
+    public static InMemoryKrakenMetrics getGlobalMetrics() {
+        return globalMetrics;
+    }
+
+    /**
+     * @return statistics of AST caches since JVM start
+     * @since 1.55.0
+     */
+    public static AstCacheStatistics getCacheStatistics() {
+        long literalSize = literalAstCache.asMap().size();
+        long size = astCache.asMap().size();
+        long requests = globalMetrics.getTotalCount(KrakenMetricNames.AST_CACHE_REQUESTS);
+        long literalHits = cacheStatistics.literalHits.sum();
+        long misses = globalMetrics.getTotalCount(KrakenMetricNames.AST_CACHE_MISSES);
+        return new AstCacheStatistics(
+            requests,
+            literalHits,
+            requests - literalHits - misses,
+            misses,
+            literalSize,
+            Math.max(0, cacheStatistics.literalPuts.sum() - literalSize),
+            size,
+            Math.max(0, misses + cacheStatistics.puts.sum() - size)
+        );
+    }
 
     public static Ast from(String expression, Scope scope) {
         try {
-            Ast ast = literalAstCache.get(expression);
-            if(ast == null) {
-                ast = astCache.get(new ExpressionKey(expression, scope));
-                if(ast.getAstType() == AstType.LITERAL) {
-                    literalAstCache.putIfAbsent(expression, ast);
-                }
+            cacheMetrics.requests.increment();
+            Ast ast = literalAstCache.peek(expression);
+            if(ast != null) {
+                cacheStatistics.literalHits.increment();
+                return ast;
+            }
+            ast = astCache.get(new ExpressionKey(expression, scope));
+            if(ast.getAstType() == AstType.LITERAL) {
+                cacheLiteral(expression, ast);
             }
             return ast;
         } catch (ParseCancellationException e) {
@@ -95,19 +161,145 @@ public class AstBuilder {
         }
     }
 
-    private static ExpressionContext parse(String expression) {
+    /**
+     * Builds Abstract Syntax Trees of all expressions in parallel in the provided executor and caches them,
+     * therefore subsequent {@link #from(String, Scope)} of these expressions are cache hits.
+     * Intended to be used when all expressions of Kraken project are loaded at once.
+     * <p/>
+     * Expressions which cannot be parsed do not fail the whole operation and are returned in
+     * {@link BulkAstBuildingResult#getErrors()}.
+     *
+     * @param expressions to build Abstract Syntax Trees for
+     * @param executor to build in; provide {@code Runnable::run} to build sequentially in the calling thread
+     * @return Abstract Syntax Trees, errors and timings of parsing
+     * @since 1.55.0
+     */
+    public static BulkAstBuildingResult fromAll(Collection<ExpressionKey> expressions, Executor executor) {
+        long startTime = System.nanoTime();
+        List<ExpressionKey> keys = new ArrayList<>(new LinkedHashSet<>(expressions));
+        ParseStatistics statistics = new ParseStatistics();
+        Map<ExpressionKey, Ast> asts = new ConcurrentHashMap<>();
+        Map<ExpressionKey, AstBuildingException> errors = new ConcurrentHashMap<>();
+
+        int chunkSize = Math.max(1, keys.size() / (Runtime.getRuntime().availableProcessors() * BULK_CHUNKS_PER_PROCESSOR));
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i += chunkSize) {
+            List<ExpressionKey> chunk = keys.subList(i, Math.min(i + chunkSize, keys.size()));
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (ExpressionKey key : chunk) {
+                    try {
+                        asts.put(key, fromCacheOrBuild(key, statistics));
+                    } catch (RuntimeException e) {
+                        errors.put(key, new AstBuildingException(
+                            "Error while building Abstract Syntax Tree from expression: " + key.getExpression(), e
+                        ));
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+        return new BulkAstBuildingResult(
+            asts,
+            errors,
+            statistics.cached.intValue(),
+            statistics.sllParses.intValue(),
+            statistics.llParses.intValue(),
+            statistics.parseTime.sum(),
+            statistics.generationTime.sum(),
+            System.nanoTime() - startTime
+        );
+    }
+
+    private static void cacheLiteral(String expression, Ast ast) {
+        if (literalAstCache.putIfAbsent(expression, ast)) {
+            cacheStatistics.literalPuts.increment();
+        }
+    }
+
+    private static Ast fromCacheOrBuild(ExpressionKey key, ParseStatistics statistics) {
+        Ast ast = literalAstCache.peek(key.getExpression());
+        if (ast == null) {
+            ast = astCache.peek(key);
+        }
+        if (ast != null) {
+            statistics.cached.increment();
+            return ast;
+        }
+        ast = build(key, statistics);
+        if (astCache.putIfAbsent(key, ast)) {
+            cacheStatistics.puts.increment();
+        } else {
+            // expression was built concurrently by another thread, prefer cached instance
+            Ast cached = astCache.peek(key);
+            ast = cached != null ? cached : ast;
+        }
+        if (ast.getAstType() == AstType.LITERAL) {
+            cacheLiteral(key.getExpression(), ast);
+        }
+        return ast;
+    }
+
+    private static Ast build(ExpressionKey key, ParseStatistics statistics) {
+        ExpressionContext expressionContext = parse(key.getExpression(), statistics);
+        long parseEndTime = System.nanoTime();
+
+        AstGeneratingVisitor astGeneratingVisitor = new AstGeneratingVisitor(key.getScope());
+        Expression expressionNode = astGeneratingVisitor.visit(expressionContext);
+        Ast ast = new Ast(
+            expressionNode,
+            astGeneratingVisitor.getFunctions(),
+            astGeneratingVisitor.getReferences(),
+            astGeneratingVisitor.getGenerationErrors()
+        );
+
+        if (statistics != null) {
+            statistics.generationTime.add(System.nanoTime() - parseEndTime);
+        }
+        return ast;
+    }
+
+    /**
+     * Parses expression in two stages. The first stage parses in faster {@link PredictionMode#SLL} mode and bails
+     * out on the first syntax error. Only if it fails, expression is parsed again in full {@link PredictionMode#LL}
+     * mode, which also reports the actual syntax error. Parsers of all threads share DFA cache of generated
+     * {@link Kel} parser, therefore it is warmed up by all previously parsed expressions.
+     */
+    private static ExpressionContext parse(String expression, ParseStatistics statistics) {
+        long startTime = System.nanoTime();
         KelErrorListener listener = new KelErrorListener();
         Common lexer = lexerForExpression(expression);
         lexer.removeErrorListeners();
         lexer.addErrorListener(listener);
-        TokenStream tokenStream = new CommonTokenStream(lexer);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
         Kel parser = new Kel(tokenStream);
-        parser.setErrorHandler(new KelErrorStrategy());
-        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
         parser.removeErrorListeners();
-        parser.addErrorListener(listener);
 
-        ExpressionContext expressionContext = parser.expression();
+        ExpressionContext expressionContext = null;
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            expressionContext = parser.expression();
+        } catch (ParseCancellationException e) {
+            // expression is either invalid or requires full context to parse
+        }
+        boolean sll = expressionContext != null && listener.getErrors().isEmpty();
+        if (!sll) {
+            tokenStream.seek(0);
+            parser.reset();
+            parser.setErrorHandler(new KelErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.addErrorListener(listener);
+
+            expressionContext = parser.expression();
+        }
+
+        long parseTime = System.nanoTime() - startTime;
+        (sll ? cacheMetrics.sllParseTime : cacheMetrics.llParseTime).record(parseTime);
+        if (statistics != null) {
+            (sll ? statistics.sllParses : statistics.llParses).increment();
+            statistics.parseTime.add(parseTime);
+        }
 
         if(!listener.getErrors().isEmpty()) {
             KelError error = listener.getErrors().get(0);
@@ -122,15 +314,63 @@ public class AstBuilder {
         return new CommonLexer(stream);
     }
 
+    private static class CacheMetrics {
+
+        private final Counter requests;
+
+        private final Counter misses;
+
+        private final Histogram sllParseTime;
+
+        private final Histogram llParseTime;
+
+        CacheMetrics(KrakenMetrics metrics) {
+            this.requests = metrics.counter(KrakenMetricNames.AST_CACHE_REQUESTS, null);
+            this.misses = metrics.counter(KrakenMetricNames.AST_CACHE_MISSES, null);
+            this.sllParseTime = metrics.histogram(KrakenMetricNames.AST_PARSE_TIME, PredictionMode.SLL.name());
+            this.llParseTime = metrics.histogram(KrakenMetricNames.AST_PARSE_TIME, PredictionMode.LL.name());
+        }
+    }
+
+    private static class CacheStatistics {
+
+        private final LongAdder literalHits = new LongAdder();
+
+        private final LongAdder puts = new LongAdder();
+
+        private final LongAdder literalPuts = new LongAdder();
+    }
+
+    private static class ParseStatistics {
+
+        private final LongAdder cached = new LongAdder();
+
+        private final LongAdder sllParses = new LongAdder();
+
+        private final LongAdder llParses = new LongAdder();
+
+        private final LongAdder parseTime = new LongAdder();
+
+        private final LongAdder generationTime = new LongAdder();
+    }
+
+    /**
+     * Key of AST cache. Scope is identified by {@link Scope#getFingerprint()} and name,
+     * and hash code is precomputed, therefore cache lookup does not hash or compare scope names
+     * unless fingerprints are equal.
+     */
     public static class ExpressionKey {
 
-        private String expression;
+        private final String expression;
+
+        private final Scope scope;
 
-        private Scope scope;
+        private final int hashCode;
 
         public ExpressionKey(String expression, Scope scope) {
             this.expression = expression;
             this.scope = scope;
+            this.hashCode = 31 * expression.hashCode() + Long.hashCode(scope.getFingerprint());
         }
 
         public String getExpression() {
@@ -150,13 +390,15 @@ public class AstBuilder {
                 return false;
             }
             ExpressionKey that = (ExpressionKey) o;
-            return Objects.equals(expression, that.expression)
-                    && Objects.equals(scope.getName(), that.scope.getName());
+            return hashCode == that.hashCode
+                    && scope.getFingerprint() == that.scope.getFingerprint()
+                    && expression.equals(that.expression)
+                    && (scope == that.scope || scope.getName().equals(that.scope.getName()));
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(expression, scope.getName());
+            return hashCode;
         }
     }
 }
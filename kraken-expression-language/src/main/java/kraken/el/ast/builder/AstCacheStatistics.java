@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.el.ast.builder;
+
+/**
+ * Snapshot of {@link AstBuilder} cache statistics since JVM start, returned by {@link AstBuilder#getCacheStatistics()}.
+ * <p/>
+ * Expression is first looked up in literal AST cache, which caches ASTs of literal expressions regardless of scope,
+ * and then in AST cache by expression and scope. Evictions and removals are not reported by caches, they are
+ * approximated as the number of entries put to cache minus the number of entries in cache.
+ * Literal AST cache never expires entries, while removals of AST cache include entries evicted
+ * because of capacity and entries expired after write.
+ *
+ * @since 1.55.0
+ */
+public final class AstCacheStatistics {
+
+    private final long requestCount;
+
+    private final long literalHitCount;
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long literalSize;
+
+    private final long literalEvictionCount;
+
+    private final long size;
+
+    private final long removalCount;
+
+    AstCacheStatistics(long requestCount,
+                       long literalHitCount,
+                       long hitCount,
+                       long missCount,
+                       long literalSize,
+                       long literalEvictionCount,
+                       long size,
+                       long removalCount) {
+        this.requestCount = requestCount;
+        this.literalHitCount = literalHitCount;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.literalSize = literalSize;
+        this.literalEvictionCount = literalEvictionCount;
+        this.size = size;
+        this.removalCount = removalCount;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return number of requests resolved from literal AST cache
+     */
+    public long getLiteralHitCount() {
+        return literalHitCount;
+    }
+
+    /**
+     * @return number of requests resolved from AST cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of requests which parsed expression
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getLiteralSize() {
+        return literalSize;
+    }
+
+    /**
+     * @return approximate number of entries evicted from literal AST cache because of its capacity
+     */
+    public long getLiteralEvictionCount() {
+        return literalEvictionCount;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return approximate number of entries removed from AST cache, either evicted because of capacity
+     *         or expired after write
+     */
+    public long getRemovalCount() {
+        return removalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "AstCacheStatistics{"
+            + "requests=" + requestCount
+            + ", literalHits=" + literalHitCount
+            + ", hits=" + hitCount
+            + ", misses=" + missCount
+            + ", literalSize=" + literalSize
+            + ", literalEvictions=" + literalEvictionCount
+            + ", size=" + size
+            + ", removals=" + removalCount
+            + '}';
+    }
+}
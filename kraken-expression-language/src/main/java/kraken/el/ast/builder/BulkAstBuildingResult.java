@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.el.ast.builder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import kraken.el.ast.Ast;
+import kraken.el.ast.builder.AstBuilder.ExpressionKey;
+
+/**
+ * Result of {@link AstBuilder#fromAll(java.util.Collection, java.util.concurrent.Executor)}.
+ * Parse and generation times are summed over all threads, therefore they can exceed elapsed time.
+ *
+ * @since 1.55.0
+ */
+public final class BulkAstBuildingResult {
+
+    private final Map<ExpressionKey, Ast> asts;
+
+    private final Map<ExpressionKey, AstBuildingException> errors;
+
+    private final int cachedCount;
+
+    private final int sllParseCount;
+
+    private final int llParseCount;
+
+    private final long parseTimeNanos;
+
+    private final long generationTimeNanos;
+
+    private final long elapsedTimeNanos;
+
+    BulkAstBuildingResult(Map<ExpressionKey, Ast> asts,
+                          Map<ExpressionKey, AstBuildingException> errors,
+                          int cachedCount,
+                          int sllParseCount,
+                          int llParseCount,
+                          long parseTimeNanos,
+                          long generationTimeNanos,
+                          long elapsedTimeNanos) {
+        this.asts = asts;
+        this.errors = errors;
+        this.cachedCount = cachedCount;
+        this.sllParseCount = sllParseCount;
+        this.llParseCount = llParseCount;
+        this.parseTimeNanos = parseTimeNanos;
+        this.generationTimeNanos = generationTimeNanos;
+        this.elapsedTimeNanos = elapsedTimeNanos;
+    }
+
+    /**
+     * @return Abstract Syntax Trees of all distinct expressions that were built successfully
+     */
+    public Map<ExpressionKey, Ast> getAsts() {
+        return asts;
+    }
+
+    /**
+     * @return errors of expressions that cannot be parsed
+     */
+    public Map<ExpressionKey, AstBuildingException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return number of expressions which were already cached and not parsed again
+     */
+    public int getCachedCount() {
+        return cachedCount;
+    }
+
+    /**
+     * @return number of expressions parsed in the first {@code SLL} stage
+     */
+    public int getSllParseCount() {
+        return sllParseCount;
+    }
+
+    /**
+     * @return number of expressions which had to be parsed again in the second {@code LL} stage,
+     *         including expressions that cannot be parsed
+     */
+    public int getLlParseCount() {
+        return llParseCount;
+    }
+
+    public long getParseTimeNanos() {
+        return parseTimeNanos;
+    }
+
+    public long getGenerationTimeNanos() {
+        return generationTimeNanos;
+    }
+
+    public long getElapsedTimeNanos() {
+        return elapsedTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s expressions (%s cached, %s parsed in SLL, %s parsed in LL, %s errors) in %sms: parsing %sms, "
+                + "AST generation %sms",
+            asts.size() + errors.size(),
+            cachedCount,
+            sllParseCount,
+            llParseCount,
+            errors.size(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedTimeNanos),
+            TimeUnit.NANOSECONDS.toMillis(parseTimeNanos),
+            TimeUnit.NANOSECONDS.toMillis(generationTimeNanos)
+        );
+    }
+}
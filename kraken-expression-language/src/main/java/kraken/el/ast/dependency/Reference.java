@@ -15,6 +15,7 @@
  */
 package kraken.el.ast.dependency;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -24,7 +25,9 @@ import javax.annotation.Nullable;
  *
  * @author mulevicius
  */
-public class Reference {
+public class Reference implements Serializable {
+
+    private static final long serialVersionUID = 8843705876227029905L;
 
     private final String typeName;
 
@@ -15,12 +15,16 @@
  */
 package kraken.el.ast.token;
 
+import java.io.Serializable;
+
 /**
  * Represents part of expression text
  *
  * @author mulevicius
  */
-public class Token {
+public class Token implements Serializable {
+
+    private static final long serialVersionUID = -1431000356016570720L;
 
     private int start;
 
@@ -15,6 +15,8 @@
  */
 package kraken.el.ast.typeguard;
 
+import java.io.Serializable;
+
 import kraken.el.ast.Expression;
 import kraken.el.scope.type.Type;
 
@@ -23,7 +25,9 @@ import kraken.el.scope.type.Type;
  *
  * @author mulevicius
  */
-public class TypeFact {
+public class TypeFact implements Serializable {
+
+    private static final long serialVersionUID = -7928254056646418892L;
 
     private final Expression expression;
 
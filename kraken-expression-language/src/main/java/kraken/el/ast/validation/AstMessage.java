@@ -15,6 +15,8 @@
  */
 package kraken.el.ast.validation;
 
+import java.io.Serializable;
+
 import javax.annotation.Nullable;
 
 import kraken.el.ast.Expression;
@@ -26,7 +28,9 @@ import kraken.el.ast.validation.details.AstDetails;
  *
  * @author mulevicius
  */
-public class AstMessage {
+public class AstMessage implements Serializable {
+
+    private static final long serialVersionUID = -8913465228404430217L;
 
     private ReferenceValue referenceValue;
 
@@ -15,13 +15,17 @@
  */
 package kraken.el.ast.validation.details;
 
+import java.io.Serializable;
+
 /**
  * Template for AST details.
  *
  * @author Tomas Dapkunas
  * @since 1.29.0
  */
-public abstract class AstDetails {
+public abstract class AstDetails implements Serializable {
+
+    private static final long serialVersionUID = 2166792721227261745L;
 
     private final AstDetailsType type;
 
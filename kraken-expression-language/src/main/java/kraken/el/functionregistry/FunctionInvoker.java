@@ -95,8 +95,8 @@ public class FunctionInvoker {
             ? FunctionRegistry.getFunctions(expressionTarget)
             : FunctionRegistry.getFunctions();
 
-        if(javaFunctions.containsKey(functionHeader)) {
-            JavaFunction javaFunction = javaFunctions.get(functionHeader);
+        JavaFunction javaFunction = javaFunctions.get(functionHeader);
+        if(javaFunction != null) {
             return javaFunctionInvoker.apply(javaFunction, functionContext);
         }
 
@@ -38,8 +38,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -62,17 +60,16 @@ import kraken.el.scope.type.Type;
  */
 public final class FunctionRegistry {
 
-    private static final ReadWriteLock functionLock = new ReentrantReadWriteLock();
     public static final String NATIVE_FUNCTION_DOCS_ABSENT =
         "Native function must be annotated with " + FunctionDocumentation.class.getName();
     public static final String NATIVE_LIBRARY_ABSENT_DOCS =
         "Native function library must be annotated with " + LibraryDocumentation.class.getName();
 
-    private static List<LibraryDoc> LIBRARY_DOCS = new ArrayList<>();
-    private static Map<FunctionHeader, JavaFunction> ALL_FUNCTIONS = new HashMap<>();
-
-    private static Map<FunctionHeader, JavaFunction> FUNCTIONS_NO_EXP_TARGET = new HashMap<>();
-    private static Map<String, Map<FunctionHeader, JavaFunction>> FUNCTIONS_BY_EXP_TARGET = new HashMap<>();
+    /**
+     * Functions are replaced as a whole when registry is reloaded, so that readers never take a lock
+     * and never observe partially loaded functions.
+     */
+    private static volatile LoadedFunctions FUNCTIONS;
 
     static {
         reload();
@@ -89,17 +86,11 @@ public final class FunctionRegistry {
      * @return Applicable native functions for expression target.
      */
     public static Map<FunctionHeader, JavaFunction> getNativeFunctions(String expressionTarget) {
-        functionLock.readLock().lock();
-
-        try {
-            return FUNCTIONS_BY_EXP_TARGET.getOrDefault(expressionTarget, FUNCTIONS_NO_EXP_TARGET)
-                .entrySet()
-                .stream()
-                .filter(e -> e.getValue().isNativeFunction())
-                .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue()));
-        } finally {
-            functionLock.readLock().unlock();
-        }
+        return getFunctions(expressionTarget)
+            .entrySet()
+            .stream()
+            .filter(e -> e.getValue().isNativeFunction())
+            .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue()));
     }
 
     /**
@@ -110,59 +101,49 @@ public final class FunctionRegistry {
      * @return Applicable functions for expression target.
      */
     public static Map<FunctionHeader, JavaFunction> getFunctions(String expressionTarget) {
-        functionLock.readLock().lock();
-
-        try {
-            return FUNCTIONS_BY_EXP_TARGET.getOrDefault(expressionTarget, FUNCTIONS_NO_EXP_TARGET);
-        } finally {
-            functionLock.readLock().unlock();
-        }
+        LoadedFunctions functions = FUNCTIONS;
+        return functions.functionsByExpTarget.getOrDefault(expressionTarget, functions.functionsNoExpTarget);
     }
 
     /**
      * Reloads function registry by clearing previously loaded functions and re-loading all
      * {@code FunctionLibrary} implementations.
      */
-    public static void reload() {
-        functionLock.writeLock().lock();
-
-        try {
-            ALL_FUNCTIONS = new HashMap<>();
-            FUNCTIONS_NO_EXP_TARGET = new HashMap<>();
-            FUNCTIONS_BY_EXP_TARGET = new HashMap<>();
-            LIBRARY_DOCS = new ArrayList<>();
-
-            for (FunctionLibrary functionLibrary : ServiceLoader.load(FunctionLibrary.class)) {
-                importFunctionLibrary(functionLibrary);
-            }
+    public static synchronized void reload() {
+        Map<FunctionHeader, JavaFunction> allFunctions = new HashMap<>();
+        List<LibraryDoc> libraryDocs = new ArrayList<>();
 
-            groupFunctionsByExpTarget();
-        } finally {
-            functionLock.writeLock().unlock();
+        for (FunctionLibrary functionLibrary : ServiceLoader.load(FunctionLibrary.class)) {
+            importFunctionLibrary(functionLibrary, allFunctions, libraryDocs);
         }
+
+        FUNCTIONS = groupFunctionsByExpTarget(allFunctions, libraryDocs);
     }
 
-    private static void groupFunctionsByExpTarget() {
-        FUNCTIONS_NO_EXP_TARGET = ALL_FUNCTIONS.entrySet()
+    private static LoadedFunctions groupFunctionsByExpTarget(Map<FunctionHeader, JavaFunction> allFunctions,
+                                                             List<LibraryDoc> libraryDocs) {
+        Map<FunctionHeader, JavaFunction> functionsNoExpTarget = allFunctions.entrySet()
             .stream()
             .filter(entry -> entry.getValue().getExpressionTargets().isEmpty())
             .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
 
-        for (Map.Entry<FunctionHeader, JavaFunction> entry : ALL_FUNCTIONS.entrySet()) {
+        Map<String, Map<FunctionHeader, JavaFunction>> functionsByExpTarget = new HashMap<>();
+        for (Map.Entry<FunctionHeader, JavaFunction> entry : allFunctions.entrySet()) {
             for (String expTarget : entry.getValue().getExpressionTargets()) {
-                Map<FunctionHeader, JavaFunction> expTargetFunctions = FUNCTIONS_BY_EXP_TARGET.computeIfAbsent(
-                    expTarget, key -> new HashMap<>(FUNCTIONS_NO_EXP_TARGET));
+                Map<FunctionHeader, JavaFunction> expTargetFunctions = functionsByExpTarget.computeIfAbsent(
+                    expTarget, key -> new HashMap<>(functionsNoExpTarget));
 
                 expTargetFunctions.put(entry.getKey(), entry.getValue());
             }
         }
+        return new LoadedFunctions(allFunctions, functionsNoExpTarget, functionsByExpTarget, libraryDocs);
     }
 
     /**
      * @return documentation for functions registered in this registry
      */
     public static Collection<LibraryDoc> getLibraryDocs() {
-        return LIBRARY_DOCS;
+        return FUNCTIONS.libraryDocs;
     }
 
     /**
@@ -171,10 +152,12 @@ public final class FunctionRegistry {
      * @return All registered functions.
      */
     public static Map<FunctionHeader, JavaFunction> getFunctions() {
-        return ALL_FUNCTIONS;
+        return FUNCTIONS.allFunctions;
     }
 
-    private static void importFunctionLibrary(FunctionLibrary functionLibrary) {
+    private static void importFunctionLibrary(FunctionLibrary functionLibrary,
+                                              Map<FunctionHeader, JavaFunction> allFunctions,
+                                              List<LibraryDoc> libraryDocs) {
         var functionDocs = new ArrayList<FunctionDoc>();
         for (Method method : functionLibrary.getClass().getMethods()) {
             ExpressionFunction expressionFunction = method.getAnnotation(ExpressionFunction.class);
@@ -205,17 +188,17 @@ public final class FunctionRegistry {
                     genericTypes
                 );
                 FunctionHeader functionHeader = javaFunction.header();
-                if (ALL_FUNCTIONS.containsKey(functionHeader)) {
+                if (allFunctions.containsKey(functionHeader)) {
                     throw new IllegalStateException("Error while initializing Kraken Expression Language. " +
                         "There exists multiple functions with same name: '" + name + "' and parameter count: "
                         + functionHeader.getParameterCount());
                 }
-                ALL_FUNCTIONS.put(functionHeader, javaFunction);
+                allFunctions.put(functionHeader, javaFunction);
 
                 functionDocs.add(createFunctionDoc(javaFunction, method, nativeFunction));
             }
         }
-        LIBRARY_DOCS.add(createLibraryDoc(functionLibrary, functionDocs));
+        libraryDocs.add(createLibraryDoc(functionLibrary, functionDocs));
     }
 
     private static List<GenericTypeInfo> introspectGenericTypes(ExpressionFunction expressionFunction, Method method) {
@@ -506,4 +489,26 @@ public final class FunctionRegistry {
                 "Cannot import function '" + name + "' into Kraken Expression Language because it is not static.");
         }
     }
+
+    private static final class LoadedFunctions {
+
+        private final Map<FunctionHeader, JavaFunction> allFunctions;
+
+        private final Map<FunctionHeader, JavaFunction> functionsNoExpTarget;
+
+        private final Map<String, Map<FunctionHeader, JavaFunction>> functionsByExpTarget;
+
+        private final List<LibraryDoc> libraryDocs;
+
+        LoadedFunctions(Map<FunctionHeader, JavaFunction> allFunctions,
+                        Map<FunctionHeader, JavaFunction> functionsNoExpTarget,
+                        Map<String, Map<FunctionHeader, JavaFunction>> functionsByExpTarget,
+                        List<LibraryDoc> libraryDocs) {
+            this.allFunctions = allFunctions;
+            this.functionsNoExpTarget = functionsNoExpTarget;
+            this.functionsByExpTarget = functionsByExpTarget;
+            this.libraryDocs = libraryDocs;
+        }
+    }
+
 }
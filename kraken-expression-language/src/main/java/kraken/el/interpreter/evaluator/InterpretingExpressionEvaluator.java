@@ -40,7 +40,14 @@ public class InterpretingExpressionEvaluator {
     }
 
     public Object evaluate(Ast ast, EvaluationContext evaluationContext) throws ExpressionEvaluationException {
-        var visitor = new InterpretingAstVisitor(ast.getExpression().getScope(), evaluationContext, configuration);
+        var visitor = evaluationContext.getProfiler() == null
+            ? new InterpretingAstVisitor(ast.getExpression().getScope(), evaluationContext, configuration)
+            : new ProfilingInterpretingAstVisitor(
+                ast.getExpression().getScope(),
+                evaluationContext,
+                configuration,
+                evaluationContext.getProfiler().getProfile(ast)
+            );
         Value value = visitor.visit(ast.getExpression());
         return value.getValue();
     }
@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.el.interpreter.evaluator;
+
+import kraken.el.EvaluationContext;
+import kraken.el.ExpressionLanguageConfiguration;
+import kraken.el.ast.Expression;
+import kraken.el.profiler.ExpressionProfile;
+import kraken.el.scope.Scope;
+
+/**
+ * {@link InterpretingAstVisitor} which measures evaluation of each AST node and records it to {@link ExpressionProfile}
+ *
+ * @since 1.55.0
+ */
+class ProfilingInterpretingAstVisitor extends InterpretingAstVisitor {
+
+    private final ExpressionProfile profile;
+
+    /**
+     * Time spent evaluating child nodes of the node which is currently being evaluated
+     */
+    private long childTime;
+
+    ProfilingInterpretingAstVisitor(Scope scope,
+                                    EvaluationContext evaluationContext,
+                                    ExpressionLanguageConfiguration configuration,
+                                    ExpressionProfile profile) {
+        super(scope, evaluationContext, configuration);
+        this.profile = profile;
+    }
+
+    @Override
+    public Value visit(Expression expression) {
+        long parentChildTime = childTime;
+        childTime = 0;
+        long start = System.nanoTime();
+        try {
+            return super.visit(expression);
+        } finally {
+            long totalTime = System.nanoTime() - start;
+            profile.record(expression, totalTime, totalTime - childTime);
+            childTime = parentChildTime + totalTime;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.el.profiler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import kraken.el.ast.NodeType;
+import kraken.el.ast.token.Token;
+
+/**
+ * Accumulated cost of evaluating one AST node of an expression.
+ * Self time excludes time spent evaluating child nodes, while total time includes it.
+ * Span is a char range of node in the expression string.
+ *
+ * @since 1.55.0
+ */
+public class AstNodeProfile {
+
+    private final String key;
+
+    private final String expression;
+
+    private final NodeType nodeType;
+
+    private final Token token;
+
+    private final LongAdder invocations = new LongAdder();
+
+    private final LongAdder selfTime = new LongAdder();
+
+    private final LongAdder totalTime = new LongAdder();
+
+    AstNodeProfile(String key, String expression, NodeType nodeType, Token token) {
+        this.key = key;
+        this.expression = expression;
+        this.nodeType = nodeType;
+        this.token = token;
+    }
+
+    void record(long totalNanos, long selfNanos) {
+        invocations.increment();
+        totalTime.add(totalNanos);
+        selfTime.add(selfNanos);
+    }
+
+    /**
+     * @return key of the profiled expression, usually a rule name
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * @return text of this node in the expression
+     */
+    public String getText() {
+        return token.getText();
+    }
+
+    public int getStart() {
+        return token.getStart();
+    }
+
+    public int getEnd() {
+        return token.getEnd();
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    public long getSelfTimeNanos() {
+        return selfTime.sum();
+    }
+
+    public long getTotalTimeNanos() {
+        return totalTime.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "'%s' %s '%s' [%s..%s] in '%s': self %.3f ms, total %.3f ms, invocations %s",
+            key,
+            nodeType,
+            getText(),
+            getStart(),
+            getEnd(),
+            expression,
+            getSelfTimeNanos() / 1_000_000.0,
+            getTotalTimeNanos() / 1_000_000.0,
+            getInvocations()
+        );
+    }
+}
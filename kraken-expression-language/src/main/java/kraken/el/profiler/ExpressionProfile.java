@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.el.profiler;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import kraken.el.ast.Expression;
+
+/**
+ * Cost of each evaluated AST node of one expression, evaluated in scope of one profiling key
+ *
+ * @since 1.55.0
+ */
+public class ExpressionProfile {
+
+    private final String key;
+
+    private final String expression;
+
+    private final Map<Expression, AstNodeProfile> nodes = new ConcurrentHashMap<>();
+
+    ExpressionProfile(String key, String expression) {
+        this.key = key;
+        this.expression = expression;
+    }
+
+    /**
+     * Records one evaluation of AST node
+     *
+     * @param node evaluated node of this expression
+     * @param totalNanos time spent evaluating the node including its child nodes
+     * @param selfNanos time spent evaluating the node excluding its child nodes
+     */
+    public void record(Expression node, long totalNanos, long selfNanos) {
+        AstNodeProfile profile = nodes.get(node);
+        if (profile == null) {
+            profile = nodes.computeIfAbsent(
+                node,
+                n -> new AstNodeProfile(key, expression, n.getNodeType(), n.getToken())
+            );
+        }
+        profile.record(totalNanos, selfNanos);
+    }
+
+    /**
+     * @return key of the profiled expression, usually a rule name
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public Collection<AstNodeProfile> getNodes() {
+        return Collections.unmodifiableCollection(nodes.values());
+    }
+
+    /**
+     * @return total time spent evaluating this expression
+     */
+    public long getTotalTimeNanos() {
+        return nodes.values().stream().mapToLong(AstNodeProfile::getSelfTimeNanos).sum();
+    }
+}
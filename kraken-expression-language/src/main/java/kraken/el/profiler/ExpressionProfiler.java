@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.el.profiler;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import kraken.el.ast.Ast;
+
+/**
+ * Collects self time, total time and invocation count of each evaluated AST node when expressions
+ * are evaluated with a profiler in {@link kraken.el.EvaluationContext}.
+ * Profiles are grouped by a key, such as rule name, which is set for the current thread by
+ * {@link #profile(String, Supplier)}, and by expression.
+ * <p>
+ * Profiling adds considerable overhead to expression evaluation, therefore it should only be enabled
+ * when investigating slow expressions.
+ *
+ * @since 1.55.0
+ */
+public class ExpressionProfiler {
+
+    private static final String NO_KEY = "";
+
+    private final ThreadLocal<String> currentKey = ThreadLocal.withInitial(() -> NO_KEY);
+
+    private final Map<String, Map<String, ExpressionProfile>> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Evaluates in scope of provided key. All expressions evaluated in this scope are profiled under this key.
+     *
+     * @param key usually a rule name
+     * @param evaluation to profile
+     * @return result of evaluation
+     */
+    public <T> T profile(String key, Supplier<T> evaluation) {
+        String previousKey = currentKey.get();
+        currentKey.set(Objects.requireNonNull(key));
+        try {
+            return evaluation.get();
+        } finally {
+            currentKey.set(previousKey);
+        }
+    }
+
+    /**
+     * @param ast of expression being evaluated
+     * @return profile of expression in scope of current key
+     */
+    public ExpressionProfile getProfile(Ast ast) {
+        String key = currentKey.get();
+        String expression = ast.getExpression().getToken().getText();
+        return profiles.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(expression, e -> new ExpressionProfile(key, e));
+    }
+
+    public List<ExpressionProfile> getProfiles() {
+        return profiles.values().stream()
+            .flatMap(profilesByExpression -> profilesByExpression.values().stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @param limit maximum number of nodes to return
+     * @return AST nodes with the highest self time
+     */
+    public List<AstNodeProfile> getHotspots(int limit) {
+        return getProfiles().stream()
+            .flatMap(profile -> profile.getNodes().stream())
+            .sorted(Comparator.comparingLong(AstNodeProfile::getSelfTimeNanos).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @param limit maximum number of nodes to include
+     * @return human readable report of AST nodes with the highest self time
+     */
+    public String report(int limit) {
+        String hotspots = getHotspots(limit).stream()
+            .map(AstNodeProfile::toString)
+            .collect(Collectors.joining(System.lineSeparator()));
+        return "Expression hotspots by self time:" + System.lineSeparator() + hotspots;
+    }
+
+    public void clear() {
+        profiles.clear();
+    }
+}
@@ -17,6 +17,9 @@ package kraken.el.scope;
 
 import static kraken.el.scope.type.Type.toType;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,7 +41,9 @@ import kraken.el.scope.type.TypeRef;
  *
  * @author mulevicius
  */
-public class Scope {
+public class Scope implements Serializable {
+
+    private static final long serialVersionUID = -7247249394851513522L;
 
     private final String name;
 
@@ -50,6 +55,11 @@ public class Scope {
 
     private final Map<String, Type> allTypes;
 
+    /**
+     * Derived from {@link #name}, therefore it is not serialized and is recomputed when scope is deserialized
+     */
+    private transient long fingerprint;
+
     /**
      * Creates GLOBAL Scope; a GLOBAL scope is a scope that has no parent;
      * it must also contain a registry of all types available in the system
@@ -80,6 +90,7 @@ public class Scope {
         this.type = Objects.requireNonNull(type);
         this.allTypes = Objects.requireNonNull(allTypes);
         this.name = Optional.ofNullable(parentScope).map(Scope::getName).map(s -> s + "->").orElse("") + type;
+        this.fingerprint = fingerprint(name);
     }
 
     /**
@@ -100,6 +111,18 @@ public class Scope {
         return scopeType;
     }
 
+    /**
+     * Fingerprint is a 64-bit hash of {@link #getName()} precomputed when scope is created. Scopes are equal by name,
+     * therefore scopes with different fingerprints are never equal, and comparing fingerprints is
+     * a cheap way to tell scopes apart without comparing long names of nested scopes.
+     *
+     * @return fingerprint of scope
+     * @since 1.55.0
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
     /**
      *
      * @return parent if it exists; if scope does not have a parent then it is a root scope.
@@ -302,12 +325,27 @@ public class Scope {
             return false;
         }
         Scope scope = (Scope) o;
-        return name.equals(scope.name);
+        return fingerprint == scope.fingerprint && name.equals(scope.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return Long.hashCode(fingerprint);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.fingerprint = fingerprint(name);
+    }
+
+    private static long fingerprint(String name) {
+        // 64-bit FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= name.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
     }
 
     private static Map<String, Type> withNativeTypes(Map<String, Type> allTypes) {
@@ -18,6 +18,7 @@ package kraken.el.scope;
 import kraken.el.scope.symbol.FunctionSymbol;
 import kraken.el.scope.symbol.VariableSymbol;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -33,7 +34,9 @@ import java.util.stream.Collectors;
  *
  * @author mulevicius
  */
-public class SymbolTable {
+public class SymbolTable implements Serializable {
+
+    private static final long serialVersionUID = -7436854129822621033L;
 
     private final Collection<FunctionSymbol> functions;
     private final Map<String, VariableSymbol> references;
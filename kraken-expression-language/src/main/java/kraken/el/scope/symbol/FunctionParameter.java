@@ -15,6 +15,7 @@
  */
 package kraken.el.scope.symbol;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 import kraken.el.scope.type.Type;
@@ -22,7 +23,9 @@ import kraken.el.scope.type.Type;
 /**
  * @author mulevicius
  */
-public class FunctionParameter {
+public class FunctionParameter implements Serializable {
+
+    private static final long serialVersionUID = 2915209431524651654L;
 
     private final int parameterIndex;
 
@@ -17,12 +17,15 @@ package kraken.el.scope.symbol;
 
 import kraken.el.scope.type.Type;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * @author mulevicius
  */
-public abstract class Symbol {
+public abstract class Symbol implements Serializable {
+
+    private static final long serialVersionUID = -6499309056438949653L;
 
     private String name;
 
@@ -15,6 +15,7 @@
  */
 package kraken.el.scope.type;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,7 +37,9 @@ import kraken.el.scope.SymbolTable;
  *
  * @author mulevicius
  */
-public class Type {
+public class Type implements Serializable {
+
+    private static final long serialVersionUID = -8878316154912196779L;
 
     public static final Type BOOLEAN = new Type("Boolean");
     public static final Type STRING = new Type("String");
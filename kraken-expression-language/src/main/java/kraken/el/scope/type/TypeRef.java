@@ -23,6 +23,8 @@ import kraken.el.scope.SymbolTable;
 
 /**
  * Represents a type which is a soft reference to a concrete {@link Type} that must exist in the system.
+ * <p/>
+ * Can be serialized only if {@link TypeRefResolver} is serializable.
  *
  * @author mulevicius
  */
@@ -29,6 +29,11 @@ import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThrows;
 
 import java.math.BigDecimal;
@@ -36,6 +41,8 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -86,6 +93,7 @@ import kraken.el.ast.StringLiteral;
 import kraken.el.ast.Subtraction;
 import kraken.el.ast.Template;
 import kraken.el.ast.This;
+import kraken.el.ast.builder.AstBuilder.ExpressionKey;
 import kraken.el.ast.token.Token;
 import kraken.el.functionregistry.FunctionHeader;
 import kraken.el.scope.Scope;
@@ -244,6 +252,84 @@ public class AstBuilderTest {
         assertThat(((ReferenceValue) expression).getReference(), instanceOf(Cast.class));
     }
 
+    @Test
+    public void shouldBuildAllExpressionsInBulkAndCacheThem() {
+        Scope scope = Scope.dynamic();
+        String suffix = " // " + UUID.randomUUID();
+        ExpressionKey sum = new ExpressionKey("a + b" + suffix, scope);
+        ExpressionKey filter = new ExpressionKey("items[this.amount > 10]" + suffix, scope);
+
+        BulkAstBuildingResult result = AstBuilder.fromAll(List.of(sum, filter, sum), Runnable::run);
+
+        assertThat(result.getAsts().keySet(), hasSize(2));
+        assertThat(result.getErrors().keySet(), empty());
+        assertThat(result.getCachedCount(), is(0));
+        assertThat(result.getSllParseCount() + result.getLlParseCount(), is(2));
+        assertThat(AstBuilder.from(sum.getExpression(), scope), sameInstance(result.getAsts().get(sum)));
+
+        BulkAstBuildingResult cachedResult = AstBuilder.fromAll(List.of(sum, filter), ForkJoinPool.commonPool());
+
+        assertThat(cachedResult.getCachedCount(), is(2));
+        assertThat(cachedResult.getAsts().get(filter), sameInstance(result.getAsts().get(filter)));
+    }
+
+    @Test
+    public void shouldReportExpressionsWhichCannotBeParsedInBulk() {
+        Scope scope = getCoverageSymbolMock();
+        ExpressionKey invalid = new ExpressionKey("coverages[0].isPrimary = \"\"\"", scope);
+        ExpressionKey valid = new ExpressionKey("coverages[0].isPrimary // " + UUID.randomUUID(), scope);
+
+        BulkAstBuildingResult result = AstBuilder.fromAll(List.of(invalid, valid), ForkJoinPool.commonPool());
+
+        assertThat(result.getAsts().keySet(), hasItems(valid));
+        assertThat(result.getErrors().keySet(), hasItems(invalid));
+        assertThat(result.getLlParseCount(), is(1));
+    }
+
+    @Test
+    public void shouldResolveLiteralFromLiteralCacheRegardlessOfScope() {
+        String literal = "'" + UUID.randomUUID() + "'";
+        AstCacheStatistics before = AstBuilder.getCacheStatistics();
+
+        Ast ast = AstBuilder.from(literal, getCoverageSymbolMock());
+        Ast cached = AstBuilder.from(literal, Scope.dynamic());
+
+        AstCacheStatistics after = AstBuilder.getCacheStatistics();
+        assertThat(cached, sameInstance(ast));
+        assertThat(after.getRequestCount() - before.getRequestCount(), greaterThanOrEqualTo(2L));
+        assertThat(after.getLiteralHitCount() - before.getLiteralHitCount(), greaterThanOrEqualTo(1L));
+        assertThat(after.getMissCount() - before.getMissCount(), greaterThanOrEqualTo(1L));
+        assertThat(after.getLiteralSize(), greaterThanOrEqualTo(1L));
+    }
+
+    @Test
+    public void shouldEvictLiteralsWhenLiteralCacheIsFull() {
+        long capacity = Long.parseLong(AstBuilder.LITERAL_AST_CACHE_ENTRY_CAPACITY);
+        int overflow = 100;
+        String prefix = UUID.randomUUID().toString();
+        AstCacheStatistics before = AstBuilder.getCacheStatistics();
+
+        for (int i = 0; i < capacity + overflow; i++) {
+            AstBuilder.from("'" + prefix + i + "'", Scope.dynamic());
+        }
+
+        // cache2k enforces entry capacity approximately, therefore only assert that entries were evicted
+        AstCacheStatistics after = AstBuilder.getCacheStatistics();
+        assertThat(after.getLiteralSize(), lessThan(capacity + overflow));
+        assertThat(after.getLiteralEvictionCount() - before.getLiteralEvictionCount(), greaterThan(0L));
+    }
+
+    @Test
+    public void shouldIdentifyScopeOfExpressionKeyByName() {
+        Scope coverage = getCoverageSymbolMock();
+
+        assertThat(new ExpressionKey("a", coverage), equalTo(new ExpressionKey("a", getCoverageSymbolMock())));
+        assertThat(new ExpressionKey("a", coverage).hashCode(),
+            equalTo(new ExpressionKey("a", getCoverageSymbolMock()).hashCode()));
+        assertThat(new ExpressionKey("a", coverage), not(equalTo(new ExpressionKey("a", Scope.dynamic()))));
+        assertThat(new ExpressionKey("a", coverage), not(equalTo(new ExpressionKey("b", coverage))));
+    }
+
     @Test
     public void shouldThrowIfCannotTokenize() {
         assertThrows(AstBuildingException.class, () -> rawAst("\"\"\""));
@@ -0,0 +1,145 @@
+package kraken.el.profiler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import kraken.el.EvaluationContext;
+import kraken.el.ExpressionLanguageConfiguration;
+import kraken.el.TypeProvider;
+import kraken.el.ast.Ast;
+import kraken.el.ast.NodeType;
+import kraken.el.ast.builder.AstBuilder;
+import kraken.el.functionregistry.FunctionInvoker;
+import kraken.el.interpreter.evaluator.InterpretingExpressionEvaluator;
+import kraken.el.scope.Scope;
+import kraken.el.scope.type.Type;
+
+public class ExpressionProfilerTest {
+
+    private static final TypeProvider TYPE_PROVIDER = new TypeProvider() {
+        @Override
+        public String getTypeOf(Object object) {
+            return Type.ANY.getName();
+        }
+
+        @Override
+        public Collection<String> getInheritedTypesOf(Object object) {
+            return List.of();
+        }
+    };
+
+    private InterpretingExpressionEvaluator evaluator;
+
+    private ExpressionProfiler profiler;
+
+    @Before
+    public void setUp() {
+        evaluator = new InterpretingExpressionEvaluator(new ExpressionLanguageConfiguration(false, true));
+        profiler = new ExpressionProfiler();
+    }
+
+    @Test
+    public void shouldProfileEachAstNodeByKeyAndExpression() {
+        Object result = profiler.profile("rule", () -> evaluate("for n in numbers return n * 2"));
+
+        assertThat((List<?>) result, hasSize(3));
+        assertThat(profiler.getProfiles(), hasSize(1));
+
+        ExpressionProfile profile = profiler.getProfiles().get(0);
+        assertThat(profile.getKey(), equalTo("rule"));
+        assertThat(profile.getExpression(), equalTo("for n in numbers return n * 2"));
+
+        AstNodeProfile root = node(profile, NodeType.FOR);
+        AstNodeProfile multiplication = node(profile, NodeType.MULTIPLICATION);
+        assertThat(root.getInvocations(), is(1L));
+        assertThat(multiplication.getInvocations(), is(3L));
+        assertThat(multiplication.getText(), equalTo("n * 2"));
+        assertThat(multiplication.getStart(), is(24));
+        assertThat(profile.getTotalTimeNanos(), equalTo(root.getTotalTimeNanos()));
+    }
+
+    @Test
+    public void shouldReportHotspotsBySelfTime() {
+        profiler.profile("rule", () -> evaluate("for n in numbers return n * 2"));
+
+        List<AstNodeProfile> hotspots = profiler.getHotspots(2);
+
+        assertThat(hotspots, hasSize(2));
+        assertThat(hotspots.get(0).getSelfTimeNanos() >= hotspots.get(1).getSelfTimeNanos(), is(true));
+        assertThat(profiler.report(2), containsString("'rule'"));
+    }
+
+    @Test
+    public void shouldProfileSameExpressionSeparatelyForEachKey() {
+        profiler.profile("first", () -> evaluate("numbers[0] + 1"));
+        profiler.profile("second", () -> evaluate("numbers[0] + 1"));
+        profiler.profile("second", () -> evaluate("numbers[0] + 1"));
+
+        assertThat(profiler.getProfiles(), hasSize(2));
+        assertThat(
+            profiler.getProfiles().stream().map(ExpressionProfile::getKey).collect(Collectors.toList()),
+            containsInAnyOrder("first", "second")
+        );
+        assertThat(node(profile("first"), NodeType.ADDITION).getInvocations(), is(1L));
+        assertThat(node(profile("second"), NodeType.ADDITION).getInvocations(), is(2L));
+        assertThat(profile("first").getExpression(), equalTo(profile("second").getExpression()));
+
+        profiler.clear();
+        profiler.profile("third", () -> evaluate("numbers[0] + 1"));
+
+        assertThat(profiler.getProfiles(), hasSize(1));
+        assertThat(profiler.getProfiles().get(0).getKey(), equalTo("third"));
+    }
+
+    @Test
+    public void shouldNotProfileWhenProfilerIsNotProvided() {
+        evaluate("numbers[0] + 1", null);
+
+        assertThat(profiler.getProfiles(), empty());
+    }
+
+    private ExpressionProfile profile(String key) {
+        return profiler.getProfiles().stream()
+            .filter(profile -> profile.getKey().equals(key))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private AstNodeProfile node(ExpressionProfile profile, NodeType nodeType) {
+        return profile.getNodes().stream()
+            .filter(node -> node.getNodeType() == nodeType)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Object evaluate(String expression) {
+        return evaluate(expression, profiler);
+    }
+
+    private Object evaluate(String expression, ExpressionProfiler profiler) {
+        Ast ast = AstBuilder.from(expression, Scope.dynamic());
+        var evaluationContext = new EvaluationContext(
+            Map.of("numbers", List.of(1, 2, 3)),
+            Map.of(),
+            TYPE_PROVIDER,
+            new FunctionInvoker(Map.of(), evaluator, TYPE_PROVIDER),
+            ZoneId.systemDefault(),
+            profiler
+        );
+        return evaluator.evaluate(ast, evaluationContext);
+    }
+}
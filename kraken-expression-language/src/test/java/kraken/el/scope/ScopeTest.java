@@ -21,11 +21,17 @@ import kraken.el.scope.type.Type;
 import kraken.el.scope.type.TypeRef;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -45,6 +51,37 @@ public class ScopeTest {
         assertThat(globalScope.findScopeTypeOfReference("anyReference"), is(ScopeType.GLOBAL));
     }
 
+    @Test
+    public void shouldFingerprintScopeByName() {
+        Scope policy = new Scope(ScopeType.LOCAL, new Scope(new Type("GLOBAL"), Map.of()), new Type("Policy"));
+        Scope samePolicy = new Scope(ScopeType.LOCAL, new Scope(new Type("GLOBAL"), Map.of()), new Type("Policy"));
+        Scope coverage = new Scope(ScopeType.LOCAL, new Scope(new Type("GLOBAL"), Map.of()), new Type("Coverage"));
+
+        assertThat(policy.getFingerprint(), is(samePolicy.getFingerprint()));
+        assertThat(policy, is(samePolicy));
+        assertThat(policy.getFingerprint(), not(coverage.getFingerprint()));
+        assertThat(policy, not(coverage));
+    }
+
+    @Test
+    public void shouldRecomputeFingerprintWhenScopeIsDeserialized() throws IOException, ClassNotFoundException {
+        Scope policy = new Scope(ScopeType.LOCAL, new Scope(new Type("GLOBAL"), Map.of()), new Type("Policy"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(policy);
+        }
+
+        Scope deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (Scope) in.readObject();
+        }
+
+        assertThat(deserialized.getFingerprint(), is(policy.getFingerprint()));
+        assertThat(deserialized.getParentScope().getFingerprint(), is(policy.getParentScope().getFingerprint()));
+        assertThat(deserialized, is(policy));
+        assertThat(deserialized.hashCode(), is(policy.hashCode()));
+    }
+
     @Test
     public void shouldBuildStaticGlobalScopeWithVariable() {
         VariableSymbol policyCd = new VariableSymbol("policyCd", Type.STRING);
@@ -20,7 +20,6 @@ import java.net.URI;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.PredictionMode;
 
 import kraken.annotations.API;
@@ -42,6 +41,12 @@ import kraken.utils.ResourceUtils;
 @API
 public class KrakenDSLModelParser {
 
+    /**
+     * Lexer and parser are reused by each thread to avoid allocating ATN simulators for every resource.
+     * DFA of ANTLR grammar is static and shared by all threads, therefore it is warmed once for all parsers.
+     */
+    private static final ThreadLocal<ReusableParser> parsers = ThreadLocal.withInitial(ReusableParser::new);
+
     private KrakenDSLModelParser() {
     }
 
@@ -52,9 +57,7 @@ public class KrakenDSLModelParser {
      * @throws LineParseCancellationException if DSL cannot be parsed with information about the position
      */
     public static Resource parseResource(String dsl, URI uri) {
-        KrakenContext krakenContext = forDSL(dsl);
-        DSLModelVisitor visitor = new DSLModelVisitor();
-        DSLModel dslModel = visitor.visit(krakenContext);
+        DSLModel dslModel = parsers.get().parse(dsl);
 
         return KrakenDSLModelConverter.toResource(dslModel, uri);
     }
@@ -68,33 +71,6 @@ public class KrakenDSLModelParser {
         return parseResource(dsl, ResourceUtils.randomResourceUri());
     }
 
-    private static KrakenContext forDSL(String dsl) {
-        DslErrorListener listener = new DslErrorListener();
-        Common lexer = lexerForExpression(dsl);
-        lexer.removeErrorListeners();
-        lexer.addErrorListener(listener);
-        TokenStream tokenStream = new CommonTokenStream(lexer);
-        KrakenDSL parser = new KrakenDSL(tokenStream);
-        parser.setErrorHandler(new DslErrorStrategy());
-        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
-        parser.removeErrorListeners();
-        parser.addErrorListener(listener);
-
-        KrakenContext krakenContext = parser.kraken();
-
-        if(!listener.getErrors().isEmpty()) {
-            DslError error = listener.getErrors().get(0);
-            throw new LineParseCancellationException(error.getMessage(), error.getLine(), error.getColumn());
-        }
-
-        return krakenContext;
-    }
-
-    private static Common lexerForExpression(String expression) {
-        CharStream stream = CharStreams.fromString(expression);
-        return new CommonLexer(stream);
-    }
-
     static class CommonLexer extends Common {
 
         public CommonLexer(CharStream input) {
@@ -116,4 +92,43 @@ public class KrakenDSLModelParser {
                 : super.popMode();
         }
     }
+
+    private static final class ReusableParser {
+
+        private final Common lexer = new CommonLexer(null);
+
+        private final KrakenDSL parser = new KrakenDSL(null);
+
+        ReusableParser() {
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        }
+
+        DSLModel parse(String dsl) {
+            DslErrorListener listener = new DslErrorListener();
+            lexer.setInputStream(CharStreams.fromString(dsl));
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(listener);
+            parser.setTokenStream(new CommonTokenStream(lexer));
+            parser.setErrorHandler(new DslErrorStrategy());
+            parser.removeErrorListeners();
+            parser.addErrorListener(listener);
+
+            try {
+                KrakenContext krakenContext = parser.kraken();
+
+                if(!listener.getErrors().isEmpty()) {
+                    DslError error = listener.getErrors().get(0);
+                    throw new LineParseCancellationException(error.getMessage(), error.getLine(), error.getColumn());
+                }
+
+                // visitor reads expressions from input of lexer, therefore input is released only after visiting
+                DSLModelVisitor visitor = new DSLModelVisitor();
+                return visitor.visit(krakenContext);
+            } finally {
+                // releases DSL, so that it is not retained by thread until the next parse
+                parser.setTokenStream(null);
+                lexer.setInputStream(null);
+            }
+        }
+    }
 }
@@ -19,15 +19,22 @@ import static kraken.message.SystemMessageBuilder.Message.DSL_CANNOT_COLLECT;
 import static kraken.message.SystemMessageBuilder.Message.DSL_CANNOT_PARSE_URL;
 import static kraken.message.SystemMessageBuilder.Message.DSL_CANNOT_READ;
 import static kraken.message.SystemMessageBuilder.Message.DSL_NOT_VALID;
+import static kraken.utils.FutureUtils.join;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -42,22 +49,69 @@ import kraken.model.resource.Resource;
 import kraken.utils.ResourceLoader;
 
 /**
+ * Reads and parses DSL resources from classpath.
+ * <p/>
+ * Resources are collected and loaded under a global lock, because classpath is searched using shared file system
+ * manager which closes layered file systems of jars after search. Loaded DSL is parsed without the lock.
+ * By default, DSL is parsed sequentially in the calling thread. If parsing executor is provided, then resources
+ * are split into chunks and each chunk is parsed in parsing executor. The first resource is parsed before others,
+ * so that shared DFA of DSL grammar is warmed before parsers start in parallel.
+ * Resources are returned in the same order as collected.
+ * <p/>
+ * If cache directory is provided, then parsed resources are stored in that directory and DSL with unchanged content
+ * is loaded from cache instead of being parsed again. See {@link DSLResourceCache}.
+ *
  * @author mulevicius
  */
 public class DSLReader {
 
     public static final String NAME_PATTERN = ".*\\.rules";
     private static final Lock resourceLock = new ReentrantLock();
+    private static final int PARSING_CHUNKS_PER_PROCESSOR = 4;
 
     private final Collection<String> excludePatterns;
 
+    private final Executor parsingExecutor;
+
+    private final DSLResourceCache resourceCache;
+
     /**
      * Creates DSLReader with ignore patterns. URL is ignores if one of patterns is matching.
+     * Resources are parsed in the calling thread.
      * @param excludePatterns are patterns for folders or text in extracted from classpath URL.
      *                        it can be **ignoredToken** or **\/ignoredFolder\/**
      */
     public DSLReader(Collection<String> excludePatterns) {
+        this(excludePatterns, Runnable::run);
+    }
+
+    /**
+     * Creates DSLReader with ignore patterns and executor to parse resources in.
+     *
+     * @param excludePatterns are patterns for folders or text in extracted from classpath URL
+     * @param parsingExecutor to parse chunks of DSL resources in, for example, a dedicated bounded pool.
+     *                        Provide {@code Runnable::run} to parse in the calling thread.
+     * @since 1.55.0
+     */
+    public DSLReader(Collection<String> excludePatterns, Executor parsingExecutor) {
+        this(excludePatterns, parsingExecutor, null);
+    }
+
+    /**
+     * Creates DSLReader with ignore patterns, executor to parse resources in and a directory to cache parsed
+     * resources in.
+     *
+     * @param excludePatterns are patterns for folders or text in extracted from classpath URL
+     * @param parsingExecutor to parse chunks of DSL resources in, for example, a dedicated bounded pool.
+     *                        Provide {@code Runnable::run} to parse in the calling thread.
+     * @param cacheDirectory to store parsed resources in, so that unchanged DSL is not parsed again
+     *                       by the next reader. Directory is created if it does not exist. Can be null.
+     * @since 1.55.0
+     */
+    public DSLReader(Collection<String> excludePatterns, Executor parsingExecutor, Path cacheDirectory) {
         this.excludePatterns = excludePatterns;
+        this.parsingExecutor = Objects.requireNonNull(parsingExecutor);
+        this.resourceCache = cacheDirectory != null ? new DSLResourceCache(cacheDirectory) : null;
     }
 
     public DSLReader() {
@@ -69,22 +123,63 @@ public class DSLReader {
     }
 
     public List<Resource> read(Collection<String> directories) throws DSLReadingException {
+        List<LoadedDsl> loadedDsl;
         resourceLock.lock();
         try {
-            return directories.stream()
+            loadedDsl = directories.stream()
                     .flatMap(source -> collectUrls(source, NAME_PATTERN).stream())
                     .distinct()
-                    .map(this::read)
+                    .map(this::load)
                     .collect(Collectors.toList());
         } finally {
             resourceLock.unlock();
         }
+
+        if (loadedDsl.isEmpty()) {
+            return List.of();
+        }
+        Resource first = parse(loadedDsl.get(0));
+        List<LoadedDsl> others = loadedDsl.subList(1, loadedDsl.size());
+        int chunkCount = Runtime.getRuntime().availableProcessors() * PARSING_CHUNKS_PER_PROCESSOR;
+        int chunkSize = Math.max(1, others.size() / chunkCount);
+        List<CompletableFuture<List<Resource>>> chunks = new ArrayList<>();
+        for (int i = 0; i < others.size(); i += chunkSize) {
+            List<LoadedDsl> chunk = others.subList(i, Math.min(i + chunkSize, others.size()));
+            chunks.add(CompletableFuture.supplyAsync(
+                    () -> chunk.stream().map(this::parse).collect(Collectors.toList()),
+                    parsingExecutor
+            ));
+        }
+
+        List<Resource> resources = new ArrayList<>(loadedDsl.size());
+        resources.add(first);
+        chunks.forEach(chunk -> resources.addAll(join(chunk)));
+        return resources;
     }
 
-    private Resource read(URL url) {
+    private LoadedDsl load(URL url) {
         try (InputStream inputStream = url.openStream()) {
-            String dsl = IOUtils.toString(inputStream, Charset.defaultCharset());
-            return KrakenDSLModelParser.parseResource(dsl, url.toURI());
+            return new LoadedDsl(url, IOUtils.toString(inputStream, Charset.defaultCharset()));
+        } catch (IOException e) {
+            var message = SystemMessageBuilder.create(DSL_CANNOT_READ).parameters(url).build();
+            throw new DSLReadingException(message, e);
+        }
+    }
+
+    private Resource parse(LoadedDsl loadedDsl) {
+        URL url = loadedDsl.url;
+        try {
+            URI uri = url.toURI();
+            if (resourceCache == null) {
+                return KrakenDSLModelParser.parseResource(loadedDsl.dsl, uri);
+            }
+            String key = resourceCache.key(uri, loadedDsl.dsl);
+            Resource resource = resourceCache.get(key);
+            if (resource == null) {
+                resource = KrakenDSLModelParser.parseResource(loadedDsl.dsl, uri);
+                resourceCache.put(key, resource);
+            }
+            return resource;
         } catch (DSLParsingException e) {
             var message = SystemMessageBuilder.create(DSL_NOT_VALID).parameters(url).build();
             throw new DSLReadingException(message, e);
@@ -92,9 +187,6 @@ public class DSLReader {
             var position = url + ":" + e.getLine() + ":" + (e.getColumn() + 1);
             var message = SystemMessageBuilder.create(DSL_NOT_VALID).parameters(position).build();
             throw new DSLReadingException(message, e);
-        } catch (IOException e) {
-            var message = SystemMessageBuilder.create(DSL_CANNOT_READ).parameters(url).build();
-            throw new DSLReadingException(message, e);
         } catch (URISyntaxException e) {
             var message = SystemMessageBuilder.create(DSL_CANNOT_PARSE_URL).parameters(url).build();
             throw new DSLReadingException(message, e);
@@ -115,4 +207,16 @@ public class DSLReader {
             throw new DSLReadingException(message, e);
         }
     }
+
+    private static final class LoadedDsl {
+
+        private final URL url;
+
+        private final String dsl;
+
+        LoadedDsl(URL url, String dsl) {
+            this.url = url;
+            this.dsl = dsl;
+        }
+    }
 }
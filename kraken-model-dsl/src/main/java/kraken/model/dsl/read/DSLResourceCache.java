@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.model.dsl.read;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import kraken.Kraken;
+import kraken.model.resource.Resource;
+
+/**
+ * On-disk cache of parsed DSL resources. Each resource is stored in a separate file named by SHA-256 hash
+ * of Kraken version, resource URI and DSL content, therefore changed DSL is never loaded from cache
+ * and stale files are simply not used anymore. Resource is stored in Java serialization format compressed by GZIP.
+ * <p/>
+ * Cache is best effort: a file which cannot be read or deserialized is treated as a cache miss,
+ * and a failure to write a file is logged and ignored. Files are written atomically,
+ * therefore cache directory can be shared by concurrent readers.
+ * <p/>
+ * Only Kraken model classes, JDK collections and value types are deserialized from cache files.
+ * Model classes do not pin {@code serialVersionUID}, so a file written with a different layout of model classes
+ * fails to deserialize and resource is parsed again.
+ *
+ * @since 1.55.0
+ */
+final class DSLResourceCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DSLResourceCache.class);
+
+    private static final String FORMAT_VERSION = "1";
+
+    private static final String EXTENSION = ".resource";
+
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+        "!kraken.model.dsl.**;kraken.model.**;"
+            + "java.lang.*;java.util.*;java.math.BigDecimal;java.math.BigInteger;java.time.*;java.net.URI;!*"
+    );
+
+    private final Path directory;
+
+    DSLResourceCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return key of resource in cache, which changes whenever DSL content changes
+     */
+    String key(URI uri, String dsl) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((FORMAT_VERSION + "\n" + Kraken.VERSION + "\n" + uri + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(dsl.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by JVM", e);
+        }
+    }
+
+    /**
+     * @return cached resource, or null if resource is not in cache
+     */
+    Resource get(String key) {
+        Path file = directory.resolve(key + EXTENSION);
+        try (ObjectInputStream in = new ObjectInputStream(
+            new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+            in.setObjectInputFilter(FILTER);
+            return (Resource) in.readObject();
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.debug("Cached DSL resource '{}' cannot be read and will be parsed again.", file, e);
+            return null;
+        }
+    }
+
+    void put(String key, Resource resource) {
+        Path file = directory.resolve(key + EXTENSION);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, key, ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(
+                new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile))))) {
+                out.writeObject(resource);
+            }
+            move(tempFile, file);
+        } catch (IOException e) {
+            logger.warn("Failed to write parsed DSL resource '{}' to cache '{}'.", resource.getUri(), file, e);
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Failed to delete temporary file '{}'.", file, e);
+        }
+    }
+
+}
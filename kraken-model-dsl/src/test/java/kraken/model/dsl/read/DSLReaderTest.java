@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.model.dsl.read;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import kraken.model.resource.Resource;
+
+public class DSLReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadResourcesInParallelInSameOrderAsSequentially() {
+        List<Resource> sequential = new DSLReader(List.of(), Runnable::run).read("DSLReaderTest/valid");
+        ForkJoinPool parsingPool = new ForkJoinPool(4);
+        try {
+            List<Resource> parallel = new DSLReader(List.of(), parsingPool).read("DSLReaderTest/valid");
+
+            assertThat(describe(sequential), hasSize(5));
+            assertThat(describe(parallel), equalTo(describe(sequential)));
+        } finally {
+            parsingPool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldThrowWithPositionOfInvalidDsl() {
+        DSLReadingException e = assertThrows(
+            DSLReadingException.class,
+            () -> new DSLReader().read(List.of("DSLReaderTest/valid", "DSLReaderTest/invalid"))
+        );
+
+        assertThat(e.getMessage(), containsString("invalid.rules:4:"));
+    }
+
+    @Test
+    public void shouldLoadUnchangedResourcesFromCache() throws IOException {
+        Path cacheDirectory = temporaryFolder.getRoot().toPath().resolve("cache");
+        DSLReader reader = new DSLReader(List.of(), Runnable::run, cacheDirectory);
+
+        List<Resource> parsed = reader.read("DSLReaderTest/valid");
+        assertThat(listFiles(cacheDirectory), hasSize(5));
+
+        Files.writeString(listFiles(cacheDirectory).get(0), "corrupted");
+        List<Resource> cached = reader.read("DSLReaderTest/valid");
+
+        assertThat(describe(cached), equalTo(describe(parsed)));
+        // rule variation id is generated when parsing, therefore it is the same only for resources loaded from cache
+        assertThat(variationIds(cached).stream().filter(variationIds(parsed)::contains).count(), equalTo(4L));
+    }
+
+    @Test
+    public void shouldCacheResourceWithAllKindsOfDefinitions() throws IOException {
+        Path cacheDirectory = temporaryFolder.getRoot().toPath();
+        DSLReader reader = new DSLReader(List.of(), Runnable::run, cacheDirectory);
+
+        List<Resource> parsed = reader.read("kraken/model/dsl");
+        List<Resource> cached = reader.read("kraken/model/dsl");
+
+        assertThat(listFiles(cacheDirectory), hasSize(1));
+        assertThat(variationIds(cached), equalTo(variationIds(parsed)));
+        assertThat(cached.get(0).getContextDefinitions(), hasSize(parsed.get(0).getContextDefinitions().size()));
+        assertThat(cached.get(0).getEntryPoints(), hasSize(parsed.get(0).getEntryPoints().size()));
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> variationIds(List<Resource> resources) {
+        return resources.stream()
+            .flatMap(r -> r.getRules().stream())
+            .map(kraken.model.Rule::getRuleVariationId)
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> describe(List<Resource> resources) {
+        return resources.stream()
+            .map(r -> r.getUri() + " " + r.getRules().get(0).getName())
+            .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.model.dsl.read;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import kraken.model.resource.Resource;
+
+public class DSLResourceCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private DSLResourceCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new DSLResourceCache(temporaryFolder.getRoot().toPath());
+        ForeignObject.deserialized = false;
+    }
+
+    @Test
+    public void shouldReadResourceFromCache() {
+        Resource resource = new DSLReader(List.of(), Runnable::run).read("DSLReaderTest/valid").get(0);
+        String key = cache.key(resource.getUri(), "dsl");
+        cache.put(key, resource);
+
+        assertThat(cache.get(key), notNullValue());
+    }
+
+    @Test
+    public void shouldNotDeserializeClassesOtherThanKrakenModel() throws IOException {
+        String key = cache.key(URI.create("file:/foreign.rules"), "dsl");
+        Path file = temporaryFolder.getRoot().toPath().resolve(key + ".resource");
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(Files.newOutputStream(file)))) {
+            out.writeObject(List.of(new ForeignObject()));
+        }
+
+        assertThat(cache.get(key), nullValue());
+        assertThat(ForeignObject.deserialized, is(false));
+    }
+
+    static final class ForeignObject implements Serializable {
+
+        static volatile boolean deserialized;
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            deserialized = true;
+        }
+    }
+
+}
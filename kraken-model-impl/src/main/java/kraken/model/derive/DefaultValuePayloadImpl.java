@@ -15,9 +15,11 @@
  */
 package kraken.model.derive;
 
+import java.io.Serializable;
+
 import kraken.model.Expression;
 
-public class DefaultValuePayloadImpl implements DefaultValuePayload {
+public class DefaultValuePayloadImpl implements DefaultValuePayload, Serializable {
 
     private Expression valueExpression;
 
@@ -15,12 +15,13 @@
  */
 package kraken.model.entrypoint;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 import kraken.model.Metadata;
 
-public class EntryPointImpl implements EntryPoint {
+public class EntryPointImpl implements EntryPoint, Serializable {
 
     private String entryPointVariationId;
 
@@ -15,10 +15,12 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.Condition;
 import kraken.model.Expression;
 
-public class ConditionImpl implements Condition {
+public class ConditionImpl implements Condition, Serializable {
 
     private Expression expression;
 
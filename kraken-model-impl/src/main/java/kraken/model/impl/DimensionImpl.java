@@ -15,6 +15,8 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.Dimension;
 import kraken.model.DimensionDataType;
 
@@ -22,7 +24,7 @@ import kraken.model.DimensionDataType;
  * @author Tomas Dapkunas
  * @since 1.48.0
  */
-public class DimensionImpl implements Dimension {
+public class DimensionImpl implements Dimension, Serializable {
 
     private String name;
     private String physicalNamespace;
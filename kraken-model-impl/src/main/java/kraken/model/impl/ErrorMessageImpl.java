@@ -15,9 +15,11 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.ErrorMessage;
 
-public class ErrorMessageImpl implements ErrorMessage {
+public class ErrorMessageImpl implements ErrorMessage, Serializable {
 
     private String errorCode;
 
@@ -15,10 +15,12 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.Expression;
 import kraken.model.ExpressionType;
 
-public class ExpressionImpl implements Expression {
+public class ExpressionImpl implements Expression, Serializable {
 
     private String expressionString;
 
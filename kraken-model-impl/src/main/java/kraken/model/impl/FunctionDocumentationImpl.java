@@ -15,6 +15,7 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
 import java.util.List;
 
 import kraken.model.FunctionDocumentation;
@@ -24,7 +25,7 @@ import kraken.model.ParameterDocumentation;
 /**
  * @author mulevicius
  */
-public class FunctionDocumentationImpl implements FunctionDocumentation {
+public class FunctionDocumentationImpl implements FunctionDocumentation, Serializable {
 
     private String description;
     private String since;
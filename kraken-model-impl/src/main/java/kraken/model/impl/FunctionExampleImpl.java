@@ -15,12 +15,14 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.FunctionExample;
 
 /**
  * @author mulevicius
  */
-public class FunctionExampleImpl implements FunctionExample {
+public class FunctionExampleImpl implements FunctionExample, Serializable {
 
     private String example;
     private String result;
@@ -15,6 +15,7 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,7 +29,7 @@ import kraken.model.GenericTypeBound;
 /**
  * @author mulevicius
  */
-public class FunctionImpl implements Function {
+public class FunctionImpl implements Function, Serializable {
 
     private String name;
 
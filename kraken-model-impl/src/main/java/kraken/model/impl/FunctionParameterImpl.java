@@ -15,12 +15,14 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.FunctionParameter;
 
 /**
  * @author mulevicius
  */
-public class FunctionParameterImpl implements FunctionParameter {
+public class FunctionParameterImpl implements FunctionParameter, Serializable {
 
     private String name;
     private String type;
@@ -15,6 +15,7 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,7 +25,7 @@ import kraken.model.GenericTypeBound;
 /**
  * @author mulevicius
  */
-public class FunctionSignatureImpl implements FunctionSignature {
+public class FunctionSignatureImpl implements FunctionSignature, Serializable {
 
     private String name;
     private String physicalNamespace;
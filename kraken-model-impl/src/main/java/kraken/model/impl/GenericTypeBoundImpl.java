@@ -15,12 +15,14 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.GenericTypeBound;
 
 /**
  * @author mulevicius
  */
-public class GenericTypeBoundImpl implements GenericTypeBound {
+public class GenericTypeBoundImpl implements GenericTypeBound, Serializable {
 
     private String generic;
     private String bound;
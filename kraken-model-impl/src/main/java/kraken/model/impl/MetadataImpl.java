@@ -17,12 +17,13 @@ package kraken.model.impl;
 
 import kraken.model.Metadata;
 
+import java.io.Serializable;
 import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
-public class MetadataImpl implements Metadata {
+public class MetadataImpl implements Metadata, Serializable {
 
     private String type = Metadata.class.getSimpleName();
     private Map<String, Object> properties = new HashMap<>();
@@ -15,12 +15,14 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.ParameterDocumentation;
 
 /**
  * @author mulevicius
  */
-public class ParameterDocumentationImpl implements ParameterDocumentation {
+public class ParameterDocumentationImpl implements ParameterDocumentation, Serializable {
 
     private String parameterName;
     private String description;
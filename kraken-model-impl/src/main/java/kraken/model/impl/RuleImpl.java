@@ -15,12 +15,14 @@
  */
 package kraken.model.impl;
 
+import java.io.Serializable;
+
 import kraken.model.Condition;
 import kraken.model.Metadata;
 import kraken.model.Payload;
 import kraken.model.Rule;
 
-public class RuleImpl implements Rule {
+public class RuleImpl implements Rule, Serializable {
 
     private String ruleVariationId;
 
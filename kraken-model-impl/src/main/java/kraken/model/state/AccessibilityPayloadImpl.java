@@ -15,8 +15,10 @@
  */
 package kraken.model.state;
 
+import java.io.Serializable;
 
-public class AccessibilityPayloadImpl implements AccessibilityPayload {
+
+public class AccessibilityPayloadImpl implements AccessibilityPayload, Serializable {
 
     private Boolean accessible;
 
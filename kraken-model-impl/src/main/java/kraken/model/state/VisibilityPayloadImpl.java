@@ -15,8 +15,10 @@
  */
 package kraken.model.state;
 
+import java.io.Serializable;
 
-public class VisibilityPayloadImpl implements VisibilityPayload {
+
+public class VisibilityPayloadImpl implements VisibilityPayload, Serializable {
 
     private Boolean visible;
 
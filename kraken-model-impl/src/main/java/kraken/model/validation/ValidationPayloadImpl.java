@@ -15,6 +15,8 @@
  */
 package kraken.model.validation;
 
+import java.io.Serializable;
+
 import kraken.model.ErrorMessage;
 
 /**
@@ -24,7 +26,7 @@ import kraken.model.ErrorMessage;
  * @author rimas
  * @since 1.0
  */
-public abstract class ValidationPayloadImpl implements ValidationPayload {
+public abstract class ValidationPayloadImpl implements ValidationPayload, Serializable {
 
     /**
      * Error message to be used if validation fails
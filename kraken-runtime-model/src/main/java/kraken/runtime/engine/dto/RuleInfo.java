@@ -16,8 +16,8 @@
 package kraken.runtime.engine.dto;
 
 import kraken.annotations.API;
-import kraken.model.Rule;
 import kraken.model.payload.PayloadType;
+import kraken.runtime.model.rule.RuntimeRule;
 
 /**
  * Information about a particular rule
@@ -58,7 +58,7 @@ public class RuleInfo {
 
     /**
      *
-     * @return field name in Context Definition that the Rule is applied on; this is equal to {@link Rule#getTargetPath()}
+     * @return field name in Context Definition that the Rule is applied on; this is equal to {@link RuntimeRule#getTargetPath()}
      */
     public String getTargetPath() {
         return targetPath;
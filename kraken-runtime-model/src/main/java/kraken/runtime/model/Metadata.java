@@ -15,6 +15,7 @@
  */
 package kraken.runtime.model;
 
+import java.io.Serializable;
 import java.util.Map;
 
 import kraken.annotations.API;
@@ -24,7 +25,10 @@ import kraken.annotations.API;
  * @since 1.1.0
  */
 @API
-public class Metadata {
+public class Metadata implements Serializable {
+
+    private static final long serialVersionUID = -2634212019627199580L;
+
     private final Map<String, Object> properties;
 
     public Metadata(Map<String, Object> properties) {
@@ -20,6 +20,7 @@ import kraken.dimensions.DimensionSet;
 import kraken.runtime.model.Metadata;
 import kraken.runtime.model.MetadataContainer;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Set;
 
@@ -27,7 +28,10 @@ import java.util.Set;
  * @author psurinin@eisgroup.com
  * @since 1.1.0
  */
-public class RuntimeEntryPoint implements MetadataContainer {
+public class RuntimeEntryPoint implements MetadataContainer, Serializable {
+
+    private static final long serialVersionUID = -2863306060209659967L;
+
     private final String name;
     private final Collection<String> ruleNames;
     private final Collection<String> includedEntryPoints;
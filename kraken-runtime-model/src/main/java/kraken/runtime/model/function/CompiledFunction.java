@@ -15,6 +15,7 @@
  */
 package kraken.runtime.model.function;
 
+import java.io.Serializable;
 import java.util.List;
 
 import kraken.runtime.model.expression.CompiledExpression;
@@ -22,7 +23,9 @@ import kraken.runtime.model.expression.CompiledExpression;
 /**
  * @author mulevicius
  */
-public class CompiledFunction {
+public class CompiledFunction implements Serializable {
+
+    private static final long serialVersionUID = -8566995375486327540L;
 
     private final String name;
     private final List<Parameter> parameters;
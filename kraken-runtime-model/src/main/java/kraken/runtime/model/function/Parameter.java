@@ -15,10 +15,15 @@
  */
 package kraken.runtime.model.function;
 
+import java.io.Serializable;
+
 /**
  * @author mulevicius
  */
-public class Parameter {
+public class Parameter implements Serializable {
+
+    private static final long serialVersionUID = -4200807985581235117L;
+
     private final String name;
 
     public Parameter(String name) {
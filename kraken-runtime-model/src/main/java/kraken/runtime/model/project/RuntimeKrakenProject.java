@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import kraken.el.functionregistry.FunctionHeader;
@@ -44,7 +45,7 @@ public class RuntimeKrakenProject {
 
     private final List<RuntimeEntryPoint> entryPoints;
 
-    private final List<RuntimeRule> rules;
+    private final Supplier<List<RuntimeRule>> rules;
 
     private final Map<String, List<RuntimeEntryPoint>> entryPointVersions;
 
@@ -64,13 +65,42 @@ public class RuntimeKrakenProject {
         this.rootContextName = rootContextName;
         this.contextDefinitions = Collections.unmodifiableMap(contextDefinitions);
         this.entryPoints = Collections.unmodifiableList(entryPoints);
-        this.rules = Collections.unmodifiableList(rules);
+        List<RuntimeRule> allRules = Collections.unmodifiableList(rules);
+        this.rules = () -> allRules;
         this.functions = functions.stream().collect(Collectors.toMap(CompiledFunction::getName, f-> f));
 
         this.entryPointVersions = entryPoints.stream().collect(Collectors.groupingBy(RuntimeEntryPoint::getName));
         this.ruleVersions = rules.stream().collect(Collectors.groupingBy(RuntimeRule::getName));
     }
 
+    /**
+     * Creates project with rule versions that can be resolved lazily by provided map,
+     * for example when runtime project is decoded from a snapshot on demand.
+     *
+     * @param ruleVersions versions of rules by rule name
+     * @param rules supplies all rules of project; invoked only when {@link #getRules()} is invoked
+     * @since 1.55.0
+     */
+    public RuntimeKrakenProject(UUID checksum,
+                                String namespace,
+                                String rootContextName,
+                                Map<String, RuntimeContextDefinition> contextDefinitions,
+                                List<RuntimeEntryPoint> entryPoints,
+                                Map<String, List<RuntimeRule>> ruleVersions,
+                                Supplier<List<RuntimeRule>> rules,
+                                List<CompiledFunction> functions) {
+        this.checksum = checksum;
+        this.namespace = Objects.requireNonNull(namespace);
+        this.rootContextName = rootContextName;
+        this.contextDefinitions = Collections.unmodifiableMap(contextDefinitions);
+        this.entryPoints = Collections.unmodifiableList(entryPoints);
+        this.rules = Objects.requireNonNull(rules);
+        this.functions = functions.stream().collect(Collectors.toMap(CompiledFunction::getName, f-> f));
+
+        this.entryPointVersions = entryPoints.stream().collect(Collectors.groupingBy(RuntimeEntryPoint::getName));
+        this.ruleVersions = Collections.unmodifiableMap(ruleVersions);
+    }
+
     public UUID getChecksum() {
         return checksum;
     }
@@ -92,7 +122,7 @@ public class RuntimeKrakenProject {
     }
 
     public List<RuntimeRule> getRules() {
-        return rules;
+        return rules.get();
     }
 
     public Map<String, List<RuntimeEntryPoint>> getEntryPointVersions() {
@@ -16,13 +16,17 @@
 
 package kraken.runtime.model.rule;
 
+import java.io.Serializable;
+
 import kraken.runtime.model.expression.CompiledExpression;
 
 /**
  * @author psurinin@eisgroup.com
  * @since 1.1.0
  */
-public class Condition {
+public class Condition implements Serializable {
+
+    private static final long serialVersionUID = 3755586373786361780L;
 
     private final CompiledExpression expression;
 
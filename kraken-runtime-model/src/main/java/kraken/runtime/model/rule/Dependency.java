@@ -16,6 +16,7 @@
 
 package kraken.runtime.model.rule;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -24,7 +25,9 @@ import javax.annotation.Nullable;
  * @author psurinin@eisgroup.com
  * @since 1.1.0
  */
-public class Dependency {
+public class Dependency implements Serializable {
+
+    private static final long serialVersionUID = -8399086085914720685L;
 
     private final String contextName;
     private final String fieldName;
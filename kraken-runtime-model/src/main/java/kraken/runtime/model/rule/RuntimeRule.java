@@ -16,18 +16,22 @@
 
 package kraken.runtime.model.rule;
 
+import kraken.runtime.engine.dto.RuleInfo;
 import kraken.runtime.model.Metadata;
 import kraken.runtime.model.MetadataContainer;
 import kraken.dimensions.DimensionSet;
 import kraken.runtime.model.rule.payload.Payload;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * @author psurinin@eisgroup.com
  * @since 1.1.0
  */
-public class RuntimeRule implements MetadataContainer {
+public class RuntimeRule implements MetadataContainer, Serializable {
+
+    private static final long serialVersionUID = 2884159558865318473L;
 
     private final String name;
     private final String context;
@@ -39,6 +43,13 @@ public class RuntimeRule implements MetadataContainer {
     private final Metadata metadata;
     private final Integer priority;
 
+    /**
+     * Created on first access and shared between all results of this rule. {@link RuleInfo} is immutable,
+     * therefore it is safely published without synchronization. Not serialized, because it is derived
+     * from other fields of the rule.
+     */
+    private transient RuleInfo ruleInfo;
+
     public RuntimeRule(
             String name,
             String context,
@@ -98,6 +109,19 @@ public class RuntimeRule implements MetadataContainer {
         return priority;
     }
 
+    /**
+     * @return information about this rule which is shared between all results of this rule
+     * @since 1.55.0
+     */
+    public RuleInfo getRuleInfo() {
+        RuleInfo info = ruleInfo;
+        if (info == null) {
+            info = new RuleInfo(name, context, targetPath, payload.getType());
+            ruleInfo = info;
+        }
+        return info;
+    }
+
     @Override
     public String toString() {
         return "Rule@" + name;
@@ -16,12 +16,16 @@
 
 package kraken.runtime.model.rule.payload.derive;
 
+import java.io.Serializable;
+
 import kraken.model.derive.DefaultingType;
 import kraken.model.payload.PayloadType;
 import kraken.runtime.model.expression.CompiledExpression;
 import kraken.runtime.model.rule.payload.Payload;
 
-public class DefaultValuePayload implements Payload {
+public class DefaultValuePayload implements Payload, Serializable {
+
+    private static final long serialVersionUID = 7617191222013971809L;
 
     private final CompiledExpression valueExpression;
     private final DefaultingType defaultingType;
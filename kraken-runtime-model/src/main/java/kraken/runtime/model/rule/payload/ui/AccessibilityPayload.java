@@ -15,6 +15,8 @@
  */
 package kraken.runtime.model.rule.payload.ui;
 
+import java.io.Serializable;
+
 import kraken.model.payload.PayloadType;
 import kraken.runtime.model.rule.payload.Payload;
 
@@ -22,7 +24,9 @@ import kraken.runtime.model.rule.payload.Payload;
  * @author psurinin@eisgroup.com
  * @since 1.1.0
  */
-public class AccessibilityPayload implements Payload {
+public class AccessibilityPayload implements Payload, Serializable {
+
+    private static final long serialVersionUID = -2318584184548921400L;
 
     private final Boolean accessible;
     private final PayloadType type;
@@ -16,6 +16,7 @@
 
 package kraken.runtime.model.rule.payload.validation;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 
@@ -25,7 +26,9 @@ import kraken.runtime.model.expression.CompiledExpression;
  * @author psurinin@eisgroup.com
  * @since 1.1.0
  */
-public class ErrorMessage {
+public class ErrorMessage implements Serializable {
+
+    private static final long serialVersionUID = -1706523004480568248L;
 
     private final String errorCode;
     private final List<String> templateParts;
@@ -15,6 +15,8 @@
  */
 package kraken.runtime.model.rule.payload.validation;
 
+import java.io.Serializable;
+
 import kraken.model.payload.PayloadType;
 import kraken.model.validation.ValidationSeverity;
 import kraken.runtime.model.rule.payload.Payload;
@@ -23,7 +25,9 @@ import kraken.runtime.model.rule.payload.Payload;
  * @author psurinin@eisgroup.com
  * @since 1.1.0
  */
-public abstract class ValidationPayload implements Payload {
+public abstract class ValidationPayload implements Payload, Serializable {
+
+    private static final long serialVersionUID = -8811701780642835430L;
 
     private final ErrorMessage errorMessage;
     private final ValidationSeverity severity;
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.dynamic;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import kraken.annotations.SPI;
+import kraken.model.Rule;
+
+/**
+ * {@link DynamicRuleRepository} that resolves rules for all entry points of an evaluation in a single invocation.
+ * <p/>
+ * When entry point includes other entry points, Kraken Engine invokes a regular {@link DynamicRuleRepository}
+ * once for each entry point in the include closure. Implement this interface instead if repository is backed by
+ * a remote store, so that rules of all entry points are resolved in a single round trip.
+ *
+ * @since 1.55.0
+ */
+@SPI
+public interface BatchDynamicRuleRepository extends DynamicRuleRepository {
+
+    /**
+     * Resolves rules for each of specified entry points in namespace for the same context.
+     * Rules resolved for each entry point must be the same as rules returned by
+     * {@link #resolveDynamicRules(String, String, Map)} for that entry point.
+     *
+     * @param namespace indicates a project for which repository is being invoked.
+     * @param entryPoints simple names of entryPoints, without namespace prefix, that indicate which rules shall be
+     *                    provided. Contains the evaluated entry point and all entry points included by it.
+     * @param context is a data used to vary implementations of {@link Rule} logic that are applicable for given
+     *                entryPoints, as in {@link #resolveDynamicRules(String, String, Map)}.
+     * @return rules resolved for each entry point by entry point name; entry points without rules can be omitted
+     */
+    Map<String, Stream<DynamicRuleHolder>> resolveDynamicRules(String namespace,
+                                                               List<String> entryPoints,
+                                                               Map<String, Object> context);
+
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.dynamic;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import kraken.annotations.API;
+
+/**
+ * Invalidates rule sets resolved from {@link DynamicRuleRepository} and cached by Kraken Engine,
+ * when resolved rule set caching is enabled in engine configuration.
+ * A repository implementation should invoke it when rules provided by the repository change,
+ * so that changes are visible before cached rule sets expire.
+ * <p>
+ * Invalidation does not remove cached rule sets immediately. Instead, it increments a generation
+ * and rule sets cached in a previous generation are not used anymore.
+ *
+ * @since 1.55.0
+ */
+@API
+public final class DynamicRuleCacheInvalidator {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<String, AtomicLong> entryPointGenerations = new ConcurrentHashMap<>();
+
+    /**
+     * Invalidates rule sets cached for all entry points in all namespaces.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Invalidates rule sets cached for entry point.
+     *
+     * @param namespace of entry point
+     * @param entryPoint simple name of entry point, without namespace prefix
+     */
+    public void invalidate(String namespace, String entryPoint) {
+        entryPointGenerations.computeIfAbsent(key(namespace, entryPoint), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * @param namespace of entry point
+     * @param entryPoint simple name of entry point, without namespace prefix
+     * @return current generation of entry point, which changes each time rule sets of entry point are invalidated
+     */
+    public long getGeneration(String namespace, String entryPoint) {
+        AtomicLong entryPointGeneration = entryPointGenerations.get(key(namespace, entryPoint));
+        return generation.get() + (entryPointGeneration == null ? 0 : entryPointGeneration.get());
+    }
+
+    private static String key(String namespace, String entryPoint) {
+        return namespace + ":" + entryPoint;
+    }
+}
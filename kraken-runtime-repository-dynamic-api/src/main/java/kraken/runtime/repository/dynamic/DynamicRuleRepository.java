@@ -38,6 +38,7 @@ import java.util.stream.Stream;
  * However, Kraken Engine will apply optimisations based on {@link Rule#getRuleVariationId()} in dynamically generated Rule definitions.
  *
  * @see Rule#getRuleVariationId()
+ * @see BatchDynamicRuleRepository
  * @author mulevicius
  */
 @SPI
@@ -17,7 +17,9 @@ package kraken.runtime.repository;
 
 import static kraken.message.SystemMessageBuilder.Message.RULE_REPOSITORY_DUPLICATE_RULE;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,10 +76,36 @@ public class RuntimeProjectRepository implements RuntimeRuleRepository, RuntimeC
         return krakenProject.getContextDefinitions().keySet();
     }
 
+    /**
+     * Collects static rules of entry point and included entry points, and then resolves dynamic rules
+     * of all these entry points at once. If rule with the same name is collected more than once,
+     * then the first one is used in the same order as if dynamic rules were resolved for each entry point
+     * right after collecting static rules of included entry points.
+     */
     @Override
     public Map<String, RuntimeRule> resolveRules(String entryPointName, Map<String, Object> context) {
+        List<CollectedRule> collected = new ArrayList<>();
+        collectRules(entryPointName, context, collected);
+
+        Set<String> dynamicEntryPoints = new LinkedHashSet<>();
+        for (CollectedRule collectedRule : collected) {
+            if (collectedRule.rule == null) {
+                dynamicEntryPoints.add(collectedRule.entryPointName);
+            }
+        }
+        Map<String, List<RuntimeRule>> dynamicRules = dynamicRuleRepositoryProcessor
+            .resolveRules(new ArrayList<>(dynamicEntryPoints), context);
+
         Map<String, RuntimeRule> rules = new HashMap<>();
-        collectRules(entryPointName, context, rules);
+        for (CollectedRule collectedRule : collected) {
+            if (collectedRule.rule != null) {
+                collectRuleOrLogWarningIfAlreadyExists(collectedRule.entryPointName, collectedRule.rule, rules);
+            } else {
+                for (RuntimeRule rule : dynamicRules.get(collectedRule.entryPointName)) {
+                    collectRuleOrLogWarningIfAlreadyExists(collectedRule.entryPointName, rule, rules);
+                }
+            }
+        }
         return rules;
     }
 
@@ -85,19 +113,19 @@ public class RuntimeProjectRepository implements RuntimeRuleRepository, RuntimeC
         return krakenProject;
     }
 
-    private void collectRules(String entryPointName, Map<String, Object> context, Map<String, RuntimeRule> collectedRules) {
+    private void collectRules(String entryPointName, Map<String, Object> context, List<CollectedRule> collectedRules) {
         List<RuntimeEntryPoint> entryPoints = krakenProject.getEntryPointVersions().get(entryPointName);
 
         // backwards compatibility for case when EntryPoint is not in DSL but is used in DynamicRuleRepository
         if(entryPoints == null) {
-            collectDynamicRules(entryPointName, context, collectedRules);
+            collectDynamicRules(entryPointName, collectedRules);
             return;
         }
 
         resolveEntryPoint(entryPoints, context)
             .ifPresent(ep -> {
                 collectRules(ep, context, collectedRules);
-                collectDynamicRules(ep.getName(), context, collectedRules);
+                collectDynamicRules(ep.getName(), collectedRules);
             });
     }
 
@@ -110,22 +138,20 @@ public class RuntimeProjectRepository implements RuntimeRuleRepository, RuntimeC
         return dimensionFilteringService.filterEntryPoints(krakenProject.getNamespace(), entryPoints, context);
     }
 
-    private void collectDynamicRules(String entryPointName, Map<String, Object> context, Map<String, RuntimeRule> collectedRules) {
-        dynamicRuleRepositoryProcessor.resolveRules(entryPointName, context)
-                .forEach(rule -> collectRuleOrLogWarningIfAlreadyExists(entryPointName, rule, collectedRules));
+    private void collectDynamicRules(String entryPointName, List<CollectedRule> collectedRules) {
+        collectedRules.add(new CollectedRule(entryPointName, null));
     }
 
     private void collectRules(RuntimeEntryPoint entryPoint, Map<String, Object> context,
-                              Map<String, RuntimeRule> collectedRules) {
+                              List<CollectedRule> collectedRules) {
         for (String ruleName : entryPoint.getRuleNames()) {
             List<RuntimeRule> rules = krakenProject.getRuleVersions().get(ruleName);
 
             if (rules.size() == 1 && !rules.iterator().next().getDimensionSet().isDimensional()) {
-                collectRuleOrLogWarningIfAlreadyExists(entryPoint.getName(), rules.iterator().next(), collectedRules);
+                collectedRules.add(new CollectedRule(entryPoint.getName(), rules.iterator().next()));
             } else {
                 dimensionFilteringService.filterRules(krakenProject.getNamespace(), rules, context)
-                    .ifPresent(rule ->
-                        collectRuleOrLogWarningIfAlreadyExists(entryPoint.getName(), rule, collectedRules));
+                    .ifPresent(rule -> collectedRules.add(new CollectedRule(entryPoint.getName(), rule)));
             }
 
         }
@@ -143,4 +169,19 @@ public class RuntimeProjectRepository implements RuntimeRuleRepository, RuntimeC
         }
     }
 
+    /**
+     * Static rule collected for entry point, or a placeholder for dynamic rules of entry point if rule is null
+     */
+    private static final class CollectedRule {
+
+        private final String entryPointName;
+
+        private final RuntimeRule rule;
+
+        CollectedRule(String entryPointName, RuntimeRule rule) {
+            this.entryPointName = entryPointName;
+            this.rule = rule;
+        }
+    }
+
 }
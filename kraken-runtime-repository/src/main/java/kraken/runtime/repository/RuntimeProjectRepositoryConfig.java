@@ -15,12 +15,17 @@
  */
 package kraken.runtime.repository;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import kraken.runtime.repository.dynamic.DynamicRuleRepository;
 import kraken.runtime.repository.dynamic.DynamicRuleRepositoryCacheConfig;
 import kraken.runtime.repository.filter.DimensionFilter;
+import kraken.runtime.repository.snapshot.ProjectSourceFingerprint;
+import kraken.utils.metrics.KrakenMetrics;
 
 /**
  * Configuration that needs to be provided when initializing {@link RuntimeProjectRepository}
@@ -35,14 +40,56 @@ public class RuntimeProjectRepositoryConfig {
 
     private Collection<DynamicRuleRepository> dynamicRuleRepositories;
 
+    private KrakenMetrics metrics;
+
+    private Executor dynamicRuleRepositoryExecutor;
+
+    private long backgroundReloadIntervalInMillis;
+
+    private ForkJoinPool conversionPool;
+
+    private Path projectSnapshotDirectory;
+
+    private ProjectSourceFingerprint projectSourceFingerprint = ProjectSourceFingerprint.classpathRules();
+
     public RuntimeProjectRepositoryConfig(DynamicRuleRepositoryCacheConfig dynamicRuleRepositoryCacheConfig,
                                           Collection<DimensionFilter> dimensionFilters,
                                           Collection<DynamicRuleRepository> dynamicRuleRepositories) {
+        this(dynamicRuleRepositoryCacheConfig, dimensionFilters, dynamicRuleRepositories, KrakenMetrics.noop());
+    }
+
+    /**
+     * @param metrics to report dynamic rule metrics to
+     * @since 1.55.0
+     */
+    public RuntimeProjectRepositoryConfig(DynamicRuleRepositoryCacheConfig dynamicRuleRepositoryCacheConfig,
+                                          Collection<DimensionFilter> dimensionFilters,
+                                          Collection<DynamicRuleRepository> dynamicRuleRepositories,
+                                          KrakenMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
         this.dimensionFilters = Objects.requireNonNull(dimensionFilters);
         this.dynamicRuleRepositories = Objects.requireNonNull(dynamicRuleRepositories);
         this.dynamicRuleRepositoryCacheConfig = Objects.requireNonNull(dynamicRuleRepositoryCacheConfig);
     }
 
+    /**
+     * @param metrics to report dynamic rule metrics to
+     * @param dynamicRuleRepositoryExecutor to query dynamic rule repositories concurrently when there is more than
+     *                                      one repository. By default, repositories are queried one after another
+     *                                      in the calling thread. Provide a dedicated executor if repositories
+     *                                      block on I/O, and only if repositories do not depend on thread local
+     *                                      state of the calling thread.
+     * @since 1.55.0
+     */
+    public RuntimeProjectRepositoryConfig(DynamicRuleRepositoryCacheConfig dynamicRuleRepositoryCacheConfig,
+                                          Collection<DimensionFilter> dimensionFilters,
+                                          Collection<DynamicRuleRepository> dynamicRuleRepositories,
+                                          KrakenMetrics metrics,
+                                          Executor dynamicRuleRepositoryExecutor) {
+        this(dynamicRuleRepositoryCacheConfig, dimensionFilters, dynamicRuleRepositories, metrics);
+        this.dynamicRuleRepositoryExecutor = Objects.requireNonNull(dynamicRuleRepositoryExecutor);
+    }
+
     public DynamicRuleRepositoryCacheConfig getDynamicRuleRepositoryCacheConfig() {
         return dynamicRuleRepositoryCacheConfig;
     }
@@ -54,4 +101,126 @@ public class RuntimeProjectRepositoryConfig {
     public Collection<DynamicRuleRepository> getDynamicRuleRepositories() {
         return dynamicRuleRepositories;
     }
+
+    public KrakenMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Enables background reload of runtime project repositories. When enabled, resolved repository is returned without
+     * checking whether Kraken project has changed. Instead, changes are detected periodically in a background thread,
+     * and repository is converted and swapped without blocking rule evaluations.
+     * Evaluations may use the previous version of Kraken project until reload completes.
+     *
+     * @param intervalInMillis between checks for changes of Kraken projects
+     * @return this configuration
+     * @since 1.55.0
+     */
+    public RuntimeProjectRepositoryConfig withBackgroundReload(long intervalInMillis) {
+        if (intervalInMillis <= 0) {
+            throw new IllegalArgumentException("Background reload interval must be positive, but was " + intervalInMillis);
+        }
+        this.backgroundReloadIntervalInMillis = intervalInMillis;
+        return this;
+    }
+
+    /**
+     * @return true if runtime project repositories are reloaded in background
+     * @since 1.55.0
+     */
+    public boolean isBackgroundReloadEnabled() {
+        return backgroundReloadIntervalInMillis > 0;
+    }
+
+    /**
+     * @since 1.55.0
+     */
+    public long getBackgroundReloadIntervalInMillis() {
+        return backgroundReloadIntervalInMillis;
+    }
+
+    /**
+     * Enables parallel conversion of Kraken projects to runtime projects. Rules are converted in provided pool,
+     * which includes expression translation, AST building and dependency extraction.
+     * Converted runtime project is the same as when converted sequentially.
+     *
+     * @param conversionPool to convert rules in
+     * @return this configuration
+     * @since 1.55.0
+     */
+    public RuntimeProjectRepositoryConfig withConversionPool(ForkJoinPool conversionPool) {
+        this.conversionPool = Objects.requireNonNull(conversionPool);
+        return this;
+    }
+
+    /**
+     * @return pool to convert rules in, or null if Kraken projects are converted sequentially
+     * @since 1.55.0
+     */
+    public ForkJoinPool getConversionPool() {
+        return conversionPool;
+    }
+
+    /**
+     * Enables reading of runtime projects from snapshots written by
+     * {@link kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory#writeProjectSnapshot(String, Path)}.
+     * Snapshot is used only while it is written from the same Kraken DSL resources in classpath as are
+     * currently available, see {@link ProjectSourceFingerprint#classpathRules()}.
+     *
+     * @param projectSnapshotDirectory to read snapshots from
+     * @return this configuration
+     * @see #withProjectSnapshots(Path, ProjectSourceFingerprint)
+     * @since 1.55.0
+     */
+    public RuntimeProjectRepositoryConfig withProjectSnapshots(Path projectSnapshotDirectory) {
+        return withProjectSnapshots(projectSnapshotDirectory, ProjectSourceFingerprint.classpathRules());
+    }
+
+    /**
+     * Enables reading of runtime projects from snapshots written by
+     * {@link kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory#writeProjectSnapshot(String, Path)}.
+     * If directory contains a snapshot of namespace and source fingerprint of snapshot is equal to fingerprint
+     * of current sources, then runtime project is read from snapshot instead of building and converting
+     * Kraken project. Kraken project is resolved only if dynamic rule repositories are configured,
+     * because dynamic rules are converted and validated against it.
+     * If snapshot cannot be read or sources have changed, then Kraken project is converted as usual.
+     *
+     * @param projectSnapshotDirectory to read snapshots from
+     * @param projectSourceFingerprint of current sources of Kraken projects; must be the same as is configured
+     *                                 when snapshots are written
+     * @return this configuration
+     * @since 1.55.0
+     */
+    public RuntimeProjectRepositoryConfig withProjectSnapshots(Path projectSnapshotDirectory,
+                                                               ProjectSourceFingerprint projectSourceFingerprint) {
+        this.projectSnapshotDirectory = Objects.requireNonNull(projectSnapshotDirectory);
+        this.projectSourceFingerprint = Objects.requireNonNull(projectSourceFingerprint);
+        return this;
+    }
+
+    /**
+     * @return directory to read runtime project snapshots from, or null if snapshots are not used
+     * @since 1.55.0
+     */
+    public Path getProjectSnapshotDirectory() {
+        return projectSnapshotDirectory;
+    }
+
+    /**
+     * @return fingerprint of sources of Kraken projects which is written to and compared with runtime project
+     *         snapshots; {@link ProjectSourceFingerprint#classpathRules()} unless configured otherwise
+     * @since 1.55.0
+     */
+    public ProjectSourceFingerprint getProjectSourceFingerprint() {
+        return projectSourceFingerprint;
+    }
+
+    /**
+     * @return executor to query dynamic rule repositories concurrently; null if repositories are queried
+     *         one after another in the calling thread
+     * @since 1.55.0
+     */
+    public Executor getDynamicRuleRepositoryExecutor() {
+        return dynamicRuleRepositoryExecutor;
+    }
 }
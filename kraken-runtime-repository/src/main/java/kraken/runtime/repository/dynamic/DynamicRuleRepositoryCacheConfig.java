@@ -15,7 +15,12 @@
  */
 package kraken.runtime.repository.dynamic;
 
+import java.util.Objects;
+
 /**
+ * Configures cache of dynamic rules converted to runtime rules, and optionally,
+ * cache of rule sets resolved from each {@link DynamicRuleRepository}.
+ *
  * @author mulevicius
  */
 public class DynamicRuleRepositoryCacheConfig {
@@ -24,11 +29,75 @@ public class DynamicRuleRepositoryCacheConfig {
 
     private long expireAfterWriteInSeconds;
 
+    private long resolvedRulesCacheMaxSize;
+
+    private long resolvedRulesExpireAfterWriteInSeconds;
+
+    private DynamicRuleCacheInvalidator invalidator;
+
     public DynamicRuleRepositoryCacheConfig(long cacheMaxSize, long expireAfterWriteInSeconds) {
         this.cacheMaxSize = cacheMaxSize;
         this.expireAfterWriteInSeconds = expireAfterWriteInSeconds;
     }
 
+    /**
+     * Enables cache of rule sets resolved from each {@link DynamicRuleRepository} by entry point and values of
+     * dimensions that resolved rules vary by, as declared in {@link DynamicRuleHolder}.
+     * When a rule set is cached, repository is not invoked for the same entry point and dimension values.
+     * <p>
+     * Enable it only if the set of rules returned by repository for entry point depends solely on the values of
+     * dimensions declared for rules returned for that entry point. If repository selects rules by a context value,
+     * then rules returned for entry point must declare it as a dimension, even when the selected rule itself
+     * does not vary by it. Other context values are ignored by cache. Dimension values must be immutable and have
+     * value based equality. Rule sets of entry point are not cached while it returns a rule with unknown dimensions.
+     * <p>
+     * Modifies this configuration, like {@code with} methods of {@code RuntimeProjectRepositoryConfig}.
+     *
+     * @param maxSize maximum number of cached rule sets
+     * @param expireAfterWriteInSeconds time to live of cached rule set
+     * @param invalidator to invalidate cached rule sets when repository rules change
+     * @return this configuration
+     * @since 1.55.0
+     */
+    public DynamicRuleRepositoryCacheConfig withResolvedRulesCache(long maxSize,
+                                                                   long expireAfterWriteInSeconds,
+                                                                   DynamicRuleCacheInvalidator invalidator) {
+        this.resolvedRulesCacheMaxSize = maxSize;
+        this.resolvedRulesExpireAfterWriteInSeconds = expireAfterWriteInSeconds;
+        this.invalidator = Objects.requireNonNull(invalidator);
+        return this;
+    }
+
+    /**
+     * @return true if cache of resolved rule sets is enabled
+     * @since 1.55.0
+     */
+    public boolean isResolvedRulesCacheEnabled() {
+        return invalidator != null && resolvedRulesCacheMaxSize > 0 && resolvedRulesExpireAfterWriteInSeconds > 0;
+    }
+
+    /**
+     * @since 1.55.0
+     */
+    public long getResolvedRulesCacheMaxSize() {
+        return resolvedRulesCacheMaxSize;
+    }
+
+    /**
+     * @since 1.55.0
+     */
+    public long getResolvedRulesExpireAfterWriteInSeconds() {
+        return resolvedRulesExpireAfterWriteInSeconds;
+    }
+
+    /**
+     * @return invalidator of resolved rule sets; null if cache of resolved rule sets is not enabled
+     * @since 1.55.0
+     */
+    public DynamicRuleCacheInvalidator getInvalidator() {
+        return invalidator;
+    }
+
     public long getCacheMaxSize() {
         return cacheMaxSize;
     }
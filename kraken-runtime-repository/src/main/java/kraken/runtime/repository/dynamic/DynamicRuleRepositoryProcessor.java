@@ -17,12 +17,18 @@ package kraken.runtime.repository.dynamic;
 
 import static kraken.message.SystemMessageBuilder.Message.DYNAMIC_RULE_MISSING_VARIATION_ID;
 import static kraken.model.project.validator.ValidationMessageBuilder.Message.DYNAMIC_RULE_SERVER_SIDE_ONLY_IN_REGULAR_ENTRYPOINT;
+import static kraken.utils.FutureUtils.join;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,9 +49,13 @@ import kraken.model.project.validator.ValidationMessageBuilder;
 import kraken.model.project.validator.ValidationResult;
 import kraken.namespace.Namespaced;
 import kraken.runtime.model.rule.RuntimeRule;
+import kraken.runtime.repository.dynamic.jfr.DynamicRuleResolutionEvent;
 import kraken.runtime.repository.dynamic.trace.QueryingDynamicRulesOperation;
 import kraken.runtime.repository.filter.DimensionFilteringService;
 import kraken.tracer.Tracer;
+import kraken.utils.metrics.Counter;
+import kraken.utils.metrics.KrakenMetricNames;
+import kraken.utils.metrics.KrakenMetrics;
 
 /**
  * Iterates over each {@link DynamicRuleRepository} and resolves rules for entryPoint.
@@ -69,12 +79,74 @@ public class DynamicRuleRepositoryProcessor {
 
     private final KrakenProjectValidationService krakenProjectValidationService;
 
+    private final KrakenMetrics metrics;
+
+    private final Counter cacheRequests;
+
+    private final Counter cacheMisses;
+
+    private final ResolvedDynamicRulesCache resolvedRulesCache;
+
+    private final Executor executor;
+
     public DynamicRuleRepositoryProcessor(KrakenProject krakenProject,
                                           RuleConverter ruleConverter,
                                           Collection<DynamicRuleRepository> dynamicRuleRepositories,
                                           DynamicRuleRepositoryCacheConfig cacheConfig,
                                           DimensionFilteringService dimensionFilteringService,
                                           KrakenProjectValidationService krakenProjectValidationService) {
+        this(
+            krakenProject,
+            ruleConverter,
+            dynamicRuleRepositories,
+            cacheConfig,
+            dimensionFilteringService,
+            krakenProjectValidationService,
+            KrakenMetrics.noop()
+        );
+    }
+
+    /**
+     * @param metrics to report dynamic rule repository latency and dynamic rule cache requests and misses to
+     * @since 1.55.0
+     */
+    public DynamicRuleRepositoryProcessor(KrakenProject krakenProject,
+                                          RuleConverter ruleConverter,
+                                          Collection<DynamicRuleRepository> dynamicRuleRepositories,
+                                          DynamicRuleRepositoryCacheConfig cacheConfig,
+                                          DimensionFilteringService dimensionFilteringService,
+                                          KrakenProjectValidationService krakenProjectValidationService,
+                                          KrakenMetrics metrics) {
+        this(
+            krakenProject,
+            ruleConverter,
+            dynamicRuleRepositories,
+            cacheConfig,
+            dimensionFilteringService,
+            krakenProjectValidationService,
+            metrics,
+            null
+        );
+    }
+
+    /**
+     * @param metrics to report dynamic rule repository latency and dynamic rule cache requests and misses to
+     * @param executor to query repositories concurrently when there is more than one repository;
+     *                 if null, then repositories are queried one after another in the calling thread
+     * @since 1.55.0
+     */
+    public DynamicRuleRepositoryProcessor(KrakenProject krakenProject,
+                                          RuleConverter ruleConverter,
+                                          Collection<DynamicRuleRepository> dynamicRuleRepositories,
+                                          DynamicRuleRepositoryCacheConfig cacheConfig,
+                                          DimensionFilteringService dimensionFilteringService,
+                                          KrakenProjectValidationService krakenProjectValidationService,
+                                          KrakenMetrics metrics,
+                                          Executor executor) {
+        this.executor = executor;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.cacheRequests = metrics.counter(KrakenMetricNames.DYNAMIC_RULE_CACHE_REQUESTS, null);
+        this.cacheMisses = metrics.counter(KrakenMetricNames.DYNAMIC_RULE_CACHE_MISSES, null);
         this.krakenProject = krakenProject;
         this.ruleConverter = ruleConverter;
         this.dynamicRuleRepositories = dynamicRuleRepositories;
@@ -84,28 +156,169 @@ public class DynamicRuleRepositoryProcessor {
                 .entryCapacity(cacheConfig.getCacheMaxSize())
                 .expireAfterWrite(cacheConfig.getExpireAfterWriteInSeconds(), TimeUnit.SECONDS)
                 .build();
+        this.resolvedRulesCache = cacheConfig.isResolvedRulesCacheEnabled()
+            ? new ResolvedDynamicRulesCache(krakenProject.getNamespace(), cacheConfig, dynamicRuleRepositories, metrics)
+            : null;
 
         this.krakenProjectValidationService = krakenProjectValidationService;
     }
 
     public Stream<RuntimeRule> resolveRules(String entryPoint, Map<String, Object> context) {
-        return dynamicRuleRepositories.stream()
-                .flatMap(repository -> resolveRules(repository, entryPoint, context));
-    }
-
-    private Stream<RuntimeRule> resolveRules(DynamicRuleRepository dynamicRuleRepository,
-                                             String entryPoint,
-                                             Map<String, Object> context) {
-        return Tracer.doOperation(
-                new QueryingDynamicRulesOperation(dynamicRuleRepository.getClass().getSimpleName()),
-                () -> dynamicRuleRepository.resolveDynamicRules(krakenProject.getNamespace(), entryPoint, context)
-                    .map(dynamicRuleHolder -> convertOrReadFromCache(dynamicRuleHolder, entryPoint))
-                    .collect(Collectors.groupingBy(RuntimeRule::getName))
-            )
-            .values()
+        return resolveRules(List.of(entryPoint), context).get(entryPoint).stream();
+    }
+
+    /**
+     * Resolves rules for each of entry points from all repositories.
+     * Repositories are queried one after another in the calling thread, unless executor is provided,
+     * and {@link BatchDynamicRuleRepository} is queried once for all entry points.
+     *
+     * @param entryPoints distinct simple names of entry points
+     * @param context with dimensions
+     * @return rules by entry point; rules of each entry point are ordered by repository
+     * @since 1.55.0
+     */
+    public Map<String, List<RuntimeRule>> resolveRules(List<String> entryPoints, Map<String, Object> context) {
+        Map<String, List<RuntimeRule>> rules = new HashMap<>();
+        for (String entryPoint : entryPoints) {
+            rules.put(entryPoint, new ArrayList<>());
+        }
+        for (RepositoryRules repositoryRules : resolveRepositoryRules(entryPoints, context)) {
+            repositoryRules.traceQueries(entryPoints);
+            repositoryRules.resolved.forEach((entryPoint, resolved) -> rules.get(entryPoint).addAll(resolved));
+        }
+        return rules;
+    }
+
+    private List<RepositoryRules> resolveRepositoryRules(List<String> entryPoints, Map<String, Object> context) {
+        if (executor == null || dynamicRuleRepositories.size() <= 1) {
+            return dynamicRuleRepositories.stream()
+                .map(repository -> resolveRules(repository, entryPoints, context))
+                .collect(Collectors.toList());
+        }
+
+        // the first repository is queried in current thread while the rest are queried by executor
+        List<CompletableFuture<RepositoryRules>> futures = new ArrayList<>();
+        DynamicRuleRepository first = null;
+        for (DynamicRuleRepository repository : dynamicRuleRepositories) {
+            if (first == null) {
+                first = repository;
+            } else {
+                futures.add(CompletableFuture.supplyAsync(() -> resolveRules(repository, entryPoints, context), executor));
+            }
+        }
+        List<RepositoryRules> resolved = new ArrayList<>(dynamicRuleRepositories.size());
+        resolved.add(resolveRules(first, entryPoints, context));
+        for (CompletableFuture<RepositoryRules> future : futures) {
+            resolved.add(join(future));
+        }
+        return resolved;
+    }
+
+    private RepositoryRules resolveRules(DynamicRuleRepository dynamicRuleRepository,
+                                         List<String> entryPoints,
+                                         Map<String, Object> context) {
+        var repositoryRules = new RepositoryRules(dynamicRuleRepository);
+        List<String> queriedEntryPoints = entryPoints;
+        Map<String, ResolvedDynamicRulesCache.Lookup> lookups = null;
+        if (resolvedRulesCache != null) {
+            queriedEntryPoints = new ArrayList<>(entryPoints.size());
+            lookups = new HashMap<>();
+            for (String entryPoint : entryPoints) {
+                var lookup = resolvedRulesCache.lookup(dynamicRuleRepository, entryPoint, context);
+                if (lookup.getRules() != null) {
+                    repositoryRules.resolved.put(entryPoint, lookup.getRules());
+                } else {
+                    queriedEntryPoints.add(entryPoint);
+                    lookups.put(entryPoint, lookup);
+                }
+            }
+        }
+        if (queriedEntryPoints.isEmpty()) {
+            return repositoryRules;
+        }
+
+        var queried = queryRules(dynamicRuleRepository, queriedEntryPoints, context);
+        for (String entryPoint : queriedEntryPoints) {
+            Map<String, List<RuntimeRule>> rules = queried.getOrDefault(entryPoint, Map.of());
+            List<RuntimeRule> resolved = selectRules(rules, context);
+            if (lookups != null) {
+                resolvedRulesCache.store(lookups.get(entryPoint), rules, resolved);
+            }
+            repositoryRules.queried.put(entryPoint, rules);
+            repositoryRules.resolved.put(entryPoint, resolved);
+        }
+        return repositoryRules;
+    }
+
+    private List<RuntimeRule> selectRules(Map<String, List<RuntimeRule>> rules, Map<String, Object> context) {
+        return rules.values()
             .stream()
-            .map(rules -> getRule(rules, context))
-            .filter(Objects::nonNull);
+            .map(ruleVersions -> getRule(ruleVersions, context))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @return rules grouped by rule name for each entry point
+     */
+    private Map<String, Map<String, List<RuntimeRule>>> queryRules(DynamicRuleRepository dynamicRuleRepository,
+                                                                   List<String> entryPoints,
+                                                                   Map<String, Object> context) {
+        String namespace = krakenProject.getNamespace();
+        if (entryPoints.size() > 1 && dynamicRuleRepository instanceof BatchDynamicRuleRepository) {
+            var batchRepository = (BatchDynamicRuleRepository) dynamicRuleRepository;
+            return measure(dynamicRuleRepository, String.join(",", entryPoints), () -> {
+                var holders = batchRepository.resolveDynamicRules(namespace, entryPoints, context);
+                Map<String, Map<String, List<RuntimeRule>>> rules = new HashMap<>();
+                for (String entryPoint : entryPoints) {
+                    Stream<DynamicRuleHolder> entryPointHolders = holders.get(entryPoint);
+                    rules.put(entryPoint, entryPointHolders == null ? Map.of() : convert(entryPointHolders, entryPoint));
+                }
+                return rules;
+            });
+        }
+
+        Map<String, Map<String, List<RuntimeRule>>> rules = new HashMap<>();
+        for (String entryPoint : entryPoints) {
+            rules.putAll(measure(dynamicRuleRepository, entryPoint, () -> Map.of(
+                entryPoint,
+                convert(dynamicRuleRepository.resolveDynamicRules(namespace, entryPoint, context), entryPoint)
+            )));
+        }
+        return rules;
+    }
+
+    private Map<String, List<RuntimeRule>> convert(Stream<DynamicRuleHolder> dynamicRuleHolders, String entryPoint) {
+        return dynamicRuleHolders
+            .map(dynamicRuleHolder -> convertOrReadFromCache(dynamicRuleHolder, entryPoint))
+            .collect(Collectors.groupingBy(RuntimeRule::getName));
+    }
+
+    private Map<String, Map<String, List<RuntimeRule>>> measure(
+        DynamicRuleRepository dynamicRuleRepository,
+        String entryPoint,
+        Supplier<Map<String, Map<String, List<RuntimeRule>>>> query
+    ) {
+        var event = new DynamicRuleResolutionEvent();
+        event.begin();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        var rules = query.get();
+        if (metrics.isEnabled()) {
+            metrics.histogram(KrakenMetricNames.DYNAMIC_RULE_REPOSITORY_LATENCY, dynamicRuleRepository.getClass().getName())
+                .record(System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.repository = dynamicRuleRepository.getClass().getName();
+            event.namespace = krakenProject.getNamespace();
+            event.entryPoint = entryPoint;
+            event.ruleCount = rules.values().stream()
+                .flatMap(entryPointRules -> entryPointRules.values().stream())
+                .mapToInt(List::size)
+                .sum();
+            event.commit();
+        }
+        return rules;
     }
 
     private RuntimeRule getRule(List<RuntimeRule> rules, Map<String, Object> context) {
@@ -128,10 +341,12 @@ public class DynamicRuleRepositoryProcessor {
         }
 
         String key = rule.getName() + "_" + rule.getRuleVariationId();
+        cacheRequests.increment();
         return cache.computeIfAbsent(key, () -> validateAndConvert(dynamicRuleHolder));
     }
 
     private RuntimeRule validateAndConvert(DynamicRuleHolder dynamicRuleHolder) {
+        cacheMisses.increment();
         validate(dynamicRuleHolder.getRule());
         return convert(dynamicRuleHolder);
     }
@@ -174,4 +389,33 @@ public class DynamicRuleRepositoryProcessor {
             .build();
     }
 
+    /**
+     * Rules resolved from a single repository. Repository can be queried in another thread, therefore queries are
+     * traced after rules are resolved.
+     */
+    private static final class RepositoryRules {
+
+        private final DynamicRuleRepository repository;
+
+        private final Map<String, Map<String, List<RuntimeRule>>> queried = new HashMap<>();
+
+        private final Map<String, List<RuntimeRule>> resolved = new HashMap<>();
+
+        RepositoryRules(DynamicRuleRepository repository) {
+            this.repository = repository;
+        }
+
+        void traceQueries(List<String> entryPoints) {
+            for (String entryPoint : entryPoints) {
+                Map<String, List<RuntimeRule>> rules = queried.get(entryPoint);
+                if (rules != null) {
+                    Tracer.doOperation(
+                        new QueryingDynamicRulesOperation(repository.getClass().getSimpleName()),
+                        () -> rules
+                    );
+                }
+            }
+        }
+    }
+
 }
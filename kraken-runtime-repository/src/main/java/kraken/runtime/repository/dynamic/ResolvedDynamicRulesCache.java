@@ -0,0 +1,283 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.dynamic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+
+import kraken.dimensions.DimensionSet;
+import kraken.runtime.model.rule.RuntimeRule;
+import kraken.utils.metrics.Counter;
+import kraken.utils.metrics.KrakenMetricNames;
+import kraken.utils.metrics.KrakenMetrics;
+
+/**
+ * Caches rule sets resolved from {@link DynamicRuleRepository} by repository, entry point and values of dimensions
+ * declared by {@link DynamicRuleHolder} instances returned by repository for entry point.
+ * <p>
+ * Declared dimensions of entry point are collected from all rules returned by repository for entry point since
+ * the last invalidation. Cache key is a projection of context to declared dimensions,
+ * so context values that no returned rule varies by do not affect the key, and context is not copied.
+ * When declared dimensions grow, rule sets cached by fewer dimensions are not used anymore.
+ * If repository returns a rule with unknown dimensions, then rule sets of entry point are not cached
+ * until the next invalidation or until declared dimensions expire.
+ *
+ * @since 1.55.0
+ */
+class ResolvedDynamicRulesCache {
+
+    private final String namespace;
+
+    private final Cache<ResolvedRulesKey, ResolvedRules> cache;
+
+    private final DynamicRuleCacheInvalidator invalidator;
+
+    private final long expireAfterWriteInNanos;
+
+    private final Map<DynamicRuleRepository, Map<String, DeclaredDimensions>> declaredDimensions =
+        new IdentityHashMap<>();
+
+    private final Map<DynamicRuleRepository, Counter> requests = new IdentityHashMap<>();
+
+    private final Map<DynamicRuleRepository, Counter> misses = new IdentityHashMap<>();
+
+    ResolvedDynamicRulesCache(String namespace,
+                              DynamicRuleRepositoryCacheConfig cacheConfig,
+                              Collection<DynamicRuleRepository> repositories,
+                              KrakenMetrics metrics) {
+        this.namespace = namespace;
+        this.invalidator = cacheConfig.getInvalidator();
+        this.expireAfterWriteInNanos = TimeUnit.SECONDS.toNanos(cacheConfig.getResolvedRulesExpireAfterWriteInSeconds());
+        this.cache = new Cache2kBuilder<ResolvedRulesKey, ResolvedRules>() {}
+            .entryCapacity(cacheConfig.getResolvedRulesCacheMaxSize())
+            .expireAfterWrite(cacheConfig.getResolvedRulesExpireAfterWriteInSeconds(), TimeUnit.SECONDS)
+            .build();
+        for (DynamicRuleRepository repository : repositories) {
+            String tag = repository.getClass().getName();
+            declaredDimensions.put(repository, new ConcurrentHashMap<>());
+            requests.put(repository, metrics.counter(KrakenMetricNames.DYNAMIC_RULE_SET_CACHE_REQUESTS, tag));
+            misses.put(repository, metrics.counter(KrakenMetricNames.DYNAMIC_RULE_SET_CACHE_MISSES, tag));
+        }
+    }
+
+    /**
+     * Looks up rule set cached for entry point and values of declared dimensions in context. If rule set is not
+     * cached, then rules returned by repository must be stored with {@link #store(Lookup, Map, List)}.
+     */
+    Lookup lookup(DynamicRuleRepository repository, String entryPoint, Map<String, Object> context) {
+        requests.get(repository).increment();
+        long generation = invalidator.getGeneration(namespace, entryPoint);
+        long now = System.nanoTime();
+        DeclaredDimensions dimensions = declaredDimensions.get(repository).get(entryPoint);
+        if (dimensions != null && !dimensions.isValid(generation, now, expireAfterWriteInNanos)) {
+            dimensions = null;
+        }
+        if (dimensions != null && dimensions.isCacheable()) {
+            ResolvedRules cached = cache.peek(dimensions.key(repository, entryPoint, context));
+            if (cached != null && cached.generation == generation) {
+                return new Lookup(repository, entryPoint, context, generation, now, cached.rules);
+            }
+        }
+        misses.get(repository).increment();
+        return new Lookup(repository, entryPoint, context, generation, now, null);
+    }
+
+    /**
+     * @param lookup that did not find cached rule set
+     * @param queriedRules rules returned by repository grouped by rule name
+     * @param rules applicable for context selected from rules returned by repository
+     * @return rules
+     */
+    List<RuntimeRule> store(Lookup lookup, Map<String, List<RuntimeRule>> queriedRules, List<RuntimeRule> rules) {
+        DeclaredDimensions dimensions = declaredDimensions.get(lookup.repository).compute(
+            lookup.entryPoint,
+            (entryPoint, previous) -> DeclaredDimensions.declare(
+                previous != null && previous.isValid(lookup.generation, lookup.now, expireAfterWriteInNanos)
+                    ? previous
+                    : null,
+                queriedRules,
+                lookup.generation,
+                lookup.now
+            )
+        );
+        if (dimensions.isCacheable()) {
+            var key = dimensions.key(lookup.repository, lookup.entryPoint, lookup.context);
+            cache.put(key, new ResolvedRules(lookup.generation, rules));
+        }
+        return rules;
+    }
+
+    static final class Lookup {
+
+        private final DynamicRuleRepository repository;
+
+        private final String entryPoint;
+
+        private final Map<String, Object> context;
+
+        private final long generation;
+
+        private final long now;
+
+        private final List<RuntimeRule> rules;
+
+        private Lookup(DynamicRuleRepository repository,
+                       String entryPoint,
+                       Map<String, Object> context,
+                       long generation,
+                       long now,
+                       List<RuntimeRule> rules) {
+            this.repository = repository;
+            this.entryPoint = entryPoint;
+            this.context = context;
+            this.generation = generation;
+            this.now = now;
+            this.rules = rules;
+        }
+
+        /**
+         * @return cached rules; null if rule set is not cached
+         */
+        List<RuntimeRule> getRules() {
+            return rules;
+        }
+    }
+
+    private static final class ResolvedRules {
+
+        private final long generation;
+
+        private final List<RuntimeRule> rules;
+
+        ResolvedRules(long generation, List<RuntimeRule> rules) {
+            this.generation = generation;
+            this.rules = rules;
+        }
+    }
+
+    private static final class DeclaredDimensions {
+
+        /**
+         * Sorted names of dimensions; null if rules vary by unknown dimensions
+         */
+        private final String[] dimensions;
+
+        private final long generation;
+
+        private final long declaredAtNanos;
+
+        private DeclaredDimensions(String[] dimensions, long generation, long declaredAtNanos) {
+            this.dimensions = dimensions;
+            this.generation = generation;
+            this.declaredAtNanos = declaredAtNanos;
+        }
+
+        static DeclaredDimensions declare(DeclaredDimensions previous,
+                                          Map<String, List<RuntimeRule>> rules,
+                                          long generation,
+                                          long now) {
+            if (previous != null && !previous.isCacheable()) {
+                return previous;
+            }
+            Set<String> dimensions = new TreeSet<>();
+            if (previous != null) {
+                dimensions.addAll(Arrays.asList(previous.dimensions));
+            }
+            for (List<RuntimeRule> ruleVersions : rules.values()) {
+                for (RuntimeRule rule : ruleVersions) {
+                    DimensionSet dimensionSet = rule.getDimensionSet();
+                    if (dimensionSet.getVariability() == DimensionSet.Variability.UNKNOWN) {
+                        return new DeclaredDimensions(null, generation, now);
+                    }
+                    dimensions.addAll(dimensionSet.getDimensions());
+                }
+            }
+            if (previous != null && previous.dimensions.length == dimensions.size()) {
+                return previous;
+            }
+            return new DeclaredDimensions(dimensions.toArray(new String[0]), generation, now);
+        }
+
+        boolean isValid(long currentGeneration, long now, long expireAfterWriteInNanos) {
+            return generation == currentGeneration && now - declaredAtNanos < expireAfterWriteInNanos;
+        }
+
+        boolean isCacheable() {
+            return dimensions != null;
+        }
+
+        ResolvedRulesKey key(DynamicRuleRepository repository, String entryPoint, Map<String, Object> context) {
+            Object[] values = new Object[dimensions.length];
+            for (int i = 0; i < dimensions.length; i++) {
+                values[i] = context.get(dimensions[i]);
+            }
+            return new ResolvedRulesKey(repository, entryPoint, dimensions, values);
+        }
+    }
+
+    private static final class ResolvedRulesKey {
+
+        private final DynamicRuleRepository repository;
+
+        private final String entryPoint;
+
+        private final String[] dimensions;
+
+        private final Object[] values;
+
+        private final int hashCode;
+
+        ResolvedRulesKey(DynamicRuleRepository repository, String entryPoint, String[] dimensions, Object[] values) {
+            this.repository = repository;
+            this.entryPoint = entryPoint;
+            this.dimensions = dimensions;
+            this.values = values;
+            this.hashCode = 31 * (31 * System.identityHashCode(repository) + entryPoint.hashCode())
+                + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResolvedRulesKey that = (ResolvedRulesKey) o;
+            return repository == that.repository
+                && hashCode == that.hashCode
+                && entryPoint.equals(that.entryPoint)
+                && Arrays.equals(dimensions, that.dimensions)
+                && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -17,9 +17,21 @@ package kraken.runtime.repository.factory;
 
 import static kraken.message.SystemMessageBuilder.Message.KRAKEN_PROJECT_UNKNOWN_NAMESPACE;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import kraken.converter.KrakenProjectConversion;
 import kraken.converter.KrakenProjectConverter;
 import kraken.converter.RuleConverter;
 import kraken.converter.translation.KrakenExpressionTranslator;
@@ -34,21 +46,45 @@ import kraken.runtime.repository.KrakenRepositoryException;
 import kraken.runtime.repository.RuntimeProjectRepository;
 import kraken.runtime.repository.RuntimeProjectRepositoryConfig;
 import kraken.runtime.repository.RuntimeRuleRepository;
+import kraken.runtime.model.project.RuntimeKrakenProject;
 import kraken.runtime.repository.dynamic.DynamicRuleRepositoryProcessor;
 import kraken.runtime.repository.filter.DimensionFilteringService;
+import kraken.runtime.repository.snapshot.ProjectSourceFingerprint;
+import kraken.runtime.repository.snapshot.RuntimeProjectSnapshot;
+import kraken.utils.metrics.KrakenMetricNames;
 
 /**
  * Instantiates {@link RuntimeRuleRepository} for a {@link TargetEnvironment}
+ * <p/>
+ * By default, each resolution checks whether Kraken project has changed and converts it again if it did.
+ * If background reload is enabled in {@link RuntimeProjectRepositoryConfig}, then resolution only reads current
+ * repository, while changes are detected and converted periodically in a background thread.
+ * Background thread is stopped by {@link #close()}.
+ * <p/>
+ * Changed Kraken project is converted incrementally, reusing runtime rules of previous conversion for unchanged rules.
+ * <p/>
+ * If snapshot directory is configured in {@link RuntimeProjectRepositoryConfig}, then runtime project is read from
+ * {@link RuntimeProjectSnapshot} of namespace instead, if there is one and its source fingerprint is equal to
+ * {@link ProjectSourceFingerprint} of current sources. Kraken project is not built to resolve such repository.
+ * Once source fingerprint changes, repository read from snapshot is replaced by converted Kraken project,
+ * the same way as converted repositories are replaced when Kraken project changes.
  *
  * @author mulevicius
  */
-public class RuntimeProjectRepositoryFactory implements RuntimeRepositoryFactory {
+public class RuntimeProjectRepositoryFactory implements RuntimeRepositoryFactory, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuntimeProjectRepositoryFactory.class);
 
     private final DimensionFilteringService dimensionFilteringService;
 
     private final KrakenProjectRepository krakenProjectRepository;
 
-    private final Map<String, RuntimeProjectRepository> repositories = new ConcurrentHashMap<>();
+    private final Map<String, ResolvedRepository> repositories = new ConcurrentHashMap<>();
+
+    /**
+     * Last conversion of each namespace, to convert the next version of Kraken project incrementally
+     */
+    private final Map<String, KrakenProjectConversion> conversions = new ConcurrentHashMap<>();
 
     private final TargetEnvironment targetEnvironment;
 
@@ -56,6 +92,8 @@ public class RuntimeProjectRepositoryFactory implements RuntimeRepositoryFactory
 
     private final KrakenProjectValidationService krakenProjectValidationService;
 
+    private final ScheduledExecutorService reloader;
+
     public RuntimeProjectRepositoryFactory(KrakenProjectRepository krakenProjectRepository,
                                            RuntimeProjectRepositoryConfig config,
                                            TargetEnvironment targetEnvironment) {
@@ -64,38 +102,197 @@ public class RuntimeProjectRepositoryFactory implements RuntimeRepositoryFactory
         this.dimensionFilteringService = new DimensionFilteringService(config.getDimensionFilters());
         this.targetEnvironment = targetEnvironment;
         this.krakenProjectValidationService = new KrakenProjectValidationService();
+        this.reloader = config.isBackgroundReloadEnabled() ? startReloader(config.getBackgroundReloadIntervalInMillis()) : null;
     }
 
     @Override
     public RuntimeProjectRepository resolveRepository(String namespace) {
+        ResolvedRepository resolved = repositories.get(namespace);
+        if (resolved != null && (reloader != null || isUpToDate(namespace, resolved))) {
+            return resolved.repository;
+        }
         return repositories.compute(namespace,
                 (ns, cachedRepository) -> returnOrCreateRuntimeProjectRepository(ns, cachedRepository)
-        );
+        ).repository;
     }
 
-    private RuntimeProjectRepository returnOrCreateRuntimeProjectRepository(String namespace,
-                                                                            RuntimeProjectRepository cachedRepository) {
+    private ResolvedRepository returnOrCreateRuntimeProjectRepository(String namespace,
+                                                                      ResolvedRepository cachedRepository) {
+        if (cachedRepository == null && config.getProjectSnapshotDirectory() != null) {
+            ResolvedRepository snapshotRepository = readSnapshotRepository(namespace);
+            if (snapshotRepository != null) {
+                return snapshotRepository;
+            }
+        }
+        if (cachedRepository != null && cachedRepository.isReadFromSnapshot()
+                && isUpToDate(namespace, cachedRepository)) {
+            return cachedRepository;
+        }
         KrakenProject newKrakenProject = krakenProjectRepository.getKrakenProject(namespace);
         throwIfKrakenProjectIsMissing(namespace, newKrakenProject);
-        if (cachedRepository != null
-                && newKrakenProject.getIdentifier().equals(cachedRepository.getKrakenProject().getChecksum())) {
+        if (cachedRepository != null && !cachedRepository.isReadFromSnapshot()
+                && newKrakenProject.getIdentifier().equals(cachedRepository.getChecksum())) {
             return cachedRepository;
         }
-        return createRuntimeProjectRepository(newKrakenProject);
+        return new ResolvedRepository(createRuntimeProjectRepository(newKrakenProject), null);
+    }
+
+    /**
+     * Converts Kraken projects which have changed since their repositories were resolved
+     * and replaces these repositories. Repositories of projects that fail to convert are not replaced.
+     * Invoked periodically in a background thread when background reload is enabled.
+     *
+     * @since 1.55.0
+     */
+    public void reloadChangedRepositories() {
+        for (Map.Entry<String, ResolvedRepository> entry : repositories.entrySet()) {
+            String namespace = entry.getKey();
+            try {
+                if (isUpToDate(namespace, entry.getValue())) {
+                    continue;
+                }
+                KrakenProject krakenProject = krakenProjectRepository.getKrakenProject(namespace);
+                if (krakenProject == null) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                RuntimeProjectRepository reloaded = createRuntimeProjectRepository(krakenProject);
+                repositories.replace(namespace, entry.getValue(), new ResolvedRepository(reloaded, null));
+                config.getMetrics().histogram(KrakenMetricNames.PROJECT_RELOAD_TIME, namespace)
+                    .record(System.nanoTime() - start);
+            } catch (RuntimeException e) {
+                config.getMetrics().counter(KrakenMetricNames.PROJECT_RELOAD_ERRORS, namespace).increment();
+                logger.error("Failed to reload Kraken project '{}', previous version remains in use.", namespace, e);
+            }
+        }
+    }
+
+    /**
+     * Writes snapshot of runtime project of namespace to directory. Intended to be invoked at build time,
+     * so that runtime project is read from snapshot at runtime if the same directory is configured by
+     * {@link RuntimeProjectRepositoryConfig#withProjectSnapshots(Path)}. Snapshot is written together with
+     * {@link RuntimeProjectRepositoryConfig#getProjectSourceFingerprint()} of namespace.
+     *
+     * @param namespace of Kraken project to convert and write
+     * @param directory to write snapshot to
+     * @return file of written snapshot
+     * @throws IOException if snapshot cannot be written
+     * @throws IllegalStateException if source fingerprint of namespace cannot be determined
+     * @since 1.55.0
+     */
+    public Path writeProjectSnapshot(String namespace, Path directory) throws IOException {
+        String sourceFingerprint = config.getProjectSourceFingerprint().of(namespace);
+        if (sourceFingerprint == null) {
+            throw new IllegalStateException(
+                "Cannot write runtime project snapshot, because source fingerprint of Kraken project '"
+                    + namespace + "' is unknown"
+            );
+        }
+        Path file = directory.resolve(RuntimeProjectSnapshot.fileName(namespace));
+        RuntimeKrakenProject project = resolveRepository(namespace).getKrakenProject();
+        RuntimeProjectSnapshot.write(project, targetEnvironment, sourceFingerprint, file);
+        return file;
+    }
+
+    /**
+     * Stops background reload of repositories, if it is enabled.
+     *
+     * @since 1.55.0
+     */
+    @Override
+    public void close() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    private ScheduledExecutorService startReloader(long intervalInMillis) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kraken-project-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(
+            this::reloadChangedRepositories,
+            intervalInMillis,
+            intervalInMillis,
+            TimeUnit.MILLISECONDS
+        );
+        return executor;
+    }
+
+    private boolean isUpToDate(String namespace, ResolvedRepository cachedRepository) {
+        if (cachedRepository.isReadFromSnapshot()) {
+            return cachedRepository.sourceFingerprint.equals(config.getProjectSourceFingerprint().of(namespace));
+        }
+        KrakenProject krakenProject = krakenProjectRepository.getKrakenProject(namespace);
+        return krakenProject != null && krakenProject.getIdentifier().equals(cachedRepository.getChecksum());
     }
 
     private RuntimeProjectRepository createRuntimeProjectRepository(KrakenProject krakenProject) {
-        KrakenProjectConverter krakenProjectConverter = new KrakenProjectConverter(krakenProject, targetEnvironment);
+        KrakenProjectConverter krakenProjectConverter = new KrakenProjectConverter(
+                krakenProject,
+                targetEnvironment,
+                conversions.get(krakenProject.getNamespace()),
+                config.getConversionPool()
+        );
+        KrakenProjectConversion conversion = krakenProjectConverter.convertIncrementally();
+        conversions.put(krakenProject.getNamespace(), conversion);
 
         return new RuntimeProjectRepository(
-                krakenProjectConverter.convert(),
+                conversion.getRuntimeKrakenProject(),
                 dimensionFilteringService,
-                createDynamicRuleRepositoryProcessor(krakenProject.getNamespace())
+                createDynamicRuleRepositoryProcessor(krakenProject)
         );
     }
 
-    private DynamicRuleRepositoryProcessor createDynamicRuleRepositoryProcessor(String namespace) {
-        KrakenProject krakenProject = krakenProjectRepository.getKrakenProject(namespace);
+    private ResolvedRepository readSnapshotRepository(String namespace) {
+        Path file = config.getProjectSnapshotDirectory().resolve(RuntimeProjectSnapshot.fileName(namespace));
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        String sourceFingerprint = config.getProjectSourceFingerprint().of(namespace);
+        RuntimeKrakenProject runtimeKrakenProject;
+        try {
+            String snapshotSourceFingerprint = RuntimeProjectSnapshot.readSourceFingerprint(file);
+            if (sourceFingerprint == null || !sourceFingerprint.equals(snapshotSourceFingerprint)) {
+                logger.warn("Runtime project snapshot '{}' is written from different sources of Kraken project '{}', "
+                    + "Kraken project will be converted instead.", file, namespace);
+                return null;
+            }
+            runtimeKrakenProject = RuntimeProjectSnapshot.read(file, targetEnvironment);
+        } catch (IOException e) {
+            logger.warn("Failed to read runtime project snapshot '{}', Kraken project '{}' will be converted instead.",
+                file, namespace, e);
+            return null;
+        }
+        DynamicRuleRepositoryProcessor dynamicRuleRepositoryProcessor;
+        if (config.getDynamicRuleRepositories().isEmpty()) {
+            // processor without dynamic rule repositories never uses Kraken project and rule converter
+            dynamicRuleRepositoryProcessor = new DynamicRuleRepositoryProcessor(
+                null,
+                null,
+                List.of(),
+                config.getDynamicRuleRepositoryCacheConfig(),
+                dimensionFilteringService,
+                krakenProjectValidationService,
+                config.getMetrics(),
+                config.getDynamicRuleRepositoryExecutor()
+            );
+        } else {
+            KrakenProject krakenProject = krakenProjectRepository.getKrakenProject(namespace);
+            throwIfKrakenProjectIsMissing(namespace, krakenProject);
+            dynamicRuleRepositoryProcessor = createDynamicRuleRepositoryProcessor(krakenProject);
+        }
+        RuntimeProjectRepository repository = new RuntimeProjectRepository(
+            runtimeKrakenProject,
+            dimensionFilteringService,
+            dynamicRuleRepositoryProcessor
+        );
+        return new ResolvedRepository(repository, sourceFingerprint);
+    }
+
+    private DynamicRuleRepositoryProcessor createDynamicRuleRepositoryProcessor(KrakenProject krakenProject) {
         RuleDependencyExtractor ruleDependencyExtractor = new RuleDependencyExtractor(krakenProject);
         KrakenExpressionTranslator krakenExpressionTranslator = new KrakenExpressionTranslator(
                 krakenProject,
@@ -115,7 +312,9 @@ public class RuntimeProjectRepositoryFactory implements RuntimeRepositoryFactory
                 config.getDynamicRuleRepositories(),
                 config.getDynamicRuleRepositoryCacheConfig(),
                 dimensionFilteringService,
-                krakenProjectValidationService
+                krakenProjectValidationService,
+                config.getMetrics(),
+                config.getDynamicRuleRepositoryExecutor()
         );
     }
 
@@ -125,4 +324,30 @@ public class RuntimeProjectRepositoryFactory implements RuntimeRepositoryFactory
             throw new KrakenRepositoryException(message);
         }
     }
+
+    /**
+     * Resolved repository of namespace, together with source fingerprint of snapshot it is read from
+     */
+    private static final class ResolvedRepository {
+
+        private final RuntimeProjectRepository repository;
+
+        /**
+         * Fingerprint of sources of snapshot, or null if repository is converted from Kraken project
+         */
+        private final String sourceFingerprint;
+
+        ResolvedRepository(RuntimeProjectRepository repository, String sourceFingerprint) {
+            this.repository = repository;
+            this.sourceFingerprint = sourceFingerprint;
+        }
+
+        boolean isReadFromSnapshot() {
+            return sourceFingerprint != null;
+        }
+
+        UUID getChecksum() {
+            return repository.getKrakenProject().getChecksum();
+        }
+    }
 }
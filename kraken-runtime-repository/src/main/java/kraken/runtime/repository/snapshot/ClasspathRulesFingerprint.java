@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import kraken.utils.ResourceLoader;
+
+/**
+ * {@link ProjectSourceFingerprint} of content of all Kraken DSL resources in classpath, computed once
+ *
+ * @since 1.55.0
+ */
+final class ClasspathRulesFingerprint implements ProjectSourceFingerprint {
+
+    static final ProjectSourceFingerprint INSTANCE = new ClasspathRulesFingerprint();
+
+    private volatile String fingerprint;
+
+    private ClasspathRulesFingerprint() {
+    }
+
+    @Override
+    public String of(String namespace) {
+        String result = fingerprint;
+        if (result == null) {
+            synchronized (this) {
+                result = fingerprint;
+                if (result == null) {
+                    result = computeFingerprint();
+                    fingerprint = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String computeFingerprint() {
+        List<String> resourceHashes = new ArrayList<>();
+        for (URL url : ResourceLoader.builder().baseDir("").pattern(".*\\.rules").build().load()) {
+            try (InputStream in = url.openStream()) {
+                resourceHashes.add(Base64.getEncoder().encodeToString(sha256().digest(in.readAllBytes())));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read Kraken DSL resource '" + url + "'", e);
+            }
+        }
+        // resources are hashed by content only and in a stable order, because resource URLs
+        // differ between build time and runtime
+        Collections.sort(resourceHashes);
+        MessageDigest digest = sha256();
+        resourceHashes.forEach(hash -> digest.update(hash.getBytes(StandardCharsets.US_ASCII)));
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.snapshot;
+
+/**
+ * Fingerprint of sources from which Kraken project of namespace is built. Fingerprint is written to
+ * {@link RuntimeProjectSnapshot} and snapshot is used only while fingerprint of current sources is equal to it,
+ * therefore fingerprint must be cheap to compute and must change whenever sources change.
+ *
+ * @since 1.55.0
+ */
+@FunctionalInterface
+public interface ProjectSourceFingerprint {
+
+    /**
+     * @param namespace of Kraken project
+     * @return fingerprint of current sources of Kraken project, or null if it cannot be determined,
+     *         in which case snapshot is not used
+     */
+    String of(String namespace);
+
+    /**
+     * Fingerprint of content of all Kraken DSL resources in classpath, which is the same for all namespaces.
+     * Resources are read and hashed once, on first invocation, therefore fingerprint does not change
+     * until application is restarted.
+     *
+     * @return fingerprint of Kraken DSL resources in classpath
+     */
+    static ProjectSourceFingerprint classpathRules() {
+        return ClasspathRulesFingerprint.INSTANCE;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import kraken.el.TargetEnvironment;
+import kraken.namespace.Namespaced;
+import kraken.runtime.model.project.RuntimeKrakenProject;
+
+/**
+ * Binary snapshot of {@link RuntimeKrakenProject}. Snapshot is written at build time from a converted and validated
+ * project, and is read at runtime instead of parsing, building, validating and converting Kraken project.
+ * Expressions are written together with their ASTs and scopes, therefore ASTs are not built again when read.
+ * <p/>
+ * Snapshot is memory mapped when read. Context definitions, entry points and functions are decoded immediately,
+ * while rules are decoded in sections of {@value #RULES_PER_SECTION} rule names on first access to any of them.
+ * Snapshot can be read only by the same version of Kraken and for the same {@link TargetEnvironment}
+ * as it was written by. Content of all sections is verified against CRC from header before it is decoded.
+ * <p/>
+ * Snapshot header contains {@link ProjectSourceFingerprint} of sources from which Kraken project was built,
+ * which can be read by {@link #readSourceFingerprint(Path)} without reading the rest of snapshot, to verify that
+ * snapshot is still up to date without building Kraken project.
+ * <p/>
+ * Layout of snapshot file:
+ * <pre>
+ * int      magic number
+ * int      format version
+ * UTF      Kraken version
+ * UTF      target environment
+ * UTF      namespace
+ * UTF      source fingerprint
+ * int      number of sections
+ * int[]    length of each section
+ * long     CRC-32 of all sections
+ * section  type registry and all types and scopes used by expressions
+ * section  checksum, root context name, context definitions, entry points, functions and rule names
+ * section* versions of rules
+ * </pre>
+ * Each section is a separate Java serialization stream. Types and scopes are replaced by references to the
+ * first section, so that they are written once and are shared by expressions of all sections after decoding.
+ *
+ * @since 1.55.0
+ */
+public final class RuntimeProjectSnapshot {
+
+    static final int MAGIC = 0x4B524E53;
+
+    static final int FORMAT_VERSION = 2;
+
+    static final int RULES_PER_SECTION = 64;
+
+    private static final String EXTENSION = ".snapshot";
+
+    private RuntimeProjectSnapshot() {
+    }
+
+    /**
+     * @param namespace of Kraken project
+     * @return name of snapshot file of namespace in a snapshot directory
+     */
+    public static String fileName(String namespace) {
+        return (Namespaced.GLOBAL.equals(namespace) ? "GLOBAL" : namespace) + EXTENSION;
+    }
+
+    /**
+     * Writes snapshot of runtime project to file. File is written atomically if file system supports it.
+     *
+     * @param project to write
+     * @param targetEnvironment for which project is converted
+     * @param sourceFingerprint of sources from which Kraken project of runtime project is built
+     * @param file to write snapshot to
+     * @throws IOException if snapshot cannot be written
+     */
+    public static void write(RuntimeKrakenProject project,
+                             TargetEnvironment targetEnvironment,
+                             String sourceFingerprint,
+                             Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                new SnapshotEncoder().encode(project, targetEnvironment, sourceFingerprint, out);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Reads snapshot of runtime project from file. Rules of returned project are decoded lazily from memory mapped
+     * file, therefore file must not be modified while project is in use.
+     *
+     * @param file to read snapshot from
+     * @param targetEnvironment for which project must be converted
+     * @return runtime project
+     * @throws IOException if snapshot cannot be read or is corrupted, or if it is written by another version
+     *                     of Kraken or for another target environment
+     */
+    public static RuntimeKrakenProject read(Path file, TargetEnvironment targetEnvironment) throws IOException {
+        return SnapshotDecoder.decode(file, targetEnvironment);
+    }
+
+    /**
+     * Reads only header of snapshot.
+     *
+     * @param file to read snapshot from
+     * @return fingerprint of sources from which Kraken project of snapshot was built
+     * @throws IOException if snapshot header cannot be read, or if it is written by another version of Kraken
+     */
+    public static String readSourceFingerprint(Path file) throws IOException {
+        return SnapshotDecoder.readSourceFingerprint(file);
+    }
+
+}
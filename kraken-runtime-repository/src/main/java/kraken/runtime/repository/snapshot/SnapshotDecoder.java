@@ -0,0 +1,404 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.snapshot;
+
+import static kraken.runtime.repository.snapshot.RuntimeProjectSnapshot.FORMAT_VERSION;
+import static kraken.runtime.repository.snapshot.RuntimeProjectSnapshot.MAGIC;
+import static kraken.runtime.repository.snapshot.RuntimeProjectSnapshot.RULES_PER_SECTION;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.CRC32;
+
+import kraken.Kraken;
+import kraken.el.TargetEnvironment;
+import kraken.el.scope.Scope;
+import kraken.el.scope.type.Type;
+import kraken.el.scope.type.TypeRef;
+import kraken.runtime.model.context.RuntimeContextDefinition;
+import kraken.runtime.model.entrypoint.RuntimeEntryPoint;
+import kraken.runtime.model.function.CompiledFunction;
+import kraken.runtime.model.project.RuntimeKrakenProject;
+import kraken.runtime.model.rule.RuntimeRule;
+import kraken.runtime.repository.snapshot.SnapshotReferences.DynamicScope;
+import kraken.runtime.repository.snapshot.SnapshotReferences.Expression;
+import kraken.runtime.repository.snapshot.SnapshotReferences.NativeType;
+import kraken.runtime.repository.snapshot.SnapshotReferences.SharedObject;
+import kraken.runtime.repository.snapshot.SnapshotReferences.TypeReference;
+
+/**
+ * Decodes {@link RuntimeKrakenProject} from memory mapped file with a layout described in
+ * {@link RuntimeProjectSnapshot}. Sections of rules are decoded on first access to any rule of section.
+ * Only Kraken model and expression classes, JDK collections and value types are deserialized from snapshot.
+ *
+ * @since 1.55.0
+ */
+final class SnapshotDecoder {
+
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+        "kraken.runtime.model.**;kraken.runtime.repository.snapshot.SnapshotReferences$*;"
+            + "kraken.el.**;kraken.model.**;kraken.dimensions.**;"
+            + "java.lang.*;java.util.*;java.util.concurrent.atomic.AtomicReference;"
+            + "java.math.BigDecimal;java.math.BigInteger;java.time.*;!*"
+    );
+
+    private final Path file;
+
+    private final ByteBuffer buffer;
+
+    private final int[] sectionOffsets;
+
+    private final Map<String, Type> typeRegistry = new HashMap<>();
+
+    private List<Object> sharedObjects;
+
+    private SnapshotDecoder(Path file, ByteBuffer buffer, int[] sectionOffsets) {
+        this.file = file;
+        this.buffer = buffer;
+        this.sectionOffsets = sectionOffsets;
+    }
+
+    static RuntimeKrakenProject decode(Path file, TargetEnvironment targetEnvironment) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Runtime project snapshot '" + file + "' is too large to be memory mapped");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        ByteBuffer headerBuffer = buffer.duplicate();
+        Header header = Header.read(file, new DataInputStream(new ByteBufferInputStream(headerBuffer)));
+        if (!targetEnvironment.name().equals(header.targetEnvironment)) {
+            throw new IOException("Runtime project snapshot '" + file + "' is written for target environment "
+                + header.targetEnvironment + ", but is read for " + targetEnvironment);
+        }
+        int[] sectionOffsets = new int[header.sectionLengths.length + 1];
+        sectionOffsets[0] = headerBuffer.position();
+        for (int i = 0; i < header.sectionLengths.length; i++) {
+            sectionOffsets[i + 1] = sectionOffsets[i] + header.sectionLengths[i];
+        }
+        if (sectionOffsets[header.sectionLengths.length] != buffer.limit()) {
+            throw new IOException("Runtime project snapshot '" + file + "' is truncated or corrupted");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(headerBuffer);
+        if (crc.getValue() != header.crc) {
+            throw new IOException("Runtime project snapshot '" + file + "' is corrupted, CRC of its content "
+                + "does not match CRC written to its header");
+        }
+
+        return new SnapshotDecoder(file, buffer, sectionOffsets).decodeProject(header.namespace);
+    }
+
+    static String readSourceFingerprint(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return Header.read(file, in).sourceFingerprint;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RuntimeKrakenProject decodeProject(String namespace) throws IOException {
+        try (ObjectInputStream shared = openSection(0)) {
+            Map<String, Type> types = (Map<String, Type>) shared.readObject();
+            typeRegistry.putAll(types);
+            sharedObjects = (List<Object>) shared.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Runtime project snapshot '" + file + "' is corrupted", e);
+        }
+
+        try (ObjectInputStream project = openSection(1)) {
+            UUID checksum = (UUID) project.readObject();
+            String rootContextName = (String) project.readObject();
+            Map<String, RuntimeContextDefinition> contextDefinitions =
+                (Map<String, RuntimeContextDefinition>) project.readObject();
+            List<RuntimeEntryPoint> entryPoints = (List<RuntimeEntryPoint>) project.readObject();
+            List<CompiledFunction> functions = (List<CompiledFunction>) project.readObject();
+            List<String> ruleNames = (List<String>) project.readObject();
+            int[] ruleOrder = (int[]) project.readObject();
+
+            LazyRuleVersions ruleVersions = new LazyRuleVersions(ruleNames, ruleOrder);
+            return new RuntimeKrakenProject(
+                checksum,
+                namespace,
+                rootContextName,
+                contextDefinitions,
+                entryPoints,
+                ruleVersions,
+                ruleVersions::getRules,
+                functions
+            );
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Runtime project snapshot '" + file + "' is corrupted", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<RuntimeRule>> decodeRuleSection(int ruleSection) {
+        try (ObjectInputStream in = openSection(2 + ruleSection)) {
+            return (List<List<RuntimeRule>>) in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode rules from runtime project snapshot '" + file + "'", e);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IllegalStateException("Runtime project snapshot '" + file + "' is corrupted", e);
+        }
+    }
+
+    private ObjectInputStream openSection(int section) throws IOException {
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(sectionOffsets[section + 1]);
+        slice.position(sectionOffsets[section]);
+        return new SnapshotObjectInputStream(new ByteBufferInputStream(slice));
+    }
+
+    /**
+     * Rule versions by rule name, which are decoded by section on first access
+     */
+    private final class LazyRuleVersions extends AbstractMap<String, List<RuntimeRule>> {
+
+        private final List<String> ruleNames;
+
+        private final Map<String, Integer> ruleNameIndexes;
+
+        private final int[] ruleOrder;
+
+        private final AtomicReferenceArray<List<List<RuntimeRule>>> sections;
+
+        private volatile List<RuntimeRule> rules;
+
+        LazyRuleVersions(List<String> ruleNames, int[] ruleOrder) {
+            this.ruleNames = ruleNames;
+            this.ruleOrder = ruleOrder;
+            this.ruleNameIndexes = new HashMap<>();
+            for (int i = 0; i < ruleNames.size(); i++) {
+                ruleNameIndexes.put(ruleNames.get(i), i);
+            }
+            this.sections = new AtomicReferenceArray<>((ruleNames.size() + RULES_PER_SECTION - 1) / RULES_PER_SECTION);
+        }
+
+        @Override
+        public List<RuntimeRule> get(Object ruleName) {
+            Integer index = ruleNameIndexes.get(ruleName);
+            return index == null ? null : getVersions(index);
+        }
+
+        @Override
+        public boolean containsKey(Object ruleName) {
+            return ruleNameIndexes.containsKey(ruleName);
+        }
+
+        @Override
+        public int size() {
+            return ruleNames.size();
+        }
+
+        @Override
+        public Set<Entry<String, List<RuntimeRule>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, List<RuntimeRule>>> iterator() {
+                    Iterator<String> names = ruleNames.iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return names.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, List<RuntimeRule>> next() {
+                            String ruleName = names.next();
+                            return new SimpleImmutableEntry<>(ruleName, get(ruleName));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return ruleNames.size();
+                }
+            };
+        }
+
+        /**
+         * @return all rules in the same order as in runtime project that is written to snapshot
+         */
+        List<RuntimeRule> getRules() {
+            List<RuntimeRule> allRules = rules;
+            if (allRules == null) {
+                int[] versionIndexes = new int[ruleNames.size()];
+                allRules = new ArrayList<>(ruleOrder.length);
+                for (int ruleNameIndex : ruleOrder) {
+                    allRules.add(getVersions(ruleNameIndex).get(versionIndexes[ruleNameIndex]++));
+                }
+                allRules = Collections.unmodifiableList(allRules);
+                rules = allRules;
+            }
+            return allRules;
+        }
+
+        private List<RuntimeRule> getVersions(int ruleNameIndex) {
+            int section = ruleNameIndex / RULES_PER_SECTION;
+            List<List<RuntimeRule>> versions = sections.get(section);
+            if (versions == null) {
+                versions = decodeRuleSection(section);
+                if (!sections.compareAndSet(section, null, versions)) {
+                    versions = sections.get(section);
+                }
+            }
+            return versions.get(ruleNameIndex % RULES_PER_SECTION);
+        }
+    }
+
+    /**
+     * Resolves objects replaced when snapshot was written
+     */
+    private final class SnapshotObjectInputStream extends ObjectInputStream {
+
+        SnapshotObjectInputStream(InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+            setObjectInputFilter(FILTER);
+        }
+
+        @Override
+        protected Object resolveObject(Object object) {
+            if (object instanceof SharedObject) {
+                return sharedObjects.get(((SharedObject) object).index);
+            }
+            if (object instanceof Expression) {
+                return ((Expression) object).toCompiledExpression();
+            }
+            if (object instanceof TypeReference) {
+                return new TypeRef(((TypeReference) object).typeName, typeRegistry::get);
+            }
+            if (object instanceof NativeType) {
+                return Type.nativeTypes.get(((NativeType) object).typeName);
+            }
+            if (object instanceof DynamicScope) {
+                return Scope.dynamic();
+            }
+            return object;
+        }
+    }
+
+    /**
+     * Header of snapshot, which precedes sections
+     */
+    private static final class Header {
+
+        private final String targetEnvironment;
+
+        private final String namespace;
+
+        private final String sourceFingerprint;
+
+        private final int[] sectionLengths;
+
+        private final long crc;
+
+        private Header(String targetEnvironment,
+                       String namespace,
+                       String sourceFingerprint,
+                       int[] sectionLengths,
+                       long crc) {
+            this.targetEnvironment = targetEnvironment;
+            this.namespace = namespace;
+            this.sourceFingerprint = sourceFingerprint;
+            this.sectionLengths = sectionLengths;
+            this.crc = crc;
+        }
+
+        static Header read(Path file, DataInputStream in) throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("File '" + file + "' is not a runtime project snapshot");
+            }
+            int formatVersion = in.readInt();
+            String krakenVersion = in.readUTF();
+            if (formatVersion != FORMAT_VERSION || !Kraken.VERSION.equals(krakenVersion)) {
+                throw new IOException("Runtime project snapshot '" + file + "' is written by Kraken " + krakenVersion
+                    + " in format " + formatVersion + ", but it can be read only if written by Kraken "
+                    + Kraken.VERSION + " in format " + FORMAT_VERSION);
+            }
+            String targetEnvironment = in.readUTF();
+            String namespace = in.readUTF();
+            String sourceFingerprint = in.readUTF();
+            int sectionCount = in.readInt();
+            if (sectionCount < 2) {
+                throw new IOException("Runtime project snapshot '" + file + "' is corrupted");
+            }
+            int[] sectionLengths = new int[sectionCount];
+            for (int i = 0; i < sectionLengths.length; i++) {
+                sectionLengths[i] = in.readInt();
+            }
+            long crc = in.readLong();
+            return new Header(targetEnvironment, namespace, sourceFingerprint, sectionLengths, crc);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.snapshot;
+
+import static kraken.runtime.repository.snapshot.RuntimeProjectSnapshot.FORMAT_VERSION;
+import static kraken.runtime.repository.snapshot.RuntimeProjectSnapshot.MAGIC;
+import static kraken.runtime.repository.snapshot.RuntimeProjectSnapshot.RULES_PER_SECTION;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import kraken.Kraken;
+import kraken.el.TargetEnvironment;
+import kraken.el.scope.Scope;
+import kraken.el.scope.type.Type;
+import kraken.el.scope.type.TypeRef;
+import kraken.runtime.model.expression.CompiledExpression;
+import kraken.runtime.model.project.RuntimeKrakenProject;
+import kraken.runtime.model.rule.RuntimeRule;
+import kraken.runtime.repository.snapshot.SnapshotReferences.DynamicScope;
+import kraken.runtime.repository.snapshot.SnapshotReferences.Expression;
+import kraken.runtime.repository.snapshot.SnapshotReferences.NativeType;
+import kraken.runtime.repository.snapshot.SnapshotReferences.SharedObject;
+import kraken.runtime.repository.snapshot.SnapshotReferences.TypeReference;
+
+/**
+ * Encodes {@link RuntimeKrakenProject} to a layout described in {@link RuntimeProjectSnapshot}.
+ * Instance encodes a single snapshot.
+ *
+ * @since 1.55.0
+ */
+final class SnapshotEncoder {
+
+    private final Map<Object, Integer> sharedObjectIndexes = new IdentityHashMap<>();
+
+    private final List<Object> sharedObjects = new ArrayList<>();
+
+    void encode(RuntimeKrakenProject project,
+                TargetEnvironment targetEnvironment,
+                String sourceFingerprint,
+                OutputStream output) throws IOException {
+        Map<String, List<RuntimeRule>> ruleVersions = new LinkedHashMap<>();
+        for (RuntimeRule rule : project.getRules()) {
+            ruleVersions.computeIfAbsent(rule.getName(), name -> new ArrayList<>()).add(rule);
+        }
+        List<String> ruleNames = new ArrayList<>(ruleVersions.keySet());
+        Map<String, Integer> ruleNameIndexes = new HashMap<>();
+        for (int i = 0; i < ruleNames.size(); i++) {
+            ruleNameIndexes.put(ruleNames.get(i), i);
+        }
+        int[] ruleOrder = project.getRules().stream()
+            .mapToInt(rule -> ruleNameIndexes.get(rule.getName()))
+            .toArray();
+
+        List<byte[]> ruleSections = new ArrayList<>();
+        for (int from = 0; from < ruleNames.size(); from += RULES_PER_SECTION) {
+            List<List<RuntimeRule>> versions = new ArrayList<>();
+            for (String ruleName : ruleNames.subList(from, Math.min(from + RULES_PER_SECTION, ruleNames.size()))) {
+                versions.add(ruleVersions.get(ruleName));
+            }
+            ruleSections.add(encodeSection(versions));
+        }
+        byte[] projectSection = encodeSection(
+            project.getChecksum(),
+            project.getRootContextName(),
+            new HashMap<>(project.getContextDefinitions()),
+            new ArrayList<>(project.getEntryPoints()),
+            new ArrayList<>(project.getFunctions().values()),
+            ruleNames,
+            ruleOrder
+        );
+        byte[] sharedSection = encodeSharedSection();
+
+        List<byte[]> sections = new ArrayList<>();
+        sections.add(sharedSection);
+        sections.add(projectSection);
+        sections.addAll(ruleSections);
+
+        CRC32 crc = new CRC32();
+        for (byte[] section : sections) {
+            crc.update(section);
+        }
+
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(Kraken.VERSION);
+        out.writeUTF(targetEnvironment.name());
+        out.writeUTF(project.getNamespace());
+        out.writeUTF(sourceFingerprint);
+        out.writeInt(sections.size());
+        for (byte[] section : sections) {
+            out.writeInt(section.length);
+        }
+        out.writeLong(crc.getValue());
+        for (byte[] section : sections) {
+            out.write(section);
+        }
+        out.flush();
+    }
+
+    /**
+     * @return all types available in global scopes of shared scopes, which are used to resolve {@link TypeRef}
+     */
+    private Map<String, Type> resolveTypeRegistry() {
+        Map<String, Type> typeRegistry = new HashMap<>();
+        for (Object sharedObject : sharedObjects) {
+            if (sharedObject instanceof Scope) {
+                ((Scope) sharedObject).getAllTypes().forEach(typeRegistry::putIfAbsent);
+            }
+        }
+        return typeRegistry;
+    }
+
+    private byte[] encodeSection(Object... objects) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SnapshotObjectOutputStream out = new SnapshotObjectOutputStream(bytes, null)) {
+            for (Object object : objects) {
+                out.writeObject(object);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Must be encoded after all other sections, because shared objects are collected when other sections are encoded
+     */
+    private byte[] encodeSharedSection() throws IOException {
+        Map<String, Type> typeRegistry = resolveTypeRegistry();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SnapshotObjectOutputStream out = new SnapshotObjectOutputStream(bytes, typeRegistry)) {
+            out.writeObject(typeRegistry);
+            out.writeObject(sharedObjects);
+        }
+        return bytes.toByteArray();
+    }
+
+    private SharedObject share(Object object) {
+        Integer index = sharedObjectIndexes.get(object);
+        if (index == null) {
+            index = sharedObjects.size();
+            sharedObjects.add(object);
+            sharedObjectIndexes.put(object, index);
+        }
+        return new SharedObject(index);
+    }
+
+    /**
+     * Replaces types and scopes by references to section of shared objects,
+     * or, when writing section of shared objects, replaces constants and {@link TypeRef}
+     */
+    private final class SnapshotObjectOutputStream extends ObjectOutputStream {
+
+        /**
+         * Type registry of snapshot if section of shared objects is written, otherwise null
+         */
+        private final Map<String, Type> typeRegistry;
+
+        SnapshotObjectOutputStream(OutputStream out, Map<String, Type> typeRegistry) throws IOException {
+            super(out);
+            this.typeRegistry = typeRegistry;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object object) throws IOException {
+            if (object instanceof CompiledExpression) {
+                return new Expression((CompiledExpression) object);
+            }
+            if (object instanceof Collection && !(object instanceof Serializable)) {
+                // collection views, for example values of map that are shared by symbol tables of scopes
+                return object instanceof Set
+                    ? new LinkedHashSet<>((Collection<?>) object)
+                    : new ArrayList<>((Collection<?>) object);
+            }
+            if (typeRegistry == null) {
+                return object instanceof Scope || object instanceof Type ? share(object) : object;
+            }
+            if (object == Scope.dynamic()) {
+                return DynamicScope.INSTANCE;
+            }
+            if (object instanceof TypeRef) {
+                String typeName = ((TypeRef) object).getName();
+                if (!typeRegistry.containsKey(typeName)) {
+                    throw new NotSerializableException("Type '" + typeName + "' is referenced, "
+                        + "but it is not available in any scope of runtime project");
+                }
+                return new TypeReference(typeName);
+            }
+            if (object instanceof Type && Type.nativeTypes.get(((Type) object).getName()) == object) {
+                return new NativeType(((Type) object).getName());
+            }
+            return object;
+        }
+    }
+
+}
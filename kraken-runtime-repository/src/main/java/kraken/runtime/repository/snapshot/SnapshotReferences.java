@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.snapshot;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+import kraken.el.ast.Ast;
+import kraken.el.scope.Scope;
+import kraken.el.scope.type.Type;
+import kraken.el.scope.type.TypeRef;
+import kraken.runtime.model.expression.CompiledExpression;
+import kraken.runtime.model.expression.ExpressionType;
+import kraken.runtime.model.expression.ExpressionVariable;
+
+/**
+ * Objects which replace parts of runtime project in sections of {@link RuntimeProjectSnapshot}
+ * and are resolved back when section is decoded.
+ *
+ * @since 1.55.0
+ */
+final class SnapshotReferences {
+
+    private SnapshotReferences() {
+    }
+
+    /**
+     * Reference to {@link Scope} or {@link Type} in a section of shared objects, which is shared by expressions of
+     * all sections, so that types and scopes are written once and are the same instances after decoding.
+     */
+    static final class SharedObject implements Serializable {
+
+        private static final long serialVersionUID = -3385432717151585530L;
+
+        final int index;
+
+        SharedObject(int index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * Replaces {@link TypeRef}, because its resolver is not serializable.
+     * Resolved to {@link TypeRef} which resolves types from type registry of snapshot.
+     */
+    static final class TypeReference implements Serializable {
+
+        private static final long serialVersionUID = 4934160741004713394L;
+
+        final String typeName;
+
+        TypeReference(String typeName) {
+            this.typeName = typeName;
+        }
+    }
+
+    /**
+     * Replaces native type, which is resolved to the same constant of {@link Type}
+     */
+    static final class NativeType implements Serializable {
+
+        private static final long serialVersionUID = -1125063584420367493L;
+
+        final String typeName;
+
+        NativeType(String typeName) {
+            this.typeName = typeName;
+        }
+    }
+
+    /**
+     * Replaces {@link Scope#dynamic()}, which is resolved to the same constant
+     */
+    static final class DynamicScope implements Serializable {
+
+        private static final long serialVersionUID = 2710931283766740317L;
+
+        static final DynamicScope INSTANCE = new DynamicScope();
+
+        private DynamicScope() {
+        }
+    }
+
+    /**
+     * Replaces {@link CompiledExpression}, because AST of expression is not serialized by default
+     */
+    static final class Expression implements Serializable {
+
+        private static final long serialVersionUID = 5652640926542305893L;
+
+        private final String expressionString;
+        private final String originalExpressionString;
+        private final ExpressionType expressionType;
+        private final Serializable compiledLiteralValue;
+        private final String expressionEvaluationType;
+        private final Collection<ExpressionVariable> expressionVariables;
+        private final Ast ast;
+
+        Expression(CompiledExpression expression) {
+            this.expressionString = expression.getExpressionString();
+            this.originalExpressionString = expression.getOriginalExpressionString();
+            this.expressionType = expression.getExpressionType();
+            this.compiledLiteralValue = expression.getCompiledLiteralValue();
+            this.expressionEvaluationType = expression.getExpressionEvaluationType();
+            this.expressionVariables = expression.getExpressionVariables();
+            this.ast = expression.getAst();
+        }
+
+        CompiledExpression toCompiledExpression() {
+            return new CompiledExpression(
+                expressionString,
+                originalExpressionString,
+                expressionType,
+                compiledLiteralValue,
+                expressionEvaluationType,
+                expressionVariables,
+                ast
+            );
+        }
+    }
+
+}
@@ -15,11 +15,20 @@
  */
 package kraken.runtime.repository;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,21 +44,30 @@ import kraken.model.validation.ValidationSeverity;
 import kraken.runtime.model.MetadataContainer;
 import kraken.runtime.model.rule.RuntimeRule;
 import kraken.runtime.model.rule.payload.validation.AssertionPayload;
+import kraken.runtime.repository.dynamic.BatchDynamicRuleRepository;
 import kraken.runtime.repository.dynamic.DynamicRuleHolder;
 import kraken.runtime.repository.dynamic.DynamicRuleRepository;
 import kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory;
 import kraken.runtime.repository.filter.DimensionFilter;
+import kraken.runtime.repository.snapshot.ProjectSourceFingerprint;
+import kraken.runtime.repository.snapshot.RuntimeProjectSnapshot;
+import kraken.utils.metrics.KrakenMetrics;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static kraken.el.TargetEnvironment.JAVA;
 import static kraken.runtime.repository.dynamic.DynamicRuleRepositoryCacheConfig.noCaching;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.collection.IsMapContaining.hasKey;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -57,8 +75,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
  */
 public class RuntimeProjectRepositoryTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private RuntimeProjectRepository policyRepository;
     private RuntimeProjectRepository crmRepository;
+    private KrakenProjectRepository krakenProjectRepository;
 
     @Before
     public void setUp() throws Exception {
@@ -68,7 +90,7 @@ public class RuntimeProjectRepositoryTest {
                 .createKrakenProjectFactory(resources);
         KrakenProject policy = krakenProjectFactory.createKrakenProject("Policy");
         KrakenProject crm = krakenProjectFactory.createKrakenProject("Crm");
-        KrakenProjectRepository krakenProjectRepository = new StaticKrakenProjectRepository(List.of(policy, crm));
+        this.krakenProjectRepository = new StaticKrakenProjectRepository(List.of(policy, crm));
 
         RuntimeProjectRepositoryConfig config = new RuntimeProjectRepositoryConfig(
                 noCaching(),
@@ -141,6 +163,214 @@ public class RuntimeProjectRepositoryTest {
         );
     }
 
+    @Test
+    public void shouldResolveDynamicRulesOfIncludedEntryPointsInSingleBatch() {
+        BatchPackageDynamicRuleRepository batchRepository = new BatchPackageDynamicRuleRepository();
+        RuntimeProjectRepositoryConfig config = new RuntimeProjectRepositoryConfig(
+                noCaching(),
+                List.of(new PackageDimensionFilter()),
+                List.of(new PackageDynamicRuleRepository(), batchRepository)
+        );
+        RuntimeProjectRepository repository = new RuntimeProjectRepositoryFactory(krakenProjectRepository, config, JAVA)
+                .resolveRepository("Policy");
+        Map<String, Object> context = Map.of(
+                "Package", "Simple",
+                "Dynamic", true
+        );
+
+        Map<String, RuntimeRule> policyRules = repository.resolveRules("Validation", context);
+
+        assertThat(policyRules, hasKey("DynamicRule"));
+        assertThat(policyRules, hasKey("R01-Policy"));
+        assertThat(batchRepository.invocations, contains(List.of("PackageValidation", "Validation")));
+    }
+
+    @Test
+    public void shouldReloadChangedProjectInBackground() {
+        KrakenProject changedPolicy = readChangedPolicy();
+        AtomicReference<KrakenProject> policy = new AtomicReference<>(krakenProjectRepository.getKrakenProject("Policy"));
+        RuntimeProjectRepositoryConfig config = new RuntimeProjectRepositoryConfig(
+                noCaching(),
+                List.of(new PackageDimensionFilter()),
+                List.of()
+        ).withBackgroundReload(TimeUnit.HOURS.toMillis(1));
+
+        try (var factory = new RuntimeProjectRepositoryFactory(namespace -> policy.get(), config, JAVA)) {
+            RuntimeProjectRepository repository = factory.resolveRepository("Policy");
+            policy.set(changedPolicy);
+
+            assertThat(factory.resolveRepository("Policy"), sameInstance(repository));
+
+            factory.reloadChangedRepositories();
+
+            assertThat(factory.resolveRepository("Policy").getKrakenProject().getChecksum(),
+                    equalTo(changedPolicy.getIdentifier()));
+        }
+    }
+
+    @Test
+    public void shouldResolveRepositoryFromProjectSnapshot() throws IOException {
+        RuntimeProjectRepositoryConfig config = new RuntimeProjectRepositoryConfig(
+                noCaching(),
+                List.of(new PackageDimensionFilter()),
+                List.of()
+        );
+        Path directory = temporaryFolder.getRoot().toPath();
+        new RuntimeProjectRepositoryFactory(krakenProjectRepository, config, JAVA).writeProjectSnapshot("Policy", directory);
+        AtomicInteger resolvedKrakenProjects = new AtomicInteger();
+        RuntimeProjectRepositoryFactory factory = new RuntimeProjectRepositoryFactory(
+                namespace -> {
+                    resolvedKrakenProjects.incrementAndGet();
+                    return krakenProjectRepository.getKrakenProject(namespace);
+                },
+                config.withProjectSnapshots(directory),
+                JAVA
+        );
+
+        RuntimeProjectRepository repository = factory.resolveRepository("Policy");
+
+        assertThat(factory.resolveRepository("Policy"), sameInstance(repository));
+        assertThat(resolvedKrakenProjects.get(), equalTo(0));
+        Map<String, RuntimeRule> policyRules = repository.resolveRules("Validation", Map.of("Package", "Simple"));
+        assertThat(policyRules, hasKey("R01-Policy"));
+        assertThat(policyRules, hasKey("R02-Policy-PackageSpecific"));
+        assertThat(policyRules, hasKey("R03-Policy-Simple"));
+        AssertionPayload payload = (AssertionPayload) policyRules.get("R01-Policy").getPayload();
+        assertThat(payload.getAssertionExpression().getAst(), notNullValue());
+    }
+
+    @Test
+    public void shouldConvertKrakenProjectWhenSnapshotIsWrittenFromDifferentSources() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        new RuntimeProjectRepositoryFactory(krakenProjectRepository, snapshotConfig(directory, namespace -> "v1"), JAVA)
+                .writeProjectSnapshot("Policy", directory);
+        KrakenProject changedPolicy = readChangedPolicy();
+
+        RuntimeProjectRepository repository = new RuntimeProjectRepositoryFactory(
+                namespace -> changedPolicy, snapshotConfig(directory, namespace -> "v2"), JAVA
+        ).resolveRepository("Policy");
+
+        assertThat(repository.getKrakenProject().getChecksum(), equalTo(changedPolicy.getIdentifier()));
+    }
+
+    @Test
+    public void shouldConvertKrakenProjectWhenSourcesChangeAfterSnapshotIsRead() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        new RuntimeProjectRepositoryFactory(krakenProjectRepository, snapshotConfig(directory, namespace -> "v1"), JAVA)
+                .writeProjectSnapshot("Policy", directory);
+        KrakenProject changedPolicy = readChangedPolicy();
+        AtomicReference<String> sourceFingerprint = new AtomicReference<>("v1");
+        RuntimeProjectRepositoryFactory factory = new RuntimeProjectRepositoryFactory(
+                namespace -> changedPolicy, snapshotConfig(directory, namespace -> sourceFingerprint.get()), JAVA
+        );
+        RuntimeProjectRepository snapshotRepository = factory.resolveRepository("Policy");
+
+        sourceFingerprint.set("v2");
+        RuntimeProjectRepository repository = factory.resolveRepository("Policy");
+
+        assertThat(repository, not(sameInstance(snapshotRepository)));
+        assertThat(repository.getKrakenProject().getChecksum(), equalTo(changedPolicy.getIdentifier()));
+    }
+
+    @Test
+    public void shouldReloadRepositoryReadFromSnapshotInBackgroundWhenSourcesChange() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        new RuntimeProjectRepositoryFactory(krakenProjectRepository, snapshotConfig(directory, namespace -> "v1"), JAVA)
+                .writeProjectSnapshot("Policy", directory);
+        KrakenProject changedPolicy = readChangedPolicy();
+        AtomicReference<String> sourceFingerprint = new AtomicReference<>("v1");
+        RuntimeProjectRepositoryConfig config = snapshotConfig(directory, namespace -> sourceFingerprint.get())
+                .withBackgroundReload(TimeUnit.HOURS.toMillis(1));
+
+        try (var factory = new RuntimeProjectRepositoryFactory(namespace -> changedPolicy, config, JAVA)) {
+            RuntimeProjectRepository snapshotRepository = factory.resolveRepository("Policy");
+            factory.reloadChangedRepositories();
+            assertThat(factory.resolveRepository("Policy"), sameInstance(snapshotRepository));
+
+            sourceFingerprint.set("v2");
+            assertThat(factory.resolveRepository("Policy"), sameInstance(snapshotRepository));
+
+            factory.reloadChangedRepositories();
+
+            assertThat(factory.resolveRepository("Policy").getKrakenProject().getChecksum(),
+                    equalTo(changedPolicy.getIdentifier()));
+        }
+    }
+
+    @Test
+    public void shouldConvertKrakenProjectWhenSnapshotCannotBeRead() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Files.writeString(directory.resolve(RuntimeProjectSnapshot.fileName("Policy")), "corrupted");
+        RuntimeProjectRepositoryConfig config = new RuntimeProjectRepositoryConfig(
+                noCaching(),
+                List.of(new PackageDimensionFilter()),
+                List.of()
+        ).withProjectSnapshots(directory);
+
+        RuntimeProjectRepository repository = new RuntimeProjectRepositoryFactory(krakenProjectRepository, config, JAVA)
+                .resolveRepository("Policy");
+
+        assertThat(repository.getKrakenProject().getChecksum(),
+                equalTo(krakenProjectRepository.getKrakenProject("Policy").getIdentifier()));
+    }
+
+    @Test
+    public void shouldQueryDynamicRuleRepositoriesInCallingThreadByDefault() {
+        BatchPackageDynamicRuleRepository batchRepository = new BatchPackageDynamicRuleRepository();
+        RuntimeProjectRepositoryConfig config = new RuntimeProjectRepositoryConfig(
+                noCaching(),
+                List.of(new PackageDimensionFilter()),
+                List.of(new PackageDynamicRuleRepository(), batchRepository)
+        );
+        RuntimeProjectRepository repository = new RuntimeProjectRepositoryFactory(krakenProjectRepository, config, JAVA)
+                .resolveRepository("Policy");
+
+        repository.resolveRules("Validation", Map.of("Package", "Simple", "Dynamic", true));
+
+        assertThat(batchRepository.threads, contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void shouldQueryDynamicRuleRepositoriesInProvidedExecutor() {
+        BatchPackageDynamicRuleRepository batchRepository = new BatchPackageDynamicRuleRepository();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RuntimeProjectRepositoryConfig config = new RuntimeProjectRepositoryConfig(
+                    noCaching(),
+                    List.of(new PackageDimensionFilter()),
+                    List.of(new PackageDynamicRuleRepository(), batchRepository),
+                    KrakenMetrics.noop(),
+                    executor
+            );
+            RuntimeProjectRepository repository =
+                    new RuntimeProjectRepositoryFactory(krakenProjectRepository, config, JAVA)
+                            .resolveRepository("Policy");
+
+            Map<String, RuntimeRule> rules =
+                    repository.resolveRules("Validation", Map.of("Package", "Simple", "Dynamic", true));
+
+            assertThat(rules, hasKey("DynamicRule"));
+            assertThat(batchRepository.threads, not(contains(Thread.currentThread())));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static RuntimeProjectRepositoryConfig snapshotConfig(Path directory,
+                                                                 ProjectSourceFingerprint sourceFingerprint) {
+        return new RuntimeProjectRepositoryConfig(
+                noCaching(),
+                List.of(new PackageDimensionFilter()),
+                List.of()
+        ).withProjectSnapshots(directory, sourceFingerprint);
+    }
+
+    private static KrakenProject readChangedPolicy() {
+        return ResourceKrakenProjectFactoryHolder.getInstance()
+                .createKrakenProjectFactory(new DSLReader().read("DynamicRuleRepositoryProcessorTest/"))
+                .createKrakenProject("Policy");
+    }
+
     static class PackageDimensionFilter implements DimensionFilter {
         @Override
         public <T extends MetadataContainer> Collection<T> filter(Collection<T> items, Map<String, Object> context) {
@@ -194,4 +424,25 @@ public class RuntimeProjectRepositoryTest {
             return Stream.empty();
         }
     }
+
+    static class BatchPackageDynamicRuleRepository extends PackageDynamicRuleRepository
+        implements BatchDynamicRuleRepository {
+
+        private final List<List<String>> invocations = new CopyOnWriteArrayList<>();
+
+        private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Map<String, Stream<DynamicRuleHolder>> resolveDynamicRules(String namespace,
+                                                                          List<String> entryPoints,
+                                                                          Map<String, Object> context) {
+            invocations.add(entryPoints);
+            threads.add(Thread.currentThread());
+            return entryPoints.stream()
+                .collect(Collectors.toMap(
+                    entryPoint -> entryPoint,
+                    entryPoint -> resolveDynamicRules(namespace, entryPoint, context)
+                ));
+        }
+    }
 }
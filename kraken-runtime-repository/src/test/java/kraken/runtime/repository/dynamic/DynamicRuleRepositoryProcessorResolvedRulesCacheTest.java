@@ -0,0 +1,229 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.dynamic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import kraken.converter.RuleConverter;
+import kraken.dimensions.DimensionSet;
+import kraken.model.Rule;
+import kraken.model.dsl.read.DSLReader;
+import kraken.model.factory.RulesModelFactory;
+import kraken.model.project.KrakenProject;
+import kraken.model.project.ResourceKrakenProjectFactoryHolder;
+import kraken.model.project.validator.KrakenProjectValidationService;
+import kraken.model.project.validator.ValidationResult;
+import kraken.runtime.model.rule.RuntimeRule;
+import kraken.runtime.repository.filter.DimensionFilteringService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DynamicRuleRepositoryProcessorResolvedRulesCacheTest {
+
+    private static final RulesModelFactory factory = RulesModelFactory.getInstance();
+
+    private static final KrakenProject krakenProject = ResourceKrakenProjectFactoryHolder.getInstance()
+        .createKrakenProjectFactory(new DSLReader().read("DynamicRuleRepositoryProcessorTest/"))
+        .createKrakenProject("Policy");
+
+    private static final String ENTRY_POINT = "ValidationNonSSO";
+
+    private final DynamicRuleCacheInvalidator invalidator = new DynamicRuleCacheInvalidator();
+
+    @Mock
+    public DimensionFilteringService dimensionFilteringService;
+
+    @Mock
+    public RuleConverter ruleConverter;
+
+    @Mock
+    public DynamicRuleRepository dynamicRuleRepository;
+
+    @Mock
+    private KrakenProjectValidationService krakenProjectValidationService;
+
+    private DynamicRuleRepositoryProcessor processor;
+
+    @Before
+    public void setUp() {
+        processor = new DynamicRuleRepositoryProcessor(
+            krakenProject,
+            ruleConverter,
+            List.of(dynamicRuleRepository),
+            DynamicRuleRepositoryCacheConfig.noCaching().withResolvedRulesCache(100, 600, invalidator),
+            dimensionFilteringService,
+            krakenProjectValidationService
+        );
+    }
+
+    @Test
+    public void shouldQueryRepositoryOnceForTheSameDimensionValues() {
+        mockRepository(DimensionSet.createForDimensions(Set.of("state")));
+
+        assertThat(resolve(Map.of("state", "CA", "other", 1)), hasSize(1));
+        assertThat(resolve(Map.of("state", "CA", "other", 2)), hasSize(1));
+
+        verify(dynamicRuleRepository, times(1)).resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap());
+    }
+
+    @Test
+    public void shouldNotReuseRulesResolvedForDifferentValueOfDimensionDeclaredByOtherRule() {
+        RuntimeRule stateRule = runtimeRule("StateRule", DimensionSet.createForDimensions(Set.of("state", "plan")));
+        RuntimeRule planRule = runtimeRule("PlanRule", DimensionSet.createForDimensions(Set.of("plan")));
+        when(dynamicRuleRepository.resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap()))
+            .thenAnswer(invocation -> {
+                Map<String, Object> context = invocation.getArgument(2);
+                return "Y".equals(context.get("plan"))
+                    ? Stream.of(ruleHolder("StateRule"), ruleHolder("PlanRule"))
+                    : Stream.of(ruleHolder("StateRule"));
+            });
+        when(ruleConverter.convertDynamicRule(any())).thenAnswer(invocation -> {
+            DynamicRuleHolder holder = invocation.getArgument(0);
+            return holder.getRule().getName().equals("PlanRule") ? planRule : stateRule;
+        });
+        when(krakenProjectValidationService.validateDynamicRule(any(), any()))
+            .thenReturn(new ValidationResult(List.of()));
+        when(dimensionFilteringService.filterRules(anyString(), any(), anyMap()))
+            .thenAnswer(invocation -> Optional.of(invocation.<Collection<RuntimeRule>>getArgument(1).iterator().next()));
+
+        assertThat(ruleNames(resolve(Map.of("state", "CA", "plan", "X"))), containsInAnyOrder("StateRule"));
+        assertThat(ruleNames(resolve(Map.of("state", "CA", "plan", "Y"))), containsInAnyOrder("StateRule", "PlanRule"));
+        assertThat(ruleNames(resolve(Map.of("state", "CA", "plan", "X"))), containsInAnyOrder("StateRule"));
+
+        verify(dynamicRuleRepository, times(2)).resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap());
+    }
+
+    @Test
+    public void shouldQueryRepositoryForDifferentDimensionValues() {
+        mockRepository(DimensionSet.createForDimensions(Set.of("state")));
+
+        resolve(Map.of("state", "CA"));
+        resolve(Map.of("state", "NY"));
+        resolve(Map.of("state", "NY"));
+
+        verify(dynamicRuleRepository, times(2)).resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap());
+    }
+
+    @Test
+    public void shouldQueryRepositoryAfterInvalidation() {
+        mockRepository(DimensionSet.createForDimensions(Set.of("state")));
+
+        resolve(Map.of("state", "CA"));
+        invalidator.invalidate(krakenProject.getNamespace(), ENTRY_POINT);
+        resolve(Map.of("state", "CA"));
+        resolve(Map.of("state", "CA"));
+        invalidator.invalidateAll();
+        resolve(Map.of("state", "CA"));
+
+        verify(dynamicRuleRepository, times(3)).resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap());
+    }
+
+    @Test
+    public void shouldNotCacheRulesWithUnknownDimensions() {
+        mockRepository(DimensionSet.createForUnknownDimensions());
+
+        resolve(Map.of("state", "CA"));
+        resolve(Map.of("state", "CA"));
+
+        verify(dynamicRuleRepository, times(2)).resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap());
+    }
+
+    @Test
+    public void shouldNotUseRulesCachedByFewerDimensionsWhenMoreDimensionsAreDeclared() {
+        RuntimeRule stateRule = runtimeRule("StateRule", DimensionSet.createForDimensions(Set.of("state")));
+        RuntimeRule planRule = runtimeRule("PlanRule", DimensionSet.createForDimensions(Set.of("state", "plan")));
+        when(dynamicRuleRepository.resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap()))
+            .thenAnswer(invocation -> {
+                Map<String, Object> context = invocation.getArgument(2);
+                return "NY".equals(context.get("state"))
+                    ? Stream.of(ruleHolder("PlanRule"))
+                    : Stream.of(ruleHolder("StateRule"));
+            });
+        when(ruleConverter.convertDynamicRule(any())).thenAnswer(invocation -> {
+            DynamicRuleHolder holder = invocation.getArgument(0);
+            return holder.getRule().getName().equals("PlanRule") ? planRule : stateRule;
+        });
+        when(krakenProjectValidationService.validateDynamicRule(any(), any()))
+            .thenReturn(new ValidationResult(List.of()));
+        when(dimensionFilteringService.filterRules(anyString(), any(), anyMap()))
+            .thenAnswer(invocation -> Optional.of(invocation.<Collection<RuntimeRule>>getArgument(1).iterator().next()));
+
+        resolve(Map.of("state", "CA", "plan", "X"));
+        resolve(Map.of("state", "NY", "plan", "X"));
+        resolve(Map.of("state", "CA", "plan", "X"));
+        resolve(Map.of("state", "CA", "plan", "X"));
+        resolve(Map.of("state", "NY", "plan", "X"));
+
+        verify(dynamicRuleRepository, times(3)).resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap());
+    }
+
+    private List<RuntimeRule> resolve(Map<String, Object> context) {
+        return processor.resolveRules(ENTRY_POINT, context).collect(Collectors.toList());
+    }
+
+    private static List<String> ruleNames(List<RuntimeRule> rules) {
+        return rules.stream().map(RuntimeRule::getName).collect(Collectors.toList());
+    }
+
+    private static DynamicRuleHolder ruleHolder(String name) {
+        Rule rule = factory.createRule();
+        rule.setName(name);
+        rule.setRuleVariationId(name);
+        return DynamicRuleHolder.createNonDimensional(rule);
+    }
+
+    private static RuntimeRule runtimeRule(String name, DimensionSet dimensionSet) {
+        RuntimeRule runtimeRule = mock(RuntimeRule.class);
+        when(runtimeRule.getName()).thenReturn(name);
+        when(runtimeRule.getDimensionSet()).thenReturn(dimensionSet);
+        return runtimeRule;
+    }
+
+    private void mockRepository(DimensionSet dimensionSet) {
+        RuntimeRule runtimeRule = runtimeRule("DynamicRule", dimensionSet);
+
+        when(dynamicRuleRepository.resolveDynamicRules(anyString(), eq(ENTRY_POINT), anyMap()))
+            .thenAnswer(invocation -> Stream.of(ruleHolder("DynamicRule")));
+        when(ruleConverter.convertDynamicRule(any())).thenReturn(runtimeRule);
+        when(krakenProjectValidationService.validateDynamicRule(any(), any()))
+            .thenReturn(new ValidationResult(List.of()));
+        when(dimensionFilteringService.filterRules(anyString(), any(), anyMap()))
+            .thenReturn(Optional.of(runtimeRule));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.runtime.repository.snapshot;
+
+import static kraken.el.TargetEnvironment.JAVA;
+import static kraken.el.TargetEnvironment.JAVASCRIPT;
+import static kraken.runtime.repository.dynamic.DynamicRuleRepositoryCacheConfig.noCaching;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import kraken.Kraken;
+import kraken.el.ast.Ast;
+import kraken.el.scope.Scope;
+import kraken.el.scope.type.Type;
+import kraken.model.dsl.read.DSLReader;
+import kraken.model.project.KrakenProject;
+import kraken.model.project.ResourceKrakenProjectFactoryHolder;
+import kraken.model.project.repository.StaticKrakenProjectRepository;
+import kraken.runtime.model.project.RuntimeKrakenProject;
+import kraken.runtime.model.rule.RuntimeRule;
+import kraken.runtime.model.rule.payload.validation.AssertionPayload;
+import kraken.runtime.repository.RuntimeProjectRepositoryConfig;
+import kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory;
+
+public class RuntimeProjectSnapshotTest {
+
+    private static final String SOURCE_FINGERPRINT = "fingerprint";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private RuntimeKrakenProject project;
+
+    private Path file;
+
+    @Before
+    public void setUp() {
+        KrakenProject policy = ResourceKrakenProjectFactoryHolder.getInstance()
+            .createKrakenProjectFactory(new DSLReader().read("RuntimeProjectRepositoryTest/"))
+            .createKrakenProject("Policy");
+        RuntimeProjectRepositoryConfig config = new RuntimeProjectRepositoryConfig(noCaching(), List.of(), List.of());
+        this.project = new RuntimeProjectRepositoryFactory(new StaticKrakenProjectRepository(List.of(policy)), config, JAVA)
+            .resolveRepository("Policy")
+            .getKrakenProject();
+        this.file = temporaryFolder.getRoot().toPath().resolve(RuntimeProjectSnapshot.fileName("Policy"));
+    }
+
+    @Test
+    public void shouldReadSameRuntimeProjectAsWritten() throws IOException {
+        RuntimeProjectSnapshot.write(project, JAVA, SOURCE_FINGERPRINT, file);
+        RuntimeKrakenProject read = RuntimeProjectSnapshot.read(file, JAVA);
+
+        assertThat(read.getNamespace(), equalTo(project.getNamespace()));
+        assertThat(read.getChecksum(), equalTo(project.getChecksum()));
+        assertThat(read.getRootContextName(), equalTo(project.getRootContextName()));
+        assertThat(read.getContextDefinitions().keySet(), equalTo(project.getContextDefinitions().keySet()));
+        assertThat(read.getEntryPointVersions().keySet(), equalTo(project.getEntryPointVersions().keySet()));
+        assertThat(read.getRuleVersions().keySet(), equalTo(project.getRuleVersions().keySet()));
+        assertThat(describe(read.getRules()), equalTo(describe(project.getRules())));
+    }
+
+    @Test
+    public void shouldReadExpressionsWithAstAndScopesSharedByExpressions() throws IOException {
+        RuntimeProjectSnapshot.write(project, JAVA, SOURCE_FINGERPRINT, file);
+        RuntimeKrakenProject read = RuntimeProjectSnapshot.read(file, JAVA);
+
+        Ast r01 = assertionAst(read, "R01-Policy");
+        Ast r03 = assertionAst(read, "R03-Policy-Simple");
+        assertThat(r01, notNullValue());
+        assertThat(r01.toString(), equalTo(assertionAst(project, "R01-Policy").toString()));
+        assertThat(r03.getExpression().getScope(), sameInstance(r01.getExpression().getScope()));
+
+        Scope scope = r01.getExpression().getScope();
+        Type policy = scope.resolveTypeOf("Policy");
+        assertThat(policy.getProperties().getReferences().get("totalLimitAmount").getType(), sameInstance(Type.MONEY));
+        assertThat(scope.resolveTypeOf("Number"), sameInstance(Type.NUMBER));
+    }
+
+    @Test
+    public void shouldNotReadSnapshotOfAnotherTargetEnvironment() throws IOException {
+        RuntimeProjectSnapshot.write(project, JAVA, SOURCE_FINGERPRINT, file);
+
+        IOException e = assertThrows(IOException.class, () -> RuntimeProjectSnapshot.read(file, JAVASCRIPT));
+
+        assertThat(e.getMessage(), containsString("target environment JAVA"));
+    }
+
+    @Test
+    public void shouldReadSourceFingerprintFromHeader() throws IOException {
+        RuntimeProjectSnapshot.write(project, JAVA, SOURCE_FINGERPRINT, file);
+
+        assertThat(RuntimeProjectSnapshot.readSourceFingerprint(file), equalTo(SOURCE_FINGERPRINT));
+    }
+
+    @Test
+    public void shouldNotReadSnapshotWithCorruptedContent() throws IOException {
+        RuntimeProjectSnapshot.write(project, JAVA, SOURCE_FINGERPRINT, file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> RuntimeProjectSnapshot.read(file, JAVA));
+
+        assertThat(e.getMessage(), containsString("is corrupted"));
+    }
+
+    @Test
+    public void shouldNotReadFileWhichIsNotSnapshot() throws IOException {
+        Files.writeString(file, "not a snapshot");
+
+        IOException e = assertThrows(IOException.class, () -> RuntimeProjectSnapshot.read(file, JAVA));
+
+        assertThat(e.getMessage(), containsString("is not a runtime project snapshot"));
+    }
+
+    @Test
+    public void shouldNotDeserializeClassesOtherThanKrakenModel() throws IOException {
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(section)) {
+            out.writeObject(List.of(new ForeignObject()));
+        }
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(RuntimeProjectSnapshot.MAGIC);
+            out.writeInt(RuntimeProjectSnapshot.FORMAT_VERSION);
+            out.writeUTF(Kraken.VERSION);
+            out.writeUTF(JAVA.name());
+            out.writeUTF("Policy");
+            out.writeUTF(SOURCE_FINGERPRINT);
+            out.writeInt(2);
+            out.writeInt(section.size());
+            out.writeInt(0);
+            CRC32 crc = new CRC32();
+            crc.update(section.toByteArray());
+            out.writeLong(crc.getValue());
+            section.writeTo(out);
+        }
+        ForeignObject.deserialized = false;
+
+        assertThrows(InvalidClassException.class, () -> RuntimeProjectSnapshot.read(file, JAVA));
+        assertThat(ForeignObject.deserialized, is(false));
+    }
+
+    private static Ast assertionAst(RuntimeKrakenProject project, String ruleName) {
+        RuntimeRule rule = project.getRuleVersions().get(ruleName).get(0);
+        return ((AssertionPayload) rule.getPayload()).getAssertionExpression().getAst();
+    }
+
+    private static List<String> describe(List<RuntimeRule> rules) {
+        return rules.stream()
+            .map(rule -> rule.getName() + " " + rule.getMetadata().getProperties() + " "
+                + ((AssertionPayload) rule.getPayload()).getAssertionExpression().getExpressionString())
+            .collect(Collectors.toList());
+    }
+
+    static final class ForeignObject implements Serializable {
+
+        static volatile boolean deserialized;
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            deserialized = true;
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.tracer;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Decides whether a trace must be recorded according to configured sampling rate.
+ *
+ * @since 1.55.0
+ */
+final class TraceSampler {
+
+    private final double samplingRate;
+
+    private final DoubleSupplier random;
+
+    /**
+     * @param samplingRate fraction of traces to record, from {@code 0} to {@code 1}
+     */
+    TraceSampler(double samplingRate) {
+        this(samplingRate, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * @param samplingRate fraction of traces to record, from {@code 0} to {@code 1}
+     * @param random       supplies random values from {@code 0} inclusive to {@code 1} exclusive
+     */
+    TraceSampler(double samplingRate, DoubleSupplier random) {
+        if (!isValidRate(samplingRate)) {
+            throw new IllegalArgumentException(
+                "Tracer sampling rate must be in range from 0 to 1, but was " + samplingRate + ".");
+        }
+        this.samplingRate = samplingRate;
+        this.random = random;
+    }
+
+    static boolean isValidRate(double samplingRate) {
+        return samplingRate >= 0 && samplingRate <= 1;
+    }
+
+    boolean sample() {
+        if (samplingRate >= 1) {
+            return true;
+        }
+        if (samplingRate <= 0) {
+            return false;
+        }
+        return random.getAsDouble() < samplingRate;
+    }
+
+}
@@ -24,6 +24,9 @@ import java.util.ServiceLoader.Provider;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import kraken.tracer.id.DefaultTraceIdProvider;
 import kraken.tracer.id.TraceIdProvider;
 import kraken.tracer.observer.TraceObserver;
@@ -33,6 +36,12 @@ import kraken.tracer.observer.TraceObserver;
  * operation and notifying registered trace observers. By default {@code Tracer} is disabled,
  * use {@code TracerToggle} SPI to enabled it when needed.
  *
+ * <p>When tracing is enabled, only a fraction of traces provided by {@link TracerConfigurer#samplingRate()}
+ * is recorded. The decision is made once for each trace when root operation starts, all nested operations
+ * of a trace which is not sampled are not recorded. Tracing can also be activated for a particular request
+ * by wrapping it with {@link #enableFor(Supplier)}, which bypasses sampling and works even when tracing is
+ * not enabled, as long as {@link TracerConfigurer#isOnDemandEnabled()} returns {@code true}.
+ *
  * <p>{@code Tracer} is a thread-safe class. Current trace instance after starting  is internally
  * stored in {@code ThreadLocal} variable which means that trace must start and complete on the
  * same thread. Context switching is not supported.
@@ -46,13 +55,21 @@ import kraken.tracer.observer.TraceObserver;
  */
 public class Tracer {
 
-    private static final ThreadLocal<Trace> CURRENT_TRACE = new ThreadLocal<>();
+    private static final Logger logger = LoggerFactory.getLogger(Tracer.class);
+
+    private static final double DEFAULT_SAMPLING_RATE = 1;
 
     private static final List<TraceObserver> OBSERVERS = new CopyOnWriteArrayList<>();
 
     private static final TraceIdProvider TRACE_ID_PROVIDER;
 
-    private static final Boolean TRACE_ENABLED;
+    private static final boolean TRACE_ENABLED;
+
+    private static final boolean TRACE_AVAILABLE;
+
+    private static final TraceSampler TRACE_SAMPLER;
+
+    private static final ThreadLocal<TraceState> CURRENT_STATE;
 
     static {
         TRACE_ID_PROVIDER = ServiceLoader.load(TraceIdProvider.class).stream()
@@ -73,14 +90,69 @@ public class Tracer {
             })
             .orElse(null);
 
-        if (tracerConfigurer != null && tracerConfigurer.isEnabled()) {
-            TRACE_ENABLED = true;
+        TRACE_ENABLED = tracerConfigurer != null && tracerConfigurer.isEnabled();
+        TRACE_AVAILABLE = TRACE_ENABLED || tracerConfigurer != null && tracerConfigurer.isOnDemandEnabled();
+        TRACE_SAMPLER = new TraceSampler(TRACE_ENABLED ? resolveSamplingRate(tracerConfigurer.samplingRate()) : 0);
+        CURRENT_STATE = ThreadLocal.withInitial(() -> new TraceState(TRACE_ENABLED, TRACE_SAMPLER));
+        if (TRACE_AVAILABLE) {
             OBSERVERS.addAll(tracerConfigurer.traceObservers());
-        } else {
-            TRACE_ENABLED = false;
+        }
+    }
+
+    static double resolveSamplingRate(double samplingRate) {
+        if (TraceSampler.isValidRate(samplingRate)) {
+            return samplingRate;
+        }
+        logger.warn("Tracer sampling rate must be in range from 0 to 1, but was {}. "
+            + "Sampling rate {} will be used instead.", samplingRate, DEFAULT_SAMPLING_RATE);
+        return DEFAULT_SAMPLING_RATE;
+    }
+
+    /**
+     * Records trace of all operations done by provided executable code block on current thread,
+     * regardless of sampling rate and even if tracing is not enabled by {@link TracerConfigurer#isEnabled()}.
+     * Tracing is activated only if it is available, that is either enabled or allowed on demand
+     * by {@link TracerConfigurer#isOnDemandEnabled()}, otherwise executable code block is executed without tracing.
+     *
+     * <p>Usage Example:
+     * <blockquote>
+     * <pre>{@code
+     *     EntryPointResult result = Tracer.enableFor(() -> engine.evaluate(data, entryPointName));
+     * }</pre>
+     * </blockquote>
+     *
+     * @param executable Executable code block.
+     * @return T value of type returned by executable code block.
+     * @since 1.55.0
+     */
+    public static <T> T enableFor(Supplier<T> executable) {
+        if (!TRACE_AVAILABLE) {
+            return executable.get();
+        }
+
+        var state = CURRENT_STATE.get();
+        state.enable();
+        try {
+            return executable.get();
+        } finally {
+            state.disable();
         }
     }
 
+    /**
+     * Records trace of all operations done by provided executable code block on current thread.
+     * See {@link #enableFor(Supplier)}.
+     *
+     * @param executable Executable code block.
+     * @since 1.55.0
+     */
+    public static void enableFor(Runnable executable) {
+        enableFor(() -> {
+            executable.run();
+            return null;
+        });
+    }
+
     /**
      * Adds given operation to a currently active trace. If trace is not yet started, then a new
      * trace instance is created - in such a case operation is considered to be a root operation.
@@ -104,11 +176,15 @@ public class Tracer {
      * @param operation Operation to add to trace.
      */
     public static void doOperation(VoidOperation operation) {
-        if (!TRACE_ENABLED) {
+        if (!TRACE_AVAILABLE) {
             return;
         }
 
         var trace = safeGetOrCreate();
+        if (trace == null) {
+            safeSkip();
+            return;
+        }
 
         try {
             trace.addOperation(operation);
@@ -156,12 +232,20 @@ public class Tracer {
      * @param executable Executable code block.
      */
     public static void doOperation(VoidOperation operation, Runnable executable) {
-        if (!TRACE_ENABLED) {
+        if (!TRACE_AVAILABLE) {
             executable.run();
             return;
         }
 
         var trace = safeGetOrCreate();
+        if (trace == null) {
+            try {
+                executable.run();
+            } finally {
+                safeSkip();
+            }
+            return;
+        }
 
         try {
             trace.addOperation(operation);
@@ -213,11 +297,18 @@ public class Tracer {
      * @return T value of type returned by executable code block.
      */
     public static <T> T doOperation(Operation<T> operation, Supplier<T> executable) {
-        if (!TRACE_ENABLED) {
+        if (!TRACE_AVAILABLE) {
             return executable.get();
         }
 
         var trace = safeGetOrCreate();
+        if (trace == null) {
+            try {
+                return executable.get();
+            } finally {
+                safeSkip();
+            }
+        }
 
         try {
             trace.addOperation(operation);
@@ -233,26 +324,120 @@ public class Tracer {
         }
     }
 
+    /**
+     * @return current trace or a new trace if it is not yet started; {@code null} if operation must not be traced,
+     *         because current trace is not sampled
+     */
     protected static Trace safeGetOrCreate() {
-        Trace trace = CURRENT_TRACE.get();
+        return CURRENT_STATE.get().getOrCreate();
+    }
 
-        if (trace == null) {
-            trace = new Trace(TRACE_ID_PROVIDER.nextId(), OBSERVERS.iterator());
-            CURRENT_TRACE.set(trace);
-        }
+    protected static void safeComplete(Trace currentTrace) {
+        CURRENT_STATE.get().complete(currentTrace);
+    }
 
-        return trace;
+    private static void safeSkip() {
+        CURRENT_STATE.get().skip();
     }
-    protected static void safeComplete(Trace currentTrace) {
-        currentTrace.completeOperation();
 
-        if (currentTrace.isCompleted()) {
-            CURRENT_TRACE.remove();
+    /**
+     * Indicates if operations on current thread are traced. Operations should check it before
+     * preparing expensive descriptions, for example serializing data to json. If trace is not started yet,
+     * then sampling decision is made and the same decision is used when the next trace starts on current thread.
+     *
+     * @return {@code true} if operations done on current thread are traced
+     */
+    public static boolean isTracingEnabled() {
+        if (!TRACE_AVAILABLE) {
+            return false;
         }
+        return CURRENT_STATE.get().isTracing();
     }
 
-    public static boolean isTracingEnabled() {
-        return TRACE_ENABLED;
+    /**
+     * Per thread tracing state
+     */
+    static class TraceState {
+
+        private final boolean traceEnabled;
+
+        private final TraceSampler traceSampler;
+
+        private Trace trace;
+
+        /**
+         * Depth of operations which are not traced, because trace is not sampled
+         */
+        private int skippedDepth;
+
+        private int enabledDepth;
+
+        /**
+         * Decision for the next trace, made before the trace starts when {@link #isTracing()} is called
+         */
+        private Boolean decision;
+
+        TraceState(boolean traceEnabled, TraceSampler traceSampler) {
+            this.traceEnabled = traceEnabled;
+            this.traceSampler = traceSampler;
+        }
+
+        /**
+         * @return current trace or a new trace if it is not yet started; {@code null} if operation
+         *         must not be traced, in such case {@link #skip()} must be called when operation completes
+         */
+        Trace getOrCreate() {
+            if (trace == null && skippedDepth == 0 && consumeDecision()) {
+                trace = new Trace(TRACE_ID_PROVIDER.nextId(), OBSERVERS.iterator());
+            }
+            if (trace == null) {
+                skippedDepth++;
+            }
+            return trace;
+        }
+
+        void complete(Trace currentTrace) {
+            currentTrace.completeOperation();
+
+            if (currentTrace.isCompleted()) {
+                trace = null;
+            }
+        }
+
+        void skip() {
+            skippedDepth--;
+        }
+
+        boolean isTracing() {
+            if (trace != null) {
+                return true;
+            }
+            return skippedDepth == 0 && peekDecision();
+        }
+
+        void enable() {
+            enabledDepth++;
+            decision = null;
+        }
+
+        void disable() {
+            enabledDepth--;
+            decision = null;
+        }
+
+        private boolean peekDecision() {
+            if (decision == null) {
+                decision = enabledDepth > 0 || traceEnabled && traceSampler.sample();
+            }
+            return decision;
+        }
+
+        private boolean consumeDecision() {
+            boolean traced = peekDecision();
+            decision = null;
+            return traced;
+        }
+
     }
 
     /*
@@ -38,9 +38,33 @@ public interface TracerConfigurer {
      */
     boolean isEnabled();
 
+    /**
+     * Fraction of traces to record when {@code Tracer} is enabled, from {@code 0} to {@code 1}.
+     * Sampling decision is made for each trace, so either all or none operations of a trace are recorded.
+     * Traces activated by {@link Tracer#enableFor(java.util.function.Supplier)} are not sampled.
+     *
+     * @return sampling rate; by default all traces are recorded
+     * @since 1.55.0
+     */
+    default double samplingRate() {
+        return 1;
+    }
+
+    /**
+     * Allows to activate tracing for a particular request by {@link Tracer#enableFor(java.util.function.Supplier)}
+     * even when {@link #isEnabled()} returns {@code false}. When tracing is neither enabled nor allowed on demand,
+     * {@code Tracer} has no overhead.
+     *
+     * @return {@code true} if tracing can be activated on demand
+     * @since 1.55.0
+     */
+    default boolean isOnDemandEnabled() {
+        return false;
+    }
+
     /**
      * A list of trace observers to register if and only if {@link #isEnabled()}
-     * return {@code true}.
+     * or {@link #isOnDemandEnabled()} return {@code true}.
      *
      * @return Trace observers to register in Tracer.
      */
@@ -0,0 +1,153 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.tracer.observer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+import kraken.tracer.TraceResult;
+
+/**
+ * An implementation of {@code TraceObserver} which keeps a fixed number of the most recent
+ * traces in a preallocated ring buffer. Trace result is rendered to text when it is observed
+ * and only the text is kept, therefore buffer does not retain data objects referenced by operations
+ * and each trace describes data as it was when trace was recorded. Rendered text is truncated to
+ * maximum trace length, therefore memory used by buffer is bounded.
+ * Tracing can be left enabled in production with a low sampling rate.
+ *
+ * <p>{@code RingBufferTraceObserver} is thread-safe.
+ *
+ * @since 1.55.0
+ */
+public final class RingBufferTraceObserver implements TraceObserver {
+
+    /**
+     * Default maximum number of characters kept for one trace.
+     */
+    public static final int DEFAULT_MAX_TRACE_LENGTH = 64 * 1024;
+
+    private final AtomicReferenceArray<RecordedTrace> buffer;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final int maxTraceLength;
+
+    /**
+     * @param capacity maximum number of traces to keep
+     */
+    public RingBufferTraceObserver(int capacity) {
+        this(capacity, DEFAULT_MAX_TRACE_LENGTH);
+    }
+
+    /**
+     * @param capacity       maximum number of traces to keep
+     * @param maxTraceLength maximum number of characters kept for one trace; longer traces are truncated
+     */
+    public RingBufferTraceObserver(int capacity, int maxTraceLength) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity of trace ring buffer must be positive, but was " + capacity + ".");
+        }
+        if (maxTraceLength <= 0) {
+            throw new IllegalArgumentException("Maximum trace length must be positive, but was " + maxTraceLength + ".");
+        }
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.maxTraceLength = maxTraceLength;
+    }
+
+    @Override
+    public void observe(TraceResult result) {
+        RecordedTrace trace = new RecordedTrace(result.getTraceId(), truncate(TraceRenderer.render(result)));
+        int index = (int) (sequence.getAndIncrement() % buffer.length());
+        buffer.set(index, trace);
+    }
+
+    /**
+     * @return the most recent traces, from oldest to newest
+     */
+    public List<RecordedTrace> getTraces() {
+        long end = sequence.get();
+        long start = Math.max(0, end - buffer.length());
+        List<RecordedTrace> traces = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            RecordedTrace trace = buffer.get((int) (i % buffer.length()));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    /**
+     * Renders the most recent traces to text, from oldest to newest.
+     *
+     * @return rendered traces
+     */
+    public String render() {
+        return getTraces().stream()
+            .map(RecordedTrace::getText)
+            .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Removes all traces from buffer.
+     */
+    public void clear() {
+        for (int i = 0; i < buffer.length(); i++) {
+            buffer.set(i, null);
+        }
+    }
+
+    private String truncate(String text) {
+        if (text.length() <= maxTraceLength) {
+            return text;
+        }
+        return text.substring(0, maxTraceLength)
+            + System.lineSeparator()
+            + "--- Trace truncated, " + (text.length() - maxTraceLength) + " characters omitted";
+    }
+
+    /**
+     * Immutable trace rendered to text when it was observed.
+     *
+     * @since 1.55.0
+     */
+    public static final class RecordedTrace {
+
+        private final String traceId;
+
+        private final String text;
+
+        RecordedTrace(String traceId, String text) {
+            this.traceId = traceId;
+            this.text = text;
+        }
+
+        public String getTraceId() {
+            return traceId;
+        }
+
+        /**
+         * @return trace rendered by {@link TraceRenderer}, truncated to maximum trace length
+         */
+        public String getText() {
+            return text;
+        }
+    }
+
+}
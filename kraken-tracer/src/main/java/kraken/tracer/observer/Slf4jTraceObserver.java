@@ -15,19 +15,15 @@
  */
 package kraken.tracer.observer;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import kraken.tracer.OperationNode;
 import kraken.tracer.TraceResult;
 
 /**
  * An implementation of {@code TraceObserver} which iterates through trace result
- * and outputs operation description to logs at the <b>trace</b> level.
+ * and outputs operation description to logs at the <b>trace</b> level. Trace result is rendered
+ * only if <b>trace</b> level is enabled for {@link #TRACER_NAME} logger.
  *
  * <p>Can be obtained using {@link Slf4jTraceObserver#INSTANCE} variable.
  *
@@ -46,66 +42,9 @@ public final class Slf4jTraceObserver implements TraceObserver {
 
     @Override
     public void observe(TraceResult result) {
-        StringBuilder builder = new StringBuilder();
-
-        builder
-            .append(System.lineSeparator())
-            .append("--- Started Logging Trace Results For Trace ID: ")
-            .append(result.getTraceId())
-            .append(System.lineSeparator());
-
-        traverseAndAppend(builder, result.getOperationNode(), 0);
-
-        builder
-            .append("--- Finished Logging Trace Results for Trace ID: ")
-            .append(result.getTraceId());
-
-        LOGGER.trace(builder.toString());
-    }
-
-    private void traverseAndAppend(StringBuilder builder, OperationNode operationNode, int depth) {
-        String before = operationNode.getOperation().describe();
-        String after = operationNode.getOperationResult()
-            .map(result -> operationNode.getOperation().describeAfter(result))
-            .orElse("");
-
-        if(!before.isEmpty()) {
-            String beforeSymbol = after.isEmpty() ? "--" : "->";
-            appendDescription(builder, before, depth, beforeSymbol);
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(TraceRenderer.render(result));
         }
-
-        int nestedDepth = before.isEmpty() || after.isEmpty() ? depth : depth + 1;
-        operationNode.getChildOperations()
-            .forEach(child -> traverseAndAppend(builder, child, nestedDepth));
-
-        if(!after.isEmpty()) {
-            String afterSymbol = before.isEmpty() ? "--" : "<-";
-            appendDescription(builder, after, depth, afterSymbol);
-        }
-    }
-
-    private void appendDescription(StringBuilder builder, String description, int depth, String symbol) {
-        String indention = spaces((symbol.length() + 1) * depth);
-        String symbolReplacement = spaces(symbol.length());
-
-        List<String> lines = description.lines().collect(Collectors.toList());
-        for (int i = 0; i < lines.size(); i++) {
-            builder.append(indention);
-            if(i == 0) {
-                builder.append(symbol);
-            } else {
-                builder.append(symbolReplacement);
-            }
-            builder.append(" ");
-            builder.append(lines.get(i));
-            builder.append(System.lineSeparator());
-        }
-    }
-
-    private String spaces(int length) {
-        char[] spaces = new char[length];
-        Arrays.fill(spaces, ' ');
-        return String.valueOf(spaces);
     }
 
 }
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.tracer.observer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import kraken.tracer.OperationNode;
+import kraken.tracer.TraceResult;
+
+/**
+ * Renders trace result to human readable text. Operation descriptions are requested
+ * from operations only when trace result is rendered.
+ *
+ * @since 1.55.0
+ */
+public final class TraceRenderer {
+
+    private TraceRenderer() {
+    }
+
+    /**
+     * @param result trace result
+     * @return text which describes all operations of trace result in order of execution
+     */
+    public static String render(TraceResult result) {
+        StringBuilder builder = new StringBuilder();
+
+        builder
+            .append(System.lineSeparator())
+            .append("--- Started Logging Trace Results For Trace ID: ")
+            .append(result.getTraceId())
+            .append(System.lineSeparator());
+
+        traverseAndAppend(builder, result.getOperationNode(), 0);
+
+        builder
+            .append("--- Finished Logging Trace Results for Trace ID: ")
+            .append(result.getTraceId());
+
+        return builder.toString();
+    }
+
+    private static void traverseAndAppend(StringBuilder builder, OperationNode operationNode, int depth) {
+        String before = operationNode.getOperation().describe();
+        String after = operationNode.getOperationResult()
+            .map(result -> operationNode.getOperation().describeAfter(result))
+            .orElse("");
+
+        if(!before.isEmpty()) {
+            String beforeSymbol = after.isEmpty() ? "--" : "->";
+            appendDescription(builder, before, depth, beforeSymbol);
+        }
+
+        int nestedDepth = before.isEmpty() || after.isEmpty() ? depth : depth + 1;
+        operationNode.getChildOperations()
+            .forEach(child -> traverseAndAppend(builder, child, nestedDepth));
+
+        if(!after.isEmpty()) {
+            String afterSymbol = before.isEmpty() ? "--" : "<-";
+            appendDescription(builder, after, depth, afterSymbol);
+        }
+    }
+
+    private static void appendDescription(StringBuilder builder, String description, int depth, String symbol) {
+        String indention = spaces((symbol.length() + 1) * depth);
+        String symbolReplacement = spaces(symbol.length());
+
+        List<String> lines = description.lines().collect(Collectors.toList());
+        for (int i = 0; i < lines.size(); i++) {
+            builder.append(indention);
+            if(i == 0) {
+                builder.append(symbol);
+            } else {
+                builder.append(symbolReplacement);
+            }
+            builder.append(" ");
+            builder.append(lines.get(i));
+            builder.append(System.lineSeparator());
+        }
+    }
+
+    private static String spaces(int length) {
+        char[] spaces = new char[length];
+        Arrays.fill(spaces, ' ');
+        return String.valueOf(spaces);
+    }
+
+}
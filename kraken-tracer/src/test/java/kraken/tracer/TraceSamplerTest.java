@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.tracer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.Test;
+
+public class TraceSamplerTest {
+
+    @Test
+    public void shouldAlwaysSampleWhenRateIsOne() {
+        var sampler = new TraceSampler(1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.sample(), is(true));
+        }
+    }
+
+    @Test
+    public void shouldNeverSampleWhenRateIsZero() {
+        var sampler = new TraceSampler(0);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.sample(), is(false));
+        }
+    }
+
+    @Test
+    public void shouldSampleFractionOfTraces() {
+        var sampler = new TraceSampler(0.5);
+
+        int sampled = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (sampler.sample()) {
+                sampled++;
+            }
+        }
+
+        assertThat(sampled > 4000 && sampled < 6000, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowWhenRateIsOutOfRange() {
+        new TraceSampler(1.5);
+    }
+
+}
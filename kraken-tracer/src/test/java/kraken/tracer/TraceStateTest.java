@@ -0,0 +1,148 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.tracer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import kraken.tracer.Tracer.Trace;
+import kraken.tracer.Tracer.TraceState;
+
+public class TraceStateTest {
+
+    @Test
+    public void shouldTraceWhenSampled() {
+        var state = new TraceState(true, sampler(0.5, 0.1));
+
+        assertThat(state.isTracing(), is(true));
+        assertThat(state.getOrCreate(), notNullValue());
+    }
+
+    @Test
+    public void shouldNotTraceWhenNotSampled() {
+        var state = new TraceState(true, sampler(0.5, 0.9));
+
+        assertThat(state.isTracing(), is(false));
+        assertThat(state.getOrCreate(), nullValue());
+    }
+
+    @Test
+    public void shouldUseSameDecisionForTracingCheckAndNextTrace() {
+        var state = new TraceState(true, sampler(0.5, 0.1, 0.9));
+
+        assertThat(state.isTracing(), is(true));
+        assertThat(state.isTracing(), is(true));
+        assertThat(state.getOrCreate(), notNullValue());
+    }
+
+    @Test
+    public void shouldNotStartTraceInNestedOperationsOfSkippedTrace() {
+        var state = new TraceState(true, sampler(0.5, 0.9, 0.1, 0.1));
+
+        assertThat(state.getOrCreate(), nullValue());
+        assertThat(state.isTracing(), is(false));
+        assertThat(state.getOrCreate(), nullValue());
+        state.skip();
+        assertThat(state.getOrCreate(), nullValue());
+        state.skip();
+        state.skip();
+
+        assertThat(state.getOrCreate(), notNullValue());
+    }
+
+    @Test
+    public void shouldAddNestedOperationsToCurrentTrace() {
+        var state = new TraceState(true, sampler(1));
+
+        Trace root = state.getOrCreate();
+        root.addOperation(new TestOperation());
+        Trace nested = state.getOrCreate();
+        nested.addOperation(new TestOperation());
+        state.complete(nested);
+
+        assertThat(nested, sameInstance(root));
+        assertThat(state.isTracing(), is(true));
+
+        state.complete(root);
+
+        assertThat(state.getOrCreate(), notNullValue());
+    }
+
+    @Test
+    public void shouldTraceWhenEnabledForRequestRegardlessOfSampling() {
+        var state = new TraceState(true, sampler(0));
+
+        state.enable();
+
+        assertThat(state.isTracing(), is(true));
+        assertThat(state.getOrCreate(), notNullValue());
+    }
+
+    @Test
+    public void shouldTraceWhenEnabledForRequestAndTracingIsDisabled() {
+        var state = new TraceState(false, sampler(1));
+
+        assertThat(state.isTracing(), is(false));
+        assertThat(state.getOrCreate(), nullValue());
+        state.skip();
+
+        state.enable();
+        assertThat(state.isTracing(), is(true));
+        assertThat(state.getOrCreate(), notNullValue());
+    }
+
+    @Test
+    public void shouldStopTracingWhenRequestCompletes() {
+        var state = new TraceState(false, sampler(1));
+
+        state.enable();
+        state.disable();
+
+        assertThat(state.isTracing(), is(false));
+        assertThat(state.getOrCreate(), nullValue());
+    }
+
+    @Test
+    public void shouldFallBackToDefaultSamplingRateWhenRateIsInvalid() {
+        assertThat(Tracer.resolveSamplingRate(0.25), is(0.25));
+        assertThat(Tracer.resolveSamplingRate(1.5), is(1.0));
+        assertThat(Tracer.resolveSamplingRate(-1), is(1.0));
+        assertThat(Tracer.resolveSamplingRate(Double.NaN), is(1.0));
+    }
+
+    private static TraceSampler sampler(double samplingRate, Double... randomValues) {
+        Iterator<Double> values = List.of(randomValues).iterator();
+        return new TraceSampler(samplingRate, values::next);
+    }
+
+    private static class TestOperation implements VoidOperation {
+
+        @Override
+        public String describe() {
+            return "Test";
+        }
+
+    }
+
+}
@@ -182,6 +182,23 @@ public class TracerTest extends AbstractTracerTest {
         assertThat(getTestObserver().getNumberOfInvocations(), is(2));
     }
 
+    @Test
+    public void shouldTraceOperationsInsideEnabledScope() {
+        String result = Tracer.enableFor(() -> Tracer.doOperation(new TestOperation("Root"), () -> {
+            assertThat(Tracer.isTracingEnabled(), is(true));
+            Tracer.doOperation(new TestVoidOperation("First"));
+            return "Root completed";
+        }));
+
+        assertThat(result, is("Root completed"));
+        assertThat(getTestObserver().getResult().getOperationNode(),
+            operation("Root", "Root completed", "Root completed",
+                voidOperation("First")
+            )
+        );
+        assertThat(getTestObserver().getNumberOfInvocations(), is(1));
+    }
+
     private void doThrow(String message) {
         throw new IllegalArgumentException(message);
     }
@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.tracer.observer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import kraken.tracer.OperationNode;
+import kraken.tracer.TraceResult;
+import kraken.tracer.VoidOperation;
+
+public class RingBufferTraceObserverTest {
+
+    @Test
+    public void shouldKeepOnlyMostRecentTraceResults() {
+        var observer = new RingBufferTraceObserver(2);
+
+        observer.observe(trace("1"));
+        observer.observe(trace("2"));
+        observer.observe(trace("3"));
+
+        assertThat(traceIds(observer), contains("2", "3"));
+    }
+
+    @Test
+    public void shouldRenderTraceWhenObserved() {
+        var operation = new CountingOperation();
+        var observer = new RingBufferTraceObserver(2);
+
+        observer.observe(new TraceResult("1", new OperationNode(operation)));
+        operation.description = "Changed";
+
+        assertThat(operation.describeCount, is(1));
+        assertThat(observer.render(), containsString("-- Root"));
+        assertThat(observer.render(), not(containsString("Changed")));
+        assertThat(operation.describeCount, is(1));
+    }
+
+    @Test
+    public void shouldTruncateLongTraces() {
+        var operation = new CountingOperation();
+        operation.description = "x".repeat(1000);
+        var observer = new RingBufferTraceObserver(2, 100);
+
+        observer.observe(new TraceResult("1", new OperationNode(operation)));
+
+        String text = observer.getTraces().get(0).getText();
+        assertThat(text, startsWith(System.lineSeparator() + "--- Started Logging Trace Results For Trace ID: 1"));
+        assertThat(text, endsWith("characters omitted"));
+        assertThat(text.length(), lessThan(200));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNonPositiveMaxTraceLength() {
+        new RingBufferTraceObserver(2, 0);
+    }
+
+    @Test
+    public void shouldClearTraceResults() {
+        var observer = new RingBufferTraceObserver(2);
+        observer.observe(trace("1"));
+
+        observer.clear();
+
+        assertThat(observer.getTraces(), is(empty()));
+    }
+
+    private static List<String> traceIds(RingBufferTraceObserver observer) {
+        return observer.getTraces().stream()
+            .map(RingBufferTraceObserver.RecordedTrace::getTraceId)
+            .collect(Collectors.toList());
+    }
+
+    private static TraceResult trace(String traceId) {
+        return new TraceResult(traceId, new OperationNode(new CountingOperation()));
+    }
+
+    private static class CountingOperation implements VoidOperation {
+
+        private int describeCount;
+
+        private String description = "Root";
+
+        @Override
+        public String describe() {
+            describeCount++;
+            return description;
+        }
+    }
+
+}
@@ -55,6 +55,11 @@ public class Memoizer<T, U> {
     }
 
     private U doMemoize(T t, Function<T, U> function) {
+        // plain read first, because computeIfAbsent may lock the bin even when value is already cached
+        U value = cache.get(t);
+        if (value != null) {
+            return value;
+        }
         return cache.computeIfAbsent(t, t1 -> function.apply(t));
     }
 
@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.utils.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link KrakenMetrics} which keeps all instruments in memory.
+ * Counters are {@link LongAdderCounter} and histograms are {@link LogLinearHistogram}.
+ * Can be used directly when metrics are inspected or exported periodically by application itself.
+ * Instruments without a tag are available by empty tag.
+ * <p>
+ * Number of tags of each instrument is limited, so that memory does not grow without limit when instruments
+ * are tagged by names of dynamic items. When the limit is reached, values of any new tag are collected in
+ * instrument tagged by {@link #OVERFLOW_TAG}.
+ *
+ * @since 1.55.0
+ */
+public class InMemoryKrakenMetrics implements KrakenMetrics {
+
+    /**
+     * Tag of instrument which collects values of tags above the limit
+     */
+    public static final String OVERFLOW_TAG = "<overflow>";
+
+    public static final int DEFAULT_MAX_TAGS_PER_INSTRUMENT = 1000;
+
+    private static final String NO_TAG = "";
+
+    private final Map<String, Map<String, LongAdderCounter>> counters = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, LogLinearHistogram>> histograms = new ConcurrentHashMap<>();
+
+    private final boolean perRuleEnabled;
+
+    private final int maxTagsPerInstrument;
+
+    public InMemoryKrakenMetrics() {
+        this(false, DEFAULT_MAX_TAGS_PER_INSTRUMENT);
+    }
+
+    /**
+     * @param perRuleEnabled        whether condition and payload evaluation time is collected for each rule
+     * @param maxTagsPerInstrument  maximum number of distinct tags of instrument with the same name,
+     *                              excluding {@link #OVERFLOW_TAG}
+     */
+    public InMemoryKrakenMetrics(boolean perRuleEnabled, int maxTagsPerInstrument) {
+        if (maxTagsPerInstrument < 1) {
+            throw new IllegalArgumentException(
+                "Maximum number of tags per instrument must be positive, but was " + maxTagsPerInstrument + ".");
+        }
+        this.perRuleEnabled = perRuleEnabled;
+        this.maxTagsPerInstrument = maxTagsPerInstrument;
+    }
+
+    @Override
+    public Counter counter(String name, String tag) {
+        return instrument(counters, name, tag, LongAdderCounter::new);
+    }
+
+    @Override
+    public Histogram histogram(String name, String tag) {
+        return instrument(histograms, name, tag, LogLinearHistogram::new);
+    }
+
+    @Override
+    public boolean isPerRuleEnabled() {
+        return perRuleEnabled;
+    }
+
+    /**
+     * @param name of counter
+     * @return counters by tag; empty if counter was never incremented
+     */
+    public Map<String, LongAdderCounter> getCounters(String name) {
+        return Collections.unmodifiableMap(counters.getOrDefault(name, Map.of()));
+    }
+
+    /**
+     * @param name of histogram
+     * @return histograms by tag; empty if histogram was never recorded
+     */
+    public Map<String, LogLinearHistogram> getHistograms(String name) {
+        return Collections.unmodifiableMap(histograms.getOrDefault(name, Map.of()));
+    }
+
+    /**
+     * @param name of counter
+     * @return sum of counts of all counters with provided name regardless of tag
+     */
+    public long getTotalCount(String name) {
+        return getCounters(name).values().stream().mapToLong(LongAdderCounter::getCount).sum();
+    }
+
+    private <T> T instrument(Map<String, Map<String, T>> instruments,
+                             String name,
+                             String tag,
+                             Supplier<T> instrumentFactory) {
+        Map<String, T> instrumentsByTag = instruments.computeIfAbsent(name, n -> new ConcurrentHashMap<>());
+        String key = toKey(tag);
+        T instrument = instrumentsByTag.get(key);
+        if (instrument != null) {
+            return instrument;
+        }
+        // limit is approximate when tags are added concurrently
+        if (instrumentsByTag.size() >= maxTagsPerInstrument) {
+            key = OVERFLOW_TAG;
+        }
+        return instrumentsByTag.computeIfAbsent(key, t -> instrumentFactory.get());
+    }
+
+    private static String toKey(String tag) {
+        return tag == null ? NO_TAG : tag;
+    }
+
+}
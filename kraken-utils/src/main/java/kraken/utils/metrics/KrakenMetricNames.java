@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.utils.metrics;
+
+/**
+ * Names of metrics reported by Kraken to {@link KrakenMetrics}.
+ * Durations are reported in nanoseconds.
+ * Cache hit ratio can be calculated as {@code 1 - misses / requests}.
+ *
+ * @since 1.55.0
+ */
+public final class KrakenMetricNames {
+
+    /**
+     * Histogram of entry point evaluation duration, tagged by entry point name
+     */
+    public static final String ENTRY_POINT_LATENCY = "kraken.entrypoint.latency";
+
+    /**
+     * Counter of entry point evaluations which failed with exception, tagged by entry point name
+     */
+    public static final String ENTRY_POINT_ERRORS = "kraken.entrypoint.errors";
+
+    /**
+     * Histogram of entry point bundle build duration, tagged by entry point name
+     */
+    public static final String BUNDLE_BUILD_TIME = "kraken.bundle.build.time";
+
+    /**
+     * Histogram of data context extraction duration for a rule, tagged by context definition name
+     */
+    public static final String CONTEXT_EXTRACTION_TIME = "kraken.context.extraction.time";
+
+    /**
+     * Counter of data context instances resolved for rules, tagged by context definition name
+     */
+    public static final String CONTEXT_EXTRACTION_INSTANCES = "kraken.context.extraction.instances";
+
+    /**
+     * Histogram of rule condition evaluation duration on one data context instance, tagged by rule name.
+     * Reported only if {@link KrakenMetrics#isPerRuleEnabled()}
+     */
+    public static final String RULE_CONDITION_TIME = "kraken.rule.condition.time";
+
+    /**
+     * Histogram of rule payload evaluation duration on one data context instance, tagged by rule name.
+     * Reported only if {@link KrakenMetrics#isPerRuleEnabled()}
+     */
+    public static final String RULE_PAYLOAD_TIME = "kraken.rule.payload.time";
+
+    /**
+     * Histogram of dynamic rule repository query duration, tagged by repository class name
+     */
+    public static final String DYNAMIC_RULE_REPOSITORY_LATENCY = "kraken.dynamic.repository.latency";
+
+    /**
+     * Counter of dynamic rule conversion cache requests, not tagged
+     */
+    public static final String DYNAMIC_RULE_CACHE_REQUESTS = "kraken.dynamic.rule.cache.requests";
+
+    /**
+     * Counter of dynamic rule conversion cache misses, not tagged
+     */
+    public static final String DYNAMIC_RULE_CACHE_MISSES = "kraken.dynamic.rule.cache.misses";
+
+    /**
+     * Counter of resolved dynamic rule set cache requests, tagged by repository class name
+     */
+    public static final String DYNAMIC_RULE_SET_CACHE_REQUESTS = "kraken.dynamic.ruleset.cache.requests";
+
+    /**
+     * Counter of resolved dynamic rule set cache misses, tagged by repository class name
+     */
+    public static final String DYNAMIC_RULE_SET_CACHE_MISSES = "kraken.dynamic.ruleset.cache.misses";
+
+    /**
+     * Histogram of background Kraken project reload duration, including conversion, tagged by namespace
+     */
+    public static final String PROJECT_RELOAD_TIME = "kraken.project.reload.time";
+
+    /**
+     * Counter of background Kraken project reloads which failed with exception, tagged by namespace
+     */
+    public static final String PROJECT_RELOAD_ERRORS = "kraken.project.reload.errors";
+
+    /**
+     * Counter of expression AST cache requests, not tagged.
+     * AST metrics are JVM global and recorded only in global metrics of {@code AstBuilder}
+     */
+    public static final String AST_CACHE_REQUESTS = "kraken.ast.cache.requests";
+
+    /**
+     * Counter of expression AST cache misses, not tagged
+     */
+    public static final String AST_CACHE_MISSES = "kraken.ast.cache.misses";
+
+    /**
+     * Histogram of expression parsing duration, tagged by ANTLR prediction mode of the last parsing stage,
+     * which is {@code SLL} or {@code LL}
+     */
+    public static final String AST_PARSE_TIME = "kraken.ast.parse.time";
+
+    private KrakenMetricNames() {
+    }
+
+}
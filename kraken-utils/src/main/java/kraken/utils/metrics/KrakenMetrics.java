@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.utils.metrics;
+
+/**
+ * Service provider interface for collecting Kraken runtime metrics.
+ * Implementation can be registered on rule engine builder and may delegate to any metrics library.
+ * <p>
+ * Instruments are identified by name from {@link KrakenMetricNames} and an optional tag,
+ * such as entry point or rule name. Implementations are expected to return the same instrument
+ * for the same name and tag, and all instruments must be thread safe.
+ * <p>
+ * When metrics are not enabled, Kraken does not measure anything and instruments are never requested.
+ *
+ * @since 1.55.0
+ */
+public interface KrakenMetrics {
+
+    /**
+     * @param name of counter
+     * @param tag  of counter, can be null if counter is not tagged
+     * @return counter identified by name and tag
+     */
+    Counter counter(String name, String tag);
+
+    /**
+     * @param name of histogram
+     * @param tag  of histogram, can be null if histogram is not tagged
+     * @return histogram identified by name and tag
+     */
+    Histogram histogram(String name, String tag);
+
+    /**
+     * @return true if metrics are collected; if false then Kraken skips all measurements
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Per rule metrics are tagged by rule name, therefore number of instruments grows with number of rules,
+     * including dynamic rules. They are not collected unless this method is overridden.
+     *
+     * @return true if condition and payload evaluation time is reported for each rule
+     */
+    default boolean isPerRuleEnabled() {
+        return false;
+    }
+
+    /**
+     * @return metrics implementation which does not collect anything
+     */
+    static KrakenMetrics noop() {
+        return NoopKrakenMetrics.INSTANCE;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.utils.metrics;
+
+/**
+ * {@link KrakenMetrics} which does not collect anything
+ *
+ * @since 1.55.0
+ */
+enum NoopKrakenMetrics implements KrakenMetrics, Counter, Histogram {
+
+    INSTANCE;
+
+    @Override
+    public Counter counter(String name, String tag) {
+        return this;
+    }
+
+    @Override
+    public Histogram histogram(String name, String tag) {
+        return this;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void increment(long amount) {
+    }
+
+    @Override
+    public void record(long value) {
+    }
+
+}
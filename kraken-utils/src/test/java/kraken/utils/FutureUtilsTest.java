@@ -0,0 +1,47 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.utils;
+
+import static kraken.utils.FutureUtils.join;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+public class FutureUtilsTest {
+
+    @Test
+    public void shouldReturnResultOfFuture() {
+        assertThat(join(CompletableFuture.completedFuture("result")), is("result"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRethrowUncheckedExceptionWithoutWrapping() {
+        join(CompletableFuture.supplyAsync(() -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void shouldRethrowErrorWithoutWrapping() {
+        join(CompletableFuture.supplyAsync(() -> {
+            throw new AssertionError();
+        }));
+    }
+
+}
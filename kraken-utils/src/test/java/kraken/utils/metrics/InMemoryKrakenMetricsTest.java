@@ -0,0 +1,64 @@
+package kraken.utils.metrics;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class InMemoryKrakenMetricsTest {
+
+    @Test
+    public void shouldReturnSameInstrumentForSameNameAndTag() {
+        var metrics = new InMemoryKrakenMetrics();
+
+        assertThat(metrics.counter("counter", "a"), sameInstance(metrics.counter("counter", "a")));
+        assertThat(metrics.counter("counter", null), sameInstance(metrics.counter("counter", "")));
+        assertThat(metrics.histogram("histogram", "a"), sameInstance(metrics.histogram("histogram", "a")));
+    }
+
+    @Test
+    public void shouldCollectCountersByTag() {
+        var metrics = new InMemoryKrakenMetrics();
+        metrics.counter("counter", "a").increment();
+        metrics.counter("counter", "a").increment(2);
+        metrics.counter("counter", "b").increment();
+
+        assertThat(metrics.getCounters("counter").get("a").getCount(), is(3L));
+        assertThat(metrics.getCounters("counter").get("b").getCount(), is(1L));
+        assertThat(metrics.getTotalCount("counter"), is(4L));
+        assertThat(metrics.getTotalCount("unknown"), is(0L));
+    }
+
+    @Test
+    public void shouldCollectTagsAboveLimitInOverflowInstrument() {
+        var metrics = new InMemoryKrakenMetrics(false, 2);
+        metrics.histogram("histogram", "a").record(1);
+        metrics.histogram("histogram", "b").record(1);
+        metrics.histogram("histogram", "c").record(1);
+        metrics.histogram("histogram", "d").record(1);
+        metrics.histogram("histogram", "a").record(1);
+
+        assertThat(metrics.getHistograms("histogram").keySet(),
+            containsInAnyOrder("a", "b", InMemoryKrakenMetrics.OVERFLOW_TAG));
+        assertThat(metrics.getHistograms("histogram").get("a").getCount(), is(2L));
+        assertThat(metrics.getHistograms("histogram").get(InMemoryKrakenMetrics.OVERFLOW_TAG).getCount(), is(2L));
+    }
+
+    @Test
+    public void shouldNotCollectPerRuleMetricsByDefault() {
+        assertThat(new InMemoryKrakenMetrics().isPerRuleEnabled(), is(false));
+        assertThat(new InMemoryKrakenMetrics(true, 10).isPerRuleEnabled(), is(true));
+    }
+
+    @Test
+    public void shouldNotCollectAnythingWhenDisabled() {
+        var metrics = KrakenMetrics.noop();
+
+        assertThat(metrics.isEnabled(), is(false));
+        metrics.counter("counter", null).increment();
+        metrics.histogram("histogram", null).record(1);
+    }
+
+}
@@ -0,0 +1,65 @@
+package kraken.utils.metrics;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class LogLinearHistogramTest {
+
+    @Test
+    public void shouldReturnZeroWhenNothingIsRecorded() {
+        var histogram = new LogLinearHistogram();
+
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMin(), is(0L));
+        assertThat(histogram.getMax(), is(0L));
+        assertThat(histogram.getValueAtPercentile(99), is(0L));
+    }
+
+    @Test
+    public void shouldCountSmallValuesExactly() {
+        var histogram = new LogLinearHistogram();
+        for (long i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount(), is(20L));
+        assertThat(histogram.getSum(), is(210L));
+        assertThat(histogram.getMin(), is(1L));
+        assertThat(histogram.getMax(), is(20L));
+        assertThat(histogram.getValueAtPercentile(50), is(10L));
+        assertThat(histogram.getValueAtPercentile(100), is(20L));
+    }
+
+    @Test
+    public void shouldReportPercentilesWithinBucketPrecision() {
+        var histogram = new LogLinearHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertThat(histogram.getValueAtPercentile(50),
+            both(greaterThanOrEqualTo(50_000_000L)).and(lessThanOrEqualTo(53_125_000L)));
+        assertThat(histogram.getValueAtPercentile(99),
+            both(greaterThanOrEqualTo(99_000_000L)).and(lessThanOrEqualTo(100_000_000L)));
+        assertThat(histogram.getValueAtPercentile(100), is(100_000_000L));
+    }
+
+    @Test
+    public void shouldMapEveryValueToBucketWhichContainsIt() {
+        for (long value : new long[]{0, 15, 16, 31, 32, 33, 1000, 123_456_789, 1L << 44, (1L << 45) - 1}) {
+            int index = LogLinearHistogram.bucketIndex(value);
+            assertThat(LogLinearHistogram.highestEquivalentValue(index), greaterThanOrEqualTo(value));
+            if (index > 0) {
+                assertThat(LogLinearHistogram.highestEquivalentValue(index - 1), lessThanOrEqualTo(value - 1));
+            }
+        }
+        assertThat(LogLinearHistogram.bucketIndex(Long.MAX_VALUE), equalTo(LogLinearHistogram.BUCKET_COUNT - 1));
+    }
+
+}
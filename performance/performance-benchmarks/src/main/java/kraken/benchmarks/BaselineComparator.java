@@ -0,0 +1,167 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.Gson;
+
+/**
+ * Compares two JSON baselines produced by {@link BaselineRunner} and reports change of score for each benchmark.
+ * A benchmark is regressed if its score changed to the worse side by more than allowed percentage
+ * and the change is larger than the sum of score errors of both runs.
+ * Process exits with status {@code 1} if at least one benchmark is regressed.
+ * <p>
+ * Usage: {@code BaselineComparator <baseline.json> <current.json> [allowed regression in percent, default 10]}
+ *
+ * @since 1.55.0
+ */
+public class BaselineComparator {
+
+    private static final double DEFAULT_ALLOWED_REGRESSION_PERCENT = 10;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <current.json> [allowed regression in percent]");
+            System.exit(2);
+        }
+        double allowedRegressionPercent = args.length > 2
+            ? Double.parseDouble(args[2])
+            : DEFAULT_ALLOWED_REGRESSION_PERCENT;
+
+        List<Comparison> comparisons = compare(read(Path.of(args[0])), read(Path.of(args[1])));
+        boolean regressed = false;
+        for (Comparison comparison : comparisons) {
+            boolean isRegression = comparison.isRegression(allowedRegressionPercent);
+            regressed |= isRegression;
+            System.out.println((isRegression ? "REGRESSION " : "           ") + comparison);
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    static Map<String, BenchmarkResult> read(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            BenchmarkResult[] results = new Gson().fromJson(reader, BenchmarkResult[].class);
+            Map<String, BenchmarkResult> resultsByKey = new LinkedHashMap<>();
+            for (BenchmarkResult result : results) {
+                resultsByKey.put(result.getKey(), result);
+            }
+            return resultsByKey;
+        }
+    }
+
+    static List<Comparison> compare(Map<String, BenchmarkResult> baseline, Map<String, BenchmarkResult> current) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, BenchmarkResult> entry : current.entrySet()) {
+            BenchmarkResult baselineResult = baseline.get(entry.getKey());
+            if (baselineResult != null) {
+                comparisons.add(new Comparison(entry.getKey(), baselineResult, entry.getValue()));
+            }
+        }
+        return comparisons;
+    }
+
+    static class BenchmarkResult {
+
+        private String benchmark;
+
+        private String mode;
+
+        private Map<String, String> params;
+
+        private Metric primaryMetric;
+
+        String getKey() {
+            return params == null || params.isEmpty()
+                ? benchmark
+                : benchmark + new TreeMap<>(params);
+        }
+
+        /**
+         * @return true if smaller score is better, which is the case for all modes except throughput
+         */
+        boolean isLowerBetter() {
+            return !"thrpt".equals(mode);
+        }
+    }
+
+    static class Metric {
+
+        private double score;
+
+        private double scoreError;
+
+        private String scoreUnit;
+    }
+
+    static class Comparison {
+
+        private final String key;
+
+        private final BenchmarkResult baseline;
+
+        private final BenchmarkResult current;
+
+        Comparison(String key, BenchmarkResult baseline, BenchmarkResult current) {
+            this.key = key;
+            this.baseline = baseline;
+            this.current = current;
+        }
+
+        /**
+         * @return relative change of score in percent, positive if score changed to the worse side
+         */
+        double getChangePercent() {
+            double baselineScore = baseline.primaryMetric.score;
+            if (baselineScore == 0) {
+                return 0;
+            }
+            double change = (current.primaryMetric.score - baselineScore) / baselineScore * 100;
+            return current.isLowerBetter() ? change : -change;
+        }
+
+        boolean isRegression(double allowedRegressionPercent) {
+            double difference = Math.abs(current.primaryMetric.score - baseline.primaryMetric.score);
+            double error = nonNaN(baseline.primaryMetric.scoreError) + nonNaN(current.primaryMetric.scoreError);
+            return getChangePercent() > allowedRegressionPercent && difference > error;
+        }
+
+        private static double nonNaN(double value) {
+            return Double.isNaN(value) ? 0 : value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%s: %.3f -> %.3f %s (%+.1f%%)",
+                key,
+                baseline.primaryMetric.score,
+                current.primaryMetric.score,
+                current.primaryMetric.scoreUnit,
+                getChangePercent()
+            );
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmark suite of this module and stores results as JSON baseline in directory {@code baselines}.
+ * Name of baseline file is taken from system property {@value #BASELINE_NAME_PROP}, for example
+ * {@code -Dkraken.benchmarks.baseline=1.55.0} stores results to {@code baselines/1.55.0.json}.
+ * Baselines of two releases can be compared with {@link BaselineComparator}.
+ * <p>
+ * Standard JMH command line options can be passed as arguments and take precedence over defaults of this runner.
+ * If no benchmarks are included explicitly, then all benchmarks in {@code kraken.benchmarks} are run.
+ *
+ * @since 1.55.0
+ */
+public class BaselineRunner {
+
+    public static final String BASELINE_NAME_PROP = "kraken.benchmarks.baseline";
+
+    public static final String BASELINE_DIRECTORY = "baselines";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        Path baseline = Path.of(BASELINE_DIRECTORY, System.getProperty(BASELINE_NAME_PROP, "current") + ".json");
+        Files.createDirectories(baseline.getParent());
+
+        // options of parent are used only when they are not set in builder, so defaults are set only if absent
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            options.include("kraken\\.benchmarks\\..*");
+        }
+        if (!commandLineOptions.getForkCount().hasValue()) {
+            options.forks(1);
+        }
+        if (!commandLineOptions.getJvmArgs().hasValue()) {
+            options.jvmArgs("-Xms2G", "-Xmx2G");
+        }
+        if (!commandLineOptions.getWarmupIterations().hasValue()) {
+            options.warmupIterations(3);
+        }
+        if (!commandLineOptions.getMeasurementIterations().hasValue()) {
+            options.measurementIterations(5);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result(baseline.toString());
+        }
+
+        new Runner(options.build()).run();
+    }
+
+}
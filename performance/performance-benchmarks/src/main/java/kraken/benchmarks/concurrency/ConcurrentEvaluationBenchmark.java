@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.concurrency;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import kraken.benchmarks.generator.SyntheticDataGenerator;
+import kraken.benchmarks.generator.SyntheticEngines;
+import kraken.benchmarks.generator.SyntheticEntity;
+import kraken.benchmarks.generator.SyntheticProjectGenerator;
+import kraken.benchmarks.generator.SyntheticProjectSpec;
+import kraken.namespace.Namespaces;
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.engine.EntryPointResult;
+
+/**
+ * Measures throughput of a single shared {@link RuleEngine} when it is used by 1 to 64 threads.
+ * Throughput should scale near-linearly until the number of threads reaches the number of available cores;
+ * a flat or falling curve indicates contention on the evaluation path.
+ * Each thread evaluates its own copy of data, because default rules update data.
+ *
+ * @since 1.55.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentEvaluationBenchmark {
+
+    private static final SyntheticProjectSpec SPEC = SyntheticProjectSpec.builder()
+        .namespace("Concurrent")
+        .depth(3)
+        .ruleCount(1000)
+        .build();
+
+    @State(Scope.Benchmark)
+    public static class SharedEngine {
+
+        private RuleEngine engine;
+
+        private EvaluationConfig config;
+
+        private String entryPoint;
+
+        @Setup
+        public void setup() {
+            this.engine = SyntheticEngines.create(new SyntheticProjectGenerator(SPEC).generateProject());
+            this.config = new EvaluationConfig(Map.of(SyntheticProjectGenerator.DIMENSION, "P0"), "USD");
+            this.entryPoint = Namespaces.toFullName(SPEC.getNamespace(), SyntheticProjectGenerator.ALL_ENTRY_POINT);
+        }
+
+        EntryPointResult evaluate(SyntheticEntity data) {
+            return engine.evaluate(data, entryPoint, config);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadData {
+
+        private SyntheticEntity data;
+
+        @Setup
+        public void setup() {
+            this.data = new SyntheticDataGenerator(SPEC, 5).generate();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public EntryPointResult threads1(SharedEngine engine, ThreadData data) {
+        return engine.evaluate(data.data);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public EntryPointResult threads2(SharedEngine engine, ThreadData data) {
+        return engine.evaluate(data.data);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public EntryPointResult threads4(SharedEngine engine, ThreadData data) {
+        return engine.evaluate(data.data);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public EntryPointResult threads8(SharedEngine engine, ThreadData data) {
+        return engine.evaluate(data.data);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public EntryPointResult threads16(SharedEngine engine, ThreadData data) {
+        return engine.evaluate(data.data);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public EntryPointResult threads64(SharedEngine engine, ThreadData data) {
+        return engine.evaluate(data.data);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.el;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.el.ast.Ast;
+import kraken.el.ast.builder.AstBuilder;
+
+/**
+ * Measures building of Kraken Expression Language AST by {@link AstBuilder}.
+ * <p>
+ * {@link #parse()} measures cold parsing and AST generation. Each invocation appends a unique block comment
+ * to the expression, so that AST cache is always missed while the resulting AST is the same.
+ * {@link #cached()} measures lookup of an already built AST in cache.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AstBuildingBenchmark {
+
+    private static final Map<String, String> EXPRESSIONS = Map.of(
+        "reference", "termNo + 1",
+        "path", "policyDetail.address.city != null",
+        "filter", "Count(coverages[limitAmount > 1000 and code in {'CODE1', 'CODE2'}]) > 0",
+        "complex", "Concat({state, '-', if StringLength(policyNumber) > 3 then Substring(policyNumber, 0, 3) else 'POL', "
+            + "'-', for c in coverages[deductibleAmount > 10] return c.code}) != null"
+            + " and every c in coverages satisfies c.limitAmount >= c.deductibleAmount"
+    );
+
+    @Param({"reference", "path", "filter", "complex"})
+    public String expressionType;
+
+    private String expression;
+
+    private kraken.el.scope.Scope scope;
+
+    private long sequence;
+
+    @Setup
+    public void setup() {
+        this.expression = EXPRESSIONS.get(expressionType);
+        this.scope = kraken.el.scope.Scope.dynamic();
+        AstBuilder.from(expression, scope);
+    }
+
+    @Benchmark
+    public Ast parse() {
+        return AstBuilder.from(expression + " /*" + sequence++ + "*/", scope);
+    }
+
+    @Benchmark
+    public Ast cached() {
+        return AstBuilder.from(expression, scope);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.el;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data object used by expression benchmarks. Data is represented as maps,
+ * so that properties are accessed through {@link kraken.el.accelerated.AcceleratedMapPropertyHandler}.
+ *
+ * @since 1.55.0
+ */
+class ExpressionData {
+
+    static final int COVERAGE_COUNT = 20;
+
+    static Map<String, Object> policy() {
+        Map<String, Object> address = new HashMap<>();
+        address.put("city", "Vilnius");
+        address.put("postalCode", "LT-01100");
+
+        Map<String, Object> policyDetail = new HashMap<>();
+        policyDetail.put("address", address);
+
+        List<Object> coverages = new ArrayList<>();
+        for (int i = 0; i < COVERAGE_COUNT; i++) {
+            Map<String, Object> coverage = new HashMap<>();
+            coverage.put("code", "CODE" + i % 5);
+            coverage.put("limitAmount", new BigDecimal(i * 100));
+            coverage.put("deductibleAmount", new BigDecimal(i * 10));
+            coverages.add(coverage);
+        }
+
+        Map<String, Object> policy = new HashMap<>();
+        policy.put("policyNumber", "P0000001");
+        policy.put("state", "CA");
+        policy.put("termNo", new BigDecimal(3));
+        policy.put("effectiveDate", LocalDate.of(2020, 1, 1));
+        policy.put("policyDetail", policyDetail);
+        policy.put("coverages", coverages);
+        return policy;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.el;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.el.EvaluationContext;
+import kraken.el.Expression;
+import kraken.el.ExpressionLanguage;
+import kraken.el.ExpressionLanguageConfiguration;
+import kraken.el.ExpressionLanguageFactoryHolder;
+import kraken.el.TargetEnvironment;
+import kraken.el.ast.Ast;
+import kraken.el.ast.builder.AstBuilder;
+
+/**
+ * Measures invocation of functions from {@link kraken.el.functionregistry.FunctionRegistry}
+ * including resolution of function by name and coercion of parameters.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FunctionInvocationBenchmark {
+
+    private static final Map<String, String> EXPRESSIONS = Map.of(
+        "Count", "Count(coverages)",
+        "Sum", "Sum(coverages[*].limitAmount)",
+        "Distinct", "Distinct(coverages[*].code)",
+        "Concat", "Concat({policyNumber, '-', state})",
+        "Substring", "Substring(policyNumber, 0, 3)",
+        "NumberOfDaysBetween", "NumberOfDaysBetween(effectiveDate, Date(2030, 1, 1))",
+        "Today", "Today()",
+        "Round", "Round(termNo / 7, 2)"
+    );
+
+    @Param({"Count", "Sum", "Distinct", "Concat", "Substring", "NumberOfDaysBetween", "Today", "Round"})
+    public String function;
+
+    @Param({"false", "true"})
+    public boolean automaticIteration;
+
+    private ExpressionLanguage expressionLanguage;
+
+    private Expression expression;
+
+    private EvaluationContext evaluationContext;
+
+    @Setup
+    public void setup() {
+        this.expressionLanguage = ExpressionLanguageFactoryHolder.getExpressionLanguageFactory(TargetEnvironment.JAVA)
+            .createExpressionLanguage(new ExpressionLanguageConfiguration(automaticIteration, true));
+        Ast ast = AstBuilder.from(EXPRESSIONS.get(function), kraken.el.scope.Scope.dynamic());
+        this.expression = expressionLanguage.translate(ast);
+        this.evaluationContext = new EvaluationContext(ExpressionData.policy());
+    }
+
+    @Benchmark
+    public Object invoke() {
+        return expressionLanguage.evaluate(expression, evaluationContext);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.el;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.el.EvaluationContext;
+import kraken.el.Expression;
+import kraken.el.ExpressionLanguage;
+import kraken.el.ExpressionLanguageConfiguration;
+import kraken.el.ExpressionLanguageFactoryHolder;
+import kraken.el.TargetEnvironment;
+import kraken.el.ast.Ast;
+import kraken.el.ast.builder.AstBuilder;
+
+/**
+ * Measures interpretation of Kraken Expression Language by {@link ExpressionLanguage} of {@link TargetEnvironment#JAVA}
+ * for each kind of AST node. AST is built once, so that only evaluation is measured.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InterpreterBenchmark {
+
+    private static final Map<String, String> EXPRESSIONS = Map.ofEntries(
+        Map.entry("literal", "100"),
+        Map.entry("reference", "termNo"),
+        Map.entry("arithmetic", "termNo * 2 + termNo / 4 - 1"),
+        Map.entry("comparison", "termNo > 2 and termNo <= 10"),
+        Map.entry("logical", "state = 'CA' or (state = 'NY' and termNo > 1)"),
+        Map.entry("path", "policyDetail.address.city"),
+        Map.entry("accessByIndex", "coverages[3].code"),
+        Map.entry("filter", "coverages[limitAmount > 1000]"),
+        Map.entry("for", "for c in coverages return c.limitAmount"),
+        Map.entry("every", "every c in coverages satisfies c.limitAmount >= c.deductibleAmount"),
+        Map.entry("in", "state in {'CA', 'NY', 'TX'}"),
+        Map.entry("if", "if termNo > 2 then 'long' else 'short'")
+    );
+
+    @Param({
+        "literal", "reference", "arithmetic", "comparison", "logical", "path", "accessByIndex",
+        "filter", "for", "every", "in", "if"
+    })
+    public String nodeType;
+
+    private ExpressionLanguage expressionLanguage;
+
+    private Expression expression;
+
+    private EvaluationContext evaluationContext;
+
+    @Setup
+    public void setup() {
+        this.expressionLanguage = ExpressionLanguageFactoryHolder.getExpressionLanguageFactory(TargetEnvironment.JAVA)
+            .createExpressionLanguage(new ExpressionLanguageConfiguration(false, true));
+        Ast ast = AstBuilder.from(EXPRESSIONS.get(nodeType), kraken.el.scope.Scope.dynamic());
+        this.expression = expressionLanguage.translate(ast);
+        this.evaluationContext = new EvaluationContext(ExpressionData.policy());
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return expressionLanguage.evaluate(expression, evaluationContext);
+    }
+
+}
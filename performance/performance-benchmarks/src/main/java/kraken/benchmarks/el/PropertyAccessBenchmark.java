@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.el;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.el.accelerated.AcceleratedPropertyHandler;
+import kraken.el.accelerated.PropertyExpressionEvaluator;
+import kraken.el.accelerated.ReflectivePropertyExpressionEvaluator;
+
+/**
+ * Compares reflective property access with access through {@link AcceleratedPropertyHandler}.
+ * {@link AcceleratedCoverageHandler} is registered as a service in this module,
+ * therefore {@link Coverage} is accessed without reflection by {@link PropertyExpressionEvaluator}.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyAccessBenchmark {
+
+    private ReflectivePropertyExpressionEvaluator reflectiveEvaluator;
+
+    private PropertyExpressionEvaluator propertyEvaluator;
+
+    private Coverage coverage;
+
+    private Map<String, Object> coverageMap;
+
+    @Setup
+    public void setup() {
+        this.reflectiveEvaluator = new ReflectivePropertyExpressionEvaluator();
+        this.propertyEvaluator = new PropertyExpressionEvaluator();
+        this.coverage = new Coverage();
+        coverage.setCode("CODE");
+        coverage.setLimitAmount(new BigDecimal(1000));
+        this.coverageMap = new HashMap<>();
+        coverageMap.put("code", "CODE");
+        coverageMap.put("limitAmount", new BigDecimal(1000));
+    }
+
+    @Benchmark
+    public Object reflective() {
+        return reflectiveEvaluator.get("limitAmount", coverage);
+    }
+
+    @Benchmark
+    public Object accelerated() {
+        return propertyEvaluator.evaluate("limitAmount", coverage);
+    }
+
+    @Benchmark
+    public Object acceleratedMap() {
+        return propertyEvaluator.evaluate("limitAmount", coverageMap);
+    }
+
+    public static class Coverage {
+
+        private String code;
+
+        private BigDecimal limitAmount;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public BigDecimal getLimitAmount() {
+            return limitAmount;
+        }
+
+        public void setLimitAmount(BigDecimal limitAmount) {
+            this.limitAmount = limitAmount;
+        }
+    }
+
+    public static class AcceleratedCoverageHandler implements AcceleratedPropertyHandler<Coverage> {
+
+        @Override
+        public Object get(String property, Coverage object) {
+            switch (property) {
+                case "code":
+                    return object.getCode();
+                case "limitAmount":
+                    return object.getLimitAmount();
+                default:
+                    throw new IllegalArgumentException("Unknown property: " + property);
+            }
+        }
+
+        @Override
+        public Object set(String property, Coverage object, Object value) {
+            switch (property) {
+                case "code":
+                    object.setCode((String) value);
+                    return value;
+                case "limitAmount":
+                    object.setLimitAmount((BigDecimal) value);
+                    return value;
+                default:
+                    throw new IllegalArgumentException("Unknown property: " + property);
+            }
+        }
+
+        @Override
+        public Class<Coverage> getType() {
+            return Coverage.class;
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.engine;
+
+import static kraken.testproduct.TestProduct.NAMESPACE;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.namespace.Namespaces;
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.testproduct.domain.Policy;
+
+/**
+ * Measures extraction of data contexts when evaluating rules on 1, 100 and 10000 instances of risk item.
+ * Entry point {@code NumberSet} has cheap assertion rules on {@code Policy}, {@code Vehicle} and {@code CreditCardInfo},
+ * therefore most of the time is spent extracting {@code Vehicle} data contexts.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContextExtractionBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int instances;
+
+    private RuleEngine engine;
+
+    private Policy policy;
+
+    private EvaluationConfig config;
+
+    @Setup
+    public void setup() {
+        this.engine = Engines.fromResourceDirectory(NAMESPACE, "database/gap/");
+        this.policy = PolicyBuilder.getPolicy(instances);
+        this.config = new EvaluationConfig(Map.of(), "USD");
+    }
+
+    @Benchmark
+    public EntryPointResult extractContexts() {
+        return engine.evaluate(policy, Namespaces.toFullName(NAMESPACE, "NumberSet"), config);
+    }
+
+}
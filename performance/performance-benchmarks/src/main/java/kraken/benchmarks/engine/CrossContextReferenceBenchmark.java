@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.engine;
+
+import static kraken.testproduct.TestProduct.NAMESPACE;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.namespace.Namespaces;
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.testproduct.domain.Policy;
+
+/**
+ * Measures resolution of cross context references. Each entry point has a single assertion rule
+ * which references an ancestor ({@code Vehicle} to {@code Policy}), a parent ({@code RRCoverage} to {@code Vehicle})
+ * or a sibling ({@code DriverInfo} to {@code PersonInfo}) context.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrossContextReferenceBenchmark {
+
+    @Param({"R-CCR-assert-Vehicle-toAutoPolicy", "CCR-Assert-RRCoverage-fromVehicle", "R-CCR-assert-DriverInfo-PersonInfo"})
+    public String entryPoint;
+
+    @Param({"1", "100"})
+    public int instances;
+
+    private RuleEngine engine;
+
+    private Policy policy;
+
+    private EvaluationConfig config;
+
+    @Setup
+    public void setup() {
+        this.engine = Engines.fromResourceDirectory(NAMESPACE, "database/gap/");
+        this.policy = PolicyBuilder.getPolicy(instances);
+        this.config = new EvaluationConfig(Map.of(), "USD");
+    }
+
+    @Benchmark
+    public EntryPointResult resolveReferences() {
+        return engine.evaluate(policy, Namespaces.toFullName(NAMESPACE, entryPoint), config);
+    }
+
+}
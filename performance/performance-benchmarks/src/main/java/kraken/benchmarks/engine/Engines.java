@@ -18,6 +18,7 @@ package kraken.benchmarks.engine;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import kraken.model.dsl.read.DSLReader;
 import kraken.model.project.KrakenProject;
@@ -38,19 +39,38 @@ import kraken.testproduct.domain.meta.Identifiable;
 public class Engines {
 
     public static RuleEngine fromResourceDirectory(String namespace, String resourceDir) {
+        return fromResourceDirectory(namespace, resourceDir, builder -> {});
+    }
+
+    /**
+     * @param customizer to register additional dimension filters, dynamic rule repositories or cache configuration
+     * @since 1.55.0
+     */
+    public static RuleEngine fromResourceDirectory(String namespace,
+                                                   String resourceDir,
+                                                   Consumer<RuleEngineBuilder> customizer) {
         DataNavigationContextInstanceInfoResolver resolver = new DataNavigationContextInstanceInfoResolver();
         resolver.setInfoResolver(new MockInfoResolver());
 
+        KrakenProjectRepository krakenProjectRepository = new StaticKrakenProjectRepository(
+                List.of(readKrakenProject(namespace, resourceDir))
+        );
+
+        RuleEngineBuilder builder = RuleEngineBuilder.newInstance()
+                .setContextInstanceResolver(resolver)
+                .setKrakenProjectRepository(krakenProjectRepository);
+        customizer.accept(builder);
+        return builder.buildEngine();
+    }
+
+    /**
+     * @since 1.55.0
+     */
+    public static KrakenProject readKrakenProject(String namespace, String resourceDir) {
         DSLReader dslReader = new DSLReader();
         Collection<Resource> resources = dslReader.read(resourceDir);
         ResourceKrakenProjectBuilder krakenProjectBuilder = new ResourceKrakenProjectBuilder(resources);
-        KrakenProject krakenProject = krakenProjectBuilder.buildKrakenProject(namespace);
-        KrakenProjectRepository krakenProjectRepository = new StaticKrakenProjectRepository(List.of(krakenProject));
-
-        return RuleEngineBuilder.newInstance()
-                .setContextInstanceResolver(resolver)
-                .setKrakenProjectRepository(krakenProjectRepository)
-                .buildEngine();
+        return krakenProjectBuilder.buildKrakenProject(namespace);
     }
 
     private static final class MockInfoResolver extends SimpleDataObjectInfoResolver {
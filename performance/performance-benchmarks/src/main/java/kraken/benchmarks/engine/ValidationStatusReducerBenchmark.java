@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.engine;
+
+import static kraken.testproduct.TestProduct.NAMESPACE;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.namespace.Namespaces;
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.result.reducers.validation.ValidationStatus;
+import kraken.runtime.engine.result.reducers.validation.ValidationStatusReducer;
+
+/**
+ * Measures reduction of {@link EntryPointResult} to {@link ValidationStatus}.
+ * Entry point is evaluated once, so that only reduction is measured.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationStatusReducerBenchmark {
+
+    @Param({"1", "10"})
+    public int instances;
+
+    private ValidationStatusReducer reducer;
+
+    private EntryPointResult entryPointResult;
+
+    @Setup
+    public void setup() {
+        var config = new EvaluationConfig(
+            Map.of(
+                "dimensions", Map.of("plan", "pizza"),
+                "additional", Map.of("package", "Pizza")
+            ),
+            "USD"
+        );
+        this.entryPointResult = Engines.fromResourceDirectory(NAMESPACE, "database/gap/")
+            .evaluate(PolicyBuilder.getPolicy(instances), Namespaces.toFullName(NAMESPACE, "All"), config);
+        this.reducer = new ValidationStatusReducer();
+    }
+
+    @Benchmark
+    public ValidationStatus reduce() {
+        return reducer.reduce(entryPointResult);
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.generator;
+
+import static kraken.benchmarks.generator.SyntheticProjectGenerator.contextName;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates data graph of {@link SyntheticEntity} matching context definitions generated
+ * by {@link SyntheticProjectGenerator} for the same {@link SyntheticProjectSpec}.
+ * Each instance except for the deepest level has {@code width} children, therefore graph has
+ * {@code 1 + width + width^2 + ... + width^(depth-1)} instances.
+ *
+ * @since 1.55.0
+ */
+public class SyntheticDataGenerator {
+
+    private final SyntheticProjectSpec spec;
+
+    private final int width;
+
+    private final Random random;
+
+    private long sequence;
+
+    public SyntheticDataGenerator(SyntheticProjectSpec spec, int width) {
+        this.spec = spec;
+        this.width = width;
+        this.random = new Random(spec.getSeed());
+    }
+
+    public SyntheticEntity generate() {
+        return generate(0);
+    }
+
+    public static long countInstances(int depth, int width) {
+        long count = 0;
+        long levelCount = 1;
+        for (int level = 0; level < depth; level++) {
+            count += levelCount;
+            levelCount *= width;
+        }
+        return count;
+    }
+
+    private SyntheticEntity generate(int level) {
+        SyntheticEntity entity = new SyntheticEntity(contextName(level), contextName(level) + "-" + sequence++);
+        for (int f = 0; f < spec.getFieldsPerContext(); f++) {
+            entity.setN(f, BigDecimal.valueOf(random.nextInt(1000)));
+            entity.setT(f, random.nextInt(10) == 0 ? null : "text" + random.nextInt(100000));
+        }
+        if (level + 1 < spec.getDepth()) {
+            List<SyntheticEntity> children = new ArrayList<>(width);
+            for (int i = 0; i < width; i++) {
+                children.add(generate(level + 1));
+            }
+            entity.setChildren(children);
+        }
+        return entity;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.generator;
+
+import static kraken.benchmarks.generator.SyntheticProjectGenerator.DIMENSION;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import kraken.model.project.KrakenProject;
+import kraken.model.project.repository.StaticKrakenProjectRepository;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.RuleEngineBuilder;
+import kraken.runtime.engine.context.info.SimpleDataObjectInfoResolver;
+import kraken.runtime.engine.context.info.navpath.DataNavigationContextInstanceInfoResolver;
+import kraken.runtime.model.MetadataContainer;
+import kraken.runtime.repository.filter.DimensionFilter;
+
+/**
+ * Builds {@link RuleEngine} for a project generated by {@link SyntheticProjectGenerator}.
+ *
+ * @since 1.55.0
+ */
+public class SyntheticEngines {
+
+    public static RuleEngine create(KrakenProject krakenProject) {
+        DataNavigationContextInstanceInfoResolver resolver = new DataNavigationContextInstanceInfoResolver();
+        resolver.setInfoResolver(new SyntheticEntityInfoResolver());
+
+        return RuleEngineBuilder.newInstance()
+                .setContextInstanceResolver(resolver)
+                .setKrakenProjectRepository(new StaticKrakenProjectRepository(List.of(krakenProject)))
+                .addDimensionFilter(new PlanDimensionFilter())
+                .buildEngine();
+    }
+
+    private static final class SyntheticEntityInfoResolver extends SimpleDataObjectInfoResolver {
+
+        @Override
+        public String resolveContextNameForObject(Object data) {
+            return ((SyntheticEntity) data).getType();
+        }
+
+        @Override
+        public String resolveContextIdForObject(Object data) {
+            return ((SyntheticEntity) data).getId();
+        }
+    }
+
+    /**
+     * Selects versions of item which match dimension {@code plan} in context, or versions without the dimension if
+     * none of them match.
+     */
+    private static final class PlanDimensionFilter implements DimensionFilter {
+
+        @Override
+        public <T extends MetadataContainer> Collection<T> filter(String namespace,
+                                                                   Collection<T> items,
+                                                                   Map<String, Object> context) {
+            Object plan = context.get(DIMENSION);
+            List<T> matching = items.stream()
+                .filter(item -> plan != null && Objects.equals(item.getMetadata().getProperties().get(DIMENSION), plan))
+                .collect(Collectors.toList());
+            if (!matching.isEmpty()) {
+                return matching;
+            }
+            return items.stream()
+                .filter(item -> !item.getMetadata().getProperties().containsKey(DIMENSION))
+                .collect(Collectors.toList());
+        }
+    }
+
+}
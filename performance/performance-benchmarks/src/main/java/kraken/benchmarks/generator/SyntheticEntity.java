@@ -0,0 +1,333 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.generator;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Instance of context definition generated by {@link SyntheticProjectGenerator}.
+ * Expression interpreter resolves properties by bean getters, therefore entity has a fixed number of
+ * decimal fields {@code n<i>} and string fields {@code t<i>}, which limits fields per generated context definition
+ * to {@value #MAX_FIELDS}.
+ *
+ * @since 1.55.0
+ */
+public class SyntheticEntity {
+
+    public static final int MAX_FIELDS = 16;
+
+    private final String type;
+
+    private final String id;
+
+    private final BigDecimal[] n = new BigDecimal[MAX_FIELDS];
+
+    private final String[] t = new String[MAX_FIELDS];
+
+    private List<SyntheticEntity> children;
+
+    public SyntheticEntity(String type, String id) {
+        this.type = Objects.requireNonNull(type);
+        this.id = Objects.requireNonNull(id);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<SyntheticEntity> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<SyntheticEntity> children) {
+        this.children = children;
+    }
+
+    void setN(int index, BigDecimal value) {
+        n[index] = value;
+    }
+
+    void setT(int index, String value) {
+        t[index] = value;
+    }
+
+    public BigDecimal getN0() {
+        return n[0];
+    }
+
+    public void setN0(BigDecimal value) {
+        n[0] = value;
+    }
+
+    public String getT0() {
+        return t[0];
+    }
+
+    public void setT0(String value) {
+        t[0] = value;
+    }
+
+    public BigDecimal getN1() {
+        return n[1];
+    }
+
+    public void setN1(BigDecimal value) {
+        n[1] = value;
+    }
+
+    public String getT1() {
+        return t[1];
+    }
+
+    public void setT1(String value) {
+        t[1] = value;
+    }
+
+    public BigDecimal getN2() {
+        return n[2];
+    }
+
+    public void setN2(BigDecimal value) {
+        n[2] = value;
+    }
+
+    public String getT2() {
+        return t[2];
+    }
+
+    public void setT2(String value) {
+        t[2] = value;
+    }
+
+    public BigDecimal getN3() {
+        return n[3];
+    }
+
+    public void setN3(BigDecimal value) {
+        n[3] = value;
+    }
+
+    public String getT3() {
+        return t[3];
+    }
+
+    public void setT3(String value) {
+        t[3] = value;
+    }
+
+    public BigDecimal getN4() {
+        return n[4];
+    }
+
+    public void setN4(BigDecimal value) {
+        n[4] = value;
+    }
+
+    public String getT4() {
+        return t[4];
+    }
+
+    public void setT4(String value) {
+        t[4] = value;
+    }
+
+    public BigDecimal getN5() {
+        return n[5];
+    }
+
+    public void setN5(BigDecimal value) {
+        n[5] = value;
+    }
+
+    public String getT5() {
+        return t[5];
+    }
+
+    public void setT5(String value) {
+        t[5] = value;
+    }
+
+    public BigDecimal getN6() {
+        return n[6];
+    }
+
+    public void setN6(BigDecimal value) {
+        n[6] = value;
+    }
+
+    public String getT6() {
+        return t[6];
+    }
+
+    public void setT6(String value) {
+        t[6] = value;
+    }
+
+    public BigDecimal getN7() {
+        return n[7];
+    }
+
+    public void setN7(BigDecimal value) {
+        n[7] = value;
+    }
+
+    public String getT7() {
+        return t[7];
+    }
+
+    public void setT7(String value) {
+        t[7] = value;
+    }
+
+    public BigDecimal getN8() {
+        return n[8];
+    }
+
+    public void setN8(BigDecimal value) {
+        n[8] = value;
+    }
+
+    public String getT8() {
+        return t[8];
+    }
+
+    public void setT8(String value) {
+        t[8] = value;
+    }
+
+    public BigDecimal getN9() {
+        return n[9];
+    }
+
+    public void setN9(BigDecimal value) {
+        n[9] = value;
+    }
+
+    public String getT9() {
+        return t[9];
+    }
+
+    public void setT9(String value) {
+        t[9] = value;
+    }
+
+    public BigDecimal getN10() {
+        return n[10];
+    }
+
+    public void setN10(BigDecimal value) {
+        n[10] = value;
+    }
+
+    public String getT10() {
+        return t[10];
+    }
+
+    public void setT10(String value) {
+        t[10] = value;
+    }
+
+    public BigDecimal getN11() {
+        return n[11];
+    }
+
+    public void setN11(BigDecimal value) {
+        n[11] = value;
+    }
+
+    public String getT11() {
+        return t[11];
+    }
+
+    public void setT11(String value) {
+        t[11] = value;
+    }
+
+    public BigDecimal getN12() {
+        return n[12];
+    }
+
+    public void setN12(BigDecimal value) {
+        n[12] = value;
+    }
+
+    public String getT12() {
+        return t[12];
+    }
+
+    public void setT12(String value) {
+        t[12] = value;
+    }
+
+    public BigDecimal getN13() {
+        return n[13];
+    }
+
+    public void setN13(BigDecimal value) {
+        n[13] = value;
+    }
+
+    public String getT13() {
+        return t[13];
+    }
+
+    public void setT13(String value) {
+        t[13] = value;
+    }
+
+    public BigDecimal getN14() {
+        return n[14];
+    }
+
+    public void setN14(BigDecimal value) {
+        n[14] = value;
+    }
+
+    public String getT14() {
+        return t[14];
+    }
+
+    public void setT14(String value) {
+        t[14] = value;
+    }
+
+    public BigDecimal getN15() {
+        return n[15];
+    }
+
+    public void setN15(BigDecimal value) {
+        n[15] = value;
+    }
+
+    public String getT15() {
+        return t[15];
+    }
+
+    public void setT15(String value) {
+        t[15] = value;
+    }
+
+    @Override
+    public String toString() {
+        return type + ":" + id;
+    }
+}
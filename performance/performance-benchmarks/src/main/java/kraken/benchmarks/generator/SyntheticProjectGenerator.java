@@ -0,0 +1,210 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.generator;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import kraken.model.dsl.KrakenDSLModelParser;
+import kraken.model.project.KrakenProject;
+import kraken.model.project.builder.ResourceKrakenProjectBuilder;
+import kraken.model.resource.Resource;
+
+/**
+ * Generates synthetic Kraken project in DSL by {@link SyntheticProjectSpec}.
+ * Generation is deterministic for the same spec.
+ * <p>
+ * Default rules read only string fields and write only decimal fields, and each default rule has a unique priority,
+ * therefore generated rules never form a dependency cycle and never apply several defaults on the same field.
+ * Rules are distributed evenly between entry points {@code EP<i>} and entry point {@value #ALL_ENTRY_POINT}
+ * includes all of them.
+ *
+ * @since 1.55.0
+ */
+public class SyntheticProjectGenerator {
+
+    public static final String ALL_ENTRY_POINT = "All";
+
+    public static final String DIMENSION = "plan";
+
+    private static final String CHILDREN = "children";
+
+    private static final int RULES_PER_RESOURCE = 1000;
+
+    private final SyntheticProjectSpec spec;
+
+    public SyntheticProjectGenerator(SyntheticProjectSpec spec) {
+        this.spec = spec;
+    }
+
+    public KrakenProject generateProject() {
+        List<Resource> resources = new ArrayList<>();
+        List<String> dsl = generateDsl();
+        for (int i = 0; i < dsl.size(); i++) {
+            URI uri = URI.create("synthetic:/resource" + i + ".rules");
+            resources.add(KrakenDSLModelParser.parseResource(dsl.get(i), uri));
+        }
+        return new ResourceKrakenProjectBuilder(resources).buildKrakenProject(spec.getNamespace());
+    }
+
+    /**
+     * @return DSL of resources, where the first resource contains context definitions and entry points
+     *         and remaining resources contain rules
+     */
+    public List<String> generateDsl() {
+        List<String> dsl = new ArrayList<>();
+        dsl.add(generateContextsAndEntryPoints());
+
+        Random random = new Random(spec.getSeed());
+        StringBuilder rules = null;
+        for (int i = 0; i < spec.getRuleCount(); i++) {
+            if (i % RULES_PER_RESOURCE == 0) {
+                if (rules != null) {
+                    dsl.add(rules.toString());
+                }
+                rules = header();
+            }
+            appendRule(rules, i, random);
+        }
+        if (rules != null) {
+            dsl.add(rules.toString());
+        }
+        return dsl;
+    }
+
+    public static String contextName(int level) {
+        return "Level" + level;
+    }
+
+    private String generateContextsAndEntryPoints() {
+        StringBuilder dsl = header();
+        for (int level = 0; level < spec.getDepth(); level++) {
+            dsl.append(level == 0 ? "Root Context " : "Context ").append(contextName(level)).append(" {\n");
+            for (int f = 0; f < spec.getFieldsPerContext(); f++) {
+                dsl.append("    Decimal n").append(f).append('\n');
+                dsl.append("    String t").append(f).append('\n');
+            }
+            if (level + 1 < spec.getDepth()) {
+                dsl.append("    Child* ").append(contextName(level + 1)).append(" : ").append(CHILDREN).append('\n');
+            }
+            dsl.append("}\n\n");
+        }
+
+        for (int e = 0; e < spec.getEntryPointCount(); e++) {
+            int entryPoint = e;
+            String ruleNames = ruleIndexes()
+                .filter(i -> i % spec.getEntryPointCount() == entryPoint)
+                .mapToObj(i -> "    \"" + ruleName(i) + "\"")
+                .collect(Collectors.joining(",\n"));
+            dsl.append("EntryPoint \"EP").append(e).append("\" {\n").append(ruleNames).append("\n}\n\n");
+        }
+
+        String includes = IntStream.range(0, spec.getEntryPointCount())
+            .mapToObj(e -> "    EntryPoint \"EP" + e + "\"")
+            .collect(Collectors.joining(",\n"));
+        dsl.append("EntryPoint \"").append(ALL_ENTRY_POINT).append("\" {\n").append(includes).append("\n}\n");
+        return dsl.toString();
+    }
+
+    private IntStream ruleIndexes() {
+        return IntStream.range(0, spec.getRuleCount());
+    }
+
+    private StringBuilder header() {
+        return new StringBuilder("Namespace ").append(spec.getNamespace()).append("\n\n");
+    }
+
+    private void appendRule(StringBuilder dsl, int index, Random random) {
+        int level = random.nextInt(spec.getDepth());
+        boolean crossContext = level > 0 && random.nextDouble() < spec.getCrossContextRatio();
+        boolean conditional = random.nextDouble() < spec.getConditionRatio();
+        boolean dimensional = random.nextDouble() < spec.getDimensionalRatio();
+        PayloadKind payloadKind = nextPayloadKind(random);
+        int target = random.nextInt(spec.getFieldsPerContext());
+        int source = random.nextInt(spec.getFieldsPerContext());
+        String sourcePrefix = crossContext ? contextName(level - 1) + "." : "";
+
+        int versions = dimensional ? spec.getVariantsPerRule() + 1 : 1;
+        for (int version = 0; version < versions; version++) {
+            if (version > 0) {
+                dsl.append("@Dimension(\"").append(DIMENSION).append("\", \"P").append(version - 1).append("\")\n");
+            }
+            boolean decimalTarget = payloadKind == PayloadKind.ASSERTION || payloadKind == PayloadKind.DEFAULT;
+            String targetField = (decimalTarget ? "n" : "t") + target;
+            dsl.append("Rule \"").append(ruleName(index)).append("\" On ")
+                .append(contextName(level)).append('.').append(targetField).append(" {\n");
+            if (payloadKind == PayloadKind.DEFAULT) {
+                dsl.append("    Priority ").append(index).append('\n');
+            }
+            if (conditional) {
+                dsl.append("    When ").append(sourcePrefix).append('t').append(source).append(" != null\n");
+            }
+            switch (payloadKind) {
+                case ASSERTION:
+                    dsl.append("    Assert ").append(targetField).append(" + ")
+                        .append(sourcePrefix).append('n').append(source)
+                        .append(" >= ").append(-version).append('\n');
+                    dsl.append("    Error \"R").append(index).append("\" : \"Assertion failed\"\n");
+                    break;
+                case DEFAULT:
+                    dsl.append("    Reset To StringLength(").append(sourcePrefix).append('t').append(source)
+                        .append(") + ").append(version).append('\n');
+                    break;
+                case USAGE:
+                    dsl.append("    Set Mandatory\n");
+                    break;
+                case LENGTH:
+                    dsl.append("    Assert Length ").append(32 + version).append('\n');
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown payload kind: " + payloadKind);
+            }
+            dsl.append("}\n\n");
+        }
+    }
+
+    private PayloadKind nextPayloadKind(Random random) {
+        int total = spec.getAssertionWeight() + spec.getDefaultWeight()
+            + spec.getUsageWeight() + spec.getLengthWeight();
+        int value = random.nextInt(total);
+        if ((value -= spec.getAssertionWeight()) < 0) {
+            return PayloadKind.ASSERTION;
+        }
+        if ((value -= spec.getDefaultWeight()) < 0) {
+            return PayloadKind.DEFAULT;
+        }
+        if (value - spec.getUsageWeight() < 0) {
+            return PayloadKind.USAGE;
+        }
+        return PayloadKind.LENGTH;
+    }
+
+    private static String ruleName(int index) {
+        return "R" + index;
+    }
+
+    private enum PayloadKind {
+        ASSERTION,
+        DEFAULT,
+        USAGE,
+        LENGTH
+    }
+
+}
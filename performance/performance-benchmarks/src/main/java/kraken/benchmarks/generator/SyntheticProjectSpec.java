@@ -0,0 +1,256 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.generator;
+
+/**
+ * Parameters of synthetic Kraken project generated by {@link SyntheticProjectGenerator}.
+ * <p>
+ * Context model is a chain of {@code depth} contexts named {@code Level0} to {@code Level<depth-1>},
+ * where each context has a child collection of the next level and {@code fieldsPerContext}
+ * decimal fields {@code n<i>} and string fields {@code t<i>}.
+ * Payload weights are relative and indicate a mix of generated payload types.
+ *
+ * @since 1.55.0
+ */
+public final class SyntheticProjectSpec {
+
+    private final String namespace;
+
+    private final int depth;
+
+    private final int fieldsPerContext;
+
+    private final int ruleCount;
+
+    private final int entryPointCount;
+
+    private final int assertionWeight;
+
+    private final int defaultWeight;
+
+    private final int usageWeight;
+
+    private final int lengthWeight;
+
+    private final double crossContextRatio;
+
+    private final double conditionRatio;
+
+    private final double dimensionalRatio;
+
+    private final int variantsPerRule;
+
+    private final long seed;
+
+    private SyntheticProjectSpec(Builder builder) {
+        this.namespace = builder.namespace;
+        this.depth = builder.depth;
+        this.fieldsPerContext = builder.fieldsPerContext;
+        this.ruleCount = builder.ruleCount;
+        this.entryPointCount = builder.entryPointCount;
+        this.assertionWeight = builder.assertionWeight;
+        this.defaultWeight = builder.defaultWeight;
+        this.usageWeight = builder.usageWeight;
+        this.lengthWeight = builder.lengthWeight;
+        this.crossContextRatio = builder.crossContextRatio;
+        this.conditionRatio = builder.conditionRatio;
+        this.dimensionalRatio = builder.dimensionalRatio;
+        this.variantsPerRule = builder.variantsPerRule;
+        this.seed = builder.seed;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getFieldsPerContext() {
+        return fieldsPerContext;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public int getEntryPointCount() {
+        return entryPointCount;
+    }
+
+    public int getAssertionWeight() {
+        return assertionWeight;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public int getUsageWeight() {
+        return usageWeight;
+    }
+
+    public int getLengthWeight() {
+        return lengthWeight;
+    }
+
+    public double getCrossContextRatio() {
+        return crossContextRatio;
+    }
+
+    public double getConditionRatio() {
+        return conditionRatio;
+    }
+
+    public double getDimensionalRatio() {
+        return dimensionalRatio;
+    }
+
+    public int getVariantsPerRule() {
+        return variantsPerRule;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private String namespace = "Synthetic";
+
+        private int depth = 3;
+
+        private int fieldsPerContext = 10;
+
+        private int ruleCount = 1000;
+
+        private int entryPointCount = 10;
+
+        private int assertionWeight = 5;
+
+        private int defaultWeight = 2;
+
+        private int usageWeight = 2;
+
+        private int lengthWeight = 1;
+
+        private double crossContextRatio = 0.2;
+
+        private double conditionRatio = 0.3;
+
+        private double dimensionalRatio = 0.1;
+
+        private int variantsPerRule = 3;
+
+        private long seed = 42;
+
+        private Builder() {
+        }
+
+        /**
+         * @param namespace of generated project; context model trees are cached by namespace for the lifetime of JVM,
+         *                  therefore projects with different context definitions must have different namespaces
+         */
+        public Builder namespace(String namespace) {
+            this.namespace = namespace;
+            return this;
+        }
+
+        public Builder depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        /**
+         * @param fieldsPerContext number of decimal and string fields each, at most {@link SyntheticEntity#MAX_FIELDS}
+         */
+        public Builder fieldsPerContext(int fieldsPerContext) {
+            this.fieldsPerContext = fieldsPerContext;
+            return this;
+        }
+
+        public Builder ruleCount(int ruleCount) {
+            this.ruleCount = ruleCount;
+            return this;
+        }
+
+        public Builder entryPointCount(int entryPointCount) {
+            this.entryPointCount = entryPointCount;
+            return this;
+        }
+
+        public Builder payloadWeights(int assertion, int defaultValue, int usage, int length) {
+            this.assertionWeight = assertion;
+            this.defaultWeight = defaultValue;
+            this.usageWeight = usage;
+            this.lengthWeight = length;
+            return this;
+        }
+
+        /**
+         * @param crossContextRatio part of rules in range [0, 1] which reference a field of parent context
+         */
+        public Builder crossContextRatio(double crossContextRatio) {
+            this.crossContextRatio = crossContextRatio;
+            return this;
+        }
+
+        /**
+         * @param conditionRatio part of rules in range [0, 1] which have a condition
+         */
+        public Builder conditionRatio(double conditionRatio) {
+            this.conditionRatio = conditionRatio;
+            return this;
+        }
+
+        /**
+         * @param dimensionalRatio part of rules in range [0, 1] which have versions varied by dimension {@code plan}
+         * @param variantsPerRule number of dimensional versions of each dimensional rule
+         */
+        public Builder dimensions(double dimensionalRatio, int variantsPerRule) {
+            this.dimensionalRatio = dimensionalRatio;
+            this.variantsPerRule = variantsPerRule;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public SyntheticProjectSpec build() {
+            if (depth < 1 || fieldsPerContext < 1 || ruleCount < 0 || entryPointCount < 1) {
+                throw new IllegalArgumentException(
+                    "Depth, fields per context and entry point count must be positive "
+                        + "and rule count must not be negative"
+                );
+            }
+            if (fieldsPerContext > SyntheticEntity.MAX_FIELDS) {
+                throw new IllegalArgumentException("Fields per context must not exceed " + SyntheticEntity.MAX_FIELDS);
+            }
+            if (assertionWeight + defaultWeight + usageWeight + lengthWeight <= 0) {
+                throw new IllegalArgumentException("At least one payload weight must be positive");
+            }
+            return new SyntheticProjectSpec(this);
+        }
+    }
+
+}
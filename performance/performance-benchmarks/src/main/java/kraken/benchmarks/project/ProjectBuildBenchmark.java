@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.project;
+
+import static kraken.testproduct.TestProduct.NAMESPACE;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.converter.KrakenProjectConversion;
+import kraken.converter.KrakenProjectConverter;
+import kraken.el.TargetEnvironment;
+import kraken.model.dsl.read.DSLReader;
+import kraken.model.project.KrakenProject;
+import kraken.model.project.builder.ResourceKrakenProjectBuilder;
+import kraken.model.resource.Resource;
+import kraken.runtime.model.project.RuntimeKrakenProject;
+
+/**
+ * Measures each step of loading {@code database/gap/} test product: reading DSL resources,
+ * building {@link KrakenProject} and converting it to {@link RuntimeKrakenProject}.
+ * AST of expressions is cached in JVM, therefore {@link #convertProject()} measures conversion with a warm AST cache.
+ * {@link #convertProjectIncrementally()} measures conversion of unchanged project, when all rules are reused.
+ * {@link #convertProjectInParallel()} measures conversion with rules converted in common {@link ForkJoinPool}.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProjectBuildBenchmark {
+
+    private static final String RESOURCE_DIRECTORY = "database/gap/";
+
+    private Collection<Resource> resources;
+
+    private KrakenProject krakenProject;
+
+    private KrakenProjectConversion conversion;
+
+    @Setup
+    public void setup() {
+        this.resources = new DSLReader().read(RESOURCE_DIRECTORY);
+        this.krakenProject = new ResourceKrakenProjectBuilder(resources).buildKrakenProject(NAMESPACE);
+        this.conversion = new KrakenProjectConverter(krakenProject, TargetEnvironment.JAVA).convertIncrementally();
+    }
+
+    @Benchmark
+    public Collection<Resource> readResources() {
+        return new DSLReader().read(RESOURCE_DIRECTORY);
+    }
+
+    @Benchmark
+    public KrakenProject buildProject() {
+        return new ResourceKrakenProjectBuilder(resources).buildKrakenProject(NAMESPACE);
+    }
+
+    @Benchmark
+    public RuntimeKrakenProject convertProject() {
+        return new KrakenProjectConverter(krakenProject, TargetEnvironment.JAVA).convert();
+    }
+
+    @Benchmark
+    public RuntimeKrakenProject convertProjectInParallel() {
+        return new KrakenProjectConverter(krakenProject, TargetEnvironment.JAVA, null, ForkJoinPool.commonPool())
+            .convert();
+    }
+
+    @Benchmark
+    public KrakenProjectConversion convertProjectIncrementally() {
+        return new KrakenProjectConverter(krakenProject, TargetEnvironment.JAVA, conversion).convertIncrementally();
+    }
+
+}
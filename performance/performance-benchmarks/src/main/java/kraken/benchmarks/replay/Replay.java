@@ -0,0 +1,206 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.replay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.gson.Gson;
+
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.dto.RuleEvaluationResult;
+import kraken.runtime.engine.result.ValidationPayloadResult;
+import kraken.runtime.logging.capture.CapturedContext;
+import kraken.runtime.logging.capture.CapturedEvaluation;
+import kraken.utils.GsonUtils;
+
+/**
+ * Replays evaluations captured by {@link kraken.runtime.logging.capture.CapturingKrakenDataLogger}.
+ * Data object is restored from capture before each evaluation, because evaluation applies default values to it.
+ * Restoring data is not included in measured latency.
+ *
+ * @since 1.55.0
+ */
+public class Replay {
+
+    /**
+     * Key of statistics of all evaluations in {@link #measure(RuleEngine, int, int)}
+     */
+    public static final String ALL = "*";
+
+    private final List<CapturedEvaluation> corpus;
+
+    private final Gson gson;
+
+    private final String currencyCd;
+
+    private final Map<String, Class<?>> dataTypes = new HashMap<>();
+
+    public Replay(List<CapturedEvaluation> corpus, String currencyCd) {
+        this(corpus, GsonUtils.gson(), currencyCd);
+    }
+
+    /**
+     * @param gson to restore data objects with, when data types need custom type adapters
+     * @param currencyCd to evaluate with, because currency is not captured
+     */
+    public Replay(List<CapturedEvaluation> corpus, Gson gson, String currencyCd) {
+        this.corpus = corpus;
+        this.gson = gson;
+        this.currencyCd = currencyCd;
+    }
+
+    /**
+     * Evaluates whole corpus {@code warmupIterations + iterations} times and measures latency of
+     * evaluations in the last {@code iterations}.
+     *
+     * @return latency statistics of all evaluations and of each entry point
+     */
+    public Map<String, LatencyStats> measure(RuleEngine engine, int warmupIterations, int iterations) {
+        for (int i = 0; i < warmupIterations; i++) {
+            for (CapturedEvaluation evaluation : corpus) {
+                evaluate(engine, evaluation);
+            }
+        }
+        Map<String, List<Long>> latencies = new TreeMap<>();
+        List<Long> allLatencies = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            for (CapturedEvaluation evaluation : corpus) {
+                Object data = restoreData(evaluation);
+                EvaluationConfig config = restoreConfig(evaluation);
+                long start = System.nanoTime();
+                engine.evaluate(data, evaluation.getEntryPointName(), config);
+                long latency = System.nanoTime() - start;
+                allLatencies.add(latency);
+                latencies.computeIfAbsent(evaluation.getEntryPointName(), k -> new ArrayList<>()).add(latency);
+            }
+        }
+        Map<String, LatencyStats> stats = new TreeMap<>();
+        stats.put(ALL, new LatencyStats(allLatencies));
+        latencies.forEach((entryPoint, entryPointLatencies) ->
+            stats.put(entryPoint, new LatencyStats(entryPointLatencies)));
+        return stats;
+    }
+
+    /**
+     * Evaluates each captured evaluation with both engines and compares outcome of each rule on each field.
+     *
+     * @return differences by index of captured evaluation in corpus; evaluations without differences are omitted
+     */
+    public Map<Integer, List<String>> diff(RuleEngine baseline, RuleEngine candidate) {
+        Map<Integer, List<String>> diffs = new TreeMap<>();
+        for (int i = 0; i < corpus.size(); i++) {
+            CapturedEvaluation evaluation = corpus.get(i);
+            Map<String, String> expected = summarize(evaluate(baseline, evaluation));
+            Map<String, String> actual = summarize(evaluate(candidate, evaluation));
+            List<String> differences = new ArrayList<>();
+            for (String key : union(expected, actual)) {
+                if (!Objects.equals(expected.get(key), actual.get(key))) {
+                    differences.add(key + ": " + expected.get(key) + " -> " + actual.get(key));
+                }
+            }
+            if (!differences.isEmpty()) {
+                diffs.put(i, differences);
+            }
+        }
+        return diffs;
+    }
+
+    private EntryPointResult evaluate(RuleEngine engine, CapturedEvaluation evaluation) {
+        return engine.evaluate(restoreData(evaluation), evaluation.getEntryPointName(), restoreConfig(evaluation));
+    }
+
+    private static TreeSet<String> union(Map<String, String> first, Map<String, String> second) {
+        TreeSet<String> keys = new TreeSet<>(first.keySet());
+        keys.addAll(second.keySet());
+        return keys;
+    }
+
+    private static Map<String, String> summarize(EntryPointResult result) {
+        Map<String, String> outcomes = new HashMap<>();
+        result.getFieldResults().forEach((field, fieldResult) -> {
+            for (RuleEvaluationResult ruleResult : fieldResult.getRuleResults()) {
+                String outcome = String.valueOf(ruleResult.getRuleEvaluationStatus());
+                if (ruleResult.getPayloadResult() instanceof ValidationPayloadResult) {
+                    outcome += " success=" + ((ValidationPayloadResult) ruleResult.getPayloadResult()).getSuccess();
+                }
+                outcomes.put(field + " " + ruleResult.getRuleInfo().getRuleName(), outcome);
+            }
+        });
+        return outcomes;
+    }
+
+    private Object restoreData(CapturedEvaluation evaluation) {
+        Class<?> type = dataTypes.computeIfAbsent(evaluation.getDataType(), name -> {
+            try {
+                return Class.forName(name);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Captured data type is not on classpath: " + name, e);
+            }
+        });
+        return gson.fromJson(evaluation.getData(), type);
+    }
+
+    private EvaluationConfig restoreConfig(CapturedEvaluation evaluation) {
+        return new EvaluationConfig(CapturedContext.read(evaluation.getContext(), gson), currencyCd);
+    }
+
+    /**
+     * Latency percentiles of replayed evaluations.
+     */
+    public static final class LatencyStats {
+
+        private final long[] sortedNanos;
+
+        private final long totalNanos;
+
+        LatencyStats(List<Long> latencies) {
+            this.sortedNanos = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            this.totalNanos = Arrays.stream(sortedNanos).sum();
+        }
+
+        public int getCount() {
+            return sortedNanos.length;
+        }
+
+        /**
+         * @return evaluations per second of evaluation time in a single thread
+         */
+        public double getThroughput() {
+            return totalNanos == 0 ? 0 : sortedNanos.length * 1_000_000_000d / totalNanos;
+        }
+
+        /**
+         * @param percentile from 0 to 100
+         * @return latency in milliseconds by nearest rank
+         */
+        public double getPercentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sortedNanos.length);
+            return sortedNanos[Math.max(0, Math.min(sortedNanos.length, rank) - 1)] / 1_000_000d;
+        }
+    }
+}
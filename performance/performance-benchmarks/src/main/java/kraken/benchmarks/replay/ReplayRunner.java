@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.replay;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import kraken.benchmarks.engine.Engines;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.logging.capture.CaptureFiles;
+import kraken.runtime.logging.capture.CapturedEvaluation;
+
+/**
+ * Replays captured evaluations against rules of a candidate project version and reports throughput and
+ * latency percentiles of all evaluations and of each entry point. If rules of a baseline project version are
+ * provided, then outcome of each rule is compared between versions and differences are reported,
+ * and process exits with status {@code 1} if there are any.
+ * <p>
+ * Usage: {@code ReplayRunner <capture file> <namespace> <candidate rules dir> [baseline rules dir]},
+ * where rules directories are resolved from classpath.
+ * Use {@code -Dkraken.replay.warmup}, {@code -Dkraken.replay.iterations} and {@code -Dkraken.replay.currency}
+ * to override defaults of 1 warmup iteration, 5 measured iterations and {@code USD}.
+ *
+ * @since 1.55.0
+ */
+public class ReplayRunner {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 100};
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Usage: ReplayRunner <capture file> <namespace> <candidate rules dir> [baseline rules dir]");
+            System.exit(2);
+        }
+        int warmupIterations = Integer.getInteger("kraken.replay.warmup", 1);
+        int iterations = Integer.getInteger("kraken.replay.iterations", 5);
+        String currencyCd = System.getProperty("kraken.replay.currency", "USD");
+
+        List<CapturedEvaluation> corpus = CaptureFiles.read(Path.of(args[0]));
+        Replay replay = new Replay(corpus, currencyCd);
+        RuleEngine candidate = Engines.fromResourceDirectory(args[1], args[2]);
+
+        System.out.println("Replaying " + corpus.size() + " evaluations, " + iterations + " iterations");
+        printStats(replay.measure(candidate, warmupIterations, iterations));
+
+        if (args.length > 3) {
+            RuleEngine baseline = Engines.fromResourceDirectory(args[1], args[3]);
+            Map<Integer, List<String>> diffs = replay.diff(baseline, candidate);
+            diffs.forEach((index, differences) -> {
+                CapturedEvaluation evaluation = corpus.get(index);
+                System.out.println("DIFF #" + index + " " + evaluation.getEntryPointName());
+                differences.forEach(difference -> System.out.println("    " + difference));
+            });
+            System.out.println(diffs.size() + " of " + corpus.size() + " evaluations differ from baseline");
+            System.exit(diffs.isEmpty() ? 0 : 1);
+        }
+    }
+
+    private static void printStats(Map<String, Replay.LatencyStats> stats) {
+        StringBuilder header = new StringBuilder(String.format("%-40s %8s %10s", "Entry point", "Count", "ops/s"));
+        for (double percentile : PERCENTILES) {
+            header.append(String.format(" %9s", "p" + formatPercentile(percentile) + " ms"));
+        }
+        System.out.println(header);
+        stats.forEach((entryPoint, entryPointStats) -> {
+            StringBuilder line = new StringBuilder(String.format("%-40s %8d %10.1f",
+                Replay.ALL.equals(entryPoint) ? "(all)" : entryPoint,
+                entryPointStats.getCount(),
+                entryPointStats.getThroughput()));
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(" %9.3f", entryPointStats.getPercentileMillis(percentile)));
+            }
+            System.out.println(line);
+        });
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.repository;
+
+import static kraken.testproduct.TestProduct.NAMESPACE;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.benchmarks.engine.Engines;
+import kraken.el.TargetEnvironment;
+import kraken.model.project.repository.StaticKrakenProjectRepository;
+import kraken.runtime.model.rule.RuntimeRule;
+import kraken.runtime.repository.RuntimeProjectRepository;
+import kraken.runtime.repository.RuntimeProjectRepositoryConfig;
+import kraken.runtime.repository.dynamic.DynamicRuleRepositoryCacheConfig;
+import kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory;
+import kraken.runtime.repository.filter.DimensionFilteringService;
+import kraken.testproduct.dimension.filter.StateDimensionFilter;
+
+/**
+ * Measures filtering of dimensional rule versions by {@link StateDimensionFilter}.
+ * {@link #filterRuleVersions()} filters versions of a single rule,
+ * while {@link #resolveEntryPointRules()} resolves all rules of entry point {@code Dimensional}.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DimensionFilteringBenchmark {
+
+    private static final String DIMENSIONAL_RULE = "Set AddressInfo.postalCode to the state name";
+
+    @Param({"AZ", "CA", "NY"})
+    public String state;
+
+    private RuntimeProjectRepository repository;
+
+    private DimensionFilteringService dimensionFilteringService;
+
+    private List<RuntimeRule> ruleVersions;
+
+    private Map<String, Object> context;
+
+    @Setup
+    public void setup() {
+        var config = new RuntimeProjectRepositoryConfig(
+            DynamicRuleRepositoryCacheConfig.noCaching(),
+            List.of(new StateDimensionFilter()),
+            List.of()
+        );
+        var krakenProjectRepository = new StaticKrakenProjectRepository(
+            List.of(Engines.readKrakenProject(NAMESPACE, "database/gap/"))
+        );
+        this.repository = new RuntimeProjectRepositoryFactory(krakenProjectRepository, config, TargetEnvironment.JAVA)
+            .resolveRepository(NAMESPACE);
+        this.dimensionFilteringService = new DimensionFilteringService(config.getDimensionFilters());
+        this.ruleVersions = repository.getKrakenProject().getRuleVersions().get(DIMENSIONAL_RULE);
+        this.context = Map.of("state", state);
+    }
+
+    @Benchmark
+    public Optional<RuntimeRule> filterRuleVersions() {
+        return dimensionFilteringService.filterRules(NAMESPACE, ruleVersions, context);
+    }
+
+    @Benchmark
+    public Map<String, RuntimeRule> resolveEntryPointRules() {
+        return repository.resolveRules("Dimensional", context);
+    }
+
+}
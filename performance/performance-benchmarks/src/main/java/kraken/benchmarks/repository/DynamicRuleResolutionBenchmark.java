@@ -0,0 +1,133 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.repository;
+
+import static kraken.testproduct.TestProduct.NAMESPACE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.benchmarks.engine.Engines;
+import kraken.el.TargetEnvironment;
+import kraken.model.Rule;
+import kraken.model.factory.RulesModelFactory;
+import kraken.model.project.repository.StaticKrakenProjectRepository;
+import kraken.model.validation.AssertionPayload;
+import kraken.model.validation.ValidationSeverity;
+import kraken.runtime.model.rule.RuntimeRule;
+import kraken.runtime.repository.RuntimeProjectRepository;
+import kraken.runtime.repository.RuntimeProjectRepositoryConfig;
+import kraken.runtime.repository.dynamic.DynamicRuleCacheInvalidator;
+import kraken.runtime.repository.dynamic.DynamicRuleHolder;
+import kraken.runtime.repository.dynamic.DynamicRuleRepository;
+import kraken.runtime.repository.dynamic.DynamicRuleRepositoryCacheConfig;
+import kraken.runtime.repository.factory.RuntimeProjectRepositoryFactory;
+
+/**
+ * Measures resolution of rules from {@link DynamicRuleRepository} with and without caching of converted rules.
+ * Without caching each dynamic rule is validated and converted on every resolution.
+ * With {@code resolved} caching, resolved rule sets are cached as well and repository is not invoked.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DynamicRuleResolutionBenchmark {
+
+    @Param({"10", "100"})
+    public int ruleCount;
+
+    @Param({"resolved", "eternal", "none"})
+    public String caching;
+
+    private RuntimeProjectRepository repository;
+
+    @Setup
+    public void setup() {
+        var cacheConfig = "none".equals(caching)
+            ? DynamicRuleRepositoryCacheConfig.noCaching()
+            : DynamicRuleRepositoryCacheConfig.eternal();
+        if ("resolved".equals(caching)) {
+            cacheConfig = cacheConfig.withResolvedRulesCache(1000, 3600, new DynamicRuleCacheInvalidator());
+        }
+        var config = new RuntimeProjectRepositoryConfig(
+            cacheConfig,
+            List.of(),
+            List.of(new GeneratingDynamicRuleRepository(ruleCount))
+        );
+        var krakenProjectRepository = new StaticKrakenProjectRepository(
+            List.of(Engines.readKrakenProject(NAMESPACE, "database/gap/"))
+        );
+        this.repository = new RuntimeProjectRepositoryFactory(krakenProjectRepository, config, TargetEnvironment.JAVA)
+            .resolveRepository(NAMESPACE);
+    }
+
+    @Benchmark
+    public Map<String, RuntimeRule> resolveRules() {
+        return repository.resolveRules("NumberSet", Map.of());
+    }
+
+    static class GeneratingDynamicRuleRepository implements DynamicRuleRepository {
+
+        private final List<Rule> rules = new ArrayList<>();
+
+        GeneratingDynamicRuleRepository(int ruleCount) {
+            RulesModelFactory factory = RulesModelFactory.getInstance();
+            for (int i = 0; i < ruleCount; i++) {
+                Rule rule = factory.createRule();
+                rule.setRuleVariationId(UUID.randomUUID().toString());
+                rule.setName("DynamicRule-" + i);
+                rule.setContext("Policy");
+                rule.setTargetPath("policyNumber");
+
+                AssertionPayload payload = factory.createAssertionPayload();
+                kraken.model.Expression expression = factory.createExpression();
+                expression.setExpressionString("policyNumber != 'R" + i + "'");
+                payload.setAssertionExpression(expression);
+                kraken.model.ErrorMessage errorMessage = factory.createErrorMessage();
+                errorMessage.setErrorCode("DynamicRule-" + i);
+                errorMessage.setErrorMessage("Dynamic rule " + i + " failed");
+                payload.setErrorMessage(errorMessage);
+                payload.setSeverity(ValidationSeverity.critical);
+                rule.setPayload(payload);
+
+                rules.add(rule);
+            }
+        }
+
+        @Override
+        public Stream<DynamicRuleHolder> resolveDynamicRules(String namespace,
+                                                             String entryPoint,
+                                                             Map<String, Object> context) {
+            return rules.stream().map(DynamicRuleHolder::createNonDimensional);
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.scaling;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kraken.benchmarks.generator.SyntheticProjectSpec;
+import kraken.runtime.engine.EntryPointResult;
+
+/**
+ * Measures how evaluation latency scales with the number of rules in entry point,
+ * on a fixed data graph of 31 instances in 3 levels.
+ * Run with {@code -prof gc} to chart allocation rate and memory alongside latency.
+ *
+ * @since 1.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RuleCountScalingBenchmark {
+
+    @Param({"100", "1000", "15000"})
+    public int ruleCount;
+
+    private ScalingBenchmarks benchmarks;
+
+    @Setup
+    public void setup() {
+        SyntheticProjectSpec spec = SyntheticProjectSpec.builder()
+            .namespace("Rules" + ruleCount)
+            .depth(3)
+            .ruleCount(ruleCount)
+            .entryPointCount(Math.max(1, ruleCount / 100))
+            .build();
+        this.benchmarks = new ScalingBenchmarks(spec, 5);
+    }
+
+    @Benchmark
+    public EntryPointResult evaluate() {
+        return benchmarks.evaluate();
+    }
+
+}
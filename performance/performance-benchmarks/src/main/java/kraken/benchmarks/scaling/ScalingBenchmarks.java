@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.benchmarks.scaling;
+
+import java.util.Map;
+
+import kraken.benchmarks.generator.SyntheticDataGenerator;
+import kraken.benchmarks.generator.SyntheticEngines;
+import kraken.benchmarks.generator.SyntheticEntity;
+import kraken.benchmarks.generator.SyntheticProjectGenerator;
+import kraken.benchmarks.generator.SyntheticProjectSpec;
+import kraken.namespace.Namespaces;
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.engine.EntryPointResult;
+
+/**
+ * Engine, data and evaluation configuration of a single scaling benchmark.
+ * Rules are evaluated by entry point {@value SyntheticProjectGenerator#ALL_ENTRY_POINT} with dimension
+ * {@code plan = P0}, so dimensional rules resolve to their first variant.
+ *
+ * @since 1.55.0
+ */
+final class ScalingBenchmarks {
+
+    private final SyntheticProjectSpec spec;
+
+    private final RuleEngine engine;
+
+    private final SyntheticEntity data;
+
+    private final EvaluationConfig config;
+
+    ScalingBenchmarks(SyntheticProjectSpec spec, int width) {
+        this.spec = spec;
+        this.engine = SyntheticEngines.create(new SyntheticProjectGenerator(spec).generateProject());
+        this.data = new SyntheticDataGenerator(spec, width).generate();
+        this.config = new EvaluationConfig(Map.of(SyntheticProjectGenerator.DIMENSION, "P0"), "USD");
+    }
+
+    EntryPointResult evaluate() {
+        String entryPoint = Namespaces.toFullName(spec.getNamespace(), SyntheticProjectGenerator.ALL_ENTRY_POINT);
+        return engine.evaluate(data, entryPoint, config);
+    }
+
+}
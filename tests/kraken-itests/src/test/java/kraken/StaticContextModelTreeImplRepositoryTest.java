@@ -1,25 +1,178 @@
 package kraken;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import kraken.context.model.tree.impl.ContextModelTreeBinaryFormat;
+import kraken.context.model.tree.impl.ContextModelTrees;
+import kraken.context.model.tree.impl.ContextRepository;
+import kraken.context.model.tree.repository.BinaryContextModelTreeRepository;
+import kraken.context.model.tree.repository.ContextModelTreeRepository;
+import kraken.context.model.tree.repository.RecoveringStaticContextModelTreeRepository;
+import kraken.context.model.tree.repository.StaticContextModelTreeRepository;
 import kraken.el.TargetEnvironment;
 import kraken.context.model.tree.ContextModelTree;
-import kraken.context.model.tree.repository.StaticContextModelTreeRepository;
+import kraken.runtime.model.context.ContextField;
+import kraken.runtime.model.context.RuntimeContextDefinition;
 import kraken.test.TestResources;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
 
 public class StaticContextModelTreeImplRepositoryTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void shouldLoadResources() {
-        final StaticContextModelTreeRepository repository = StaticContextModelTreeRepository.initialize();
+        final BinaryContextModelTreeRepository repository = BinaryContextModelTreeRepository.initialize();
         final ContextModelTree modelTree = repository.get(TestResources.Info.TEST_PRODUCT.namespace, TargetEnvironment.JAVA);
 
         // configuration in pom.xml is present to generate it in compile phase
         assertThat(modelTree, notNullValue());
         assertThat(modelTree.getMetadata().getNamespace(), is(TestResources.Info.TEST_PRODUCT.namespace));
         assertThat(modelTree.getMetadata().getTargetEnvironment(), is(TargetEnvironment.JAVA));
+        assertThat(repository.get(TestResources.Info.TEST_PRODUCT.namespace, TargetEnvironment.JAVA), sameInstance(modelTree));
+    }
+
+    @Test
+    public void shouldLoadSameModelTreeAsCreatedInRuntime() {
+        final String namespace = TestResources.Info.TEST_PRODUCT.namespace;
+        final ContextModelTree modelTree = BinaryContextModelTreeRepository.initialize().get(namespace, TargetEnvironment.JAVA);
+        final ContextModelTree expected = ContextModelTrees.create(
+                ContextRepository.from(TestResources.create(TestResources.Info.TEST_PRODUCT).getRuntimeKrakenProject()),
+                namespace,
+                TargetEnvironment.JAVA
+        );
+
+        assertThat(modelTree.getPathsToNodes(), equalTo(expected.getPathsToNodes()));
+        assertThat(modelTree.getContexts().keySet(), equalTo(expected.getContexts().keySet()));
+        for (RuntimeContextDefinition context : expected.getContexts().values()) {
+            RuntimeContextDefinition actual = modelTree.getContext(context.getName());
+            assertThat(actual.isSystem(), is(context.isSystem()));
+            assertThat(actual.getInheritedContexts(), hasItems(context.getInheritedContexts().toArray(String[]::new)));
+            assertThat(actual.getChildren().keySet(), equalTo(context.getChildren().keySet()));
+            assertThat(actual.getFields().keySet(), equalTo(context.getFields().keySet()));
+            for (ContextField field : context.getFields().values()) {
+                ContextField actualField = actual.getFields().get(field.getName());
+                assertThat(actualField.getFieldType(), equalTo(field.getFieldType()));
+                assertThat(actualField.getFieldPath(), equalTo(field.getFieldPath()));
+                assertThat(actualField.getCardinality(), equalTo(field.getCardinality()));
+                assertThat(actualField.getForbidTarget(), equalTo(field.getForbidTarget()));
+            }
+        }
+    }
+
+    @Test
+    public void shouldRejectContextModelTreeOfNewerFormatVersion() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ContextModelTreeBinaryFormat.write(createModelTree(TestResources.Info.TEST_PRODUCT.namespace), bytes);
+        byte[] tree = bytes.toByteArray();
+        // format version is written as unsigned short after magic number
+        tree[4] = (byte) ((ContextModelTreeBinaryFormat.FORMAT_VERSION + 1) >> 8);
+        tree[5] = (byte) (ContextModelTreeBinaryFormat.FORMAT_VERSION + 1);
+
+        IOException e = assertThrows(
+                IOException.class,
+                () -> ContextModelTreeBinaryFormat.read(new ByteArrayInputStream(tree))
+        );
+        assertThat(e.getMessage(), containsString("format version " + (ContextModelTreeBinaryFormat.FORMAT_VERSION + 1)));
+    }
+
+    @Test
+    public void shouldRejectStreamWhichIsNotContextModelTree() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(ContextModelTreeBinaryFormat.MAGIC + 1);
+            out.writeShort(ContextModelTreeBinaryFormat.FORMAT_VERSION);
+        }
+
+        IOException e = assertThrows(
+                IOException.class,
+                () -> ContextModelTreeBinaryFormat.readMetadata(new ByteArrayInputStream(bytes.toByteArray()))
+        );
+        assertThat(e.getMessage(), containsString("not a context model tree"));
+    }
+
+    @Test
+    public void shouldSkipBinaryModelTreeOfNewerFormatVersion() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ContextModelTreeBinaryFormat.write(createModelTree("NewerProduct"), bytes);
+        byte[] tree = bytes.toByteArray();
+        tree[4] = (byte) ((ContextModelTreeBinaryFormat.FORMAT_VERSION + 1) >> 8);
+        tree[5] = (byte) (ContextModelTreeBinaryFormat.FORMAT_VERSION + 1);
+        final Path directory = temporaryFolder.getRoot().toPath();
+        Files.write(directory.resolve("NewerProduct." + BinaryContextModelTreeRepository.EXTENSION), tree);
+        Files.write(directory.resolve("Broken." + BinaryContextModelTreeRepository.EXTENSION), new byte[]{1, 2});
+
+        final BinaryContextModelTreeRepository repository =
+                withClasspath(directory, BinaryContextModelTreeRepository::initialize);
+
+        assertThat(repository.get("NewerProduct", TargetEnvironment.JAVA), nullValue());
+        assertThat(repository.get(TestResources.Info.TEST_PRODUCT.namespace, TargetEnvironment.JAVA), notNullValue());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void shouldResolveLegacyModelTreeWhenBinaryModelTreeIsMissing() throws IOException {
+        final ContextModelTree legacyModelTree = createModelTree("LegacyProduct");
+        final Path directory = temporaryFolder.getRoot().toPath();
+        try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(
+                directory.resolve("LegacyProduct." + StaticContextModelTreeRepository.EXTENSION)))) {
+            out.writeObject(legacyModelTree);
+        }
+        final ContextModelTreeRepository legacyRepository = withClasspath(directory, StaticContextModelTreeRepository::initialize);
+        final BinaryContextModelTreeRepository binaryRepository = BinaryContextModelTreeRepository.initialize();
+        final RecoveringStaticContextModelTreeRepository repository = new RecoveringStaticContextModelTreeRepository(
+                (namespace, targetEnvironment) -> {
+                    throw new IllegalStateException("Context model tree must not be created in runtime");
+                },
+                binaryRepository,
+                legacyRepository
+        );
+
+        final ContextModelTree modelTree = repository.get("LegacyProduct", TargetEnvironment.JAVA);
+
+        assertThat(modelTree.getMetadata().getNamespace(), is("LegacyProduct"));
+        assertThat(modelTree.getContexts().keySet(), equalTo(legacyModelTree.getContexts().keySet()));
+        assertThat(modelTree.getPathsToNodes(), equalTo(legacyModelTree.getPathsToNodes()));
+        assertThat(
+                repository.get(TestResources.Info.TEST_PRODUCT.namespace, TargetEnvironment.JAVA),
+                sameInstance(binaryRepository.get(TestResources.Info.TEST_PRODUCT.namespace, TargetEnvironment.JAVA))
+        );
+    }
+
+    private static ContextModelTree createModelTree(String namespace) {
+        return ContextModelTrees.create(
+                ContextRepository.from(TestResources.create(TestResources.Info.TEST_PRODUCT).getRuntimeKrakenProject()),
+                namespace,
+                TargetEnvironment.JAVA
+        );
+    }
+
+    private static <T> T withClasspath(Path directory, Supplier<T> supplier) throws IOException {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader classLoader = thread.getContextClassLoader();
+        try (URLClassLoader directoryClassLoader =
+                     new URLClassLoader(new URL[]{directory.toUri().toURL()}, classLoader)) {
+            thread.setContextClassLoader(directoryClassLoader);
+            return supplier.get();
+        } finally {
+            thread.setContextClassLoader(classLoader);
+        }
     }
 
 }
@@ -15,7 +15,10 @@
  */
 package kraken.engine;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import kraken.model.project.repository.StaticKrakenProjectRepository;
@@ -28,6 +31,7 @@ import kraken.runtime.engine.context.info.SimpleDataObjectInfoResolver;
 import kraken.runtime.engine.context.info.navpath.DataNavigationContextInstanceInfoResolver;
 import kraken.runtime.engine.context.type.ContextTypeAdapter;
 import kraken.runtime.engine.context.type.IterableContextTypeAdapter;
+import kraken.runtime.engine.result.ResultSink;
 import kraken.runtime.engine.result.reducers.validation.ValidationStatusReducer;
 import kraken.test.TestResources;
 import kraken.namespace.Namespaces;
@@ -101,10 +105,54 @@ public abstract class EngineBaseTest {
             return ruleEngine.evaluate(data, Namespaces.toFullName(namespace, entryPointName), evaluationConfig);
         }
 
+        @Override
+        public <T> T evaluate(Object data,
+                              String entryPointName,
+                              EvaluationConfig evaluationConfig,
+                              ResultSink<T> resultSink) {
+            return ruleEngine.evaluate(data, Namespaces.toFullName(namespace, entryPointName), evaluationConfig, resultSink);
+        }
+
         @Override
         public EntryPointResult evaluateSubtree(Object data, Object node, String entryPointName, EvaluationConfig evaluationConfig) {
             return ruleEngine.evaluateSubtree(data, node, Namespaces.toFullName(namespace, entryPointName), evaluationConfig);
         }
+
+        @Override
+        public List<EntryPointResult> evaluateSubtrees(Object data, Collection<?> nodes, String entryPointName) {
+            return ruleEngine.evaluateSubtrees(data, nodes, Namespaces.toFullName(namespace, entryPointName));
+        }
+
+        @Override
+        public List<EntryPointResult> evaluateSubtrees(Object data,
+                                                       Collection<?> nodes,
+                                                       String entryPointName,
+                                                       EvaluationConfig evaluationConfig) {
+            return ruleEngine.evaluateSubtrees(data, nodes, Namespaces.toFullName(namespace, entryPointName), evaluationConfig);
+        }
+
+        @Override
+        public void close() {
+            ruleEngine.close();
+        }
+
+        @Override
+        public Map<String, EntryPointResult> evaluateEntryPoints(Object data, List<String> entryPointNames) {
+            return ruleEngine.evaluateEntryPoints(data, toFullNames(entryPointNames));
+        }
+
+        @Override
+        public Map<String, EntryPointResult> evaluateEntryPoints(Object data,
+                                                                 List<String> entryPointNames,
+                                                                 EvaluationConfig evaluationConfig) {
+            return ruleEngine.evaluateEntryPoints(data, toFullNames(entryPointNames), evaluationConfig);
+        }
+
+        private List<String> toFullNames(List<String> entryPointNames) {
+            return entryPointNames.stream()
+                .map(entryPointName -> Namespaces.toFullName(namespace, entryPointName))
+                .collect(Collectors.toList());
+        }
     }
 
 }
@@ -0,0 +1,145 @@
+package kraken.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import kraken.model.project.repository.StaticKrakenProjectRepository;
+import kraken.namespace.Namespaces;
+import kraken.runtime.EvaluationConfig;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.RuleEngineBuilder;
+import kraken.runtime.engine.EntryPointResult;
+import kraken.runtime.engine.context.info.SimpleDataObjectInfoResolver;
+import kraken.runtime.engine.context.info.navpath.DataNavigationContextInstanceInfoResolver;
+import kraken.runtime.logging.KrakenDataLogger;
+import kraken.runtime.logging.Slf4jKrakenDataLogger;
+import kraken.runtime.logging.capture.CaptureAnonymizer;
+import kraken.runtime.logging.capture.CaptureFiles;
+import kraken.runtime.logging.capture.CapturedContext;
+import kraken.runtime.logging.capture.CapturedEvaluation;
+import kraken.runtime.logging.capture.CapturingKrakenDataLogger;
+import kraken.test.TestResources;
+import kraken.testproduct.domain.COLLCoverage;
+import kraken.testproduct.domain.Policy;
+import kraken.utils.GsonUtils;
+import kraken.utils.MockAutoPolicyBuilder;
+
+public class EngineCaptureTest {
+
+    private Path file;
+
+    private TestResources resources;
+
+    @Before
+    public void setUp() throws IOException {
+        this.file = Files.createTempFile("kraken", ".capture.gz");
+        this.resources = TestResources.create(TestResources.Info.TEST_PRODUCT);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void shouldCaptureEvaluationInputThatCanBeReplayed() throws IOException {
+        Policy policy = new MockAutoPolicyBuilder().addEmptyAutoPolicy().build();
+        policy.setPolicyNumber("P-123");
+        COLLCoverage collCoverage = new COLLCoverage();
+        collCoverage.setLimitAmount(new BigDecimal("100"));
+        policy.setCoverage(collCoverage);
+        Map<String, Object> context = Map.of(
+            "state", "AZ",
+            "termNumber", 12,
+            "effectiveDate", LocalDate.of(2024, 1, 31),
+            "limits", List.of(new BigDecimal("100.50"))
+        );
+        EvaluationConfig config = new EvaluationConfig(context, "USD");
+
+        EntryPointResult capturedResult;
+        try (CaptureFiles.CaptureWriter writer = CaptureFiles.writer(file)) {
+            RuleEngine engine = engine(new CapturingKrakenDataLogger(
+                writer,
+                new Slf4jKrakenDataLogger(),
+                1,
+                CaptureAnonymizer.maskStrings(Set.of("policyNumber"))
+            ));
+            capturedResult = engine.evaluate(policy, entryPoint("CoverageAssertion"), config);
+            writer.close();
+            assertThat(writer.getDroppedCount(), is(0L));
+        }
+
+        List<CapturedEvaluation> evaluations = CaptureFiles.read(file);
+        assertThat(evaluations, hasSize(1));
+        CapturedEvaluation evaluation = evaluations.get(0);
+        assertThat(evaluation.getEntryPointName(), endsWith("CoverageAssertion"));
+        assertThat(evaluation.getDataType(), equalTo(Policy.class.getName()));
+        assertThat(CapturedContext.read(evaluation.getContext(), GsonUtils.gson()), equalTo(context));
+
+        Policy restoredPolicy = GsonUtils.gson().fromJson(evaluation.getData(), Policy.class);
+        assertThat(restoredPolicy.getPolicyNumber(), equalTo("xxxxx"));
+
+        EntryPointResult replayedResult = engine(new Slf4jKrakenDataLogger())
+            .evaluate(restoredPolicy, evaluation.getEntryPointName(), config);
+        assertThat(replayedResult.getAllRuleResults().size(), is(capturedResult.getAllRuleResults().size()));
+    }
+
+    @Test
+    public void shouldNotCaptureWhenNotSampled() throws IOException {
+        Policy policy = new MockAutoPolicyBuilder().addEmptyAutoPolicy().build();
+
+        try (CaptureFiles.CaptureWriter writer = CaptureFiles.writer(file)) {
+            RuleEngine engine = engine(new CapturingKrakenDataLogger(
+                writer,
+                new Slf4jKrakenDataLogger(),
+                0,
+                CaptureAnonymizer.none()
+            ));
+            engine.evaluate(policy, entryPoint("CoverageAssertion"));
+        }
+
+        assertThat(CaptureFiles.read(file), hasSize(0));
+    }
+
+    @Test
+    public void shouldDropEvaluationWrittenAfterWriterIsClosed() throws IOException {
+        CaptureFiles.CaptureWriter writer = CaptureFiles.writer(file, 1);
+        writer.close();
+
+        boolean written = writer.write(new CapturedEvaluation("entryPoint", Policy.class.getName(), null, null));
+
+        assertThat(written, is(false));
+        assertThat(writer.getDroppedCount(), is(1L));
+        assertThat(CaptureFiles.read(file), hasSize(0));
+    }
+
+    private String entryPoint(String name) {
+        return Namespaces.toFullName(resources.getKrakenProject().getNamespace(), name);
+    }
+
+    private RuleEngine engine(KrakenDataLogger dataLogger) {
+        DataNavigationContextInstanceInfoResolver resolver = new DataNavigationContextInstanceInfoResolver();
+        resolver.setInfoResolver(new SimpleDataObjectInfoResolver());
+        return RuleEngineBuilder.newInstance()
+            .setKrakenProjectRepository(new StaticKrakenProjectRepository(List.of(resources.getKrakenProject())))
+            .setContextInstanceResolver(resolver)
+            .setKrakenDataLogger(dataLogger)
+            .buildEngine();
+    }
+}
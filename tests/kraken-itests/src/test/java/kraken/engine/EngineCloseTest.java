@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import kraken.model.project.repository.StaticKrakenProjectRepository;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.RuleEngineBuilder;
+import kraken.test.TestResources;
+
+public class EngineCloseTest {
+
+    @Test
+    public void shouldStopBackgroundProjectReloadWhenEngineIsClosed() throws InterruptedException {
+        TestResources resources = TestResources.create(TestResources.Info.TEST_PRODUCT);
+        RuleEngine engine = RuleEngineBuilder.newInstance()
+            .setKrakenProjectRepository(new StaticKrakenProjectRepository(List.of(resources.getKrakenProject())))
+            .setBackgroundProjectReloadInterval(TimeUnit.HOURS.toMillis(1))
+            .buildEngine();
+
+        List<Thread> reloadThreads = reloadThreads();
+        assertThat(reloadThreads, hasSize(1));
+
+        engine.close();
+        reloadThreads.get(0).join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(reloadThreads(), empty());
+    }
+
+    private static List<Thread> reloadThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("kraken-project-reload"))
+            .collect(Collectors.toList());
+    }
+
+}
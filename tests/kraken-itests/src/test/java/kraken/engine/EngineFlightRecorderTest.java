@@ -0,0 +1,86 @@
+package kraken.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import kraken.test.TestResources;
+import kraken.testproduct.domain.COLLCoverage;
+import kraken.testproduct.domain.Policy;
+import kraken.utils.MockAutoPolicyBuilder;
+
+public class EngineFlightRecorderTest extends EngineBaseTest {
+
+    @Override
+    protected TestResources getResources() {
+        return TestResources.create(TestResources.Info.TEST_PRODUCT);
+    }
+
+    @Test
+    public void shouldEmitFlightRecorderEventsWhenEnabled() throws IOException {
+        Policy policy = new MockAutoPolicyBuilder().addEmptyAutoPolicy().build();
+        COLLCoverage collCoverage = new COLLCoverage();
+        collCoverage.setLimitAmount(new BigDecimal("100"));
+        policy.setCoverage(collCoverage);
+
+        List<RecordedEvent> events = record(() -> engine.evaluate(policy, "CoverageAssertion"));
+
+        assertThat(events.stream().map(e -> e.getEventType().getName()).distinct().collect(Collectors.toList()),
+            containsInAnyOrder(
+                "kraken.EntryPointEvaluation",
+                "kraken.EntryPointBundleBuild",
+                "kraken.ContextExtraction",
+                "kraken.RuleEvaluation"
+            ));
+
+        List<RecordedEvent> entryPointEvents = events(events, "kraken.EntryPointEvaluation");
+        assertThat(entryPointEvents, hasSize(1));
+        assertThat(entryPointEvents.get(0).getString("entryPoint"), endsWith("CoverageAssertion"));
+        assertThat(entryPointEvents.get(0).getBoolean("failed"), is(false));
+
+        assertThat(events(events, "kraken.EntryPointBundleBuild").get(0).getInt("ruleCount"), greaterThan(0));
+        assertThat(events(events, "kraken.RuleEvaluation").stream()
+            .map(e -> e.getString("rule"))
+            .collect(Collectors.toList()), hasItem("R0117"));
+    }
+
+    private List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(e -> e.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+
+    private List<RecordedEvent> record(Runnable runnable) throws IOException {
+        Path file = Files.createTempFile("kraken", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("kraken.EntryPointEvaluation");
+            recording.enable("kraken.EntryPointBundleBuild");
+            recording.enable("kraken.ContextExtraction");
+            recording.enable("kraken.RuleEvaluation").withThreshold(Duration.ZERO);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
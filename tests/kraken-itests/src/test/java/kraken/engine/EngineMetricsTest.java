@@ -0,0 +1,101 @@
+/*
+ *  Copyright 2024 EIS Ltd and/or one of its affiliates.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package kraken.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.Test;
+
+import kraken.el.ast.builder.AstBuilder;
+import kraken.model.project.repository.StaticKrakenProjectRepository;
+import kraken.runtime.RuleEngine;
+import kraken.runtime.RuleEngineBuilder;
+import kraken.runtime.engine.context.info.SimpleDataObjectInfoResolver;
+import kraken.runtime.engine.context.info.navpath.DataNavigationContextInstanceInfoResolver;
+import kraken.test.TestResources;
+import kraken.testproduct.domain.COLLCoverage;
+import kraken.testproduct.domain.Policy;
+import kraken.utils.MockAutoPolicyBuilder;
+import kraken.utils.metrics.InMemoryKrakenMetrics;
+import kraken.utils.metrics.KrakenMetricNames;
+import kraken.utils.metrics.KrakenMetrics;
+import kraken.utils.metrics.LogLinearHistogram;
+
+public class EngineMetricsTest {
+
+    @Test
+    public void shouldReportMetricsOfEntryPointEvaluation() {
+        InMemoryKrakenMetrics metrics =
+            new InMemoryKrakenMetrics(true, InMemoryKrakenMetrics.DEFAULT_MAX_TAGS_PER_INSTRUMENT);
+        long astCacheRequests = AstBuilder.getGlobalMetrics().getTotalCount(KrakenMetricNames.AST_CACHE_REQUESTS);
+
+        engine(metrics).evaluate(getPolicy(), "CoverageAssertion");
+
+        assertThat(histogramCount(metrics, KrakenMetricNames.ENTRY_POINT_LATENCY), is(1L));
+        assertThat(histogramCount(metrics, KrakenMetricNames.BUNDLE_BUILD_TIME), is(1L));
+        assertThat(histogramCount(metrics, KrakenMetricNames.CONTEXT_EXTRACTION_TIME), greaterThan(0L));
+        assertThat(metrics.getTotalCount(KrakenMetricNames.CONTEXT_EXTRACTION_INSTANCES), greaterThan(0L));
+        assertThat(metrics.getHistograms(KrakenMetricNames.RULE_CONDITION_TIME).get("R0117").getCount(), is(1L));
+        assertThat(metrics.getHistograms(KrakenMetricNames.RULE_PAYLOAD_TIME).get("R0117").getCount(), is(1L));
+        assertThat(metrics.getTotalCount(KrakenMetricNames.AST_CACHE_REQUESTS), is(0L));
+        assertThat(
+            AstBuilder.getGlobalMetrics().getTotalCount(KrakenMetricNames.AST_CACHE_REQUESTS),
+            greaterThan(astCacheRequests)
+        );
+    }
+
+    @Test
+    public void shouldNotReportPerRuleMetricsUnlessEnabled() {
+        InMemoryKrakenMetrics metrics = new InMemoryKrakenMetrics();
+
+        engine(metrics).evaluate(getPolicy(), "CoverageAssertion");
+
+        assertThat(histogramCount(metrics, KrakenMetricNames.ENTRY_POINT_LATENCY), is(1L));
+        assertThat(metrics.getHistograms(KrakenMetricNames.RULE_CONDITION_TIME).isEmpty(), is(true));
+        assertThat(metrics.getHistograms(KrakenMetricNames.RULE_PAYLOAD_TIME).isEmpty(), is(true));
+        assertThat(metrics.getTotalCount(KrakenMetricNames.AST_CACHE_REQUESTS), is(0L));
+    }
+
+    private static RuleEngine engine(KrakenMetrics metrics) {
+        TestResources resources = TestResources.create(TestResources.Info.TEST_PRODUCT);
+        DataNavigationContextInstanceInfoResolver resolver = new DataNavigationContextInstanceInfoResolver();
+        resolver.setInfoResolver(new SimpleDataObjectInfoResolver());
+        RuleEngine engine = RuleEngineBuilder.newInstance()
+            .setKrakenProjectRepository(new StaticKrakenProjectRepository(List.of(resources.getKrakenProject())))
+            .setContextInstanceResolver(resolver)
+            .setMetrics(metrics)
+            .buildEngine();
+        return new EngineBaseTest.TestEngine(engine, resources.getKrakenProject().getNamespace());
+    }
+
+    private static Policy getPolicy() {
+        Policy policy = new MockAutoPolicyBuilder().addEmptyAutoPolicy().build();
+        COLLCoverage collCoverage = new COLLCoverage();
+        collCoverage.setLimitAmount(new BigDecimal("100"));
+        policy.setCoverage(collCoverage);
+        return policy;
+    }
+
+    private static long histogramCount(InMemoryKrakenMetrics metrics, String name) {
+        return metrics.getHistograms(name).values().stream().mapToLong(LogLinearHistogram::getCount).sum();
+    }
+
+}
@@ -31,6 +31,7 @@ import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInA
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -40,15 +41,18 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import kraken.model.payload.PayloadType;
+import kraken.runtime.DataContextPathProvider;
 import kraken.runtime.EvaluationConfig;
 import kraken.runtime.EvaluationMode;
 import kraken.runtime.KrakenRuntimeException;
+import kraken.runtime.ResultDetailLevel;
 import kraken.runtime.engine.EntryPointResult;
 import kraken.runtime.engine.context.info.DataObjectInfoResolver;
 import kraken.runtime.engine.context.info.SimpleDataObjectInfoResolver;
 import kraken.runtime.engine.context.type.ContextTypeAdapter;
 import kraken.runtime.engine.context.type.IterableContextTypeAdapter;
 import kraken.runtime.engine.result.reducers.validation.ValidationResult;
+import kraken.runtime.engine.result.reducers.validation.ValidationStatus;
 import kraken.test.TestResources;
 import kraken.testproduct.domain.BillingInfo;
 import kraken.testproduct.domain.COLLCoverage;
@@ -176,6 +180,66 @@ public final class EngineTest extends EngineBaseTest {
         assertThat(result, hasNoIgnoredRules());
     }
 
+    @Test
+    public void shouldStreamResultsToValidationStatusResultSinkSameAsReducedResult() {
+        final EntryPointResult result = engine.evaluate(getDataObject(), "UsagePayloadAutoPolicy");
+        final ValidationStatus reducedStatus = validationStatusReducer.reduce(result);
+
+        final ValidationStatus streamedStatus = engine.evaluate(
+            getDataObject(),
+            "UsagePayloadAutoPolicy",
+            new EvaluationConfig(),
+            validationStatusReducer.createResultSink()
+        );
+
+        assertThat(streamedStatus.getErrorResults(), hasSize(21));
+        assertThat(ruleNames(streamedStatus.getErrorResults()), is(ruleNames(reducedStatus.getErrorResults())));
+        assertThat(
+            streamedStatus.getErrorResults().stream()
+                .map(r -> r.getContextFieldInfo().getFieldPath())
+                .collect(Collectors.toSet()),
+            is(reducedStatus.getErrorResults().stream()
+                .map(r -> r.getContextFieldInfo().getFieldPath())
+                .collect(Collectors.toSet()))
+        );
+    }
+
+    @Test
+    public void shouldRetainOnlyFailuresAndChangesWhenConfigured() {
+        final Policy policy = getDataObject();
+        final CreditCardInfo creditCardInfo = new CreditCardInfo();
+        creditCardInfo.setCardType("MasterCard");
+        creditCardInfo.setCardNumber("5500000000000004");
+        creditCardInfo.setCvv(5555);
+        final BillingInfo billingInfo = new BillingInfo();
+        billingInfo.setCreditCardInfo(creditCardInfo);
+        policy.setBillingInfo(billingInfo);
+
+        final EntryPointResult fullResult = engine.evaluate(policy, "CreditCardInfoRegExp");
+        final EntryPointResult failuresResult = engine.evaluate(
+            policy,
+            "CreditCardInfoRegExp",
+            resultDetailLevelConfig(ResultDetailLevel.FAILURES_AND_CHANGES)
+        );
+        final EntryPointResult countsResult = engine.evaluate(
+            policy,
+            "CreditCardInfoRegExp",
+            resultDetailLevelConfig(ResultDetailLevel.COUNTS_ONLY)
+        );
+
+        assertThat(fullResult, hasRuleResults(4));
+        assertThat(failuresResult, hasRuleResults(1));
+        assertThat(failuresResult.getAllRuleResults().get(0).getRuleInfo().getRuleName(), is("R0066"));
+        assertThat(
+            validationStatusReducer.reduce(failuresResult).getErrorResults(),
+            hasSize(validationStatusReducer.reduce(fullResult).getErrorResults().size())
+        );
+        assertThat(countsResult, hasRuleResults(0));
+        assertThat(countsResult.getResultCounts().getEvaluated(), is(4));
+        assertThat(countsResult.getResultCounts().getFailedValidations(), is(1));
+        assertThat(failuresResult.getResultCounts().getEvaluated(), is(fullResult.getResultCounts().getEvaluated()));
+    }
+
     @Test
     public void shouldExecuteAutoPolicyDefaultEntryPoint () {
         final Policy policy = getDataObject();
@@ -260,6 +324,74 @@ public final class EngineTest extends EngineBaseTest {
         assertThat(result, hasRuleResults(0));
     }
 
+    @Test
+    public void shouldEvaluateEachSubtreeSeparately() {
+        Vehicle vehicle1 = new Vehicle();
+        vehicle1.setId("1");
+        Vehicle vehicle2 = new Vehicle();
+        vehicle2.setId("2");
+        Policy policy = new MockAutoPolicyBuilder().addValidAutoPolicyWithMockDateTime().build();
+        policy.setRiskItems(List.of(vehicle1, vehicle2));
+
+        List<EntryPointResult> results = engine.evaluateSubtrees(policy, List.of(vehicle1, vehicle2), "AssertionAutoPolicy");
+
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0), hasRuleResults(1));
+        assertThat(results.get(1), hasRuleResults(1));
+        assertThat(
+            contextIds(results.get(0)),
+            is(contextIds(engine.evaluateSubtree(policy, vehicle1, "AssertionAutoPolicy")))
+        );
+        assertThat(
+            contextIds(results.get(1)),
+            is(contextIds(engine.evaluateSubtree(policy, vehicle2, "AssertionAutoPolicy")))
+        );
+    }
+
+    @Test
+    public void shouldReturnEmptyResultForEachSubtreeWhenNoRulesArePresent() {
+        Policy policy = getDataObject();
+        Insured insured = new Insured();
+        policy.setInsured(insured);
+
+        List<EntryPointResult> results = engine.evaluateSubtrees(policy, List.of(policy, insured), "NoRules");
+
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0), hasRuleResults(0));
+        assertThat(results.get(1), hasRuleResults(0));
+    }
+
+    @Test
+    public void shouldEvaluateEntryPointsInOrderSameAsSeparateEvaluations() {
+        Policy separatelyEvaluatedPolicy = getDataObject();
+        EntryPointResult defaultResult = engine.evaluate(separatelyEvaluatedPolicy, "AutoPolicyDefault");
+        EntryPointResult usageResult = engine.evaluate(separatelyEvaluatedPolicy, "UsagePayloadAutoPolicy");
+
+        Policy policy = getDataObject();
+        Map<String, EntryPointResult> results = engine.evaluateEntryPoints(
+            policy,
+            List.of("AutoPolicyDefault", "UsagePayloadAutoPolicy")
+        );
+        List<EntryPointResult> orderedResults = new ArrayList<>(results.values());
+
+        assertThat(orderedResults, hasSize(2));
+        assertThat(orderedResults.get(0), hasValueChangeEvents(5));
+        assertThat(policy.getTermDetails().getTermCd(), is("ANNUAL"));
+        assertThat(orderedResults.get(0).getAllRuleResults(), hasSize(defaultResult.getAllRuleResults().size()));
+        assertThat(
+            validationStatusReducer.reduce(orderedResults.get(1)).getErrorResults(),
+            hasSize(validationStatusReducer.reduce(usageResult).getErrorResults().size())
+        );
+    }
+
+    @Test(expected = KrakenRuntimeException.class)
+    public void shouldRejectDuplicateEntryPointsInEvaluation() {
+        engine.evaluateEntryPoints(
+            getDataObject(),
+            List.of("AutoPolicyDefault", "UsagePayloadAutoPolicy", "AutoPolicyDefault")
+        );
+    }
+
     @Test
     public void shouldExecuteRuleOnUnknownAttribute() {
         Policy policy = new Policy();
@@ -285,4 +417,28 @@ public final class EngineTest extends EngineBaseTest {
         engine.evaluate(policy, "RuleOrderWithCycleInFunction");
     }
 
+    private List<String> contextIds(EntryPointResult result) {
+        return result.getFieldResults().values().stream()
+            .map(fieldResult -> fieldResult.getContextFieldInfo().getContextId())
+            .collect(Collectors.toList());
+    }
+
+    private List<String> ruleNames(List<ValidationResult> validationResults) {
+        return validationResults.stream()
+            .map(ValidationResult::getRuleName)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private EvaluationConfig resultDetailLevelConfig(ResultDetailLevel resultDetailLevel) {
+        return new EvaluationConfig(
+            Map.of(),
+            "USD",
+            EvaluationMode.ALL,
+            ZoneId.systemDefault(),
+            DataContextPathProvider.DEFAULT,
+            resultDetailLevel
+        );
+    }
+
 }